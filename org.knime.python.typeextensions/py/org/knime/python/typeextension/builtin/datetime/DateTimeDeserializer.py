@@ -41,30 +41,52 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import struct
 from datetime import datetime
+from datetime import timedelta
 from dateutil import tz
+import numpy
 
-_format = '%Y-%m-%d %H:%M:%S.%f'
+#A value consists of the seconds since the epoch of the local date-time and the nanoseconds of the second (12 bytes).
+#Zoned values additionally contain the offset to UTC in seconds (4 bytes) and the UTF-8 encoded zone id.
+_EPOCH = datetime(1970, 1, 1)
+_LOCAL_LENGTH = 12
+_ZONED_FIXED_LENGTH = 16
+_LOCAL_DTYPE = numpy.dtype([('seconds', '<i8'), ('nanos', '<i4')])
+#Seconds since the epoch of datetime.min and datetime.max
+_MIN_SECONDS = -62135596800
+_MAX_SECONDS = 253402300799
+
+#Timezones by the encoded offset and zone id, columns usually only contain a few distinct zones
+_tzinfos = {}
 
 #Deserializes LocalDateTime, ZonedDateTime and legacy DateTime
 def deserialize(data_bytes):
-    datestr = data_bytes.decode('utf-8')
-    #with open('/home/clemens/pythonlog.txt', 'a') as writer:
-    #    writer.write(datestr + '\n')
-    dt = datetime.strptime(datestr[:23] + '000', _format)
+    seconds, nanos = struct.unpack_from('<qi', data_bytes)
+    dt = _EPOCH + timedelta(seconds=seconds, microseconds=nanos // 1000)
     #Timezone information available ?
-    if len(datestr) > 23:
-        #Calculate timezone offset
-        sgn = 1
-        if datestr[23] == '-':
-            sgn = -1
-        offseth = int(datestr[24:26])
-        offsetm = int(datestr[27:29])
-        offsets = offseth * 3600 + offsetm * 60
-        #Get timezone name
-        name = None
-        if datestr.find('[') >= 0:
-            name = datestr[datestr.find('[')+1:datestr.find(']')]
-        #Create zoned datetime
-        dt = datetime(dt.year, dt.month, dt.day, dt.hour, dt.minute, dt.second, dt.microsecond, tzinfo=tz.tzoffset(name, offsets))
+    if len(data_bytes) > _LOCAL_LENGTH:
+        dt = dt.replace(tzinfo=_get_tzinfo(data_bytes))
     return dt
+
+
+#Deserializes a list of values at once, values without timezone information are converted using numpy
+def deserialize_column(data_bytes_list):
+    if all(len(data_bytes) == _LOCAL_LENGTH for data_bytes in data_bytes_list):
+        values = numpy.frombuffer(b''.join(data_bytes_list), dtype=_LOCAL_DTYPE)
+        seconds = values['seconds']
+        if len(values) == 0 or (seconds.min() >= _MIN_SECONDS and seconds.max() <= _MAX_SECONDS):
+            micros = seconds * 1000000 + values['nanos'] // 1000
+            return micros.astype('datetime64[us]').astype(object)
+    return [deserialize(data_bytes) for data_bytes in data_bytes_list]
+
+
+def _get_tzinfo(data_bytes):
+    key = bytes(data_bytes[_LOCAL_LENGTH:])
+    tzinfo = _tzinfos.get(key)
+    if tzinfo is None:
+        offset = struct.unpack_from('<i', data_bytes, _LOCAL_LENGTH)[0]
+        name = data_bytes[_ZONED_FIXED_LENGTH:].decode('utf-8')
+        tzinfo = tz.tzoffset(name, offset)
+        _tzinfos[key] = tzinfo
+    return tzinfo
@@ -41,24 +41,55 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import struct
+from datetime import datetime
+
+import numpy
+from dateutil import tz
+
 import EnvironmentHelper
 
+# A value consists of the seconds since the epoch of the local date-time and the nanoseconds of the second (12 bytes).
+# Values with timezone additionally contain the offset to UTC in seconds (4 bytes) and the UTF-8 encoded zone id, which
+# is empty if the timezone has no id known to Java.
+_EPOCH = datetime(1970, 1, 1)
+_LOCAL_LENGTH = 12
+_LOCAL_DTYPE = numpy.dtype([('seconds', '<i8'), ('nanos', '<i4')])
+_NAT = numpy.iinfo(numpy.int64).min
+
 
 def serialize(object_value):
     if EnvironmentHelper.is_tslib_available() and type(object_value) is EnvironmentHelper.Timestamp:
         object_value = object_value.to_pydatetime()
-    # format: yyyy-mm-dd HH:MM:SS (+microseconds and offset to UTC if available)
-    datestr = object_value.isoformat(' ')
-    # Add timezone name (offset already included in isoformat)
-    if object_value.tzname():
-        datestr += '[' + object_value.tzname() + ']'
-    # Find +/- sign of timezone offset
-    tzidx = max(datestr.find('+'), datestr.find('-', 10))
-    if tzidx < 0:
-        tzidx = len(datestr)
-    # If microseconds available cut down to millis otherwise add millis
-    if object_value.microsecond > 0:
-        datestr = datestr[:tzidx - 3] + datestr[tzidx:]
-    else:
-        datestr = datestr[:tzidx] + '.000' + datestr[tzidx:]
-    return datestr.encode('utf-8')
+    delta = object_value.replace(tzinfo=None) - _EPOCH
+    data_bytes = struct.pack('<qi', delta.days * 86400 + delta.seconds, delta.microseconds * 1000)
+    offset = object_value.utcoffset()
+    if offset is not None:
+        zone_id = _get_zone_id(object_value.tzinfo)
+        data_bytes += struct.pack('<i', offset.days * 86400 + offset.seconds) + zone_id.encode('utf-8')
+    return data_bytes
+
+
+def _get_zone_id(tzinfo):
+    # IANA key of zoneinfo (key) and pytz (zone) timezones. The fixed offsets created by the deserializer carry the zone
+    # id received from Java as their name. Other names are usually abbreviations (e.g. 'CEST') that Java cannot resolve.
+    zone_id = getattr(tzinfo, 'key', None) or getattr(tzinfo, 'zone', None)
+    if zone_id is None and isinstance(tzinfo, tz.tzoffset):
+        zone_id = tzinfo.tzname(None)
+    return zone_id or ''
+
+
+def serialize_column(object_values):
+    # Values without timezone are converted using numpy, all others individually.
+    if all(object_value.tzinfo is None for object_value in object_values):
+        try:
+            micros = numpy.array(object_values, dtype='datetime64[us]').astype(numpy.int64)
+        except (ValueError, TypeError, OverflowError):
+            micros = None
+        if micros is not None and not (micros == _NAT).any():
+            values = numpy.empty(len(micros), dtype=_LOCAL_DTYPE)
+            values['seconds'] = micros // 1000000
+            values['nanos'] = micros % 1000000 * 1000
+            data_bytes = values.tobytes()
+            return [data_bytes[i:i + _LOCAL_LENGTH] for i in range(0, len(data_bytes), _LOCAL_LENGTH)]
+    return [serialize(object_value) for object_value in object_values]
@@ -41,35 +41,26 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-import datetime
-import debug_util
+import struct
+from datetime import timedelta
 
-def deserialize(bytes):
-    durationstr = bytes.decode("utf-8")
-    hidx = durationstr.find('H');
-    hours = 0
-    if hidx >= 0:
-        hours = int(durationstr[:hidx])
-        durationstr = durationstr[hidx+1:]
-    midx = durationstr.find('M')
-    minutes = 0
-    if midx >= 0:
-        minutes = int(durationstr[:midx])
-        durationstr = durationstr[midx+1:]
-    sidx = durationstr.find('S')
-    seconds = 0
-    millis = 0
-    if sidx >= 0:
-        pidx = durationstr.find('.')
-        if pidx > 0:
-            seconds = int(durationstr[:pidx])
-            millistr = durationstr[pidx+1:sidx]
-            while len(millistr) < 3:
-                millistr += '0'
-            millis = int(millistr)
-            if seconds < 0:
-                millis *= -1
-        else:
-            seconds = int(durationstr[:sidx])
-    debug_util.debug_msg('Decoded: ' + bytes.decode("utf-8") + ' to ' + str(datetime.timedelta(hours=hours, minutes=minutes, seconds=seconds, milliseconds=millis)))
-    return datetime.timedelta(hours=hours, minutes=minutes, seconds=seconds, milliseconds=millis)
+import numpy
+
+# A value consists of the seconds (8 bytes) and the nanoseconds of the second (4 bytes).
+_DTYPE = numpy.dtype([('seconds', '<i8'), ('nanos', '<i4')])
+# Larger values would overflow the microseconds computed below.
+_MAX_SECONDS = numpy.iinfo(numpy.int64).max // 1000000 - 1
+
+
+def deserialize(data_bytes):
+    seconds, nanos = struct.unpack('<qi', data_bytes)
+    return timedelta(seconds=seconds, microseconds=nanos // 1000)
+
+
+def deserialize_column(data_bytes_list):
+    values = numpy.frombuffer(b''.join(data_bytes_list), dtype=_DTYPE)
+    seconds = values['seconds']
+    if len(values) == 0 or (seconds.min() >= -_MAX_SECONDS and seconds.max() <= _MAX_SECONDS):
+        micros = seconds * 1000000 + values['nanos'] // 1000
+        return micros.astype('timedelta64[us]').astype(object)
+    return [deserialize(data_bytes) for data_bytes in data_bytes_list]
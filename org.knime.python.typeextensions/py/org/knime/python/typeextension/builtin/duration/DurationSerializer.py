@@ -41,12 +41,9 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-import debug_util
+import struct
+
 
 def serialize(timedelta_obj):
-    microstr = str(timedelta_obj.microseconds // 1000)
-    while len(microstr) < 3:
-        microstr = '0' + microstr
-    durationstr = str(timedelta_obj.days * 24 + timedelta_obj.seconds // 3600) + 'H ' + str((timedelta_obj.seconds % 3600) // 60) + 'm ' + str(timedelta_obj.seconds % 60) + '.' + microstr + 's'
-    debug_util.debug_msg('Serializing timedelta: ' + str(timedelta_obj) + ' as ' + durationstr)
-    return durationstr.encode("utf-8")
\ No newline at end of file
+    # seconds (8 bytes) and nanoseconds of the second (4 bytes)
+    return struct.pack('<qi', timedelta_obj.days * 86400 + timedelta_obj.seconds, timedelta_obj.microseconds * 1000)
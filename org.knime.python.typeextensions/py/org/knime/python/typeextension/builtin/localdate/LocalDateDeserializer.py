@@ -41,10 +41,24 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-from datetime import datetime
+import struct
+from datetime import date
 
-_format = '%Y-%m-%d'
+import numpy
+
+# A value consists of the epoch day (8 bytes).
+_EPOCH_ORDINAL = date(1970, 1, 1).toordinal()
+_MIN_EPOCH_DAY = date.min.toordinal() - _EPOCH_ORDINAL
+_MAX_EPOCH_DAY = date.max.toordinal() - _EPOCH_ORDINAL
 
 
 def deserialize(data_bytes):
-    return datetime.strptime(data_bytes.decode('utf-8'), _format).date()
+    return date.fromordinal(struct.unpack('<q', data_bytes)[0] + _EPOCH_ORDINAL)
+
+
+def deserialize_column(data_bytes_list):
+    epoch_days = numpy.frombuffer(b''.join(data_bytes_list), dtype='<i8')
+    if len(epoch_days) == 0 or (epoch_days.min() >= _MIN_EPOCH_DAY and epoch_days.max() <= _MAX_EPOCH_DAY):
+        return epoch_days.astype('datetime64[D]').astype(object)
+    # Out of the range supported by python, convert individually (and fail).
+    return [deserialize(data_bytes) for data_bytes in data_bytes_list]
@@ -41,7 +41,12 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import struct
+
+# date(1970, 1, 1).toordinal()
+_EPOCH_ORDINAL = 719163
+
+
 def serialize(object_value):
-    #format: yyyy-mm-dd
-    datestr = object_value.isoformat()
-    return datestr.encode('utf-8')
+    # epoch day (8 bytes)
+    return struct.pack('<q', object_value.toordinal() - _EPOCH_ORDINAL)
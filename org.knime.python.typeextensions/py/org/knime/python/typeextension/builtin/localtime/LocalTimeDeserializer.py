@@ -41,9 +41,20 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import struct
 from datetime import datetime
+from datetime import timedelta
+
+import numpy
+
+# A value consists of the nano of day (8 bytes).
+_MIDNIGHT = datetime(1970, 1, 1)
 
-_format = '%H:%M:%S.%f'
 
 def deserialize(data_bytes):
-    return datetime.strptime(data_bytes.decode('utf-8') + '000', _format).time()
+    return (_MIDNIGHT + timedelta(microseconds=struct.unpack('<q', data_bytes)[0] // 1000)).time()
+
+
+def deserialize_column(data_bytes_list):
+    micros = numpy.frombuffer(b''.join(data_bytes_list), dtype='<i8') // 1000
+    return [dt.time() for dt in micros.astype('datetime64[us]').astype(object)]
@@ -41,11 +41,10 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import struct
+
+
 def serialize(object_value):
-    #format: yyyy-mm-dd HH:MM:ss.fffffff
-    datestr = object_value.isoformat()
-    if object_value.microsecond > 0:
-        datestr = datestr[:-3]
-    else:
-        datestr = datestr + '.000'
-    return datestr.encode('utf-8')
+    # nano of day (8 bytes)
+    seconds = (object_value.hour * 60 + object_value.minute) * 60 + object_value.second
+    return struct.pack('<q', seconds * 1000000000 + object_value.microsecond * 1000)
@@ -0,0 +1,79 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python.typeextension;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.knime.core.data.DataValue;
+
+/**
+ * A {@link Serializer} that is able to serialize many values at once. Serializing a whole column of values into a
+ * single packed buffer allows implementations to set up formatters, encoders and buffers once per batch instead of
+ * once per value. Implementing this interface is optional, callers fall back to {@link #serialize(DataValue)} for
+ * serializers that do not implement it.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ *
+ * @param <Value> The value type that can be handled by this serializer.
+ */
+public interface BatchSerializer<Value extends DataValue> extends Serializer<Value> {
+
+    /**
+     * Serializes the given values into a single batch. The value at index {@code i} of the batch must equal the
+     * result of {@link #serialize(DataValue)} for the value at index {@code i} of the list. Values for which the
+     * latter returns {@code null} are completed using {@link BytesBatch.Builder#endNullValue()}.
+     *
+     * @param values The values to serialize, none of them missing
+     * @return The batch containing the serialized values in the order of the given list
+     * @throws IOException If any of the given values could not be serialized
+     */
+    BytesBatch serialize(final List<? extends Value> values) throws IOException;
+
+}
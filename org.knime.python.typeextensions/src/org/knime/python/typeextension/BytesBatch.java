@@ -0,0 +1,273 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python.typeextension;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A batch of serialized values that are packed into a single buffer. The value at index {@code i} occupies the bytes
+ * from {@link #getOffset(int) getOffset(i)} (inclusive) to {@code getOffset(i + 1)} (exclusive).
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class BytesBatch {
+
+    private final byte[] m_buffer;
+
+    private final int[] m_offsets;
+
+    private final int m_size;
+
+    private final boolean[] m_nulls;
+
+    /**
+     * Creates a batch.
+     *
+     * @param buffer the buffer containing all values
+     * @param offsets the start offsets of the values, followed by the end offset of the last value, i.e.
+     *            {@code size + 1} entries are read
+     * @param size the number of values
+     */
+    public BytesBatch(final byte[] buffer, final int[] offsets, final int size) {
+        this(buffer, offsets, size, null);
+    }
+
+    private BytesBatch(final byte[] buffer, final int[] offsets, final int size, final boolean[] nulls) {
+        m_buffer = buffer;
+        m_offsets = offsets;
+        m_size = size;
+        m_nulls = nulls;
+    }
+
+    /**
+     * @return the number of values in this batch
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * @return the buffer containing all values, not copied
+     */
+    public byte[] getBuffer() {
+        return m_buffer;
+    }
+
+    /**
+     * @param index the index of a value, or {@link #size()} to obtain the end of the last value
+     * @return the offset of the value within the {@link #getBuffer() buffer}
+     */
+    public int getOffset(final int index) {
+        return m_offsets[index];
+    }
+
+    /**
+     * @param index the index of a value
+     * @return the number of bytes of the value
+     */
+    public int getLength(final int index) {
+        return m_offsets[index + 1] - m_offsets[index];
+    }
+
+    /**
+     * @param index the index of a value
+     * @return true if the value is {@code null}, see {@link Builder#endNullValue()}
+     */
+    public boolean isNull(final int index) {
+        return m_nulls != null && index < m_nulls.length && m_nulls[index];
+    }
+
+    /**
+     * @param index the index of a value
+     * @return a copy of the bytes of the value, or {@code null} if the value {@link #isNull(int) is null}
+     */
+    public byte[] get(final int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        return Arrays.copyOfRange(m_buffer, m_offsets[index], m_offsets[index + 1]);
+    }
+
+    /**
+     * Packs values into a {@link BytesBatch}. The bytes of a value are written using the methods of this stream and
+     * the value is completed by calling {@link #endValue()}.
+     */
+    public static final class Builder extends OutputStream {
+
+        private byte[] m_buffer;
+
+        private int[] m_offsets;
+
+        private int m_size;
+
+        private int m_position;
+
+        private boolean[] m_nulls;
+
+        /**
+         * Creates a builder.
+         *
+         * @param expectedValues the expected number of values, used to size the offsets
+         * @param expectedBytesPerValue the expected number of bytes per value, used to size the buffer
+         */
+        public Builder(final int expectedValues, final int expectedBytesPerValue) {
+            m_buffer = new byte[Math.max(16, expectedValues * expectedBytesPerValue)];
+            m_offsets = new int[Math.max(1, expectedValues) + 1];
+        }
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(1);
+            m_buffer[m_position++] = (byte)b;
+        }
+
+        @Override
+        public void write(final byte[] b) {
+            write(b, 0, b.length);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, m_buffer, m_position, len);
+            m_position += len;
+        }
+
+        /**
+         * Writes the UTF-8 encoding of the given text.
+         *
+         * @param text the text
+         */
+        public void writeString(final CharSequence text) {
+            final int length = text.length();
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                if (c >= 0x80) {
+                    // Not plain ASCII, let the JDK take care of the encoding of the remainder.
+                    write(text.subSequence(i, length).toString().getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                m_buffer[m_position++] = (byte)c;
+            }
+        }
+
+        /**
+         * Writes the given value as four bytes in little-endian order.
+         *
+         * @param value the value
+         */
+        public void writeInt(final int value) {
+            ensureCapacity(Integer.BYTES);
+            for (int i = 0; i < Integer.BYTES; i++) {
+                m_buffer[m_position++] = (byte)(value >>> (8 * i));
+            }
+        }
+
+        /**
+         * Writes the given value as eight bytes in little-endian order.
+         *
+         * @param value the value
+         */
+        public void writeLong(final long value) {
+            ensureCapacity(Long.BYTES);
+            for (int i = 0; i < Long.BYTES; i++) {
+                m_buffer[m_position++] = (byte)(value >>> (8 * i));
+            }
+        }
+
+        /**
+         * Completes the current value. All bytes written since the previous value was completed belong to it.
+         */
+        public void endValue() {
+            if (m_size + 2 > m_offsets.length) {
+                m_offsets = Arrays.copyOf(m_offsets, m_offsets.length * 2);
+            }
+            m_offsets[++m_size] = m_position;
+        }
+
+        /**
+         * Completes the current value as {@code null}, i.e. the value could not be serialized. No bytes must have been
+         * written since the previous value was completed.
+         */
+        public void endNullValue() {
+            if (m_nulls == null) {
+                m_nulls = new boolean[m_offsets.length];
+            } else if (m_size >= m_nulls.length) {
+                m_nulls = Arrays.copyOf(m_nulls, m_offsets.length);
+            }
+            m_nulls[m_size] = true;
+            endValue();
+        }
+
+        /**
+         * @return the number of completed values
+         */
+        public int size() {
+            return m_size;
+        }
+
+        /**
+         * Creates the batch of all completed values. The builder must not be used afterwards.
+         *
+         * @return the batch
+         */
+        public BytesBatch build() {
+            return new BytesBatch(m_buffer, m_offsets, m_size, m_nulls);
+        }
+
+        private void ensureCapacity(final int numBytes) {
+            if (m_position + numBytes > m_buffer.length) {
+                m_buffer = Arrays.copyOf(m_buffer, Math.max(m_position + numBytes, m_buffer.length * 2));
+            }
+        }
+    }
+}
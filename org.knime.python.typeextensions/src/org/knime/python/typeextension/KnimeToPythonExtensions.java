@@ -49,8 +49,12 @@
 
 import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -68,8 +72,17 @@
  */
 public class KnimeToPythonExtensions {
 
-    private static Map<String, KnimeToPythonExtension> extensions = new HashMap<String, KnimeToPythonExtension>();
+    private static volatile Map<String, KnimeToPythonExtension> extensions = Collections.emptyMap();
+
+    /**
+     * Resolved extensions per {@link DataType}, shared by all users. Types without a suitable extension are mapped to
+     * an empty {@link Optional} since {@link ConcurrentHashMap} does not permit null values.
+     */
+    private static final ConcurrentMap<DataType, Optional<KnimeToPythonExtension>> TYPE_EXTENSIONS =
+        new ConcurrentHashMap<>();
+
     private Map<String, Serializer<? extends DataValue>> m_serializers = new HashMap<String, Serializer<? extends DataValue>>();
+    private Map<DataType, Serializer<? extends DataValue>> m_typeSerializers = new HashMap<>();
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(KnimeToPythonExtensions.class);
 
@@ -79,7 +92,8 @@ public class KnimeToPythonExtensions {
      * available {@link KnimeToPythonExtension}s for org.knime.python2.
      */
     @SuppressWarnings({ "unchecked" })
-    public static void init() {
+    public static synchronized void init() {
+        Map<String, KnimeToPythonExtension> extensions = new HashMap<String, KnimeToPythonExtension>();
         IConfigurationElement[] configs = Platform.getExtensionRegistry()
                 .getConfigurationElementsFor("org.knime.python.typeextension.knimetopython");
         for (IConfigurationElement config : configs) {
@@ -99,6 +113,8 @@ public static void init() {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+        KnimeToPythonExtensions.extensions = Collections.unmodifiableMap(extensions);
+        TYPE_EXTENSIONS.clear();
     }
 
     /**
@@ -118,13 +134,40 @@ public Serializer<? extends DataValue> getSerializer(final String id) {
     }
 
     /**
-     * Return the extension handeling the given KNIME-{@link DataType}.
+     * Return the {@link Serializer} of the extension handling the given KNIME-{@link DataType}. The
+     * {@link Serializer} instance is saved and returned on every successive call.
+     * 
+     * @param type
+     *            a KNIME-{@link DataType}
+     * @return a {@link Serializer} or null if no suitable extension was found
+     */
+    public Serializer<? extends DataValue> getSerializer(final DataType type) {
+        Serializer<? extends DataValue> serializer = m_typeSerializers.get(type);
+        if (serializer == null) {
+            KnimeToPythonExtension extension = getExtension(type);
+            if (extension == null) {
+                return null;
+            }
+            serializer = getSerializer(extension.getId());
+            m_typeSerializers.put(type, serializer);
+        }
+        return serializer;
+    }
+
+    /**
+     * Return the extension handeling the given KNIME-{@link DataType}. The result is resolved once per type and
+     * cached.
      * 
      * @param type
      *            a KNIME-{@link DataType}
      * @return an extension or null if no suitable one was found
      */
     public static KnimeToPythonExtension getExtension(final DataType type) {
+        return TYPE_EXTENSIONS.computeIfAbsent(type, t -> Optional.ofNullable(findExtension(t))).orElse(null);
+    }
+
+    private static KnimeToPythonExtension findExtension(final DataType type) {
+        Map<String, KnimeToPythonExtension> extensions = KnimeToPythonExtensions.extensions;
         for (KnimeToPythonExtension extension : extensions.values()) {
             Class<? extends DataValue> preferredValueClass = type.getPreferredValueClass();
             if (preferredValueClass.equals(extension.getJavaSerializerFactory().getDataValue())) {
@@ -49,6 +49,7 @@
 
 import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -66,7 +67,7 @@
  */
 public class PythonToKnimeExtensions {
 
-    private static Map<String, PythonToKnimeExtension> extensions = new HashMap<String, PythonToKnimeExtension>();
+    private static volatile Map<String, PythonToKnimeExtension> extensions = Collections.emptyMap();
     private Map<String, Deserializer> m_deserializers = new HashMap<String, Deserializer>();
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(PythonToKnimeExtensions.class);
@@ -76,7 +77,8 @@ public class PythonToKnimeExtensions {
      * {@link PythonToKnimeExtension}s. Also wrap them up and add them as
      * available {@link PythonToKnimeExtension}s for org.knime.python2.
      */
-    public static void init() {
+    public static synchronized void init() {
+        Map<String, PythonToKnimeExtension> extensions = new HashMap<String, PythonToKnimeExtension>();
         IConfigurationElement[] configs = Platform.getExtensionRegistry()
                 .getConfigurationElementsFor("org.knime.python.typeextension.pythontoknime");
         for (IConfigurationElement config : configs) {
@@ -97,6 +99,7 @@ public static void init() {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+        PythonToKnimeExtensions.extensions = Collections.unmodifiableMap(extensions);
     }
 
     /**
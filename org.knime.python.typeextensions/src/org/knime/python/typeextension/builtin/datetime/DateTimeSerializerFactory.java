@@ -46,16 +46,19 @@
 package org.knime.python.typeextension.builtin.datetime;
 
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.TimeZone;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 
 import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialize legacy Date&Time objects
+ * Is used to serialize legacy Date&Time objects. A value is transferred as the seconds since the epoch of its UTC
+ * time (eight bytes) followed by the nanoseconds of the second (four bytes), both little-endian.
  * 
  * @author Patrick Winter, KNIME AG, Zurich, Switzerland
  */
@@ -63,7 +66,7 @@
 @SuppressWarnings("deprecation")
 public class DateTimeSerializerFactory extends SerializerFactory<DateAndTimeValue> {
 
-    static final String FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+    static final int NUM_BYTES = Long.BYTES + Integer.BYTES;
 
     public DateTimeSerializerFactory() {
         super(DateAndTimeValue.class);
@@ -74,14 +77,25 @@ public Serializer<? extends DateAndTimeValue> createSerializer() {
         return new DateAndTimeSerializer();
     }
 
-    private class DateAndTimeSerializer implements Serializer<DateAndTimeValue> {
+    private class DateAndTimeSerializer implements BatchSerializer<DateAndTimeValue> {
 
         @Override
-        public byte[] serialize(DateAndTimeValue value) throws IOException {
-            Date date = value.getUTCCalendarClone().getTime();
-            SimpleDateFormat sdf = new SimpleDateFormat(FORMAT);
-            sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-            return sdf.format(date).getBytes("UTF-8");
+        public byte[] serialize(final DateAndTimeValue value) throws IOException {
+            final long millis = value.getUTCTimeInMillis();
+            return ByteBuffer.allocate(NUM_BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(Math.floorDiv(millis, 1000))
+                .putInt((int)Math.floorMod(millis, 1000) * 1_000_000).array();
+        }
+
+        @Override
+        public BytesBatch serialize(final List<? extends DateAndTimeValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_BYTES);
+            for (final DateAndTimeValue value : values) {
+                final long millis = value.getUTCTimeInMillis();
+                batch.writeLong(Math.floorDiv(millis, 1000));
+                batch.writeInt((int)Math.floorMod(millis, 1000) * 1_000_000);
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
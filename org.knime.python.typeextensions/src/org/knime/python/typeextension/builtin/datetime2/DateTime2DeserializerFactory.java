@@ -46,11 +46,18 @@
 package org.knime.python.typeextension.builtin.datetime2;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
@@ -58,13 +65,16 @@
 import org.knime.core.data.time.localdatetime.LocalDateTimeCellFactory;
 import org.knime.core.data.time.zoneddatetime.ZonedDateTimeCellFactory;
 import org.knime.core.node.NodeLogger;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 
 /**
  * Is used to deserialize python datetime objects to either LocalDateTime
  * objects if no timezoneinfo is given or ZonedDateTime objects if said info is
- * given.
+ * given. The encodings are the ones of {@link LocalDateTimeSerializerFactory}
+ * and {@link ZonedDateTimeSerializerFactory}, respectively.
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
@@ -90,43 +100,91 @@ public Deserializer createDeserializer() {
         return new DateTimeDeserializer();
     }
 
-    private class DateTimeDeserializer implements Deserializer {
+    private class DateTimeDeserializer implements BatchDeserializer {
 
         ArrayList<ZoneId> tzWithChangedOffset = new ArrayList<ZoneId>();
 
+        /** Zones by their transferred ids, columns usually only contain a few distinct zones. */
+        private final Map<String, Optional<ZoneId>> m_zones = new HashMap<>();
+
         /**
          * {@inheritDoc}
          */
         @Override
-        public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) throws IOException {
-            // Deserialize to LocalDateTime or ZonedDateTime based on incoming
-            // date string
-            String string = new String(bytes, "UTF-8");
-            if (string.length() <= 23) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(LocalDateTimeSerializerFactory.FORMAT);
-                return LocalDateTimeCellFactory.create(string, formatter);
+        public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStoreFactory) throws IOException {
+            return deserialize(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), 0, bytes.length);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+            throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(batch.getBuffer()).order(ByteOrder.LITTLE_ENDIAN);
+            final DataCell[] cells = new DataCell[batch.size()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = deserialize(buffer, batch.getOffset(i), batch.getLength(i));
+            }
+            return cells;
+        }
+
+        private DataCell deserialize(final ByteBuffer buffer, final int offset, final int length)
+            throws IOException {
+            // Deserialize to LocalDateTime or ZonedDateTime based on the
+            // length of the incoming value
+            if (length != LocalDateTimeSerializerFactory.NUM_BYTES
+                && length < ZonedDateTimeSerializerFactory.NUM_FIXED_BYTES) {
+                throw new IOException("Invalid serialized date-time of length " + length + ".");
+            }
+            final LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(buffer.getLong(offset),
+                buffer.getInt(offset + Long.BYTES), ZoneOffset.UTC);
+            if (length == LocalDateTimeSerializerFactory.NUM_BYTES) {
+                return LocalDateTimeCellFactory.create(localDateTime);
+            }
+            final ZoneOffset zoneOffset =
+                ZoneOffset.ofTotalSeconds(buffer.getInt(offset + LocalDateTimeSerializerFactory.NUM_BYTES));
+            final int zoneIdLength = length - ZonedDateTimeSerializerFactory.NUM_FIXED_BYTES;
+            final ZoneId zone;
+            if (zoneIdLength == 0) {
+                zone = zoneOffset;
             } else {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(ZonedDateTimeSerializerFactory.FORMAT);
-                ZonedDateTime dt = ZonedDateTime.parse(string, formatter);
-                //For a zoned datetime coming from python it is possible that the transferred timezone name and 
-                //timezone offset do not comply with java defaults (e.g. timezone name = 'Europe\Berlin', offset=5 are
-                //received while in Java timezone name 'Europe\Berlin' has an associated offset=2). ZonedDateTime.parse
-                //overwrites incorrect offsets without a warning. Therefore we check manually if the received timezone
-                //offset of the incoming timestampstring (located between position 23 and 29) equals the offset of the 
-                //created ZonedDateTime object. If not a warning is issued so that the user may further look into it.
-                if (!tzWithChangedOffset.contains(dt.getZone())
-                        && !dt.getOffset().equals(ZoneOffset.of(string.substring(23, 29)))) {
-                    // warn
-                    NodeLogger.getLogger(DateTimeDeserializer.class)
-                            .warn("Offset " + string.substring(23, 29)
-                                    + " was changed automatically to the stored offset for timezone " + dt.getZone()
-                                    + ". Multiple entries may be affected!");
-                    tzWithChangedOffset.add(dt.getZone());
-                }
-                return ZonedDateTimeCellFactory.create(string, formatter);
+                final String zoneId = new String(buffer.array(),
+                    offset + ZonedDateTimeSerializerFactory.NUM_FIXED_BYTES, zoneIdLength, StandardCharsets.UTF_8);
+                zone = m_zones.computeIfAbsent(zoneId, DateTime2DeserializerFactory::parseZoneId).orElse(zoneOffset);
             }
+            final ZonedDateTime dt = ZonedDateTime.ofInstant(localDateTime, zoneOffset, zone);
+            //For a zoned datetime coming from python it is possible that the transferred timezone name and 
+            //timezone offset do not comply with java defaults (e.g. timezone name = 'Europe\Berlin', offset=5 are
+            //received while in Java timezone name 'Europe\Berlin' has an associated offset=2). The zone's rules take
+            //precedence over the transferred offset. Therefore we check manually if the received timezone offset
+            //equals the offset of the created ZonedDateTime object. If not a warning is issued so that the user may
+            //further look into it.
+            if (!tzWithChangedOffset.contains(dt.getZone()) && !dt.getOffset().equals(zoneOffset)) {
+                // warn
+                NodeLogger.getLogger(DateTimeDeserializer.class)
+                        .warn("Offset " + zoneOffset
+                                + " was changed automatically to the stored offset for timezone " + dt.getZone()
+                                + ". Multiple entries may be affected!");
+                tzWithChangedOffset.add(dt.getZone());
+            }
+            return ZonedDateTimeCellFactory.create(dt);
         }
 
     }
 
+    /**
+     * Values coming from Python may carry a timezone name that is no valid zone id (e.g. an abbreviation like
+     * 'CEST'). These values fall back to their transferred offset.
+     */
+    private static Optional<ZoneId> parseZoneId(final String zoneId) {
+        try {
+            return Optional.of(ZoneId.of(zoneId));
+        } catch (final DateTimeException ex) {
+            NodeLogger.getLogger(DateTime2DeserializerFactory.class).warn("Unknown timezone '" + zoneId
+                + "', the transferred offset to UTC is used instead. Multiple entries may be affected!");
+            return Optional.empty();
+        }
+    }
+
 }
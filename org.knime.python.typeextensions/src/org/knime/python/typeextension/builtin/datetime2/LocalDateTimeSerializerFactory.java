@@ -46,21 +46,29 @@
 package org.knime.python.typeextension.builtin.datetime2;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.List;
 
 import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialize java8 LocalDateTime objects
+ * Is used to serialize java8 LocalDateTime objects. A date-time is transferred as the seconds since the epoch of its
+ * local date-time interpreted as UTC (eight bytes) followed by the nanoseconds of the second (four bytes), both
+ * little-endian.
  * 
  * @author Patrick Winter, KNIME AG, Zurich, Switzerland
  */
+
 public class LocalDateTimeSerializerFactory extends SerializerFactory<LocalDateTimeValue> {
 
-    static final String FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+    static final int NUM_BYTES = Long.BYTES + Integer.BYTES;
 
     public LocalDateTimeSerializerFactory() {
         super(LocalDateTimeValue.class);
@@ -71,21 +79,36 @@ public LocalDateTimeSerializerFactory() {
      */
     @Override
     public Serializer<? extends LocalDateTimeValue> createSerializer() {
-        return new DateAndTimeSerializer();
+        return new LocalDateTimeSerializer();
     }
 
-    private class DateAndTimeSerializer implements Serializer<LocalDateTimeValue> {
+    private class LocalDateTimeSerializer implements BatchSerializer<LocalDateTimeValue> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public byte[] serialize(final LocalDateTimeValue value) throws IOException {
+            final LocalDateTime dateTime = value.getLocalDateTime();
+            return ByteBuffer.allocate(NUM_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(dateTime.toEpochSecond(ZoneOffset.UTC)).putInt(dateTime.getNano()).array();
+        }
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(LocalDateTimeValue value) throws IOException {
-            LocalDateTime date = value.getLocalDateTime();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(FORMAT);
-            return date.format(formatter).getBytes("UTF-8");
+        public BytesBatch serialize(final List<? extends LocalDateTimeValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_BYTES);
+            for (final LocalDateTimeValue value : values) {
+                final LocalDateTime dateTime = value.getLocalDateTime();
+                batch.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                batch.writeInt(dateTime.getNano());
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
 
-}
\ No newline at end of file
+}
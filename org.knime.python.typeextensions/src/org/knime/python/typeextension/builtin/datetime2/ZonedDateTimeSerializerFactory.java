@@ -46,26 +46,32 @@
 package org.knime.python.typeextension.builtin.datetime2;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialize java8 ZonedTime objects to python datetime objects.
+ * Is used to serialize java8 ZonedTime objects to python datetime objects. A date-time is transferred like a local
+ * date-time (see {@link LocalDateTimeSerializerFactory}), followed by the offset to UTC in seconds (four bytes,
+ * little-endian) and the UTF-8 encoded zone id.
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
 
 public class ZonedDateTimeSerializerFactory extends SerializerFactory<ZonedDateTimeValue> {
 
-    // public static final String SERIZALIZE_FORMAT = "yyyy-MM-dd
-    // HH:mm:ss.SSSxxx";
-    // public static final String DESERIALIZE_FORMAT = "yyyy-MM-dd
-    // HH:mm:ss.SSSxxx'['VV']'";
-    public static final String FORMAT = "yyyy-MM-dd HH:mm:ss.SSSxxx'['VV']'";
+    /** The number of bytes preceding the zone id. */
+    static final int NUM_FIXED_BYTES = LocalDateTimeSerializerFactory.NUM_BYTES + Integer.BYTES;
 
     public ZonedDateTimeSerializerFactory() {
         super(ZonedDateTimeValue.class);
@@ -79,24 +85,44 @@ public Serializer<? extends ZonedDateTimeValue> createSerializer() {
         return new ZonedDateTimeSerializer();
     }
 
-    private class ZonedDateTimeSerializer implements Serializer<ZonedDateTimeValue> {
+    private class ZonedDateTimeSerializer implements BatchSerializer<ZonedDateTimeValue> {
+
+        /** Encoded ids of the zones seen so far, columns usually only contain a few distinct zones. */
+        private final Map<ZoneId, byte[]> m_zoneIds = new HashMap<>();
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(ZonedDateTimeValue value) throws IOException {
-            ZonedDateTime date = value.getZonedDateTime();
-            /*
-             * DateTimeFormatter formatter =
-             * DateTimeFormatter.ofPattern(SERIZALIZE_FORMAT); String datestr =
-             * date.format(formatter); datestr += "[" + date.getZone() + "]";
-             */
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(FORMAT);
-            String datestr = date.format(formatter);
-            return datestr.getBytes("UTF-8");
+        public byte[] serialize(final ZonedDateTimeValue value) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(1, NUM_FIXED_BYTES + 16);
+            write(value.getZonedDateTime(), batch);
+            batch.endValue();
+            return batch.build().get(0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BytesBatch serialize(final List<? extends ZonedDateTimeValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_FIXED_BYTES + 16);
+            for (final ZonedDateTimeValue value : values) {
+                write(value.getZonedDateTime(), batch);
+                batch.endValue();
+            }
+            return batch.build();
+        }
+
+        private void write(final ZonedDateTime dateTime, final BytesBatch.Builder batch) {
+            batch.writeLong(dateTime.toLocalDateTime().toEpochSecond(ZoneOffset.UTC));
+            batch.writeInt(dateTime.getNano());
+            batch.writeInt(dateTime.getOffset().getTotalSeconds());
+            final byte[] zoneId =
+                m_zoneIds.computeIfAbsent(dateTime.getZone(), zone -> zone.getId().getBytes(StandardCharsets.UTF_8));
+            batch.write(zoneId, 0, zoneId.length);
         }
 
     }
 
-}
\ No newline at end of file
+}
@@ -46,15 +46,21 @@
 package org.knime.python.typeextension.builtin.duration;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.time.duration.DurationCellFactory;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 
 /**
- * Is used to deserialize python timedelta objects to DurationCells.
+ * Is used to deserialize python timedelta objects to DurationCells. A duration is transferred as its seconds (eight
+ * bytes) followed by the nanosecond adjustment (four bytes), both little-endian.
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
@@ -73,17 +79,38 @@ public Deserializer createDeserializer() {
         return new DurationDeserializer();
     }
 
-    private class DurationDeserializer implements Deserializer {
+    private class DurationDeserializer implements BatchDeserializer {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) throws IOException {
-            String string = new String(bytes, "UTF-8");
-            return DurationCellFactory.create(string);
+        public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStoreFactory) throws IOException {
+            return deserialize(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), 0, bytes.length);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+            throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(batch.getBuffer()).order(ByteOrder.LITTLE_ENDIAN);
+            final DataCell[] cells = new DataCell[batch.size()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = deserialize(buffer, batch.getOffset(i), batch.getLength(i));
+            }
+            return cells;
+        }
+
+        private DataCell deserialize(final ByteBuffer buffer, final int offset, final int length) throws IOException {
+            if (length != DurationSerializerFactory.NUM_BYTES) {
+                throw new IOException("Invalid serialized duration of length " + length + ".");
+            }
+            return DurationCellFactory
+                .create(Duration.ofSeconds(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES)));
         }
 
     }
 
-}
\ No newline at end of file
+}
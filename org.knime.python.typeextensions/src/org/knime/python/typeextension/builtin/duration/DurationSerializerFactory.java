@@ -46,20 +46,28 @@
 package org.knime.python.typeextension.builtin.duration;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.Duration;
+import java.util.List;
 
 import org.knime.core.data.time.duration.DurationValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialize java8 Duration objects to python timedelta objects.
+ * Is used to serialize java8 Duration objects to python timedelta objects. A duration is transferred as its seconds
+ * (eight bytes) followed by the nanosecond adjustment (four bytes), both little-endian.
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
 
 public class DurationSerializerFactory extends SerializerFactory<DurationValue> {
 
+    static final int NUM_BYTES = Long.BYTES + Integer.BYTES;
+
     public DurationSerializerFactory() {
         super(DurationValue.class);
     }
@@ -72,15 +80,31 @@ public Serializer<? extends DurationValue> createSerializer() {
         return new DurationSerializer();
     }
 
-    private class DurationSerializer implements Serializer<DurationValue> {
+    private class DurationSerializer implements BatchSerializer<DurationValue> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public byte[] serialize(final DurationValue value) throws IOException {
+            final Duration duration = value.getDuration();
+            return ByteBuffer.allocate(NUM_BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(duration.getSeconds())
+                .putInt(duration.getNano()).array();
+        }
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(DurationValue value) throws IOException {
-            Duration duration = value.getDuration();
-            return duration.toString().substring(2).getBytes("UTF-8");
+        public BytesBatch serialize(final List<? extends DurationValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_BYTES);
+            for (final DurationValue value : values) {
+                final Duration duration = value.getDuration();
+                batch.writeLong(duration.getSeconds());
+                batch.writeInt(duration.getNano());
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
@@ -50,6 +50,8 @@
 import org.knime.core.data.DataCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.image.png.PNGImageContent;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 
@@ -71,7 +73,7 @@ public ImageDeserializerFactory() {
     @Override
     public Deserializer createDeserializer() {
 
-        return new Deserializer() {
+        return new BatchDeserializer() {
 
             @Override
             public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) throws IOException {
@@ -79,6 +81,16 @@ public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) thr
                 return new PNGImageContent(bytes).toImageCell();
             }
 
+            @Override
+            public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+                    throws IOException {
+                final DataCell[] cells = new DataCell[batch.size()];
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = new PNGImageContent(batch.get(i)).toImageCell();
+                }
+                return cells;
+            }
+
         };
     }
 }
@@ -47,6 +47,8 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
@@ -58,6 +60,8 @@
 import org.knime.core.data.image.ImageValue;
 import org.knime.core.data.image.png.PNGImageContent;
 import org.knime.core.data.util.LockedSupplier;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 import org.w3c.dom.svg.SVGDocument;
@@ -79,33 +83,60 @@ public ImageSerializerFactory() {
      */
     @Override
     public Serializer<? extends ImageValue> createSerializer() {
-        return new Serializer<ImageValue>() {
+        return new ImageSerializer();
+    }
+
+    private static class ImageSerializer implements BatchSerializer<ImageValue> {
+
+        @Override
+        public byte[] serialize(final ImageValue value) throws IOException {
+            ImageContent content = value.getImageContent();
+            if (content instanceof PNGImageContent) {
+                return ((PNGImageContent) content).getByteArray();
+            } else if (content instanceof SvgImageContent) {
+                ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+                transcode((SvgImageContent) content, ostream);
+                return ostream.toByteArray();
+            }
+            return null;
+        }
 
-            @Override
-            public byte[] serialize(ImageValue value) throws IOException {
-                ImageContent content = value.getImageContent();
+        @Override
+        public BytesBatch serialize(final List<? extends ImageValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), 4096);
+            for (final ImageValue value : values) {
+                final ImageContent content = value.getImageContent();
                 if (content instanceof PNGImageContent) {
-                    return ((PNGImageContent) content).getByteArray();
+                    batch.write(((PNGImageContent) content).getByteArray());
                 } else if (content instanceof SvgImageContent) {
-                    SvgImageContent svgContent = (SvgImageContent) content;
+                    // Transcoded directly into the batch, no intermediate copy.
+                    transcode((SvgImageContent) content, batch);
+                } else {
+                    // Same as the single value case.
+                    batch.endNullValue();
+                    continue;
+                }
+                batch.endValue();
+            }
+            return batch.build();
+        }
 
-                    try (LockedSupplier<SVGDocument> supplier = ((SvgCell) svgContent.toImageCell())
-                            .getDocumentSupplier()) {
-                        SVGDocument svg = supplier.get();
-                        TranscoderInput input = new TranscoderInput(svg);
-                        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
-                        TranscoderOutput output = new TranscoderOutput(ostream);
-                        PNGTranscoder converter = new PNGTranscoder();
-                        try {
-                            converter.transcode(input, output);
-                            return ostream.toByteArray();
-                        } catch (TranscoderException e) {
-                            throw new IOException(e);
-                        }
-                    }
+        private static void transcode(final SvgImageContent svgContent, final OutputStream ostream)
+                throws IOException {
+            try (LockedSupplier<SVGDocument> supplier = ((SvgCell) svgContent.toImageCell())
+                    .getDocumentSupplier()) {
+                SVGDocument svg = supplier.get();
+                TranscoderInput input = new TranscoderInput(svg);
+                TranscoderOutput output = new TranscoderOutput(ostream);
+                PNGTranscoder converter = new PNGTranscoder();
+                try {
+                    converter.transcode(input, output);
+                } catch (TranscoderException e) {
+                    throw new IOException(e);
                 }
-                return null;
             }
-        };
+        }
+
     }
+
 }
@@ -46,16 +46,21 @@
 package org.knime.python.typeextension.builtin.localdate;
 
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.time.localdate.LocalDateCellFactory;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 
 /**
- * Is used to deserialize python date objects to java8 LocalDate objects.
+ * Is used to deserialize python date objects to java8 LocalDate objects. A date is transferred as its epoch day (eight
+ * bytes, little-endian).
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
@@ -74,16 +79,35 @@ public Deserializer createDeserializer() {
         return new LocalDateDeserializer();
     }
 
-    private class LocalDateDeserializer implements Deserializer {
+    private class LocalDateDeserializer implements BatchDeserializer {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) throws IOException {
-            String string = new String(bytes, "UTF-8");
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(LocalDateSerializerFactory.FORMAT);
-            return LocalDateCellFactory.create(string, formatter);
+        public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStoreFactory) throws IOException {
+            return deserialize(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), 0, bytes.length);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+            throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(batch.getBuffer()).order(ByteOrder.LITTLE_ENDIAN);
+            final DataCell[] cells = new DataCell[batch.size()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = deserialize(buffer, batch.getOffset(i), batch.getLength(i));
+            }
+            return cells;
+        }
+
+        private DataCell deserialize(final ByteBuffer buffer, final int offset, final int length) throws IOException {
+            if (length != LocalDateSerializerFactory.NUM_BYTES) {
+                throw new IOException("Invalid serialized local date of length " + length + ".");
+            }
+            return LocalDateCellFactory.create(LocalDate.ofEpochDay(buffer.getLong(offset)));
         }
 
     }
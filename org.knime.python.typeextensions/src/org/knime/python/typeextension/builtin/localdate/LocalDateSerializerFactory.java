@@ -46,22 +46,26 @@
 package org.knime.python.typeextension.builtin.localdate;
 
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 
 import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialize java8 LocalDate objects to a pyhton date object.
+ * Is used to serialize java8 LocalDate objects to a pyhton date object. A date is transferred as its epoch day (eight
+ * bytes, little-endian).
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
 
 public class LocalDateSerializerFactory extends SerializerFactory<LocalDateValue> {
 
-    static final String FORMAT = "yyyy-MM-dd";
+    static final int NUM_BYTES = Long.BYTES;
 
     public LocalDateSerializerFactory() {
         super(LocalDateValue.class);
@@ -75,16 +79,28 @@ public Serializer<? extends LocalDateValue> createSerializer() {
         return new LocalDateSerializer();
     }
 
-    private class LocalDateSerializer implements Serializer<LocalDateValue> {
+    private class LocalDateSerializer implements BatchSerializer<LocalDateValue> {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(LocalDateValue value) throws IOException {
-            LocalDate date = value.getLocalDate();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(FORMAT);
-            return date.format(formatter).getBytes("UTF-8");
+        public byte[] serialize(final LocalDateValue value) throws IOException {
+            return ByteBuffer.allocate(NUM_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(value.getLocalDate().toEpochDay()).array();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BytesBatch serialize(final List<? extends LocalDateValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_BYTES);
+            for (final LocalDateValue value : values) {
+                batch.writeLong(value.getLocalDate().toEpochDay());
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
@@ -46,16 +46,21 @@
 package org.knime.python.typeextension.builtin.localtime;
 
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalTime;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.time.localtime.LocalTimeCellFactory;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 
 /**
- * Is used to deserialize python time objects to java8 LocalTime objects.
+ * Is used to deserialize python time objects to java8 LocalTime objects. A time is transferred as its nanosecond of
+ * the day (eight bytes, little-endian).
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
@@ -74,18 +79,37 @@ public Deserializer createDeserializer() {
         return new LocalTimeDeserializer();
     }
 
-    private class LocalTimeDeserializer implements Deserializer {
+    private class LocalTimeDeserializer implements BatchDeserializer {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public DataCell deserialize(byte[] bytes, FileStoreFactory fileStoreFactory) throws IOException {
-            String string = new String(bytes, "UTF-8");
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(LocalTimeSerializerFactory.FORMAT);
-            return LocalTimeCellFactory.create(string, formatter);
+        public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStoreFactory) throws IOException {
+            return deserialize(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), 0, bytes.length);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+            throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(batch.getBuffer()).order(ByteOrder.LITTLE_ENDIAN);
+            final DataCell[] cells = new DataCell[batch.size()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = deserialize(buffer, batch.getOffset(i), batch.getLength(i));
+            }
+            return cells;
+        }
+
+        private DataCell deserialize(final ByteBuffer buffer, final int offset, final int length) throws IOException {
+            if (length != LocalTimeSerializerFactory.NUM_BYTES) {
+                throw new IOException("Invalid serialized local time of length " + length + ".");
+            }
+            return LocalTimeCellFactory.create(LocalTime.ofNanoOfDay(buffer.getLong(offset)));
         }
 
     }
 
-}
\ No newline at end of file
+}
@@ -46,22 +46,26 @@
 package org.knime.python.typeextension.builtin.localtime;
 
 import java.io.IOException;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 
 import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
 /**
- * Is used to serialitze java8 LocalTime objects to python time objects.
+ * Is used to serialitze java8 LocalTime objects to python time objects. A time is transferred as its nanosecond of
+ * the day (eight bytes, little-endian).
  * 
  * @author Clemens von Schwerin, KNIME.com, Konstanz, Germany
  */
 
 public class LocalTimeSerializerFactory extends SerializerFactory<LocalTimeValue> {
 
-    static final String FORMAT = "HH:mm:ss.SSS";
+    static final int NUM_BYTES = Long.BYTES;
 
     public LocalTimeSerializerFactory() {
         super(LocalTimeValue.class);
@@ -75,16 +79,28 @@ public Serializer<? extends LocalTimeValue> createSerializer() {
         return new LocalTimeSerializer();
     }
 
-    private class LocalTimeSerializer implements Serializer<LocalTimeValue> {
+    private class LocalTimeSerializer implements BatchSerializer<LocalTimeValue> {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(LocalTimeValue value) throws IOException {
-            LocalTime time = value.getLocalTime();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(FORMAT);
-            return time.format(formatter).getBytes("UTF-8");
+        public byte[] serialize(final LocalTimeValue value) throws IOException {
+            return ByteBuffer.allocate(NUM_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(value.getLocalTime().toNanoOfDay()).array();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BytesBatch serialize(final List<? extends LocalTimeValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), NUM_BYTES);
+            for (final LocalTimeValue value : values) {
+                batch.writeLong(value.getLocalTime().toNanoOfDay());
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
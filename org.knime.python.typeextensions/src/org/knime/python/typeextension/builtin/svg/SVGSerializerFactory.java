@@ -48,8 +48,12 @@
 package org.knime.python.typeextension.builtin.svg;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.knime.base.data.xml.SvgValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
@@ -73,14 +77,27 @@ public Serializer<SvgValue> createSerializer() {
         return new SVGSerializer();
     }
 
-    private class SVGSerializer implements Serializer<SvgValue> {
+    private class SVGSerializer implements BatchSerializer<SvgValue> {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public byte[] serialize(SvgValue value) throws IOException {
-            return value.toString().getBytes();
+        public byte[] serialize(final SvgValue value) throws IOException {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BytesBatch serialize(final List<? extends SvgValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), 1024);
+            for (final SvgValue value : values) {
+                batch.writeString(value.toString());
+                batch.endValue();
+            }
+            return batch.build();
         }
 
     }
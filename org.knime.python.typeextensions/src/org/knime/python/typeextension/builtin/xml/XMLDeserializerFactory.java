@@ -57,6 +57,8 @@
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.xml.XMLCell;
 import org.knime.core.data.xml.XMLCellFactory;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
 import org.xml.sax.SAXException;
@@ -81,15 +83,33 @@ public Deserializer createDeserializer() {
         return new XMLDeserializer();
     }
 
-    private class XMLDeserializer implements Deserializer {
+    private class XMLDeserializer implements BatchDeserializer {
 
         /**
          * {@inheritDoc}
          */
         @Override
         public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStoreFactory) throws IOException {
+            return deserialize(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell[] deserialize(final BytesBatch batch, final FileStoreFactory fileStoreFactory)
+            throws IOException {
+            final DataCell[] cells = new DataCell[batch.size()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = deserialize(
+                    new String(batch.getBuffer(), batch.getOffset(i), batch.getLength(i), StandardCharsets.UTF_8));
+            }
+            return cells;
+        }
+
+        private DataCell deserialize(final String xml) throws IOException {
             try {
-                return XMLCellFactory.create(new String(bytes, StandardCharsets.UTF_8));
+                return XMLCellFactory.create(xml);
             } catch (ParserConfigurationException | SAXException | XMLStreamException e) {
                 throw new IOException(e.getMessage(), e);
             }
@@ -49,8 +49,11 @@
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.knime.core.data.xml.XMLValue;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
 
@@ -74,7 +77,7 @@ public Serializer<XMLValue> createSerializer() {
         return new XMLSerializer();
     }
 
-    private class XMLSerializer implements Serializer<XMLValue> {
+    private class XMLSerializer implements BatchSerializer<XMLValue> {
 
         /**
          * {@inheritDoc}
@@ -84,6 +87,19 @@ public byte[] serialize(final XMLValue value) throws IOException {
             return value.toString().getBytes(StandardCharsets.UTF_8);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BytesBatch serialize(final List<? extends XMLValue> values) throws IOException {
+            final BytesBatch.Builder batch = new BytesBatch.Builder(values.size(), 256);
+            for (final XMLValue value : values) {
+                batch.writeString(value.toString());
+                batch.endValue();
+            }
+            return batch.build();
+        }
+
     }
 
 }
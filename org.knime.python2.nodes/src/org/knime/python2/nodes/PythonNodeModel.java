@@ -52,6 +52,9 @@
 import java.util.Set;
 
 import org.knime.base.node.util.exttool.ExtToolOutputNodeModel;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
@@ -68,6 +71,8 @@
 import org.knime.python2.config.PythonSourceCodeConfig;
 import org.knime.python2.config.PythonVersionAndCommandConfig;
 import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
+import org.knime.python2.generic.ScriptingNodeUtils;
 import org.knime.python2.kernel.PythonCancelable;
 import org.knime.python2.kernel.PythonCanceledExecutionException;
 import org.knime.python2.kernel.PythonIOException;
@@ -139,7 +144,10 @@ protected PythonKernelOptions getKernelOptions() {
         final SerializationOptions serializationOptions =
             new SerializationOptions(config.getChunkSize(), config.isConvertingMissingToPython(),
                 config.isConvertingMissingFromPython(), config.getSentinelOption(), config.getSentinelValue())
-                    .forSerializerId(serializerId);
+                    .forSerializerId(serializerId) //
+                    .forLazyTableTransfer(config.isTransferringTablesLazily()) //
+                    .forCategoricalStrings(config.isTransferringCategoricalStrings()) //
+                    .forRangeIndexRowKeys(config.isUsingRangeIndexForRowKeys());
 
         return new PythonKernelOptions(pythonVersion, python2Command, python3Command, serializationOptions);
     }
@@ -165,6 +173,57 @@ protected PythonKernel getNextKernelFromQueue(final Set<PythonModuleSpec> requir
             cancelable);
     }
 
+    /**
+     * Puts the given table into the workspace of the given kernel. If configured via
+     * {@link PythonSourceCodeConfig#isTransferringReferencedColumnsOnly()} and the columns that are referenced by the
+     * configured source code can be determined statically, only these columns are transferred. If a row filter is
+     * configured via {@link PythonSourceCodeConfig#getRowFilter()}, only the rows that satisfy it are transferred. For
+     * nodes with more than one input table, the row filter only applies to the tables that contain all of its columns.
+     *
+     * @param kernel the kernel
+     * @param name the name of the table in the Python workspace
+     * @param table the table
+     * @param executionMonitor the monitor that will be updated about progress
+     * @throws PythonIOException if an error occurred while communicating with the python kernel or while executing the
+     *             task
+     * @throws CanceledExecutionException if canceled
+     */
+    protected void putDataTable(final PythonKernel kernel, final String name, final BufferedDataTable table,
+        final ExecutionMonitor executionMonitor) throws PythonIOException, CanceledExecutionException {
+        final C config = getConfig();
+        RowFilterExpression rowFilter;
+        try {
+            rowFilter = config.getParsedRowFilter().orElse(null);
+        } catch (final IllegalArgumentException ex) {
+            throw new PythonIOException(ex.getMessage(), ex);
+        }
+        if (rowFilter != null && table != null && getNumberOfInputTables() > 1
+            && !rowFilter.isApplicableTo(table.getDataTableSpec())) {
+            LOGGER.debug("Table '" + name + "' does not contain all columns of row filter '" + rowFilter
+                + "'. It is transferred unfiltered.");
+            rowFilter = null;
+        }
+        if (table == null || (!config.isTransferringReferencedColumnsOnly() && rowFilter == null)) {
+            kernel.putDataTable(name, table, executionMonitor);
+            return;
+        }
+        final String[] includedColumns = config.isTransferringReferencedColumnsOnly() //
+            ? ScriptingNodeUtils.findReferencedColumns(config.getSourceCode(), name).orElse(null) //
+            : null;
+        kernel.putDataTable(name, table, executionMonitor, (int)Math.min(table.size(), Integer.MAX_VALUE),
+            includedColumns, rowFilter);
+    }
+
+    private int getNumberOfInputTables() {
+        int numberOfInputTables = 0;
+        for (int i = 0; i < getNrInPorts(); i++) {
+            if (BufferedDataTable.class.isAssignableFrom(getInPortType(i).getPortObjectClass())) {
+                numberOfInputTables++;
+            }
+        }
+        return numberOfInputTables;
+    }
+
     /**
      * Shuts down the provided kernel, whereas part of the shutdown may happen asynchronously for performance reasons.
      *
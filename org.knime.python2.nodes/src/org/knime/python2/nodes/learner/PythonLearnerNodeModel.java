@@ -89,7 +89,7 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         try(final PythonKernel kernel = new PythonKernel(getKernelOptions())) {
             kernel.putFlowVariables(PythonLearnerNodeConfig.getVariableNames().getFlowVariables(),
                 getAvailableFlowVariables().values());
-            kernel.putDataTable(PythonLearnerNodeConfig.getVariableNames().getInputTables()[0],
+            putDataTable(kernel, PythonLearnerNodeConfig.getVariableNames().getInputTables()[0],
                 (BufferedDataTable)inData[0], exec.createSubProgress(0.3));
             final String[] output = kernel.execute(getConfig().getSourceCode(), new PythonExecutionMonitorCancelable(exec));
             setExternalOutput(new LinkedList<String>(Arrays.asList(output[0].split("\n"))));
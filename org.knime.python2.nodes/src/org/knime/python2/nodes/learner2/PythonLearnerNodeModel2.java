@@ -83,7 +83,7 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         try (final PythonKernel kernel = getNextKernelFromQueue(cancelable)) {
             kernel.putFlowVariables(PythonLearnerNodeConfig2.getVariableNames().getFlowVariables(),
                 getAvailableFlowVariables().values());
-            kernel.putDataTable(PythonLearnerNodeConfig2.getVariableNames().getInputTables()[0],
+            putDataTable(kernel, PythonLearnerNodeConfig2.getVariableNames().getInputTables()[0],
                 (BufferedDataTable)inData[0], exec.createSubProgress(0.3));
             final String[] output =
                 kernel.execute(getConfig().getSourceCode(), cancelable);
@@ -92,7 +92,7 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
             kernel.putObject(PythonPredictorNodeConfig.getVariableNames().getInputObjects()[0],
                 ((PickledObjectPortObject)inData[0]).getPickledObjectFile(), exec);
             exec.createSubProgress(0.1).setProgress(1);
-            kernel.putDataTable(PythonPredictorNodeConfig.getVariableNames().getInputTables()[0],
+            putDataTable(kernel, PythonPredictorNodeConfig.getVariableNames().getInputTables()[0],
                 (BufferedDataTable)inData[1], exec.createSubProgress(0.2));
             final String[] output = kernel.execute(getConfig().getSourceCode(), new PythonExecutionMonitorCancelable(exec));
             setExternalOutput(new LinkedList<String>(Arrays.asList(output[0].split("\n"))));
@@ -86,7 +86,7 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
                 getAvailableFlowVariables().values());
             m_pickledObjectPort.execute(inData[0], kernel, exec);
             exec.createSubProgress(0.1).setProgress(1);
-            kernel.putDataTable(PythonPredictorNodeConfig2.getVariableNames().getInputTables()[0],
+            putDataTable(kernel, PythonPredictorNodeConfig2.getVariableNames().getInputTables()[0],
                 (BufferedDataTable)inData[1], exec.createSubProgress(0.2));
             final String[] output =
                 kernel.execute(getConfig().getSourceCode(), cancelable);
@@ -81,7 +81,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         try (final PythonKernel kernel = getNextKernelFromQueue(cancelable)) {
             kernel.putFlowVariables(PythonScriptNodeConfig.getVariableNames().getFlowVariables(),
                 getAvailableFlowVariables().values());
-            kernel.putDataTable(PythonScriptNodeConfig.getVariableNames().getInputTables()[0], inData[0],
+            putDataTable(kernel, PythonScriptNodeConfig.getVariableNames().getInputTables()[0], inData[0],
                 exec.createSubProgress(0.3));
             final String[] output = kernel.execute(getConfig().getSourceCode(), cancelable);
             setExternalOutput(new LinkedList<String>(Arrays.asList(output[0].split("\n"))));
@@ -82,7 +82,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         try (final PythonKernel kernel = getNextKernelFromQueue(cancelable)) {
         kernel.putFlowVariables(PythonScript1In2OutNodeConfig.getVariableNames().getFlowVariables(),
                 getAvailableFlowVariables().values());
-            kernel.putDataTable(PythonScript1In2OutNodeConfig.getVariableNames().getInputTables()[0], inData[0],
+            putDataTable(kernel, PythonScript1In2OutNodeConfig.getVariableNames().getInputTables()[0], inData[0],
                 exec.createSubProgress(0.3));
             final String[] output = kernel.execute(getConfig().getSourceCode(), cancelable);
             setExternalOutput(new LinkedList<String>(Arrays.asList(output[0].split("\n"))));
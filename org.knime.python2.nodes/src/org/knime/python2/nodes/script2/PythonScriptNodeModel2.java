@@ -47,12 +47,15 @@
  */
 package org.knime.python2.nodes.script2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -61,9 +64,11 @@
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.python2.PythonModuleSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
 import org.knime.python2.kernel.PythonExecutionMonitorCancelable;
 import org.knime.python2.kernel.PythonKernel;
 import org.knime.python2.nodes.PythonNodeModel;
+import org.knime.python2.ports.DataTableInputPort;
 import org.knime.python2.ports.InputPort;
 import org.knime.python2.ports.OutputPort;
 
@@ -91,8 +96,23 @@ protected PythonScriptNodeConfig2 createConfig() {
 
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final List<DataTableSpec> tableSpecs = new ArrayList<>();
         for (int i = 0; i < m_inPorts.length; i++) {
             m_inPorts[i].configure(inSpecs[i]);
+            if (inSpecs[i] instanceof DataTableSpec) {
+                tableSpecs.add((DataTableSpec)inSpecs[i]);
+            }
+        }
+        final RowFilterExpression rowFilter;
+        try {
+            rowFilter = getConfig().getParsedRowFilter().orElse(null);
+        } catch (final IllegalArgumentException ex) {
+            throw new InvalidSettingsException(ex.getMessage(), ex);
+        }
+        if (rowFilter != null && !tableSpecs.isEmpty() && tableSpecs.stream().noneMatch(rowFilter::isApplicableTo)) {
+            // The row filter is only applied to the input tables that contain all of its columns.
+            setWarningMessage("None of the input tables contains all columns of the row filter '" + rowFilter
+                + "'. No rows will be filtered.");
         }
         return null;
     }
@@ -124,7 +144,12 @@ protected PortObject[] execute(final PortObject[] inObjects, final ExecutionCont
                 final ExecutionMonitor inPortMonitor = inWeight > 0d //
                     ? inMonitor.createSubProgress(inPort.getExecuteProgressWeight() / inWeight) //
                     : inMonitor;
-                inPort.execute(inObjects[i], kernel, inPortMonitor);
+                if (inPort instanceof DataTableInputPort) {
+                    putDataTable(kernel, inPort.getVariableName(),
+                        DataTableInputPort.extractWorkspaceObject(inObjects[i]), inPortMonitor);
+                } else {
+                    inPort.execute(inObjects[i], kernel, inPortMonitor);
+                }
             }
 
             double outWeight = 0d;
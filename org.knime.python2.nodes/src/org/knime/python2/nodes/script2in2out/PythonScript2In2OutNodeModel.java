@@ -83,9 +83,9 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         try (final PythonKernel kernel = getNextKernelFromQueue(cancelable)) {
             kernel.putFlowVariables(PythonScript2In2OutNodeConfig.getVariableNames().getFlowVariables(),
                 getAvailableFlowVariables().values());
-            kernel.putDataTable(PythonScript2In2OutNodeConfig.getVariableNames().getInputTables()[0], inData[0],
+            putDataTable(kernel, PythonScript2In2OutNodeConfig.getVariableNames().getInputTables()[0], inData[0],
                 exec.createSubProgress(0.15));
-            kernel.putDataTable(PythonScript2In2OutNodeConfig.getVariableNames().getInputTables()[1], inData[1],
+            putDataTable(kernel, PythonScript2In2OutNodeConfig.getVariableNames().getInputTables()[1], inData[1],
                 exec.createSubProgress(0.15));
             final String[] output = kernel.execute(getConfig().getSourceCode(), cancelable);
             setExternalOutput(new LinkedList<String>(Arrays.asList(output[0].split("\n"))));
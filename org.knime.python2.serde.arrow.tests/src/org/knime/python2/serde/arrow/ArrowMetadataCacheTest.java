@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.kernel.PythonCancelable;
+import org.knime.python2.serde.SerializationTestUtil.RowListCreator;
+
+/**
+ * Tests that {@link ArrowSerializationLibrary} reuses the table spec decoded from the metadata of a chunk for the next
+ * chunk if that carries identical metadata, and decodes the metadata again otherwise.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class ArrowMetadataCacheTest {
+
+	private static final String INDEX_COLUMN = "__index_level_0__";
+
+	private static final int NUM_ROWS = 10;
+
+	private final List<File> m_files = new ArrayList<>();
+
+	private ArrowSerializationLibrary m_library;
+
+	@Before
+	public void setup() {
+		m_library = new ArrowSerializationLibrary();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		m_library.close();
+		for (final File file : m_files) {
+			Files.deleteIfExists(file.toPath());
+		}
+	}
+
+	@Test
+	public void testSpecIsReusedForIdenticalMetadata() throws Exception {
+		final byte[] first = writeChunk(0, NUM_ROWS, false);
+		final byte[] second = writeChunk(NUM_ROWS, NUM_ROWS, false);
+		final TableSpec firstSpec = m_library.tableSpecFromBytes(first, PythonCancelable.NOT_CANCELABLE);
+		assertChunk(firstSpec, read(first, firstSpec), 0, NUM_ROWS, false);
+		final TableSpec secondSpec = m_library.tableSpecFromBytes(second, PythonCancelable.NOT_CANCELABLE);
+		assertSame(firstSpec, secondSpec);
+		assertChunk(secondSpec, read(second, secondSpec), NUM_ROWS, NUM_ROWS, false);
+	}
+
+	@Test
+	public void testChangedMetadataIsDecodedAgain() throws Exception {
+		final byte[] first = writeChunk(0, NUM_ROWS, false);
+		final byte[] missing = writeChunk(NUM_ROWS, NUM_ROWS, true);
+		final byte[] smaller = writeChunk(2 * NUM_ROWS, 3, false);
+		final byte[] last = writeChunk(2 * NUM_ROWS + 3, 3, false);
+
+		final TableSpec firstSpec = m_library.tableSpecFromBytes(first, PythonCancelable.NOT_CANCELABLE);
+		assertChunk(firstSpec, read(first, firstSpec), 0, NUM_ROWS, false);
+
+		// Only differs in the missing columns, which must not be taken over from the previous chunk.
+		final TableSpec missingSpec = m_library.tableSpecFromBytes(missing, PythonCancelable.NOT_CANCELABLE);
+		assertNotSame(firstSpec, missingSpec);
+		assertChunk(missingSpec, read(missing, missingSpec), NUM_ROWS, NUM_ROWS, true);
+
+		// Only differs in the number of rows from the first chunk, and in the missing columns from the previous one.
+		final TableSpec smallerSpec = m_library.tableSpecFromBytes(smaller, PythonCancelable.NOT_CANCELABLE);
+		assertNotSame(missingSpec, smallerSpec);
+		assertChunk(smallerSpec, read(smaller, smallerSpec), 2 * NUM_ROWS, 3, false);
+
+		final TableSpec lastSpec = m_library.tableSpecFromBytes(last, PythonCancelable.NOT_CANCELABLE);
+		assertSame(smallerSpec, lastSpec);
+		assertChunk(lastSpec, read(last, lastSpec), 2 * NUM_ROWS + 3, 3, false);
+	}
+
+	private List<Row> read(final byte[] chunk, final TableSpec spec) throws Exception {
+		final RowListCreator creator = new RowListCreator(spec);
+		m_library.bytesIntoTable(creator, chunk, new SerializationOptions(), PythonCancelable.NOT_CANCELABLE);
+		return creator.getTable();
+	}
+
+	private static void assertChunk(final TableSpec spec, final List<Row> rows, final int firstRow,
+		final int numRows, final boolean valuesMissing) {
+		assertArrayEquals(new String[] { "values" }, spec.getColumnNames());
+		assertArrayEquals(new Type[] { Type.INTEGER }, spec.getColumnTypes());
+		assertEquals(numRows, rows.size());
+		for (int i = 0; i < numRows; i++) {
+			final Row row = rows.get(i);
+			assertEquals("Row" + (firstRow + i), row.getRowKey());
+			if (valuesMissing) {
+				assertTrue(row.getCell(0).isMissing());
+			} else {
+				assertFalse(row.getCell(0).isMissing());
+				assertEquals(firstRow + i, row.getCell(0).getIntegerValue());
+			}
+		}
+	}
+
+	/**
+	 * Writes a chunk with the metadata that Python attaches to it.
+	 *
+	 * @return the bytes that identify the chunk, i.e. its path
+	 */
+	private byte[] writeChunk(final int firstRow, final int numRows, final boolean valuesMissing)
+		throws IOException {
+		final File file = Files.createTempFile("python-to-java-", ".arrow").toFile();
+		m_files.add(file);
+		final String metadata = "{\"index_columns\": [\"" + INDEX_COLUMN + "\"], \"columns\": [" //
+			+ "{\"name\": \"" + INDEX_COLUMN + "\", \"metadata\": {\"serializer_id\": \"\", \"type_id\": "
+			+ Type.STRING.getId() + "}}, " //
+			+ "{\"name\": \"values\", \"metadata\": {\"serializer_id\": \"\", \"type_id\": " + Type.INTEGER.getId()
+			+ "}}], " //
+			+ "\"missing_columns\": [" + (valuesMissing ? "\"values\"" : "") + "], \"num_rows\": " + numRows + "}";
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final VarCharVector rowKeys = new VarCharVector(INDEX_COLUMN, allocator);
+			final IntVector values = new IntVector("values", allocator);
+			rowKeys.allocateNew(numRows);
+			values.allocateNew(numRows);
+			for (int i = 0; i < numRows; i++) {
+				rowKeys.setSafe(i, ("Row" + (firstRow + i)).getBytes(StandardCharsets.UTF_8));
+				if (valuesMissing) {
+					values.setNull(i);
+				} else {
+					values.set(i, firstRow + i);
+				}
+			}
+			rowKeys.setValueCount(numRows);
+			values.setValueCount(numRows);
+			final List<FieldVector> vectors = Arrays.asList(rowKeys, values);
+			final List<Field> fields = Arrays.asList(rowKeys.getField(), values.getField());
+			final Schema schema = new Schema(fields, Collections.singletonMap("ArrowSerializationLibrary", metadata));
+			try (final VectorSchemaRoot root = new VectorSchemaRoot(schema, vectors, numRows);
+					final FileOutputStream out = new FileOutputStream(file);
+					final ArrowFileWriter writer = new ArrowFileWriter(root, null, out.getChannel())) {
+				writer.start();
+				writer.writeBatch();
+				writer.end();
+			}
+		}
+		return file.getAbsolutePath().getBytes(StandardCharsets.UTF_8);
+	}
+}
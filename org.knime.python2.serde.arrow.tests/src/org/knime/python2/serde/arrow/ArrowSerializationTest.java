@@ -79,6 +79,15 @@ public ArrowSerializationTest() {
 		m_tester = new SerializationLibraryTester(ArrowSerializationFactory.class);
 	}
 
+	/**
+	 * @see SerializationLibraryTester#testBooleanOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBooleanOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBooleanOnlineSerializationDeserializationIdentity();
+	}
+
 	/**
 	 * @see SerializationLibraryTester#testIntOnlineSerializationDeserializationIdentity()
 	 */
@@ -87,4 +96,103 @@ public ArrowSerializationTest() {
 	public void testIntOnlineSerializationDeserializationIdentity() throws IOException {
 		m_tester.testIntOnlineSerializationDeserializationIdentity();
 	}
+
+	/**
+	 * @see SerializationLibraryTester#testLongOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testLongOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testLongOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testStringOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testStringOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testStringOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testDoubleOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testDoubleOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testDoubleOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testBytesOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBytesOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBytesOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testCollectionOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testCollectionOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testCollectionOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testChunkedOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testChunkedOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testChunkedOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testGrowingCellSizesOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testGrowingCellSizesOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testGrowingCellSizesOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testCategoricalStringsOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testCategoricalStringsOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testCategoricalStringsOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testRangeIndexRowKeysOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testRangeIndexRowKeysOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testRangeIndexRowKeysOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testNonDefaultRowKeysWithRangeIndexOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testNonDefaultRowKeysWithRangeIndexOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testNonDefaultRowKeysWithRangeIndexOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testTemporalOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testTemporalOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testTemporalOnlineSerializationDeserializationIdentity();
+	}
 }
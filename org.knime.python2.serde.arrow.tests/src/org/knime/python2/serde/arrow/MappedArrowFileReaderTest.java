@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests reading files in the Arrow IPC file format via {@link MappedArrowFileReader} and how the mapped memory is
+ * accounted.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class MappedArrowFileReaderTest {
+
+	private static final int NUM_ROWS = 1000;
+
+	private File m_file;
+
+	@Before
+	public void setup() throws IOException {
+		m_file = Files.createTempFile("python-to-java-", ".arrow").toFile();
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final IntVector ints = new IntVector("ints", allocator);
+			final VarCharVector strings = new VarCharVector("strings", allocator);
+			ints.allocateNew(NUM_ROWS);
+			strings.allocateNew(NUM_ROWS);
+			for (int i = 0; i < NUM_ROWS; i++) {
+				ints.set(i, i);
+				if (i % 5 == 0) {
+					strings.setNull(i);
+				} else {
+					strings.setSafe(i, ("row " + i).getBytes(StandardCharsets.UTF_8));
+				}
+			}
+			ints.setValueCount(NUM_ROWS);
+			strings.setValueCount(NUM_ROWS);
+			try (final VectorSchemaRoot root = VectorSchemaRoot.of(ints, strings);
+					final FileOutputStream out = new FileOutputStream(m_file);
+					final ArrowFileWriter writer = new ArrowFileWriter(root, null, out.getChannel())) {
+				writer.start();
+				writer.writeBatch();
+				writer.end();
+			}
+		}
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.deleteIfExists(m_file.toPath());
+	}
+
+	@Test
+	public void testRead() throws IOException {
+		assertTrue(MappedArrowFileReader.isArrowFile(m_file));
+		try (final BufferAllocator allocator = new RootAllocator();
+				final MappedArrowFileReader reader = new MappedArrowFileReader(m_file, allocator)) {
+			assertTrue(reader.loadNextBatch());
+			assertContent(reader.getVectorSchemaRoot());
+			assertFalse(reader.loadNextBatch());
+		}
+	}
+
+	@Test
+	public void testFileIsReleasedAfterClose() throws IOException {
+		assertTrue(MappedArrowFileReader.isExplicitUnmappingSupported());
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final MappedArrowFileReader reader = new MappedArrowFileReader(m_file, allocator);
+			assertTrue(reader.loadNextBatch());
+			assertTrue(allocator.getAllocatedMemory() > 0);
+			reader.close();
+			assertEquals(0, allocator.getAllocatedMemory());
+		}
+		// Fails on Windows if the file is still open or mapped.
+		Files.delete(m_file.toPath());
+		assertFalse(m_file.exists());
+	}
+
+	@Test
+	public void testMappedMemoryDoesNotCountAgainstLimit() throws IOException {
+		// Far less than the size of the file.
+		final long limit = 64;
+		try (final RootAllocator limited = new RootAllocator(limit);
+				final RootAllocator mapped = new RootAllocator(Long.MAX_VALUE)) {
+			final ReadContextManager contexts = new ReadContextManager(limited, mapped);
+			try {
+				final ArrowReader reader = contexts.createForFile(m_file).getReader();
+				assertTrue(reader.loadNextBatch());
+				assertContent(reader.getVectorSchemaRoot());
+				assertEquals(0, limited.getAllocatedMemory());
+				assertTrue(mapped.getAllocatedMemory() > limit);
+				assertTrue(contexts.destroy(m_file));
+			} finally {
+				contexts.close();
+			}
+			assertEquals(0, mapped.getAllocatedMemory());
+		}
+	}
+
+	@Test
+	public void testMemoryLimitIsSetPerLibrary() {
+		try (final ArrowSerializationLibrary library = new ArrowSerializationLibrary();
+				final ArrowSerializationLibrary other = new ArrowSerializationLibrary()) {
+			final long defaultLimit = other.getMemoryLimit();
+			library.setMemoryLimit(1024);
+			assertEquals(1024, library.getMemoryLimit());
+			assertEquals(defaultLimit, other.getMemoryLimit());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMemoryLimitMustBePositive() {
+		try (final ArrowSerializationLibrary library = new ArrowSerializationLibrary()) {
+			library.setMemoryLimit(0);
+		}
+	}
+
+	private static void assertContent(final VectorSchemaRoot root) {
+		assertEquals(NUM_ROWS, root.getRowCount());
+		final IntVector ints = (IntVector)root.getVector("ints");
+		final VarCharVector strings = (VarCharVector)root.getVector("strings");
+		for (int i = 0; i < NUM_ROWS; i++) {
+			assertEquals(i, ints.get(i));
+			if (i % 5 == 0) {
+				assertTrue(strings.isNull(i));
+			} else {
+				assertArrayEquals(("row " + i).getBytes(StandardCharsets.UTF_8), strings.get(i));
+			}
+		}
+	}
+}
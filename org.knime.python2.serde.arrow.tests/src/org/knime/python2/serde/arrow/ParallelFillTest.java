@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.compare.VectorEqualsVisitor;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
+import org.knime.python2.serde.SerializationTestUtil;
+import org.knime.python2.serde.SerializationTestUtil.RowListIterator;
+import org.knime.python2.serde.arrow.inserters.ArrowVectorInserter;
+import org.knime.python2.serde.arrow.inserters.BytesInserter;
+import org.knime.python2.serde.arrow.inserters.DictionaryStringInserter;
+import org.knime.python2.serde.arrow.inserters.DoubleInserter;
+import org.knime.python2.serde.arrow.inserters.IntListInserter;
+import org.knime.python2.serde.arrow.inserters.IntegerInserter;
+import org.knime.python2.serde.arrow.inserters.RowKeyInserter;
+import org.knime.python2.serde.arrow.inserters.StringDictionary;
+import org.knime.python2.serde.arrow.inserters.StringInserter;
+
+/**
+ * Tests that filling the vectors of a chunk column-parallel yields the same vectors as filling them row by row.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class ParallelFillTest {
+
+	private static final int NUM_ROWS = 500;
+
+	private static final Type[] COLUMN_TYPES = new Type[] { Type.INTEGER, Type.DOUBLE, Type.STRING, Type.BYTES,
+		Type.INTEGER_LIST, Type.STRING, Type.STRING };
+
+	private static final int NUM_REPETITIONS = 3;
+
+	private static final String[] CATEGORIES = new String[] { "a", "b", "c", "d", "e" };
+
+	/** Small enough that every repetition contains a dictionary column that falls back to plain strings. */
+	private static final int SMALL_MAX_DICTIONARY_SIZE = 3;
+
+	@Test
+	public void testParallelFillEqualsSequentialFill() {
+		final TableSpec spec = createSpec();
+		final Row[] rows = createRows(spec);
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final List<StringDictionary> sequentialDictionaries = new ArrayList<>();
+			final List<StringDictionary> parallelDictionaries = new ArrayList<>();
+			final List<ArrowVectorInserter> sequentialInserters =
+				createInserters(spec, allocator, sequentialDictionaries);
+			final List<ArrowVectorInserter> parallelInserters = createInserters(spec, allocator, parallelDictionaries);
+			try {
+				ArrowSerializationLibrary.fillVectorsSequentially(new RowListIterator(spec, rows), sequentialInserters,
+					spec.getNumberColumns());
+				ArrowSerializationLibrary.fillVectorsInParallel(new RowListIterator(spec, rows), parallelInserters);
+				for (int i = 0; i < sequentialInserters.size(); i++) {
+					final FieldVector expected = sequentialInserters.get(i).retrieveVector();
+					final FieldVector actual = parallelInserters.get(i).retrieveVector();
+					assertEquals(NUM_ROWS, actual.getValueCount());
+					assertTrue("Vector " + i + " differs.", VectorEqualsVisitor.vectorEquals(expected, actual));
+				}
+				for (int i = 0; i < sequentialDictionaries.size(); i++) {
+					assertTrue("Dictionary " + i + " differs.",
+						VectorEqualsVisitor.vectorEquals(sequentialDictionaries.get(i).getDictionary().getVector(),
+							parallelDictionaries.get(i).getDictionary().getVector()));
+				}
+			} finally {
+				sequentialInserters.forEach(ArrowVectorInserter::close);
+				parallelInserters.forEach(ArrowVectorInserter::close);
+				sequentialDictionaries.forEach(StringDictionary::close);
+				parallelDictionaries.forEach(StringDictionary::close);
+			}
+		}
+	}
+
+	private static TableSpec createSpec() {
+		final Type[] types = new Type[COLUMN_TYPES.length * NUM_REPETITIONS];
+		final String[] names = new String[types.length];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = COLUMN_TYPES[i % COLUMN_TYPES.length];
+			names[i] = "column" + i;
+		}
+		return new TableSpecImpl(types, names, new HashMap<>());
+	}
+
+	private static Row[] createRows(final TableSpec spec) {
+		final SerializationTestUtil util = new SerializationTestUtil();
+		final Row[] rows = util.createRandomRows(spec, NUM_ROWS, 0.2f, 0.2f, 0.1f);
+		for (final Row row : rows) {
+			for (int i = 0; i < spec.getNumberColumns(); i++) {
+				if (isDictionaryColumn(i)) {
+					final Cell cell = util.getMissingDecision(0.2f) //
+						? new CellImpl() //
+						: util.createRandomCategoryCell(CATEGORIES, CATEGORIES.length);
+					row.setCell(cell, i);
+				}
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Inserter 0 is the one of the row keys, like in {@link ArrowSerializationLibrary}.
+	 */
+	private static List<ArrowVectorInserter> createInserters(final TableSpec spec, final BufferAllocator allocator,
+		final List<StringDictionary> dictionaries) {
+		final List<ArrowVectorInserter> inserters = new ArrayList<>();
+		inserters.add(new RowKeyInserter("__index_level_0__", allocator, NUM_ROWS, 8));
+		for (int i = 0; i < spec.getNumberColumns(); i++) {
+			final String name = spec.getColumnNames()[i];
+			if (isDictionaryColumn(i)) {
+				final int maxDictionarySize =
+					i % COLUMN_TYPES.length == COLUMN_TYPES.length - 1 ? SMALL_MAX_DICTIONARY_SIZE : CATEGORIES.length;
+				final StringDictionary dictionary = new StringDictionary(i + 1, allocator);
+				dictionaries.add(dictionary);
+				inserters.add(
+					new DictionaryStringInserter(name, allocator, NUM_ROWS, 1, dictionary, maxDictionarySize));
+				continue;
+			}
+			switch (spec.getColumnTypes()[i]) {
+				case INTEGER:
+					inserters.add(new IntegerInserter(name, allocator, NUM_ROWS, new SerializationOptions()));
+					break;
+				case DOUBLE:
+					inserters.add(new DoubleInserter(name, allocator, NUM_ROWS));
+					break;
+				case STRING:
+					// Too small on purpose, the vectors have to grow while being filled.
+					inserters.add(new StringInserter(name, allocator, NUM_ROWS, 1));
+					break;
+				case BYTES:
+					inserters.add(new BytesInserter(name, allocator, NUM_ROWS, 1));
+					break;
+				case INTEGER_LIST:
+					inserters.add(new IntListInserter(name, allocator, NUM_ROWS, 1));
+					break;
+				default:
+					throw new IllegalStateException("Type not covered by this test: " + spec.getColumnTypes()[i]);
+			}
+		}
+		return inserters;
+	}
+
+	private static boolean isDictionaryColumn(final int columnIndex) {
+		return columnIndex % COLUMN_TYPES.length >= COLUMN_TYPES.length - 2;
+	}
+}
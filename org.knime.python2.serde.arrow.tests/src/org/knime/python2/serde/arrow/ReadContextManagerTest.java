@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.python2.serde.arrow.ReadContextManager.ReadContext;
+
+/**
+ * Tests that every {@link ReadContextManager} keeps its own contexts and releases the ones that were never destroyed
+ * when it is closed.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class ReadContextManagerTest {
+
+	private static final int NUM_ROWS = 100;
+
+	private File m_file;
+
+	private RootAllocator m_allocator;
+
+	@Before
+	public void setup() throws IOException {
+		m_file = Files.createTempFile("python-to-java-", ".arrow").toFile();
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final IntVector ints = new IntVector("ints", allocator);
+			ints.allocateNew(NUM_ROWS);
+			for (int i = 0; i < NUM_ROWS; i++) {
+				ints.set(i, i);
+			}
+			ints.setValueCount(NUM_ROWS);
+			try (final VectorSchemaRoot root = VectorSchemaRoot.of(ints);
+					final FileOutputStream out = new FileOutputStream(m_file);
+					final ArrowFileWriter writer = new ArrowFileWriter(root, null, out.getChannel())) {
+				writer.start();
+				writer.writeBatch();
+				writer.end();
+			}
+		}
+		m_allocator = new RootAllocator();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		m_allocator.close();
+		Files.deleteIfExists(m_file.toPath());
+	}
+
+	@Test
+	public void testContextIsSharedWithinManager() throws IOException {
+		try (final ReadContextManager contexts = new ReadContextManager(m_allocator, m_allocator)) {
+			final ReadContext context = contexts.createForFile(m_file);
+			assertSame(context, contexts.createForFile(m_file));
+			assertEquals(1, contexts.getNumOpenContexts());
+			assertTrue(contexts.destroy(m_file));
+			assertFalse(contexts.destroy(m_file));
+			assertEquals(0, contexts.getNumOpenContexts());
+		}
+	}
+
+	@Test
+	public void testContextsAreNotSharedAcrossManagers() throws IOException {
+		try (final ReadContextManager contexts = new ReadContextManager(m_allocator, m_allocator);
+				final ReadContextManager otherContexts = new ReadContextManager(m_allocator, m_allocator)) {
+			final ReadContext context = contexts.createForFile(m_file);
+			assertNotSame(context, otherContexts.createForFile(m_file));
+			assertTrue(contexts.destroy(m_file));
+			// Destroying the context of one manager does not affect the other one.
+			assertEquals(1, otherContexts.getNumOpenContexts());
+			assertTrue(otherContexts.createForFile(m_file).getReader().loadNextBatch());
+		}
+	}
+
+	@Test
+	public void testCloseReleasesLeakedContexts() throws IOException {
+		final ReadContextManager contexts = new ReadContextManager(m_allocator, m_allocator);
+		assertTrue(contexts.createForFile(m_file).getReader().loadNextBatch());
+		assertTrue(m_allocator.getAllocatedMemory() > 0);
+		// Simulates a spec that was read without the table ever being read.
+		contexts.close();
+		assertEquals(0, contexts.getNumOpenContexts());
+		assertEquals(0, m_allocator.getAllocatedMemory());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCreateAfterCloseFails() throws IOException {
+		final ReadContextManager contexts = new ReadContextManager(m_allocator, m_allocator);
+		contexts.close();
+		contexts.createForFile(m_file);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DurationVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+
+/**
+ * Tests the conversion of the serialized values of the built-in temporal type extensions into arrow vectors. Times,
+ * date-times and durations are deliberately written with microsecond precision, which is pinned here.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class TemporalInserterTest {
+
+	private BufferAllocator m_allocator;
+
+	@Before
+	public void setup() {
+		m_allocator = new RootAllocator();
+	}
+
+	@After
+	public void cleanup() {
+		m_allocator.close();
+	}
+
+	@Test
+	public void testLocalDate() {
+		final LocalDate[] values = new LocalDate[] { LocalDate.of(2020, 2, 29), LocalDate.ofEpochDay(-1),
+			LocalDate.of(1677, 9, 21), LocalDate.ofEpochDay(0) };
+		final TemporalInserter inserter = TemporalInserter.create("org.knime.localdate", "dates", m_allocator, 2);
+		try {
+			for (final LocalDate value : values) {
+				inserter.put(new CellImpl(longBytes(value.toEpochDay())));
+			}
+			inserter.put(new CellImpl());
+			final DateDayVector vector = (DateDayVector)inserter.retrieveVector();
+			assertEquals(values.length + 1, vector.getValueCount());
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(values[i].toEpochDay(), vector.get(i));
+			}
+			assertTrue(vector.isNull(values.length));
+		} finally {
+			inserter.close();
+		}
+	}
+
+	@Test
+	public void testLocalTimeIsTruncatedToMicros() {
+		final TemporalInserter inserter = TemporalInserter.create("org.knime.localtime", "times", m_allocator, 4);
+		try {
+			inserter.put(new CellImpl(longBytes(LocalTime.of(12, 34, 56, 123_456_789).toNanoOfDay())));
+			inserter.put(new CellImpl(longBytes(LocalTime.MAX.toNanoOfDay())));
+			inserter.put(new CellImpl());
+			inserter.put(new CellImpl(longBytes(LocalTime.MIDNIGHT.toNanoOfDay())));
+			final TimeMicroVector vector = (TimeMicroVector)inserter.retrieveVector();
+			assertEquals(LocalTime.of(12, 34, 56, 123_456_000).toNanoOfDay() / 1000, vector.get(0));
+			assertEquals(LocalTime.of(23, 59, 59, 999_999_000).toNanoOfDay() / 1000, vector.get(1));
+			assertTrue(vector.isNull(2));
+			assertEquals(0, vector.get(3));
+		} finally {
+			inserter.close();
+		}
+	}
+
+	@Test
+	public void testLocalDateTimeIsTruncatedToMicros() {
+		testDateTimeIsTruncatedToMicros("org.knime.datetime2");
+	}
+
+	@Test
+	public void testLegacyDateTimeIsTruncatedToMicros() {
+		testDateTimeIsTruncatedToMicros("org.knime.datetime");
+	}
+
+	private void testDateTimeIsTruncatedToMicros(final String serializerId) {
+		final LocalDateTime dateTime = LocalDateTime.of(2020, 1, 2, 3, 4, 5, 123_456_789);
+		final LocalDateTime preEpoch = LocalDateTime.of(1900, 6, 7, 8, 9, 10, 999);
+		final TemporalInserter inserter = TemporalInserter.create(serializerId, "date-times", m_allocator, 4);
+		try {
+			inserter.put(new CellImpl(secondsAndNanosBytes(dateTime)));
+			inserter.put(new CellImpl(secondsAndNanosBytes(preEpoch)));
+			inserter.put(new CellImpl());
+			// One nanosecond before the epoch is rounded down to one microsecond before the epoch, not to the epoch.
+			inserter.put(new CellImpl(secondsAndNanosBytes(-1, 999_999_999)));
+			final TimeStampMicroVector vector = (TimeStampMicroVector)inserter.retrieveVector();
+			assertEquals(dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + 123_456, vector.get(0));
+			assertEquals(preEpoch.toEpochSecond(ZoneOffset.UTC) * 1_000_000, vector.get(1));
+			assertTrue(vector.isNull(2));
+			assertEquals(-1, vector.get(3));
+		} finally {
+			inserter.close();
+		}
+	}
+
+	@Test
+	public void testDurationIsTruncatedToMicros() {
+		final Duration positive = Duration.ofSeconds(90_061, 1_001);
+		final Duration negative = Duration.ofSeconds(-5, 500_000_999);
+		final TemporalInserter inserter = TemporalInserter.create("org.knime.duration", "durations", m_allocator, 4);
+		try {
+			inserter.put(new CellImpl(secondsAndNanosBytes(positive.getSeconds(), positive.getNano())));
+			inserter.put(new CellImpl());
+			inserter.put(new CellImpl(secondsAndNanosBytes(negative.getSeconds(), negative.getNano())));
+			final DurationVector vector = (DurationVector)inserter.retrieveVector();
+			assertEquals(Duration.ofSeconds(90_061, 1_000), vector.getObject(0));
+			assertTrue(vector.isNull(1));
+			// -4.499999001 seconds.
+			assertEquals(Duration.ofMillis(-4_500), vector.getObject(2));
+		} finally {
+			inserter.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDateOutsideArrowRange() {
+		testOutsideArrowRange("org.knime.localdate", longBytes(Integer.MAX_VALUE + 1L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDateTimeOutsideArrowRange() {
+		testOutsideArrowRange("org.knime.datetime2", secondsAndNanosBytes(Long.MAX_VALUE / 1000, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDurationOutsideArrowRange() {
+		testOutsideArrowRange("org.knime.duration", secondsAndNanosBytes(Long.MIN_VALUE / 1000, 0));
+	}
+
+	private void testOutsideArrowRange(final String serializerId, final byte[] value) {
+		final TemporalInserter inserter = TemporalInserter.create(serializerId, "out-of-range", m_allocator, 1);
+		try {
+			inserter.put(new CellImpl(value));
+		} finally {
+			inserter.close();
+		}
+	}
+
+	@Test
+	public void testReadLittleEndian() {
+		final byte[] value = secondsAndNanosBytes(-123_456_789_012L, 987_654_321);
+		assertEquals(-123_456_789_012L, TemporalInserter.readLong(value, 0));
+		assertEquals(987_654_321, TemporalInserter.readInt(value, Long.BYTES));
+		assertEquals(-123_456_789_012_000_000L + 987_654, TemporalInserter.readMicros(value));
+	}
+
+	private static byte[] longBytes(final long value) {
+		return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+	}
+
+	private static byte[] secondsAndNanosBytes(final LocalDateTime dateTime) {
+		return secondsAndNanosBytes(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+	}
+
+	private static byte[] secondsAndNanosBytes(final long seconds, final int nanos) {
+		return ByteBuffer.allocate(Long.BYTES + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(seconds)
+			.putInt(nanos).array();
+	}
+}
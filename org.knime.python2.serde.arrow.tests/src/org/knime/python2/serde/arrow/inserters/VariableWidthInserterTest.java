@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+
+/**
+ * Tests the inserters of variable-width vectors when the preallocated sizes are too small, i.e. when the vectors have
+ * to grow while being filled.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class VariableWidthInserterTest {
+
+	private static final String[] STRINGS = new String[] { "", "a", null, "gr\u00fcn", "\u65e5\u672c\u8a9e",
+		"\ud83d\ude00 emoji", null, "unpaired \ud83d surrogate", "\udc00", createLongString(1000), "end" };
+
+	@Test
+	public void testStringsWithTooSmallAssumption() {
+		testStrings(1, 2);
+	}
+
+	@Test
+	public void testStringsWithLargeAssumption() {
+		testStrings(256, STRINGS.length);
+	}
+
+	@Test
+	public void testBytesWithTooSmallAssumption() {
+		final byte[][] values = new byte[][] { {}, { 1 }, null, new byte[1000], { -1, 0, 1 }, null, new byte[3] };
+		Arrays.fill(values[3], (byte)7);
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final BytesInserter inserter = new BytesInserter("bytes", allocator, 2, 1);
+			for (final byte[] value : values) {
+				inserter.put(value == null ? new CellImpl() : new CellImpl(value));
+			}
+			final VarBinaryVector vector = (VarBinaryVector)inserter.retrieveVector();
+			assertEquals(values.length, vector.getValueCount());
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] == null) {
+					assertTrue(vector.isNull(i));
+				} else {
+					assertArrayEquals(values[i], vector.get(i));
+				}
+			}
+			inserter.close();
+		}
+	}
+
+	private static void testStrings(final int bytesPerCellAssumption, final int numRows) {
+		try (final BufferAllocator allocator = new RootAllocator()) {
+			final StringInserter inserter = new StringInserter("strings", allocator, numRows, bytesPerCellAssumption);
+			for (final String value : STRINGS) {
+				inserter.put(value == null ? new CellImpl() : new CellImpl(value));
+			}
+			final VarCharVector vector = (VarCharVector)inserter.retrieveVector();
+			assertEquals(STRINGS.length, vector.getValueCount());
+			for (int i = 0; i < STRINGS.length; i++) {
+				if (STRINGS[i] == null) {
+					assertTrue(vector.isNull(i));
+				} else {
+					// Like the encoder of the inserter, String#getBytes replaces unpaired surrogates.
+					assertArrayEquals(STRINGS[i], STRINGS[i].getBytes(StandardCharsets.UTF_8), vector.get(i));
+				}
+			}
+			inserter.close();
+		}
+	}
+
+	private static String createLongString(final int length) {
+		final StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(i % 3 == 0 ? '\u00e4' : (char)('a' + i % 26));
+		}
+		return builder.toString();
+	}
+}
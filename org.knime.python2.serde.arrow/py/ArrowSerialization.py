@@ -45,7 +45,6 @@ import atexit
 import json
 import os
 import shutil
-import struct
 import sys
 import tempfile
 
@@ -73,6 +72,9 @@ _python3 = sys.version_info >= (3, 0)
 _types_ = None
 _pandas_native_types_ = None
 _bytes_types_ = None
+_collection_types_ = None
+_set_types_ = None
+_collection_value_types_ = None
 
 _temp_dir = None
 
@@ -81,16 +83,33 @@ read_types = []
 read_serializers = {}
 path_to_mmap = None
 
+# Streams of record batches that are consumed chunk by chunk, keyed by the path of the underlying file.
+_open_streams = {}
+
 
 # Initialize the enum of known type ids
 # @param types     the enum of known type ids
 def init(types):
-    global _types_, _pandas_native_types_, _bytes_types_
+    global _types_, _pandas_native_types_, _bytes_types_, _collection_types_, _set_types_, _collection_value_types_
     _types_ = types
     _pandas_native_types_ = {_types_.INTEGER, _types_.LONG, _types_.DOUBLE,
                              _types_.STRING, _types_.BYTES, _types_.BOOLEAN,
                              _types_.FLOAT}
     _bytes_types_ = {_types_.BYTES, _types_.BYTES_LIST, _types_.BYTES_SET}
+    _set_types_ = {_types_.INTEGER_SET, _types_.LONG_SET, _types_.DOUBLE_SET,
+                   _types_.FLOAT_SET, _types_.BOOLEAN_SET, _types_.STRING_SET,
+                   _types_.BYTES_SET}
+    _collection_value_types_ = {}
+    for list_type, set_type, value_type in [(_types_.INTEGER_LIST, _types_.INTEGER_SET, pyarrow.int32()),
+                                            (_types_.LONG_LIST, _types_.LONG_SET, pyarrow.int64()),
+                                            (_types_.DOUBLE_LIST, _types_.DOUBLE_SET, pyarrow.float64()),
+                                            (_types_.FLOAT_LIST, _types_.FLOAT_SET, pyarrow.float32()),
+                                            (_types_.BOOLEAN_LIST, _types_.BOOLEAN_SET, pyarrow.bool_()),
+                                            (_types_.STRING_LIST, _types_.STRING_SET, pyarrow.string()),
+                                            (_types_.BYTES_LIST, _types_.BYTES_SET, pyarrow.binary())]:
+        _collection_value_types_[list_type] = value_type
+        _collection_value_types_[set_type] = value_type
+    _collection_types_ = set(_collection_value_types_)
 
 
 # Get the column names of the table to create from the serialized data.
@@ -140,165 +159,90 @@ def bytes_into_table(table, data_bytes):
         read_types = []
         read_serializers = {}
     finally:
-        PythonUtils.invoke_safely(None, os.remove, [path])
+        # Streamed tables are removed once their last chunk has been read.
+        if path not in _open_streams:
+            PythonUtils.invoke_safely(None, os.remove, [path])
 
 
-# Generator function for collection columns of type Integer, Long, Double, Float.
-# @param arrowcolumn    the pyarrow.Column to extract the values from
-# @param isset          are the column values sets or lists
-# @param entry_len      the length of a single primitive inside every collection (e.g. 4 for Integer collections)
-# @param format_char    the format char to pass to struct.unpack for the primitive type inside every collection (e.g. 'i' for Integer collections)
-# @return collection type values
-def collection_generator(arrowcolumn, isset, entry_len, format_char):
-    for i in range(len(arrowcolumn.data.chunk(0))):
-        if pyarrow.types.is_null(arrowcolumn.data.chunk(0)[i].type):
-            yield None
-        else:
-            py_obj = arrowcolumn.data.chunk(0)[i].as_py()
-            if py_obj is None:
-                yield None
-            else:
-                # buffer: length(values) int32, values [int32], missing [bit]
-                # get length(values)
-                n_vals = struct.unpack(">i", py_obj[:4])[0]
-                # get values
-                if not isset:
-                    res = list(struct.unpack(">%d%s" % (n_vals, format_char), py_obj[4:4 + entry_len * n_vals]))
-                    # get missings and set corresponding value to None if required
-                    missings = np.fromstring(py_obj[4 + entry_len * n_vals:], dtype=np.uint8)
-                    for i in range(n_vals):
-                        if missings[i // 8] & (1 << (i % 8)) == 0:
-                            res[i] = None
-                    yield res
-                else:
-                    if _python3:
-                        hasMissing = (np.uint8(py_obj[4 + entry_len * n_vals]) == 0)
-                    else:
-                        hasMissing = (py_obj[4 + entry_len * n_vals] == b'\x00')
-                    res = set(struct.unpack(">%d%s" % (n_vals, format_char), py_obj[4:4 + entry_len * n_vals]))
-                    if hasMissing:
-                        res.add(None)
-                    yield res
-
-
-# Generator function for collection columns of type String.
-# @param arrowcolumn    the pyarrow.Column to extract the values from
-# @param isset          are the column values sets or lists
-# @return collection type values
-def string_collection_generator(arrowcolumn, isset):
-    for i in range(len(arrowcolumn.data.chunk(0))):
-        if pyarrow.types.is_null(arrowcolumn.data.chunk(0)[i].type):
-            yield None
-        else:
-            py_obj = arrowcolumn.data.chunk(0)[i].as_py()
-            if py_obj is None:
-                yield None
-            else:
-                # buffer: length(values) int32, values [int32], missing [bit]
-                # get length(values)
-                n_vals = struct.unpack(">i", py_obj[:4])[0]
-                val_offset = 4 + 4 * (n_vals + 1)
-                offsets = struct.unpack(">%di" % (n_vals + 1), py_obj[4:val_offset])
-                # get values
-                if not isset:
-                    res = [py_obj[val_offset + offsets[i]:val_offset + offsets[i + 1]].decode("utf-8") for i in
-                           range(n_vals)]
-                    # get missings and set corresponding value to None if required
-                    missings = np.fromstring(py_obj[val_offset + offsets[-1]:], dtype=np.uint8)
-                    for i in range(n_vals):
-                        if missings[i // 8] & (1 << (i % 8)) == 0:
-                            res[i] = None
-                    yield res
-                else:
-                    if _python3:
-                        hasMissing = (np.uint8(py_obj[val_offset + offsets[-1]]) == 0)
-                    else:
-                        hasMissing = (py_obj[val_offset + offsets[-1]] == b'\x00')
-                    res = set(
-                        py_obj[val_offset + offsets[i]:val_offset + offsets[i + 1]].decode("utf-8") for i in range(n_vals))
-                    if hasMissing:
-                        res.add(None)
-                    yield res
-
-
-# Generator function for collection columns of type String.
-# @param arrowcolumn    the pyarrow.Column to extract the values from
-# @param isset          are the column values sets or lists
-# @return collection type values
-def bytes_collection_generator(arrowcolumn, isset):
-    for i in range(len(arrowcolumn.data.chunk(0))):
-        if pyarrow.types.is_null(arrowcolumn.data.chunk(0)[i].type):
-            yield None
-        else:
-            py_obj = arrowcolumn.data.chunk(0)[i].as_py()
-            if py_obj is None:
-                yield None
-            else:
-                # buffer: length(values) int32, values [int32], missing [bit]
-                # get length(values)
-                n_vals = struct.unpack(">i", py_obj[:4])[0]
-                val_offset = 4 + 4 * (n_vals + 1)
-                offsets = struct.unpack(">%di" % (n_vals + 1), py_obj[4:val_offset])
-                # get values
-                if not isset:
-                    res = [py_obj[val_offset + offsets[i]:val_offset + offsets[i + 1]] for i in range(n_vals)]
-                    # get missings and set corresponding value to None if required
-                    missings = np.fromstring(py_obj[val_offset + offsets[-1]:], dtype=np.uint8)
-                    for i in range(n_vals):
-                        if missings[i // 8] & (1 << (i % 8)) == 0:
-                            res[i] = None
-                    yield res
-                else:
-                    if _python3:
-                        hasMissing = (np.uint8(py_obj[val_offset + offsets[-1]]) == 0)
-                    else:
-                        hasMissing = (py_obj[val_offset + offsets[-1]] == b'\x00')
-                    res = set(py_obj[val_offset + offsets[i]:val_offset + offsets[i + 1]] for i in range(n_vals))
-                    if hasMissing:
-                        res.add(None)
-                    yield res
-
-
-# Generator function for Boolean collection columns.
-# @param arrowcolumn    the pyarrow.Column to extract the values from
+# Convert a collection type column to a list of python lists or sets. Collections are transferred as native
+# arrow lists. Sets are transferred as lists as well, a missing entry denotes that the set contains a missing value.
+# @param arrowcolumn    the pyarrow.ChunkedArray to extract the values from
 # @param isset          are the column values sets or lists
 # @return collection type values
-def boolean_collection_generator(arrowcolumn, isset):
-    for i in range(len(arrowcolumn.data.chunk(0))):
-        if pyarrow.types.is_null(arrowcolumn.data.chunk(0)[i].type):
-            yield None
-        else:
-            py_obj = arrowcolumn.data.chunk(0)[i].as_py()
-            if py_obj is None:
-                yield None
-            else:
-                # buffer: length(values) int32, values [int32], missing [bit]
-                # get length(values)
-                n_vals = struct.unpack(">i", py_obj[:4])[0]
-                val_ln = n_vals // 8 + (0 if n_vals % 8 == 0 else 1)
-                missing_start = 4 + val_ln
-                if _python3:
-                    rbytes = py_obj[4:missing_start]
-                else:
-                    rbytes = np.fromstring(py_obj[4:missing_start], dtype='i1')
-                # get values
-                if not isset:
-                    res = [((rbytes[j // 8] & (1 << (j % 8))) > 0) for j in range(n_vals)]
-                    # get missings and set corresponding value to None if required
-                    missings = np.fromstring(py_obj[missing_start:], dtype=np.uint8)
-                    for i in range(n_vals):
-                        if missings[i // 8] & (1 << (i % 8)) == 0:
-                            res[i] = None
-                    yield res
-                else:
-                    if _python3:
-                        hasMissing = (np.uint8(py_obj[missing_start]) == 0)
-                    else:
-                        hasMissing = (py_obj[missing_start] == b'\x00')
-                    res = set(((rbytes[j // 8] & (1 << (j % 8))) > 0) for j in range(n_vals))
-                    if hasMissing:
-                        res.add(None)
-                    yield res
+def collection_from_arrow(arrowcolumn, isset):
+    values = arrowcolumn.to_pylist()
+    if isset:
+        return [None if cell is None else set(cell) for cell in values]
+    return values
+
+
+# A stream of record batches that is written by Java for a single table transfer. Every chunk of the transfer is
+# one record batch, the schema and the metadata are only sent once. The stream is kept open until the total number of
+# rows announced in the metadata has been read.
+class _RecordBatchStream(object):
+    def __init__(self, f, stream_reader, pandas_metadata):
+        self._file = f
+        self._stream_reader = stream_reader
+        self.pandas_metadata = pandas_metadata
+        self._num_rows = pandas_metadata['stream_num_rows']
+        self._rows_read = 0
+
+    def read_next_table(self):
+        batch = self._stream_reader.read_next_batch()
+        self._rows_read += batch.num_rows
+        return pyarrow.Table.from_batches([batch])
+
+    def is_exhausted(self):
+        return self._rows_read >= self._num_rows
+
+    def close(self):
+        self._file.close()
+
+
+# Close the stream that reads from the specified file, if any.
+# @param path the path to the file containing the serialized byte data
+def close_stream(path):
+    stream = _open_streams.pop(path, None)
+    if stream is not None:
+        PythonUtils.invoke_safely(None, lambda s: s.close(), [stream])
+
+
+# Abort the stream of chunks of the specified file, if any. Sent by Java if a streamed table transfer was canceled or
+# failed before all chunks were read. The file itself is removed by Java.
+# @param data_bytes   the serialized path to the file containing the stream
+def abort_stream(data_bytes):
+    close_stream(data_bytes.decode('utf-8'))
+
+
+# Read the arrow table contained in the specified file along with its metadata. If the file contains a stream of
+# chunks, only the next chunk is read and the stream is kept open for subsequent calls.
+# @param path the path to the file containing the serialized byte data
+# @return a tuple of the pyarrow.Table and the pandas metadata
+def read_arrow_table(path):
+    stream = _open_streams.get(path)
+    if stream is None:
+        f = pyarrow.OSFile(path, 'rb')
+        try:
+            stream_reader = pyarrow.RecordBatchStreamReader(f)
+            pandas_metadata = json.loads(stream_reader.schema.metadata[b'pandas'].decode('utf-8'))
+            if 'stream_num_rows' not in pandas_metadata:
+                arrowtable = stream_reader.read_all()
+                f.close()
+                return arrowtable, pandas_metadata
+            stream = _RecordBatchStream(f, stream_reader, pandas_metadata)
+        except BaseException:
+            f.close()
+            raise
+        _open_streams[path] = stream
+    exhausted = True
+    try:
+        arrowtable = stream.read_next_table()
+        exhausted = stream.is_exhausted()
+    finally:
+        # Also if reading failed (or was interrupted), Java does not send any further chunks of the stream then.
+        if exhausted:
+            close_stream(path)
+    return arrowtable, stream.pandas_metadata
 
 
 # Deserialize the data contained in the specified file as pandas.DataFrame.
@@ -308,56 +252,63 @@ def boolean_collection_generator(arrowcolumn, isset):
 def deserialize_data_frame(path):
     global read_data_frame, read_types, read_serializers, _pandas_native_types_, path_to_mmap
     path_to_mmap = path
-    with pyarrow.OSFile(path, 'rb') as f:
-        stream_reader = pyarrow.RecordBatchStreamReader(f)
-        arrowtable = stream_reader.read_all()
-        # metadata
-        pandas_metadata = json.loads(arrowtable.schema.metadata[b'pandas'].decode('utf-8'))
-        names = []
-        for col in pandas_metadata['columns']:
-            names.append(col['name'])
-            read_types.append(col['metadata']['type_id'])
-            ser_id = col['metadata']['serializer_id']
-            if ser_id != '':
-                read_serializers[col['name']] = ser_id
-
-        # data
-        read_data_frame = pandas.DataFrame()
-        for column_name, arrowcolumn in zip(arrowtable.column_names, arrowtable.itercolumns()):
-            typeidx = names.index(column_name)
-            coltype = read_types[typeidx]
-            if coltype in _pandas_native_types_:
-                dfcol = arrowcolumn.to_pandas()
-            else:
-                if coltype == _types_.INTEGER_LIST or coltype == _types_.INTEGER_SET:
-                    dfcol = pandas.Series(collection_generator(arrowcolumn, coltype == _types_.INTEGER_SET, 4, 'i'))
-                elif coltype == _types_.LONG_LIST or coltype == _types_.LONG_SET:
-                    dfcol = pandas.Series(collection_generator(arrowcolumn, coltype == _types_.LONG_SET, 8, 'q'))
-                elif coltype == _types_.DOUBLE_LIST or coltype == _types_.DOUBLE_SET:
-                    dfcol = pandas.Series(collection_generator(arrowcolumn, coltype == _types_.DOUBLE_SET, 8, 'd'))
-                elif coltype == _types_.FLOAT_LIST or coltype == _types_.FLOAT_SET:
-                    dfcol = pandas.Series(collection_generator(arrowcolumn, coltype == _types_.FLOAT_SET, 4, 'f'))
-                elif coltype == _types_.BOOLEAN_LIST or coltype == _types_.BOOLEAN_SET:
-                    dfcol = pandas.Series(boolean_collection_generator(arrowcolumn, coltype == _types_.BOOLEAN_SET))
-                elif coltype == _types_.STRING_LIST or coltype == _types_.STRING_SET:
-                    dfcol = pandas.Series(string_collection_generator(arrowcolumn, coltype == _types_.STRING_SET))
-                elif coltype == _types_.BYTES_LIST or coltype == _types_.BYTES_SET:
-                    dfcol = pandas.Series(bytes_collection_generator(arrowcolumn, coltype == _types_.BYTES_SET))
-                else:
-                    raise KeyError('Type with id ' + str(coltype) + ' cannot be deserialized!')
-            # Note: we only have one index column (the KNIME RowKeys)
-            if column_name in pandas_metadata['index_columns']:
-                indexcol = dfcol
+    arrowtable, pandas_metadata = read_arrow_table(path)
+    # metadata
+    names = []
+    for col in pandas_metadata['columns']:
+        names.append(col['name'])
+        read_types.append(col['metadata']['type_id'])
+        ser_id = col['metadata']['serializer_id']
+        if ser_id != '':
+            read_serializers[col['name']] = ser_id
+
+    # data
+    read_data_frame = pandas.DataFrame()
+    for column_name, arrowcolumn in zip(arrowtable.column_names, arrowtable.itercolumns()):
+        typeidx = names.index(column_name)
+        coltype = read_types[typeidx]
+        if pyarrow.types.is_temporal(arrowcolumn.type):
+            # Built-in temporal extension types are transferred as native arrow columns. They are converted to the same
+            # python objects (and None for missing values) that the type extensions' deserializers would produce.
+            dfcol = pandas.Series(arrowcolumn.to_pylist(), dtype=object)
+        elif coltype in _pandas_native_types_:
+            dfcol = arrowcolumn.to_pandas()
+        else:
+            if coltype in _collection_types_:
+                dfcol = pandas.Series(collection_from_arrow(arrowcolumn, coltype in _set_types_), dtype=object)
             else:
-                read_data_frame[column_name] = dfcol
+                raise KeyError('Type with id ' + str(coltype) + ' cannot be deserialized!')
+        # Note: we only have one index column (the KNIME RowKeys)
+        if column_name in pandas_metadata['index_columns']:
+            indexcol = dfcol
+        else:
+            read_data_frame[column_name] = dfcol
 
-        if not 'indexcol' in locals():
-            raise NameError('Variable indexcol has not been set properly, exiting!')
+    if not 'indexcol' in locals():
+        raise NameError('Variable indexcol has not been set properly, exiting!')
 
-        if len(read_data_frame.columns) > 0:
-            read_data_frame.set_index(keys=indexcol, inplace=True)
-        else:
-            read_data_frame = pandas.DataFrame(index=indexcol)
+    if pandas_metadata.get('compact_row_keys', False):
+        indexcol = range_index_from_row_keys(indexcol)
+
+    if len(read_data_frame.columns) > 0:
+        read_data_frame.set_index(keys=indexcol, inplace=True)
+    else:
+        read_data_frame = pandas.DataFrame(index=indexcol)
+
+
+# Java sends default row keys ("Row<start>", "Row<start + 1>", ...) by only sending the first of them followed by
+# missing values. Such row keys are represented by a pandas.RangeIndex.
+# @param indexcol the deserialized row key column (a pandas.Series)
+# @return a pandas.RangeIndex if the row keys are compact, the unmodified row key column otherwise
+def range_index_from_row_keys(indexcol):
+    num_rows = len(indexcol)
+    if num_rows < 2 or indexcol.isnull().sum() != num_rows - 1:
+        return indexcol
+    first = indexcol.iloc[0]
+    if first is None or not first.startswith('Row'):
+        return indexcol
+    start = int(first[3:])
+    return pandas.RangeIndex(start, start + num_rows)
 
 
 # Convert a simpletype to the corresponding pyarrow.DataType
@@ -379,244 +330,13 @@ def to_pyarrow_type(type):
         return pyarrow.binary()
 
 
-# Generator converting values in a list type column to a binary representation
-# having the format (length(values), values, missing_mask). Works on Integer,
-# Long, Double, and Float lists.
-# @param column      the column to convert (a pandas.Series)
-# @param numpy_type  the numpy_type of the primitive collection entries
-def binary_from_list_generator(column, numpy_type):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-
-            missings = np.zeros(shape=((n_vals // 8) + (1 if n_vals % 8 != 0 else 0)), dtype=np.uint8)
-            for idx in range(n_vals):
-                if not column[j][idx] == None:
-                    missings[idx // 8] += (1 << (idx % 8))
-
-            values = np.array([elem if elem is not None else 0 for elem in column[j]], dtype=numpy_type).tobytes()
-
-            yield np.int32(n_vals).tobytes() + values + missings.tobytes()
-
-
-# Generator converting values in a set type column to a binary representation
-# having the format (length(values), values, missing_mask)
-# @param column      the column to convert (a pandas.Series)
-# @param numpy_type  the numpy_type of the primitive collection entries
-def binary_from_set_generator(column, numpy_type):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-            hasMissing = np.uint8(1)
-            if None in column[j]:
-                hasMissing = np.uint8(0)
-                n_vals -= 1
-            np_set = np.empty(n_vals, dtype=numpy_type)
-            i = 0
-            for elem in column[j]:
-                if elem is not None:
-                    np_set[i] = elem
-                    i += 1
-
-            yield np.int32(n_vals).tobytes() + np_set.tobytes() + hasMissing.tobytes()
-
-
-# Generator converting values in a list type column to a binary representation
-# having the format (length(values), offsets, values, missing_mask). Works on 
-# String lists.
-# @param column      the column to convert (a pandas.Series)
-def binary_from_string_list_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-
-            missings = np.zeros(shape=((n_vals // 8) + (1 if n_vals % 8 != 0 else 0)), dtype=np.uint8)
-            for idx in range(n_vals):
-                if not column[j][idx] == None:
-                    missings[idx // 8] += (1 << (idx % 8))
-
-            offsets = np.zeros(n_vals + 1, dtype=np.int32)
-            for i in range(n_vals):
-                cell = column[j][i]
-                offsets[i + 1] = offsets[i] + (len(cell) if cell is not None else 0)
-                # Get all strings in the current list as one bytelist of utf-8 encoded bytes
-            if _python3:
-                values = bytes(bts for elem in column[j] if elem is not None for bts in elem.encode("utf-8"))
-                yield np.int32(n_vals).tobytes() + offsets.tobytes() + values + missings.tobytes()
-            else:
-                values = b''.join(bts for elem in column[j] if elem is not None for bts in elem.encode("utf-8"))
-                yield np.int32(n_vals).tobytes() + offsets.tobytes() + values.encode("utf-8") + missings.tobytes()
-
-
-# Generator converting values in a set type column to a binary representation 
-# having the format (length(values), offsets, values, missing_mask). Works on 
-# String sets.
-# @param column      the column to convert (a pandas.Series)
-def binary_from_string_set_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-
-            hasMissing = np.uint8(1)
-            if None in column[j]:
-                hasMissing = np.uint8(0)
-                n_vals -= 1
-
-            offsets = np.zeros(n_vals + 1, dtype=np.int32)
-            i = 0
-            for elem in column[j]:
-                if elem is not None:
-                    offsets[i + 1] = offsets[i] + len(elem)
-                    i += 1
-
-            # Get all strings in the current list as one bytelist of utf-8 encoded bytes
-            if _python3:
-                values = bytes(bts for elem in column[j] if elem is not None for bts in elem.encode("utf-8"))
-                yield np.int32(n_vals).tobytes() + offsets.tobytes() + values + hasMissing.tobytes()
-            else:
-                values = b''.join(bts for elem in column[j] if elem is not None for bts in elem.encode("utf-8"))
-                yield np.int32(n_vals).tobytes() + offsets.tobytes() + values.encode("utf-8") + hasMissing.tobytes()
-
-
-# Generator converting values in a list type column to a binary representation 
-# having the format (length(values), offsets, values, missing_mask). Works on 
-# Bytes lists.
+# Convert a collection type column to a pyarrow.ListArray. Sets are transferred as lists, a missing value contained in
+# a set is transferred as a missing entry.
 # @param column      the column to convert (a pandas.Series)
-def binary_from_bytes_list_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-
-            missings = np.zeros(shape=((n_vals // 8) + (1 if n_vals % 8 != 0 else 0)), dtype=np.uint8)
-            for idx in range(n_vals):
-                if not column[j][idx] == None:
-                    missings[idx // 8] += (1 << (idx % 8))
-
-            offsets = np.zeros(n_vals + 1, dtype=np.int32)
-            for i in range(n_vals):
-                cell = column[j][i]
-                offsets[i + 1] = offsets[i] + (len(cell) if cell is not None else 0)
-                # Get all strings in the current list as one bytelist of utf-8 encoded bytes
-            if _python3:
-                values = bytes(bts for elem in column[j] if elem is not None for bts in elem)
-            else:
-                values = b''.join(bts for elem in column[j] if elem is not None for bts in elem)
-
-            yield np.int32(n_vals).tobytes() + offsets.tobytes() + values + missings.tobytes()
-
-
-# Generator converting values in a set type column to a binary representation 
-# having the format (length(values), offsets, values, missing_mask). Works on 
-# Bytes sets.
-# @param column      the column to convert (a pandas.Series)
-def binary_from_bytes_set_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-
-            hasMissing = np.uint8(1)
-            if None in column[j]:
-                hasMissing = np.uint8(0)
-                n_vals -= 1
-
-            offsets = np.zeros(n_vals + 1, dtype=np.int32)
-            i = 0
-            for elem in column[j]:
-                if elem is not None:
-                    offsets[i + 1] = offsets[i] + len(elem)
-                    i += 1
-
-            # Get all strings in the current list as one bytelist of utf-8 encoded bytes
-            if _python3:
-                values = bytes(bts for elem in column[j] if elem is not None for bts in elem)
-            else:
-                values = b''.join(bts for elem in column[j] if elem is not None for bts in elem)
-
-            yield np.int32(n_vals).tobytes() + offsets.tobytes() + values + hasMissing.tobytes()
-
-
-# Generator converting values in a list type column to a binary representation 
-# having the format (length(values), values, missing_mask). Works on Boolean
-# lists.
-# @param column      the column to convert (a pandas.Series)
-def binary_from_boolean_list_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-            val_len = (n_vals // 8) + (1 if n_vals % 8 != 0 else 0)
-            missings = np.zeros(shape=(val_len), dtype=np.uint8)
-            for idx in range(n_vals):
-                if not column[j][idx] == None:
-                    missings[idx // 8] += (1 << (idx % 8))
-
-            if _python3:
-                yield np.int32(n_vals).tobytes() + bytes(bool_to_bits_generator(column[j])) + missings.tobytes()
-            else:
-                ar = np.zeros(val_len, dtype=np.uint8)
-                for i, el in enumerate(bool_to_bits_generator(column[j])): ar[i] = el
-                yield np.int32(n_vals).tobytes() + ar.tobytes() + missings.tobytes()
-
-
-# Generator converting values in a set type column to a binary representation 
-# having the format (length(values), values, missing_mask). Works on Boolean
-# sets.
-# @param column      the column to convert (a pandas.Series)
-def binary_from_boolean_set_generator(column):
-    for j in range(len(column)):
-        if column[j] == None:
-            yield None
-        else:
-            n_vals = len(column[j])
-            val_len = (n_vals // 8) + (1 if n_vals % 8 != 0 else 0)
-            hasMissing = np.uint8(1)
-            if None in column[j]:
-                hasMissing = np.uint8(0)
-                n_vals -= 1
-
-            cell_as_list = None
-            if hasMissing == 1:
-                cell_as_list = list(column[j])
-            else:
-                cell_as_list = n_vals * [None]
-                i = 0
-                for elem in column[j]:
-                    if elem is not None:
-                        cell_as_list[i] = elem
-                        i = i + 1
-
-            if _python3:
-                yield np.int32(n_vals).tobytes() + bytes(bool_to_bits_generator(cell_as_list)) + hasMissing.tobytes()
-            else:
-                ar = np.zeros(val_len, dtype=np.uint8)
-                for i, el in enumerate(bool_to_bits_generator(cell_as_list)): ar[i] = el
-                yield np.int32(n_vals).tobytes() + ar.tobytes() + hasMissing.tobytes()
-
-
-# Converts a list of booleans to a bit-representation
-def bool_to_bits_generator(cell):
-    cur_byte = np.uint8(0)
-    for i in range(len(cell)):
-        if cell[i]:
-            cur_byte |= (1 << (i % 8))
-        if i % 8 == 7:
-            yield cur_byte
-            cur_byte = np.uint8(0)
-    if not (len(cell) % 8 == 0):
-        yield cur_byte
+# @param value_type  the pyarrow.DataType of the collection entries
+def collection_to_arrow(column, value_type):
+    values = [None if cell is None or (isinstance(cell, float) and np.isnan(cell)) else list(cell) for cell in column]
+    return pyarrow.array(values, type=pyarrow.list_(value_type))
 
 
 # Get the first element of the specified column that is not None.
@@ -650,7 +370,13 @@ def table_to_bytes(table):
 
         # add the index column to the list of columns
         all_names.append("__index_level_0__")
-        if len(table._data_frame.index) > 0:
+        compact_row_keys = table._row_key_start is not None and len(table._data_frame.index) > 1
+        if compact_row_keys:
+            # Default row keys are not sent one by one, Java restores them from the first one.
+            col_names.append("__index_level_0__")
+            col_arrays.append(pyarrow.array(['Row' + str(table._row_key_start)] + [None] * (len(table._data_frame) - 1),
+                                            type=to_pyarrow_type(_types_.STRING), memory_pool=mp))
+        elif len(table._data_frame.index) > 0:
             col_names.append("__index_level_0__")
             col_arrays.append(pyarrow.Array.from_pandas(table._data_frame.index, type=to_pyarrow_type(_types_.STRING),
                                                         memory_pool=mp))
@@ -662,72 +388,32 @@ def table_to_bytes(table):
             # Do not allocate a buffer for columns that only contain missing values. We track and transfer their names
             # to give them special treatment on Java side.
             # This also covers tables of row count zero.
-            if table._data_frame.iloc[:, i].isnull().all():
+            column = table._data_frame.iloc[:, i]
+            if column.isnull().all():
                 missing_names.append(table.get_name(i))
                 all_names.append(table.get_name(i))
                 continue
-            # Convert collection types to binary
-            if table.get_type(i) == _types_.INTEGER_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_list_generator(table._data_frame.iloc[:, i], '<i4')))
-            elif table.get_type(i) == _types_.LONG_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_list_generator(table._data_frame.iloc[:, i], '<i8')))
-            elif table.get_type(i) == _types_.DOUBLE_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_list_generator(table._data_frame.iloc[:, i], '<f8')))
-            elif table.get_type(i) == _types_.FLOAT_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_list_generator(table._data_frame.iloc[:, i], '<f4')))
-            elif table.get_type(i) == _types_.BOOLEAN_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_boolean_list_generator(table._data_frame.iloc[:, i])))
-            elif table.get_type(i) == _types_.STRING_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_string_list_generator(table._data_frame.iloc[:, i])))
-            elif table.get_type(i) == _types_.BYTES_LIST:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_bytes_list_generator(table._data_frame.iloc[:, i])))
-            elif table.get_type(i) == _types_.INTEGER_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_set_generator(table._data_frame.iloc[:, i], '<i4')))
-            elif table.get_type(i) == _types_.LONG_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_set_generator(table._data_frame.iloc[:, i], '<i8')))
-            elif table.get_type(i) == _types_.DOUBLE_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_set_generator(table._data_frame.iloc[:, i], '<f8')))
-            elif table.get_type(i) == _types_.FLOAT_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_set_generator(table._data_frame.iloc[:, i], '<f4')))
-            elif table.get_type(i) == _types_.BOOLEAN_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_boolean_set_generator(table._data_frame.iloc[:, i])))
-            elif table.get_type(i) == _types_.STRING_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_string_set_generator(table._data_frame.iloc[:, i])))
-            elif table.get_type(i) == _types_.BYTES_SET:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(binary_from_bytes_set_generator(table._data_frame.iloc[:, i])))
+            # Categorical columns (e.g. string columns that were received as categoricals) are sent as plain values.
+            if isinstance(column.dtype, pandas.api.types.CategoricalDtype):
+                column = column.astype(object)
+            # Convert collection types to native arrow lists
+            if table.get_type(i) in _collection_types_:
+                col_arrays.append(collection_to_arrow(column, _collection_value_types_[table.get_type(i)]))
             # Workaround until numpy typecasts are implemented in pyarrow
-            elif table.get_type(i) == _types_.INTEGER and table._data_frame.iloc[:, i].dtype == np.int64:
-                col_arrays.append(
-                    pyarrow.Array.from_pandas(np.array(table._data_frame.iloc[:, i], dtype=np.int32), memory_pool=mp))
+            elif table.get_type(i) == _types_.INTEGER and column.dtype == np.int64:
+                col_arrays.append(pyarrow.Array.from_pandas(np.array(column, dtype=np.int32), memory_pool=mp))
             # Workaround until fixed in pyarrow ... it is assumed that the first non-None object is bytearray if any
-            elif table.get_type(i) == _types_.BYTES and type(
-                    get_first_not_None(table._data_frame.iloc[:, i])) == bytearray:
+            elif table.get_type(i) == _types_.BYTES and type(get_first_not_None(column)) == bytearray:
                 col_arrays.append(
-                    pyarrow.Array.from_pandas(map(lambda x: x if x is None else bytes(x), table._data_frame.iloc[:, i]),
-                                              memory_pool=mp))
+                    pyarrow.Array.from_pandas(map(lambda x: x if x is None else bytes(x), column), memory_pool=mp))
             # create pyarrow.Array
             else:
                 pa_type = to_pyarrow_type(table.get_type(i))
                 # pyarrow.binary() type is not allowed as argument for type atm
                 if pa_type == pyarrow.binary():
-                    col_arrays.append(pyarrow.BinaryArray.from_pandas(table._data_frame.iloc[:, i], memory_pool=mp))
+                    col_arrays.append(pyarrow.BinaryArray.from_pandas(column, memory_pool=mp))
                 else:
-                    col_arrays.append(
-                        pyarrow.Array.from_pandas(table._data_frame.iloc[:, i], type=pa_type, memory_pool=mp))
+                    col_arrays.append(pyarrow.Array.from_pandas(column, type=pa_type, memory_pool=mp))
             col_names.append(table.get_name(i))
             all_names.append(table.get_name(i))
 
@@ -736,7 +422,8 @@ def table_to_bytes(table):
                            "columns": [
                                {"name": all_names[0], "metadata": {"serializer_id": "", "type_id": _types_.STRING}}],
                            "missing_columns": missing_names,
-                           "num_rows": len(table._data_frame)}
+                           "num_rows": len(table._data_frame),
+                           "compact_row_keys": compact_row_keys}
 
         real_col_names = list(table._data_frame.columns)
         for name in all_names[1:]:
@@ -755,11 +442,12 @@ def table_to_bytes(table):
         schema = batch.schema.remove_metadata()
         schema = schema.add_metadata(metadata)
 
-        # Write data to file and return filepath
+        # Write data to file and return filepath. The random access file format allows Java to memory-map the file
+        # instead of copying it into memory.
         with pyarrow.OSFile(path, 'wb') as f:
-            stream_writer = pyarrow.RecordBatchStreamWriter(f, schema)
-            stream_writer.write_batch(batch)
-            stream_writer.close()
+            file_writer = pyarrow.RecordBatchFileWriter(f, schema)
+            file_writer.write_batch(batch)
+            file_writer.close()
         return bytearray(path, 'utf-8')
     except BaseException:
         PythonUtils.invoke_safely(None, os.remove, [path])
@@ -768,5 +456,7 @@ def table_to_bytes(table):
 
 def close():
     global _temp_dir
+    for path in list(_open_streams):
+        close_stream(path)
     # Remove entire temporary directory.
     PythonUtils.invoke_safely(None, lambda p: shutil.rmtree(p, ignore_errors=True), [_temp_dir])
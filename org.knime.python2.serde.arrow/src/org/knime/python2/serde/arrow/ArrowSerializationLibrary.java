@@ -51,15 +51,27 @@
 import java.io.StringReader;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
 import org.apache.arrow.vector.BigIntVector;
 import org.apache.arrow.vector.BitVector;
 import org.apache.arrow.vector.FieldVector;
@@ -69,7 +81,10 @@
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
-import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.dictionary.DictionaryProvider.MapDictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowReader;
 import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
@@ -87,6 +102,7 @@
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableIterator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableStreamSerializer;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
@@ -115,6 +131,7 @@
 import org.knime.python2.serde.arrow.extractors.LongListExtractor;
 import org.knime.python2.serde.arrow.extractors.LongSetExtractor;
 import org.knime.python2.serde.arrow.extractors.MissingExtractor;
+import org.knime.python2.serde.arrow.extractors.RowKeyExtractor;
 import org.knime.python2.serde.arrow.extractors.StringExtractor;
 import org.knime.python2.serde.arrow.extractors.StringListExtractor;
 import org.knime.python2.serde.arrow.extractors.StringSetExtractor;
@@ -125,6 +142,7 @@
 import org.knime.python2.serde.arrow.inserters.BytesInserter;
 import org.knime.python2.serde.arrow.inserters.BytesListInserter;
 import org.knime.python2.serde.arrow.inserters.BytesSetInserter;
+import org.knime.python2.serde.arrow.inserters.DictionaryStringInserter;
 import org.knime.python2.serde.arrow.inserters.DoubleInserter;
 import org.knime.python2.serde.arrow.inserters.DoubleListInserter;
 import org.knime.python2.serde.arrow.inserters.DoubleSetInserter;
@@ -137,9 +155,12 @@
 import org.knime.python2.serde.arrow.inserters.LongInserter;
 import org.knime.python2.serde.arrow.inserters.LongListInserter;
 import org.knime.python2.serde.arrow.inserters.LongSetInserter;
+import org.knime.python2.serde.arrow.inserters.RowKeyInserter;
 import org.knime.python2.serde.arrow.inserters.StringInserter;
 import org.knime.python2.serde.arrow.inserters.StringListInserter;
+import org.knime.python2.serde.arrow.inserters.StringDictionary;
 import org.knime.python2.serde.arrow.inserters.StringSetInserter;
+import org.knime.python2.serde.arrow.inserters.TemporalInserter;
 import org.knime.python2.util.PythonUtils;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -160,6 +181,10 @@
  */
 public class ArrowSerializationLibrary implements SerializationLibrary {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ArrowSerializationLibrary.class);
+
+    private static final String MEMORY_LIMIT_VM_OPT = "knime.python.arrow.memorylimit";
+
     /* Note: should be a power of 2 */
     private static final int ASSUMED_ROWID_VAL_BYTE_SIZE = 4;
 
@@ -169,8 +194,32 @@ public class ArrowSerializationLibrary implements SerializationLibrary {
     /* Note: should be a power of 2 */
     private static final int ASSUMED_BYTES_VAL_BYTE_SIZE = 32;
 
+    private static final int ASSUMED_COLLECTION_VAL_COUNT = 8;
+
+    /**
+     * String columns are only transferred as categoricals if their first chunk contains at most this many distinct
+     * values per row.
+     */
+    private static final double MAX_CATEGORICAL_CARDINALITY_RATIO = 0.1;
+
+    /**
+     * The number of threads that fill the vectors of wide chunks in parallel, in total across all instances.
+     */
+    private static final int FILL_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Chunks are only filled in parallel if they have at least this many columns...
+     */
+    private static final int PARALLEL_FILL_MIN_COLUMNS = 16;
+
+    /**
+     * ...and at least this many cells. Otherwise the overhead of materializing the rows and dispatching the columns
+     * outweighs the gain.
+     */
+    private static final long PARALLEL_FILL_MIN_CELLS = 1L << 16;
+
     private enum PandasType {
-            BOOL("bool"), INT("int"), UNICODE("unicode"), BYTES("bytes");
+            BOOL("bool"), INT("int"), UNICODE("unicode"), BYTES("bytes"), LIST("list");
 
         private final String m_id;
 
@@ -223,6 +272,41 @@ private static JsonObjectBuilder createColumnMetadataBuilder(final String name,
     private final ExecutorService m_executorService = ThreadUtils.executorServiceWithContext(
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("python-arrow-serde-%d").build()));
 
+    /**
+     * Fills the vectors of wide chunks column-parallel. Shared by all instances (i.e. all kernels) so that concurrent
+     * transfers do not multiply the number of threads. Idle threads are released after a while.
+     */
+    private static final ExecutorService FILL_EXECUTOR_SERVICE =
+        ThreadUtils.executorServiceWithContext(createFillExecutor());
+
+    private static ExecutorService createFillExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(FILL_PARALLELISM, FILL_PARALLELISM, 60,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("python-arrow-fill-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Root of all allocators used for (de-)serialization. Its limit caps the off-heap memory of the kernel that owns
+     * this library. Every transfer allocates from its own child allocator, memory released by a chunk can be reused by
+     * subsequent ones. The limit defaults to the VM option {@value #MEMORY_LIMIT_VM_OPT} and can be changed per
+     * instance via {@link #setMemoryLimit(long)}.
+     */
+    private final RootAllocator m_rootAllocator = new RootAllocator(getMemoryLimitFromVmOption());
+
+    /**
+     * Root of the allocators of memory-mapped reads. Mapped file regions are backed by the file system cache rather
+     * than by off-heap memory, so they are accounted separately and do not count against the limit of
+     * {@link #m_rootAllocator}.
+     */
+    private final RootAllocator m_mappedRootAllocator = new RootAllocator(Long.MAX_VALUE);
+
+    /**
+     * The contexts of the tables that are currently read from python. Owned by this instance, released on close.
+     */
+    private final ReadContextManager m_readContexts = new ReadContextManager(m_rootAllocator, m_mappedRootAllocator);
+
     /**
      * The root directory in which the temporary files used for data transfer are stored. Will be populated during the
      * first call of {@link #tableToBytes(TableIterator, SerializationOptions, PythonCancelable)}.
@@ -234,238 +318,567 @@ private static JsonObjectBuilder createColumnMetadataBuilder(final String name,
 
     private String[] m_missingColumnNames = null;
 
+    private boolean m_compactRowKeys = false;
+
+    // The custom metadata that was decoded last along with the results of decoding it. Consecutive chunks of a transfer
+    // usually carry identical metadata, which then does not need to be parsed again.
+    private String m_lastCustomMetadata = null;
+
+    private TableSpec m_lastTableSpec = null;
+
+    private int m_lastNumRows;
+
     @Override
     public byte[] tableToBytes(final TableIterator tableIterator, final SerializationOptions serializationOptions,
         final PythonCancelable cancelable) throws SerializationException, PythonCanceledExecutionException {
         File file = null;
         try {
-            // Temporary files are used for data transfer.
-            if (m_tempDir == null || !m_tempDir.exists()) {
-                // Deleted upon JVM shutdown (or #close()).
-                m_tempDir = FileUtil.createTempDir("knime-python-");
-            }
-            file = FileUtil.createTempFile("java-to-python-", ".dat", m_tempDir, false);
+            file = createTempFile();
             final File finalFile = file;
-            return PythonUtils.Misc.executeCancelable(() -> {
+            final byte[] bytes = PythonUtils.Misc.executeCancelable(() -> {
                 try (RandomAccessFile raf = new RandomAccessFile(finalFile, "rw");
-                        FileChannel channel = raf.getChannel()) {
-                    return tableToBytesInternal(tableIterator, serializationOptions, channel,
+                        FileChannel channel = raf.getChannel();
+                        BufferAllocator allocator = newChildAllocator("java-to-python")) {
+                    return tableToBytesInternal(tableIterator, serializationOptions, allocator, channel,
                         finalFile.getAbsolutePath());
+                } catch (final OutOfMemoryException ex) {
+                    throw createMemoryLimitException(ex);
                 }
             }, m_executorService::submit, cancelable);
+            logMemoryStatistics("serialization");
+            return bytes;
+        } catch (final SerializationException e) {
+            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            throw e;
         } catch (IOException e) {
             PythonUtils.Misc.invokeSafely(null, File::delete, file);
             throw new SerializationException("An error occurred during serialization. See log for errors.", e);
         } catch (final OversizedAllocationException ex) {
             PythonUtils.Misc.invokeSafely(null, File::delete, file);
-            throw new SerializationException(
-                "The requested buffer size during serialization exceeds the maximum buffer size."
-                    + " Please consider decreasing the 'Rows per chunk' parameter in the 'Options' tab of the"
-                    + " configuration dialog.");
+            throw createOversizedAllocationException();
         } catch (final Exception ex) {
             PythonUtils.Misc.invokeSafely(null, File::delete, file);
             throw ex;
         }
     }
 
+    @Override
+    public TableStreamSerializer createTableStreamSerializer(final int numberRows,
+        final SerializationOptions serializationOptions) {
+        return new ArrowTableStreamSerializer(numberRows, serializationOptions);
+    }
+
+    private File createTempFile() throws IOException {
+        // Temporary files are used for data transfer.
+        if (m_tempDir == null || !m_tempDir.exists()) {
+            // Deleted upon JVM shutdown (or #close()).
+            m_tempDir = FileUtil.createTempDir("knime-python-");
+        }
+        return FileUtil.createTempFile("java-to-python-", ".dat", m_tempDir, false);
+    }
+
+    /**
+     * @return the limit in bytes configured via the VM option, {@link Long#MAX_VALUE} if none is configured
+     */
+    private static long getMemoryLimitFromVmOption() {
+        final String limit = System.getProperty(MEMORY_LIMIT_VM_OPT);
+        if (limit == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            final long parsedLimit = Long.parseLong(limit.trim());
+            if (parsedLimit > 0) {
+                return parsedLimit;
+            }
+        } catch (final NumberFormatException ex) { // NOSONAR Handled below.
+        }
+        LOGGER.warn("The VM option -D" + MEMORY_LIMIT_VM_OPT
+            + " was set to a value that is not a positive number of bytes. This is invalid. The Arrow memory of a"
+            + " Python kernel is therefore not limited.");
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Deletes a file that was read from Python. Files that are still mapped into memory cannot be deleted on some
+     * platforms (i.e. if {@link MappedArrowFileReader} could not unmap them explicitly), these are deleted when the VM
+     * exits instead.
+     */
+    private static void deleteReadFile(final File file) {
+        if (!file.delete() && file.exists()) {
+            LOGGER.debug("Could not delete file '" + file + "' that was read from Python. Retrying on exit.");
+            file.deleteOnExit();
+        }
+    }
+
+    private BufferAllocator newChildAllocator(final String name) {
+        return m_rootAllocator.newChildAllocator(name, 0, Long.MAX_VALUE);
+    }
+
+    private SerializationException createMemoryLimitException(final OutOfMemoryException cause) {
+        return new SerializationException("Serializing the table requires more than the " + getMemoryLimit()
+            + " bytes of off-heap memory available to Apache Arrow. Please consider decreasing the 'Rows per chunk'"
+            + " parameter in the 'Options' tab of the configuration dialog or increasing the limit via the VM option"
+            + " -D" + MEMORY_LIMIT_VM_OPT + ".", cause);
+    }
+
+    private void logMemoryStatistics(final String operation) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Arrow memory after " + operation + ": " + getAllocatedMemory() + " bytes allocated, "
+                + getPeakMemoryAllocation() + " bytes peak, " + getMemoryLimit() + " bytes limit, "
+                + m_readContexts.getNumOpenContexts() + " open read contexts.");
+        }
+    }
+
+    /**
+     * @return the number of bytes of off-heap memory currently allocated by this library
+     */
+    public long getAllocatedMemory() {
+        return m_rootAllocator.getAllocatedMemory();
+    }
+
+    /**
+     * @return the maximum number of bytes of off-heap memory that were allocated by this library at the same time
+     */
+    public long getPeakMemoryAllocation() {
+        return m_rootAllocator.getPeakMemoryAllocation();
+    }
+
+    /**
+     * @return the maximum number of bytes of off-heap memory this library may allocate
+     */
+    public long getMemoryLimit() {
+        return m_rootAllocator.getLimit();
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory this library, i.e. the kernel that owns it, may allocate.
+     * Overrides the limit configured via the VM option {@value #MEMORY_LIMIT_VM_OPT}. Memory-mapped reads of tables
+     * from Python do not count against the limit.
+     *
+     * @param limit the limit in bytes, must be positive
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public void setMemoryLimit(final long limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The memory limit must be positive but was " + limit + ".");
+        }
+        m_rootAllocator.setLimit(limit);
+    }
+
+    /**
+     * @return the number of bytes of memory-mapped files that are currently referenced by this library, these do not
+     *         count against the {@link #getMemoryLimit() limit}
+     */
+    public long getMappedMemory() {
+        return m_mappedRootAllocator.getAllocatedMemory();
+    }
+
+    private static SerializationException createOversizedAllocationException() {
+        return new SerializationException(
+            "The requested buffer size during serialization exceeds the maximum buffer size."
+                + " Please consider decreasing the 'Rows per chunk' parameter in the 'Options' tab of the"
+                + " configuration dialog.");
+    }
+
     /**
      * Possibly interrupted by {@link #tableToBytes(TableIterator, SerializationOptions, PythonCancelable)}.
      */
     private static byte[] tableToBytesInternal(final TableIterator tableIterator,
-        final SerializationOptions serializationOptions, final FileChannel fc, final String path) throws IOException {
-        try (RootAllocator rootAllocator = new RootAllocator(Long.MAX_VALUE)) {
-            List<ArrowVectorInserter> inserters = null;
-            try {
-                final String indexColName = "__index_level_0__";
-                // Metadata is transferred in JSON format.
-                final JsonObjectBuilder metadataBuilder = JsonUtil.getProvider().createObjectBuilder();
-                final TableSpec spec = tableIterator.getTableSpec();
-                inserters = new ArrayList<>();
-                final JsonArrayBuilder icBuilder = JsonUtil.getProvider().createArrayBuilder();
+        final SerializationOptions serializationOptions, final BufferAllocator allocator, final FileChannel fc,
+        final String path) throws IOException {
+        List<ArrowVectorInserter> inserters = null;
+        final StringDictionaries dictionaries =
+            serializationOptions.getCategoricalStrings() ? new StringDictionaries(allocator) : null;
+        try {
+            // Metadata is transferred in JSON format.
+            final JsonObjectBuilder metadataBuilder = JsonUtil.getProvider().createObjectBuilder();
+            final int numRows = tableIterator.getNumberRemainingRows();
+            inserters = createInserters(tableIterator.getTableSpec(), serializationOptions, allocator, numRows, null,
+                dictionaries, metadataBuilder);
+            final List<FieldVector> vecs = fillVectors(tableIterator, inserters);
+            final DictionaryProvider provider = dictionaries != null ? dictionaries.finishChunk(vecs) : null;
+            final Schema schema = createSchema(vecs, metadataBuilder);
+            try (ArrowStreamWriter writer =
+                new ArrowStreamWriter(new VectorSchemaRoot(schema, vecs, numRows), provider, fc)) {
+                writer.writeBatch();
+            }
+        } finally {
+            // Close inserters and dictionaries to free memory.
+            PythonUtils.Misc.invokeSafely(null, ArrowVectorInserter::close, inserters);
+            PythonUtils.Misc.closeSafely(null, dictionaries);
+        }
+        return path.getBytes("UTF-8");
+    }
 
-                icBuilder.add(indexColName);
-                metadataBuilder.add("index_columns", icBuilder);
-                final JsonArrayBuilder colBuilder = JsonUtil.getProvider().createArrayBuilder();
-                final int numRows = tableIterator.getNumberRemainingRows();
-                // Row ids
-                final JsonObjectBuilder rowIdBuilder =
-                    createColumnMetadataBuilder(indexColName, PandasType.UNICODE, NumpyType.OBJECT, Type.STRING);
-                inserters.add(new StringInserter(indexColName, rootAllocator, numRows, ASSUMED_ROWID_VAL_BYTE_SIZE));
-                colBuilder.add(rowIdBuilder);
-
-                // Create inserters and metadata.
-                for (int i = 0; i < spec.getNumberColumns(); i++) {
-                    JsonObjectBuilder colMetadataBuilder;
-                    switch (spec.getColumnTypes()[i]) {
-                        case BOOLEAN:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BOOL,
-                                NumpyType.OBJECT, Type.BOOLEAN);
-                            inserters.add(new BooleanInserter(spec.getColumnNames()[i], rootAllocator, numRows));
-                            break;
-                        case INTEGER:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
-                                NumpyType.INT32, Type.INTEGER);
-                            inserters.add(new IntegerInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                serializationOptions));
-                            break;
-                        case LONG:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
-                                NumpyType.INT64, Type.LONG);
-                            inserters.add(new LongInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                serializationOptions));
-                            break;
-                        case DOUBLE:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
-                                NumpyType.FLOAT64, Type.DOUBLE);
-                            inserters.add(new DoubleInserter(spec.getColumnNames()[i], rootAllocator, numRows));
-                            break;
-                        case FLOAT:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
-                                NumpyType.FLOAT32, Type.FLOAT);
-                            inserters.add(new FloatInserter(spec.getColumnNames()[i], rootAllocator, numRows));
-                            break;
-                        case STRING:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i],
-                                PandasType.UNICODE, NumpyType.OBJECT, Type.STRING);
-                            inserters.add(new StringInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_STRING_VAL_BYTE_SIZE));
-                            break;
-                        case BYTES:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.BYTES,
-                                spec.getColumnSerializers().get(spec.getColumnNames()[i]));
-                            inserters.add(new BytesInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case INTEGER_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.INTEGER_LIST);
-                            inserters.add(new IntListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case INTEGER_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.INTEGER_SET);
-                            inserters.add(new IntSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case LONG_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.LONG_LIST);
-                            inserters.add(new LongListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case LONG_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.LONG_SET);
-                            inserters.add(new LongSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case DOUBLE_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.DOUBLE_LIST);
-                            inserters.add(new DoubleListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case DOUBLE_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.DOUBLE_SET);
-                            inserters.add(new DoubleSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case FLOAT_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.FLOAT_LIST);
-                            inserters.add(new FloatListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case FLOAT_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.FLOAT_SET);
-                            inserters.add(new FloatSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case BOOLEAN_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.BOOLEAN_LIST);
-                            inserters.add(new BooleanListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case BOOLEAN_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.BOOLEAN_SET);
-                            inserters.add(new BooleanSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case STRING_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.STRING_LIST);
-                            inserters.add(new StringListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case STRING_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.STRING_SET);
-                            inserters.add(new StringSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case BYTES_LIST:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.BYTES_LIST,
-                                spec.getColumnSerializers().get(spec.getColumnNames()[i]));
-                            inserters.add(new BytesListInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        case BYTES_SET:
-                            colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
-                                NumpyType.OBJECT, Type.BYTES_SET,
-                                spec.getColumnSerializers().get(spec.getColumnNames()[i]));
-                            inserters.add(new BytesSetInserter(spec.getColumnNames()[i], rootAllocator, numRows,
-                                ASSUMED_BYTES_VAL_BYTE_SIZE));
-                            break;
-                        default:
-                            throw new IllegalStateException(
-                                "Serialization is not implemented for type: " + spec.getColumnTypes()[i].name());
+    /**
+     * Creates an inserter for the row ids and for every column of the given spec. The pandas metadata describing the
+     * columns is added to the given builder. Variable-width and collection vectors are preallocated according to the
+     * given size hints (see {@link #measureSizeHints(List)}) or, if there are none, according to fixed assumptions.
+     * String columns are dictionary-encoded via the given dictionaries, if any.
+     */
+    private static List<ArrowVectorInserter> createInserters(final TableSpec spec,
+        final SerializationOptions serializationOptions, final BufferAllocator allocator, final int numRows,
+        final int[] sizeHints, final StringDictionaries dictionaries, final JsonObjectBuilder metadataBuilder) {
+        final String indexColName = "__index_level_0__";
+        final List<ArrowVectorInserter> inserters = new ArrayList<>();
+        final JsonArrayBuilder icBuilder = JsonUtil.getProvider().createArrayBuilder();
+
+        icBuilder.add(indexColName);
+        metadataBuilder.add("index_columns", icBuilder);
+        final JsonArrayBuilder colBuilder = JsonUtil.getProvider().createArrayBuilder();
+        // Row ids
+        final JsonObjectBuilder rowIdBuilder =
+            createColumnMetadataBuilder(indexColName, PandasType.UNICODE, NumpyType.OBJECT, Type.STRING);
+        final int rowIdBytesPerCell = getSizeHint(sizeHints, 0, ASSUMED_ROWID_VAL_BYTE_SIZE);
+        if (serializationOptions.getRangeIndexRowKeys()) {
+            inserters.add(new RowKeyInserter(indexColName, allocator, numRows, rowIdBytesPerCell));
+            // Tells python that a row key column that only contains its first entry denotes a RangeIndex.
+            metadataBuilder.add("compact_row_keys", true);
+        } else {
+            inserters.add(new StringInserter(indexColName, allocator, numRows, rowIdBytesPerCell));
+        }
+        colBuilder.add(rowIdBuilder);
+
+        // Create inserters and metadata.
+        for (int i = 0; i < spec.getNumberColumns(); i++) {
+            JsonObjectBuilder colMetadataBuilder;
+            switch (spec.getColumnTypes()[i]) {
+                case BOOLEAN:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BOOL,
+                        NumpyType.OBJECT, Type.BOOLEAN);
+                    inserters.add(new BooleanInserter(spec.getColumnNames()[i], allocator, numRows));
+                    break;
+                case INTEGER:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
+                        NumpyType.INT32, Type.INTEGER);
+                    inserters.add(new IntegerInserter(spec.getColumnNames()[i], allocator, numRows,
+                        serializationOptions));
+                    break;
+                case LONG:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
+                        NumpyType.INT64, Type.LONG);
+                    inserters.add(new LongInserter(spec.getColumnNames()[i], allocator, numRows,
+                        serializationOptions));
+                    break;
+                case DOUBLE:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
+                        NumpyType.FLOAT64, Type.DOUBLE);
+                    inserters.add(new DoubleInserter(spec.getColumnNames()[i], allocator, numRows));
+                    break;
+                case FLOAT:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.INT,
+                        NumpyType.FLOAT32, Type.FLOAT);
+                    inserters.add(new FloatInserter(spec.getColumnNames()[i], allocator, numRows));
+                    break;
+                case STRING:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i],
+                        PandasType.UNICODE, NumpyType.OBJECT, Type.STRING);
+                    final int bytesPerCell = getSizeHint(sizeHints, i + 1, ASSUMED_STRING_VAL_BYTE_SIZE);
+                    inserters.add(dictionaries != null
+                        ? dictionaries.createInserter(i + 1, spec.getColumnNames()[i], allocator, numRows, bytesPerCell)
+                        : new StringInserter(spec.getColumnNames()[i], allocator, numRows, bytesPerCell));
+                    break;
+                case BYTES:
+                    final String serializerId = spec.getColumnSerializers().get(spec.getColumnNames()[i]);
+                    if (TemporalInserter.isSupported(serializerId)) {
+                        // Transferred as native arrow temporal column, python does not need to deserialize it.
+                        colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
+                            NumpyType.OBJECT, Type.BYTES);
+                        inserters.add(TemporalInserter.create(serializerId, spec.getColumnNames()[i], allocator,
+                            numRows));
+                    } else {
+                        colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.BYTES,
+                            NumpyType.OBJECT, Type.BYTES, serializerId);
+                        inserters.add(new BytesInserter(spec.getColumnNames()[i], allocator, numRows,
+                            getSizeHint(sizeHints, i + 1, ASSUMED_BYTES_VAL_BYTE_SIZE)));
                     }
-                    colBuilder.add(colMetadataBuilder);
+                    break;
+                case INTEGER_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.INTEGER_LIST);
+                    inserters.add(new IntListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case INTEGER_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.INTEGER_SET);
+                    inserters.add(new IntSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case LONG_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.LONG_LIST);
+                    inserters.add(new LongListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case LONG_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.LONG_SET);
+                    inserters.add(new LongSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case DOUBLE_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.DOUBLE_LIST);
+                    inserters.add(new DoubleListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case DOUBLE_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.DOUBLE_SET);
+                    inserters.add(new DoubleSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case FLOAT_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.FLOAT_LIST);
+                    inserters.add(new FloatListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case FLOAT_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.FLOAT_SET);
+                    inserters.add(new FloatSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case BOOLEAN_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.BOOLEAN_LIST);
+                    inserters.add(new BooleanListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case BOOLEAN_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.BOOLEAN_SET);
+                    inserters.add(new BooleanSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case STRING_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.STRING_LIST);
+                    inserters.add(new StringListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case STRING_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.STRING_SET);
+                    inserters.add(new StringSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case BYTES_LIST:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.BYTES_LIST,
+                        spec.getColumnSerializers().get(spec.getColumnNames()[i]));
+                    inserters.add(new BytesListInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                case BYTES_SET:
+                    colMetadataBuilder = createColumnMetadataBuilder(spec.getColumnNames()[i], PandasType.LIST,
+                        NumpyType.OBJECT, Type.BYTES_SET,
+                        spec.getColumnSerializers().get(spec.getColumnNames()[i]));
+                    inserters.add(new BytesSetInserter(spec.getColumnNames()[i], allocator, numRows,
+                        getSizeHint(sizeHints, i + 1, ASSUMED_COLLECTION_VAL_COUNT)));
+                    break;
+                default:
+                    throw new IllegalStateException(
+                        "Serialization is not implemented for type: " + spec.getColumnTypes()[i].name());
+            }
+            colBuilder.add(colMetadataBuilder);
+        }
+        metadataBuilder.add("columns", colBuilder);
+        return inserters;
+    }
+
+    private static int getSizeHint(final int[] sizeHints, final int vectorIndex, final int assumption) {
+        return sizeHints != null && sizeHints[vectorIndex] > 0 ? sizeHints[vectorIndex] : assumption;
+    }
+
+    /**
+     * Measures the actual average number of bytes per cell of the given variable-width vectors and the average number
+     * of entries per cell of the given collection vectors. The result can be used to preallocate the vectors of the
+     * next chunk of the same table in a way that rarely requires reallocations.
+     *
+     * @return the size hints, indexed like the vectors, 0 for vectors that are not of variable size
+     */
+    private static int[] measureSizeHints(final List<FieldVector> vecs) {
+        final int[] sizeHints = new int[vecs.size()];
+        for (int i = 0; i < vecs.size(); i++) {
+            final FieldVector vec = vecs.get(i);
+            final int valueCount = vec.getValueCount();
+            final long total;
+            if (valueCount == 0) {
+                continue;
+            } else if (vec instanceof BaseVariableWidthVector) {
+                total = ((BaseVariableWidthVector)vec).getStartOffset(valueCount);
+            } else if (vec instanceof ListVector) {
+                total = ((ListVector)vec).getDataVector().getValueCount();
+            } else {
+                continue;
+            }
+            sizeHints[i] = (int)Math.max(1, Math.min(Integer.MAX_VALUE, (total + valueCount - 1) / valueCount));
+        }
+        return sizeHints;
+    }
+
+    /**
+     * Iterates over the table and puts every cell in an arrow buffer using the inserters. Wide chunks are filled
+     * column-parallel.
+     *
+     * @return the filled vectors, closed via the inserters
+     */
+    private static List<FieldVector> fillVectors(final TableIterator tableIterator,
+        final List<ArrowVectorInserter> inserters) {
+        final int numColumns = tableIterator.getTableSpec().getNumberColumns();
+        if (FILL_PARALLELISM > 1 && numColumns >= PARALLEL_FILL_MIN_COLUMNS
+            && (long)numColumns * tableIterator.getNumberRemainingRows() >= PARALLEL_FILL_MIN_CELLS) {
+            fillVectorsInParallel(tableIterator, inserters);
+        } else {
+            fillVectorsSequentially(tableIterator, inserters, numColumns);
+        }
+        final List<FieldVector> vecs = new ArrayList<>();
+        for (int i = 0; i < inserters.size(); i++) {
+            vecs.add(inserters.get(i).retrieveVector());
+        }
+        return vecs;
+    }
+
+    /**
+     * Puts the cells of the remaining rows into the inserters row by row, where inserter 0 is the one of the row keys.
+     */
+    static void fillVectorsSequentially(final TableIterator tableIterator,
+        final List<ArrowVectorInserter> inserters, final int numColumns) {
+        while (tableIterator.hasNext()) {
+            if (Thread.interrupted()) {
+                // Stop serialization if canceled by client.
+                throw new CancellationException("Serialization canceled by client.");
+            }
+            final Row row = tableIterator.next();
+            inserters.get(0).put(new CellImpl(row.getRowKey()));
+            for (int i = 0; i < numColumns; i++) {
+                inserters.get(i + 1).put(row.getCell(i));
+            }
+        }
+    }
+
+    /**
+     * Materializes the rows of the chunk and then fills disjoint ranges of vectors concurrently. Every inserter is only
+     * ever accessed by a single thread. Returns only once all tasks have terminated, even on failure, since the
+     * inserters are closed by the caller afterwards.
+     */
+    static void fillVectorsInParallel(final TableIterator tableIterator, final List<ArrowVectorInserter> inserters) {
+        final List<Row> rows = new ArrayList<>(tableIterator.getNumberRemainingRows());
+        while (tableIterator.hasNext()) {
+            if (Thread.interrupted()) {
+                // Stop serialization if canceled by client.
+                throw new CancellationException("Serialization canceled by client.");
+            }
+            rows.add(tableIterator.next());
+        }
+        final int numTasks = Math.min(FILL_PARALLELISM, inserters.size());
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final List<Future<?>> futures = new ArrayList<>(numTasks);
+        try {
+            for (int t = 0; t < numTasks; t++) {
+                final int from = (int)((long)inserters.size() * t / numTasks);
+                final int to = (int)((long)inserters.size() * (t + 1) / numTasks);
+                futures.add(FILL_EXECUTOR_SERVICE.submit(() -> fillColumns(rows, inserters, from, to, aborted)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException ex) {
+            aborted.set(true);
+            awaitTermination(futures);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Serialization canceled by client.");
+        } catch (final ExecutionException ex) {
+            aborted.set(true);
+            awaitTermination(futures);
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } catch (final RuntimeException ex) {
+            // E.g. rejected execution.
+            aborted.set(true);
+            awaitTermination(futures);
+            throw ex;
+        }
+    }
+
+    /**
+     * Puts the cells of the given rows into the inserters {@code from} (inclusive) to {@code to} (exclusive), where
+     * inserter 0 is the one of the row keys. Fills vector by vector to keep the written buffers hot in the cache.
+     */
+    private static void fillColumns(final List<Row> rows, final List<ArrowVectorInserter> inserters, final int from,
+        final int to, final AtomicBoolean aborted) {
+        for (int c = from; c < to; c++) {
+            if (aborted.get()) {
+                return;
+            }
+            final ArrowVectorInserter inserter = inserters.get(c);
+            if (c == 0) {
+                for (final Row row : rows) {
+                    inserter.put(new CellImpl(row.getRowKey()));
                 }
-                metadataBuilder.add("columns", colBuilder);
+            } else {
+                for (final Row row : rows) {
+                    inserter.put(row.getCell(c - 1));
+                }
+            }
+        }
+    }
 
-                // Iterate over table and put every cell in an arrow buffer using the inserters.
-                while (tableIterator.hasNext()) {
-                    if (Thread.interrupted()) {
-                        // Stop serialization if canceled by client.
-                        throw new CancellationException("Serialization canceled by client.");
-                    }
-                    final Row row = tableIterator.next();
-                    inserters.get(0).put(new CellImpl(row.getRowKey()));
-                    for (int i = 0; i < spec.getNumberColumns(); i++) {
-                        inserters.get(i + 1).put(row.getCell(i));
-                    }
+    /**
+     * Waits until all given tasks have terminated, ignoring their outcome. Preserves the interrupted state.
+     */
+    private static void awaitTermination(final List<Future<?>> futures) {
+        boolean interrupted = false;
+        for (final Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (final InterruptedException ex) {
+                    interrupted = true;
+                } catch (final ExecutionException ex) {
+                    // Outcome is irrelevant, the first failure has already been reported.
+                    break;
                 }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                // Build final representation and transmit.
-                final Map<String, String> metadata = new HashMap<>();
-                metadata.put("pandas", metadataBuilder.build().toString());
+    private static Schema createSchema(final List<FieldVector> vecs, final JsonObjectBuilder metadataBuilder) {
+        final Map<String, String> metadata = new HashMap<>();
+        metadata.put("pandas", metadataBuilder.build().toString());
+        final List<Field> fields = new ArrayList<>();
+        for (final FieldVector vec : vecs) {
+            fields.add(vec.getField());
+        }
+        return new Schema(fields, metadata);
+    }
 
-                final List<FieldVector> vecs = new ArrayList<>();
-                final List<Field> fields = new ArrayList<>();
-                for (int i = 0; i < inserters.size(); i++) {
-                    final FieldVector vec = inserters.get(i).retrieveVector(); // Closed via inserters.
-                    vecs.add(vec);
-                    fields.add(vec.getField());
-                }
-                final Schema schema = new Schema(fields, metadata);
-                try (ArrowStreamWriter writer =
-                    new ArrowStreamWriter(new VectorSchemaRoot(schema, vecs, numRows), null, fc)) {
-                    writer.writeBatch();
+    /**
+     * Python transfers default row keys by only sending the first of them if it marked the row key column as compact.
+     */
+    private VectorExtractor getRowKeyExtractor(final FieldVector vec) {
+        if (m_compactRowKeys && vec instanceof VarCharVector) {
+            final int valueCount = vec.getValueCount();
+            if (valueCount > 1 && !vec.isNull(0) && vec.getNullCount() == valueCount - 1) {
+                final long start = RowKeyInserter.parseDefaultRowNumber(((VarCharVector)vec).getObject(0).toString());
+                if (start >= 0) {
+                    return new RowKeyExtractor(start);
                 }
-            } finally {
-                // Close inserters to free memory.
-                PythonUtils.Misc.invokeSafely(null, ArrowVectorInserter::close, inserters);
             }
         }
-        return path.getBytes("UTF-8");
+        return getStringOrByteExtractor(vec);
     }
 
     private static VectorExtractor getStringOrByteExtractor(final FieldVector vec) {
@@ -489,15 +902,16 @@ public void bytesIntoTable(final TableCreator<?> tableCreator, final byte[] byte
                 bytesIntoTableInternal(tableCreator, serializationOptions, spec, finalFile);
                 return null;
             }, m_executorService::submit, cancelable);
+            logMemoryStatistics("deserialization");
         } catch (final PythonIOException e) {
             throw new SerializationException("An error occurred during deserialization. See log for details.", e);
         } finally {
             PythonUtils.Misc.invokeSafely(null, f -> {
-                if (!ReadContextManager.destroy(f)) {
+                if (!m_readContexts.destroy(f)) {
                     NodeLogger.getLogger(ArrowSerializationLibrary.class).warn("Could not destroy content object.");
                 }
             }, file);
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            PythonUtils.Misc.invokeSafely(null, ArrowSerializationLibrary::deleteReadFile, file);
         }
     }
 
@@ -506,14 +920,14 @@ public void bytesIntoTable(final TableCreator<?> tableCreator, final byte[] byte
      */
     private void bytesIntoTableInternal(final TableCreator<?> tableCreator,
         final SerializationOptions serializationOptions, final TableSpec spec, final File file) throws IOException {
-        try (ArrowStreamReader reader = ReadContextManager.createForFile(file).getReader()) {
+        try (ArrowReader reader = m_readContexts.createForFile(file).getReader()) {
             final VectorSchemaRoot root = reader.getVectorSchemaRoot(); // Will be closed by reader.
             final Type[] types = spec.getColumnTypes();
             final String[] names = spec.getColumnNames();
 
             final List<VectorExtractor> extractors = new ArrayList<>();
             // Index is always string.
-            extractors.add(getStringOrByteExtractor(root.getVector(m_indexColumnName)));
+            extractors.add(getRowKeyExtractor(root.getVector(m_indexColumnName)));
 
             // Setup an extractor for every column.
             for (int j = 0; j < spec.getNumberColumns(); j++) {
@@ -545,46 +959,46 @@ private void bytesIntoTableInternal(final TableCreator<?> tableCreator,
                             extractors.add(new BytesExtractor((VarBinaryVector)root.getVector(names[j])));
                             break;
                         case INTEGER_LIST:
-                            extractors.add(new IntListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new IntListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case INTEGER_SET:
-                            extractors.add(new IntSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new IntSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case LONG_LIST:
-                            extractors.add(new LongListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new LongListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case LONG_SET:
-                            extractors.add(new LongSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new LongSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case DOUBLE_LIST:
-                            extractors.add(new DoubleListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new DoubleListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case DOUBLE_SET:
-                            extractors.add(new DoubleSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new DoubleSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case FLOAT_LIST:
-                            extractors.add(new FloatListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new FloatListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case FLOAT_SET:
-                            extractors.add(new FloatSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new FloatSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case BOOLEAN_LIST:
-                            extractors.add(new BooleanListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new BooleanListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case BOOLEAN_SET:
-                            extractors.add(new BooleanSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new BooleanSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case STRING_LIST:
-                            extractors.add(new StringListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new StringListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case STRING_SET:
-                            extractors.add(new StringSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new StringSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case BYTES_LIST:
-                            extractors.add(new BytesListExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new BytesListExtractor((ListVector)root.getVector(names[j])));
                             break;
                         case BYTES_SET:
-                            extractors.add(new BytesSetExtractor((VarBinaryVector)root.getVector(names[j])));
+                            extractors.add(new BytesSetExtractor((ListVector)root.getVector(names[j])));
                             break;
                         default:
                             throw new IllegalStateException("Deserialization is not implemented for type: " + types[j]);
@@ -616,10 +1030,10 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
         final File file = new File(path);
         try {
             // Read context is shared across this method and bytesIntoTableInternal(..).
-            final ReadContext rc = ReadContextManager.createForFile(file);
+            final ReadContext rc = m_readContexts.createForFile(file);
             if (rc.getTableSpec() == null) {
                 if (file.exists()) {
-                    ArrowStreamReader reader = null;
+                    ArrowReader reader = null;
                     try {
                         reader = rc.getReader();
                         reader.loadNextBatch();
@@ -628,10 +1042,13 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
                         final Map<String, String> columnSerializers = new HashMap<>();
                         // Build the table spec out of the metadata available in JSON format
                         // Format: {"ArrowSerializationLibrary": {"index_columns": String[1], "columns": Column[?],
-                        //          "missing_columns": String[?], "num_rows": int}}
+                        //          "missing_columns": String[?], "num_rows": int, "compact_row_keys": boolean}}
                         // Column format: {"name": String, "metadata": {"serializer_id": String, "type_id": int}}
                         final String customMetadata = metadata.get("ArrowSerializationLibrary");
-                        if (customMetadata != null) {
+                        if (customMetadata != null && customMetadata.equals(m_lastCustomMetadata)) {
+                            rc.setNumRows(m_lastNumRows);
+                            rc.setTableSpec(m_lastTableSpec);
+                        } else if (customMetadata != null) {
                             try (JsonReader jsreader =
                                 JsonUtil.getProvider().createReader(new StringReader(customMetadata))) {
                                 final JsonObject jpandasMetadata = jsreader.readObject();
@@ -639,6 +1056,7 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
                                 final JsonArray cols = jpandasMetadata.getJsonArray("columns");
                                 final JsonArray missingCols = jpandasMetadata.getJsonArray("missing_columns");
                                 rc.setNumRows(jpandasMetadata.getInt("num_rows"));
+                                m_compactRowKeys = jpandasMetadata.getBoolean("compact_row_keys", false);
                                 final String[] names = new String[cols.size() - indexCols.size()];
                                 final Type[] types = new Type[cols.size() - indexCols.size()];
                                 int noIdxCtr = 0;
@@ -673,6 +1091,9 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
                                     m_missingColumnNames[i] = missingCols.getString(i);
                                 }
                                 rc.setTableSpec(new TableSpecImpl(types, names, columnSerializers));
+                                m_lastCustomMetadata = customMetadata;
+                                m_lastTableSpec = rc.getTableSpec();
+                                m_lastNumRows = rc.getNumRows();
                             }
                         }
                     } catch (final Exception ex) {
@@ -689,17 +1110,188 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
             }
             return rc.getTableSpec();
         } catch (final IOException ex) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            PythonUtils.Misc.invokeSafely(null, ArrowSerializationLibrary::deleteReadFile, file);
             throw new SerializationException("An error occurred during deserialization.", ex);
         } catch (final Exception ex) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            PythonUtils.Misc.invokeSafely(null, ArrowSerializationLibrary::deleteReadFile, file);
             throw ex;
         }
     }
 
+    /**
+     * Writes all chunks of a table transfer as consecutive record batches into a single Arrow IPC stream. The schema
+     * and the metadata are written once, along with the first chunk. The metadata announces the total number of rows
+     * of the stream, which allows Python to keep the stream open and read one record batch per chunk until all rows
+     * have been consumed.
+     */
+    private final class ArrowTableStreamSerializer implements TableStreamSerializer {
+
+        private final int m_numRows;
+
+        private final SerializationOptions m_serializationOptions;
+
+        private File m_file;
+
+        private FileChannel m_channel;
+
+        private BufferAllocator m_allocator;
+
+        private VectorSchemaRoot m_root;
+
+        private ArrowStreamWriter m_writer;
+
+        /**
+         * Learned from the previous chunk, used to preallocate the vectors of the next one.
+         */
+        private int[] m_sizeHints;
+
+        private StringDictionaries m_dictionaries;
+
+        private ArrowTableStreamSerializer(final int numRows, final SerializationOptions serializationOptions) {
+            m_numRows = numRows;
+            m_serializationOptions = serializationOptions;
+        }
+
+        @Override
+        public byte[] chunkToBytes(final TableIterator tableIterator, final PythonCancelable cancelable)
+            throws SerializationException, PythonCanceledExecutionException {
+            try {
+                if (m_file == null) {
+                    m_file = createTempFile();
+                    m_channel = FileChannel.open(m_file.toPath(), StandardOpenOption.WRITE);
+                    m_allocator = newChildAllocator("java-to-python-stream");
+                    if (m_serializationOptions.getCategoricalStrings()) {
+                        m_dictionaries = new StringDictionaries(m_allocator);
+                    }
+                }
+                PythonUtils.Misc.executeCancelable(() -> {
+                    try {
+                        writeChunk(tableIterator);
+                    } catch (final OutOfMemoryException ex) {
+                        throw createMemoryLimitException(ex);
+                    }
+                    return null;
+                }, m_executorService::submit, cancelable);
+                return m_file.getAbsolutePath().getBytes(StandardCharsets.UTF_8);
+            } catch (final SerializationException e) {
+                throw e;
+            } catch (IOException e) {
+                throw new SerializationException("An error occurred during serialization. See log for errors.", e);
+            } catch (final OversizedAllocationException ex) {
+                throw createOversizedAllocationException();
+            }
+        }
+
+        /**
+         * Possibly interrupted by {@link #chunkToBytes(TableIterator, PythonCancelable)}.
+         */
+        private void writeChunk(final TableIterator tableIterator) throws IOException {
+            List<ArrowVectorInserter> inserters = null;
+            try {
+                final JsonObjectBuilder metadataBuilder = JsonUtil.getProvider().createObjectBuilder();
+                final int numRows = tableIterator.getNumberRemainingRows();
+                inserters = createInserters(tableIterator.getTableSpec(), m_serializationOptions, m_allocator, numRows,
+                    m_sizeHints, m_dictionaries, metadataBuilder);
+                final List<FieldVector> vecs = fillVectors(tableIterator, inserters);
+                m_sizeHints = measureSizeHints(vecs);
+                // Dictionaries that changed since the previous chunk are rewritten along with the chunk.
+                final DictionaryProvider provider = m_dictionaries != null ? m_dictionaries.finishChunk(vecs) : null;
+                if (m_writer == null) {
+                    metadataBuilder.add("stream_num_rows", m_numRows);
+                    m_root = VectorSchemaRoot.create(createSchema(vecs, metadataBuilder), m_allocator);
+                    m_writer = new ArrowStreamWriter(m_root, provider, m_channel);
+                }
+                // Hand the buffers of the chunk over to the stream's root without copying them.
+                for (int i = 0; i < vecs.size(); i++) {
+                    vecs.get(i).makeTransferPair(m_root.getVector(i)).transfer();
+                }
+                m_root.setRowCount(numRows);
+                m_writer.writeBatch();
+            } finally {
+                // Close inserters to free memory.
+                PythonUtils.Misc.invokeSafely(null, ArrowVectorInserter::close, inserters);
+            }
+        }
+
+        @Override
+        public void close() {
+            // Closing the writer also closes the channel.
+            PythonUtils.Misc.closeSafely(null, m_writer, m_root, m_channel, m_dictionaries, m_allocator);
+            PythonUtils.Misc.invokeSafely(null, File::delete, m_file);
+            logMemoryStatistics("stream serialization");
+        }
+    }
+
+    /**
+     * The dictionaries of the string columns of a table transfer that are transferred as categoricals. Whether a column
+     * is dictionary-encoded is decided based on its first chunk since the schema of a transfer cannot change. The
+     * dictionaries of subsequent chunks accumulate the values of all previous chunks.
+     */
+    private static final class StringDictionaries implements AutoCloseable {
+
+        private final BufferAllocator m_allocator;
+
+        private final Map<Integer, StringDictionary> m_dictionaries = new HashMap<>();
+
+        private final MapDictionaryProvider m_provider = new MapDictionaryProvider();
+
+        private boolean m_isFirstChunk = true;
+
+        private StringDictionaries(final BufferAllocator allocator) {
+            m_allocator = allocator;
+        }
+
+        private ArrowVectorInserter createInserter(final int vectorIndex, final String name,
+            final BufferAllocator allocator, final int numRows, final int bytesPerCell) {
+            if (m_isFirstChunk) {
+                final StringDictionary dictionary = new StringDictionary(vectorIndex, m_allocator);
+                m_dictionaries.put(vectorIndex, dictionary);
+                final int maxDictionarySize = Math.max(1, (int)(numRows * MAX_CATEGORICAL_CARDINALITY_RATIO));
+                return new DictionaryStringInserter(name, allocator, numRows, bytesPerCell, dictionary,
+                    maxDictionarySize);
+            }
+            final StringDictionary dictionary = m_dictionaries.get(vectorIndex);
+            if (dictionary != null) {
+                return new DictionaryStringInserter(name, allocator, numRows, bytesPerCell, dictionary,
+                    Integer.MAX_VALUE);
+            }
+            return new StringInserter(name, allocator, numRows, bytesPerCell);
+        }
+
+        /**
+         * Must be called once the vectors of a chunk have been filled. After the first chunk, the dictionaries of the
+         * columns that turned out to contain too many distinct values are dropped.
+         *
+         * @return the provider of the dictionaries referenced by the vectors
+         */
+        private DictionaryProvider finishChunk(final List<FieldVector> vecs) {
+            if (m_isFirstChunk) {
+                m_isFirstChunk = false;
+                final Iterator<Entry<Integer, StringDictionary>> it = m_dictionaries.entrySet().iterator();
+                while (it.hasNext()) {
+                    final Entry<Integer, StringDictionary> entry = it.next();
+                    if (vecs.get(entry.getKey()).getField().getDictionary() != null) {
+                        m_provider.put(entry.getValue().getDictionary());
+                    } else {
+                        entry.getValue().close();
+                        it.remove();
+                    }
+                }
+            }
+            return m_provider;
+        }
+
+        @Override
+        public void close() {
+            PythonUtils.Misc.closeSafely(null, m_dictionaries.values());
+        }
+    }
+
     @Override
     public void close() {
         PythonUtils.Misc.invokeSafely(null, ExecutorService::shutdownNow, m_executorService);
+        // Read contexts must be released before the allocator from which their memory was allocated.
+        PythonUtils.Misc.closeSafely(null, m_readContexts, m_rootAllocator, m_mappedRootAllocator);
         if (m_tempDir != null) {
             PythonUtils.Misc.invokeSafely(null, FileUtil::deleteRecursively, m_tempDir);
         }
@@ -0,0 +1,299 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.List;
+
+import org.apache.arrow.flatbuf.Footer;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.ForeignAllocation;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.InvalidArrowFileException;
+import org.apache.arrow.vector.ipc.message.ArrowBlock;
+import org.apache.arrow.vector.ipc.message.ArrowDictionaryBatch;
+import org.apache.arrow.vector.ipc.message.ArrowFooter;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Reads a file in the Arrow IPC file format by memory-mapping its record batches instead of copying them into buffers
+ * of the allocator. The vectors of the {@link #getVectorSchemaRoot() root} directly reference the mapped file regions,
+ * which are unmapped once no vector references them anymore.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class MappedArrowFileReader extends ArrowReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MappedArrowFileReader.class);
+
+    /** "ARROW1" */
+    private static final byte[] MAGIC = {'A', 'R', 'R', 'O', 'W', '1'};
+
+    /** Marks the start of an encapsulated message that is prefixed by its length. */
+    private static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+
+    private final BufferAllocator m_allocator;
+
+    private final RandomAccessFile m_file;
+
+    private final FileChannel m_channel;
+
+    private ArrowFooter m_footer;
+
+    private int m_nextBatchIndex;
+
+    private boolean m_dictionariesLoaded;
+
+    private long m_bytesRead;
+
+    MappedArrowFileReader(final File file, final BufferAllocator allocator) throws IOException {
+        super(allocator);
+        m_allocator = allocator;
+        m_file = new RandomAccessFile(file, "r");
+        m_channel = m_file.getChannel();
+    }
+
+    /**
+     * @param file the file to check
+     * @return true if the given file starts with the magic bytes of the Arrow IPC file format
+     * @throws IOException if reading the file failed
+     */
+    static boolean isArrowFile(final File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < 2L * MAGIC.length) {
+                return false;
+            }
+            final byte[] start = new byte[MAGIC.length];
+            raf.readFully(start);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (start[i] != MAGIC[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    protected Schema readSchema() throws IOException {
+        return getFooter().getSchema();
+    }
+
+    @Override
+    public boolean loadNextBatch() throws IOException {
+        prepareLoadNextBatch();
+        final ArrowFooter footer = getFooter();
+        if (!m_dictionariesLoaded) {
+            for (final ArrowBlock block : footer.getDictionaries()) {
+                try (ArrowBuf mapped = map(block)) {
+                    final Message message = readMessage(mapped, block, MessageHeader.DictionaryBatch);
+                    loadDictionary(MessageSerializer.deserializeDictionaryBatch(message, body(mapped, block)));
+                }
+            }
+            m_dictionariesLoaded = true;
+        }
+        final List<ArrowBlock> batches = footer.getRecordBatches();
+        if (m_nextBatchIndex >= batches.size()) {
+            return false;
+        }
+        final ArrowBlock block = batches.get(m_nextBatchIndex++);
+        try (ArrowBuf mapped = map(block)) {
+            final Message message = readMessage(mapped, block, MessageHeader.RecordBatch);
+            final RecordBatch recordBatch = (RecordBatch)message.header(new RecordBatch());
+            // The loaded vectors retain the slices of the mapped buffer, i.e. the data is not copied.
+            final ArrowRecordBatch batch = MessageSerializer.deserializeRecordBatch(recordBatch, body(mapped, block));
+            loadRecordBatch(batch);
+        }
+        return true;
+    }
+
+    @Override
+    public long bytesRead() {
+        return m_bytesRead;
+    }
+
+    @Override
+    protected void closeReadSource() throws IOException {
+        m_file.close();
+    }
+
+    private ArrowFooter getFooter() throws IOException {
+        if (m_footer == null) {
+            // Layout of the end of the file: <footer> <int32: footer length> <magic>
+            final long fileSize = m_channel.size();
+            final ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES + MAGIC.length).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(trailer, fileSize - trailer.capacity());
+            final int footerLength = trailer.getInt(0);
+            final long footerOffset = fileSize - trailer.capacity() - footerLength;
+            if (footerLength <= 0 || footerOffset < MAGIC.length) {
+                throw new InvalidArrowFileException("Invalid footer length: " + footerLength);
+            }
+            final ByteBuffer footerBuffer = ByteBuffer.allocate(footerLength).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(footerBuffer, footerOffset);
+            m_footer = new ArrowFooter(Footer.getRootAsFooter(footerBuffer));
+        }
+        return m_footer;
+    }
+
+    private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (m_channel.read(buffer, position + buffer.position()) < 0) {
+                throw new InvalidArrowFileException("Unexpected end of file.");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Maps the message (metadata and body) described by the given block into memory that is accounted to the
+     * allocator of this reader.
+     */
+    private ArrowBuf map(final ArrowBlock block) throws IOException {
+        final long size = block.getMetadataLength() + block.getBodyLength();
+        final MappedByteBuffer buffer = m_channel.map(MapMode.READ_ONLY, block.getOffset(), size);
+        m_bytesRead += size;
+        return m_allocator.wrapForeignAllocation(new MappedAllocation(buffer));
+    }
+
+    /**
+     * @return true if mapped file regions are unmapped as soon as they are released, false if they are only unmapped
+     *         upon garbage collection
+     */
+    static boolean isExplicitUnmappingSupported() {
+        return MappedAllocation.INVOKE_CLEANER != null;
+    }
+
+    private static Message readMessage(final ArrowBuf mapped, final ArrowBlock block, final byte expectedHeaderType)
+        throws IOException {
+        int prefixLength = Integer.BYTES;
+        int messageLength = mapped.getInt(0);
+        if (messageLength == CONTINUATION_MARKER) {
+            prefixLength += Integer.BYTES;
+            messageLength = mapped.getInt(Integer.BYTES);
+        }
+        if (messageLength <= 0 || prefixLength + messageLength > block.getMetadataLength()) {
+            throw new InvalidArrowFileException("Invalid message length at offset " + block.getOffset() + ".");
+        }
+        final ByteBuffer metadata = mapped.nioBuffer(prefixLength, messageLength).order(ByteOrder.LITTLE_ENDIAN);
+        final Message message = Message.getRootAsMessage(metadata);
+        if (message.headerType() != expectedHeaderType) {
+            throw new InvalidArrowFileException("Unexpected message type " + MessageHeader.name(message.headerType())
+                + " at offset " + block.getOffset() + ".");
+        }
+        return message;
+    }
+
+    private static ArrowBuf body(final ArrowBuf mapped, final ArrowBlock block) {
+        return mapped.slice(block.getMetadataLength(), block.getBodyLength());
+    }
+
+    /**
+     * A mapped file region that is unmapped as soon as the last buffer referencing it is released, rather than
+     * whenever the garbage collector gets to it. This matters on Windows, where mapped files cannot be deleted.
+     */
+    private static final class MappedAllocation extends ForeignAllocation {
+
+        private static final Method INVOKE_CLEANER;
+
+        private static final Object UNSAFE;
+
+        static {
+            Method invokeCleaner = null;
+            Object unsafe = null;
+            try {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                LOGGER.warn("Mapped Arrow files cannot be unmapped explicitly and are unmapped upon garbage "
+                    + "collection instead. Until then, they may not be deletable on some platforms.", ex);
+            }
+            INVOKE_CLEANER = invokeCleaner;
+            UNSAFE = unsafe;
+        }
+
+        private MappedByteBuffer m_buffer;
+
+        private MappedAllocation(final MappedByteBuffer buffer) {
+            super(buffer.capacity(), MemoryUtil.getByteBufferAddress(buffer));
+            m_buffer = buffer;
+        }
+
+        @Override
+        protected void release0() {
+            if (INVOKE_CLEANER != null) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, m_buffer);
+                } catch (final ReflectiveOperationException | RuntimeException ex) {
+                    LOGGER.warn("Could not unmap Arrow file. It is unmapped upon garbage collection instead.", ex);
+                }
+            }
+            m_buffer = null;
+        }
+    }
+}
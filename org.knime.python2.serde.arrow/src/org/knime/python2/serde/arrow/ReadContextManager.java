@@ -49,41 +49,71 @@
 package org.knime.python2.serde.arrow;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.ipc.ArrowReader;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.knime.core.node.NodeLogger;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
 
 /**
  * Manages context objects for the arrow serialization library. Context objects are used for efficient resource
- * sharing between the tableSpecFromBytes() and the bytesIntoTable() method. Can be used in a multi-threaded context.
+ * sharing between the tableSpecFromBytes() and the bytesIntoTable() method. Every serialization library instance (i.e.
+ * every kernel) owns its own manager, so reads of different kernels do not contend with each other. Can be used in a
+ * multi-threaded context. Contexts that were not destroyed until the manager is closed are reported and released.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  */
-class ReadContextManager {
+final class ReadContextManager implements AutoCloseable {
 
-    static Map<String, ReadContext> m_contextMap = new HashMap<String, ReadContext>();
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ReadContextManager.class);
+
+    private final Map<String, ReadContext> m_contextMap = new ConcurrentHashMap<>();
+
+    private final BufferAllocator m_parentAllocator;
+
+    private final BufferAllocator m_mappedParentAllocator;
+
+    private volatile boolean m_closed = false;
+
+    /**
+     * @param parentAllocator the allocator from which the memory of the contexts is allocated
+     * @param mappedParentAllocator the allocator to which the memory-mapped files of the contexts are accounted
+     */
+    ReadContextManager(final BufferAllocator parentAllocator, final BufferAllocator mappedParentAllocator) {
+        m_parentAllocator = parentAllocator;
+        m_mappedParentAllocator = mappedParentAllocator;
+    }
 
     /**
      * Get or create the {@link ReadContext} for the given file. The absolute file path is used as a key.
      * @param file a file containing serialized data
      * @return the corresponding {@link ReadContext}
-     * @throws FileNotFoundException If the given file does not exist
+     * @throws IOException If the given file could not be opened
      */
-    static synchronized ReadContext createForFile(final File file) throws FileNotFoundException {
-        String path = file.getAbsolutePath();
-        if(!m_contextMap.containsKey(path)) {
-            ReadContext rc = new ReadContext(file);
-            m_contextMap.put(file.getAbsolutePath(), rc);
-            return rc;
+    ReadContext createForFile(final File file) throws IOException {
+        final String path = file.getAbsolutePath();
+        final ReadContext existing = m_contextMap.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        if (m_closed) {
+            throw new IllegalStateException("Read context manager is already closed.");
         }
-        return m_contextMap.get(path);
+        final ReadContext created = new ReadContext(file, m_parentAllocator, m_mappedParentAllocator);
+        final ReadContext concurrent = m_contextMap.putIfAbsent(path, created);
+        if (concurrent != null) {
+            // Another thread was faster.
+            created.destroy();
+            return concurrent;
+        }
+        return created;
     }
 
     /**
@@ -91,38 +121,78 @@ static synchronized ReadContext createForFile(final File file) throws FileNotFou
      * @param file a file containing serialized data
      * @return true if a reading context for the file could be found and destroyed, false otherwise
      */
-    static synchronized boolean destroy(final File file) {
-        ReadContext rc = m_contextMap.remove(file.getAbsolutePath());
-        if(rc == null) {
+    boolean destroy(final File file) {
+        final ReadContext rc = m_contextMap.remove(file.getAbsolutePath());
+        if (rc == null) {
             return false;
         }
         rc.destroy();
         return true;
     }
 
+    /**
+     * @return the number of contexts that have been created but not yet destroyed
+     */
+    int getNumOpenContexts() {
+        return m_contextMap.size();
+    }
+
+    /**
+     * Destroys all contexts that are still open. Open contexts at this point indicate that a deserialization was
+     * started via tableSpecFromBytes() but never completed via bytesIntoTable(), which is reported as a leak.
+     */
+    @Override
+    public void close() {
+        m_closed = true;
+        final List<String> leakedPaths = new ArrayList<>(m_contextMap.keySet());
+        if (!leakedPaths.isEmpty()) {
+            LOGGER.warn("Releasing " + leakedPaths.size() + " arrow read context(s) that were never destroyed: "
+                + String.join(", ", leakedPaths));
+        }
+        for (final String path : leakedPaths) {
+            final ReadContext rc = m_contextMap.remove(path);
+            if (rc != null) {
+                rc.destroy();
+            }
+        }
+    }
+
     static class ReadContext {
 
-        private static NodeLogger LOGGER = NodeLogger.getLogger(ReadContext.class);
+        private static final NodeLogger LOGGER = NodeLogger.getLogger(ReadContext.class);
 
         private RandomAccessFile m_raFile;
 
-        private RootAllocator m_rootAllocator;
+        private BufferAllocator m_allocator;
 
-        private ArrowStreamReader m_streamReader;
+        private ArrowReader m_reader;
 
         private TableSpec m_spec;
 
         private int m_numRows;
 
-        private ReadContext(final File file) throws FileNotFoundException {
-            m_raFile = new RandomAccessFile(file, "rw");
-            m_rootAllocator = new RootAllocator(Long.MAX_VALUE);
-            m_streamReader = new ArrowStreamReader(m_raFile.getChannel(), m_rootAllocator);
+        private ReadContext(final File file, final BufferAllocator parentAllocator,
+            final BufferAllocator mappedParentAllocator) throws IOException {
+            // Files in the Arrow IPC file format are memory-mapped instead of being copied into memory.
+            final boolean mapped = file.exists() && MappedArrowFileReader.isArrowFile(file);
+            m_allocator = (mapped ? mappedParentAllocator : parentAllocator).newChildAllocator("python-to-java", 0,
+                Long.MAX_VALUE);
+            try {
+                if (mapped) {
+                    m_reader = new MappedArrowFileReader(file, m_allocator);
+                } else {
+                    m_raFile = new RandomAccessFile(file, "rw");
+                    m_reader = new ArrowStreamReader(m_raFile.getChannel(), m_allocator);
+                }
+            } catch (IOException ex) {
+                m_allocator.close();
+                throw ex;
+            }
             m_numRows = 0;
         }
 
-        ArrowStreamReader getReader() {
-            return m_streamReader;
+        ArrowReader getReader() {
+            return m_reader;
         }
 
         TableSpec getTableSpec() {
@@ -138,16 +208,18 @@ void setTableSpec(final TableSpec spec) {
          */
         void destroy() {
             try {
-                m_streamReader.close();
+                m_reader.close();
             } catch (IOException ex) {
                 LOGGER.warn("Could not close stream reader!");
             }
             try {
-                m_raFile.close();
+                if (m_raFile != null) {
+                    m_raFile.close();
+                }
             } catch (IOException ex) {
                 LOGGER.warn("Could not close arrow file!");
             }
-            m_rootAllocator.close();
+            m_allocator.close();
         }
 
         /**
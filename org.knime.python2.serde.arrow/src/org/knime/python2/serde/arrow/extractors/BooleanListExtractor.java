@@ -48,58 +48,44 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
-import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
-import org.knime.python2.util.BitArray;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on Boolean list vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Boolean list vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class BooleanListExtractor implements VectorExtractor {
-
-    private final VarBinaryVector m_vector;
+public class BooleanListExtractor extends ListExtractor {
 
-    private int m_ctr;
+    private final BitVector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public BooleanListExtractor(final VarBinaryVector vector) {
-        m_vector = vector;
+    public BooleanListExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (BitVector)getDataVector();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Cell extract() {
-        if (m_vector.isNull(m_ctr)) {
-            m_ctr++;
-            return new CellImpl();
+    protected Cell extractValues(final int start, final int end) {
+        final boolean[] values = new boolean[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i) != 0;
+            }
         }
-
-        ByteBuffer buffer = ByteBuffer.wrap(m_vector.getObject(m_ctr)).order(ByteOrder.LITTLE_ENDIAN);
-        int nVals = buffer.asIntBuffer().get();
-        buffer.position(4);
-
-        int primLn = nVals / 8 + ((nVals % 8 == 0) ? 0 : 1);
-        byte[] primitives = new byte[primLn];
-        buffer.get(primitives);
-        BitArray prims = new BitArray(primitives, nVals);
-
-        byte[] missings = new byte[nVals / 8 + ((nVals % 8 == 0) ? 0 : 1)];
-        buffer.get(missings);
-
-        m_ctr++;
-        return new CellImpl(prims, missings);
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
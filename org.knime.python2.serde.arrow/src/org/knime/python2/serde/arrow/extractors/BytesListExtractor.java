@@ -48,15 +48,14 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
 import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on byte[] lists vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Bytes list vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -64,50 +63,29 @@
  */
 public class BytesListExtractor extends ListExtractor {
 
-    private byte[][] m_values;
-
-    private int[] m_offsets;
+    private final VarBinaryVector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public BytesListExtractor(final VarBinaryVector vector) {
+    public BytesListExtractor(final ListVector vector) {
         super(vector);
+        m_values = (VarBinaryVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        m_offsets = new int[numVals + 1];
-        ibuffer.get(m_offsets);
-
-        buffer.position(4 + 4 * m_offsets.length);
-        m_values = new byte[numVals][];
-        for (int i = 0; i < numVals; i++) {
-            m_values[i] = new byte[m_offsets[i + 1] - m_offsets[i]];
-            buffer.get(m_values[i]);
+    protected Cell extractValues(final int start, final int end) {
+        final byte[][] values = new byte[end - start][];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i);
+            }
         }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_values, missings);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected int getValuesLength() {
-        return 4 * m_offsets.length + m_offsets[m_offsets.length - 1];
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
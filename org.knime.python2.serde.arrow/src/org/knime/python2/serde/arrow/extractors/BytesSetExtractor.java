@@ -48,59 +48,45 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
 import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on byte[] set vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Bytes set vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class BytesSetExtractor extends VariableSizeSetExtractor {
+public class BytesSetExtractor extends SetExtractor {
 
-    private int[] m_offsets;
+    private final VarBinaryVector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public BytesSetExtractor(final VarBinaryVector vector) {
+    public BytesSetExtractor(final ListVector vector) {
         super(vector);
+        m_values = (VarBinaryVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int getValuesLength(final ByteBuffer buffer, final int numVals) {
-
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        m_offsets = new int[numVals + 1];
-        ibuffer.get(m_offsets);
-
-        return 4 * m_offsets.length + m_offsets[m_offsets.length - 1];
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        buffer.position(4 + 4 * m_offsets.length);
-        byte[][] objs = new byte[numVals][];
-        for (int i = 0; i < numVals; i++) {
-            byte[] dst = new byte[m_offsets[i + 1] - m_offsets[i]];
-            buffer.get(dst);
-            objs[i] = dst;
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final byte[][] values = new byte[numValues][];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = m_values.get(i);
+            }
         }
-        return new CellImpl(objs, hasMissing);
+        return new CellImpl(values, hasMissing);
     }
 
 }
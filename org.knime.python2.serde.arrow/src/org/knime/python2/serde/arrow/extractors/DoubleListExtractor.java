@@ -48,15 +48,14 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on Double list vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Double list vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -64,41 +63,29 @@
  */
 public class DoubleListExtractor extends ListExtractor {
 
-    private double[] m_primitives;
+    private final Float8Vector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public DoubleListExtractor(final VarBinaryVector vector) {
+    public DoubleListExtractor(final ListVector vector) {
         super(vector);
+        m_values = (Float8Vector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        DoubleBuffer ibuffer = buffer.asDoubleBuffer();
-        m_primitives = new double[numVals];
-        ibuffer.get(m_primitives);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_primitives, missings);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected int getValuesLength() {
-        return 8 * m_primitives.length;
+    protected Cell extractValues(final int start, final int end) {
+        final double[] values = new double[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
@@ -48,48 +48,45 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on Double set vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Double set vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class DoubleSetExtractor extends FixedSizeSetExtractor {
+public class DoubleSetExtractor extends SetExtractor {
+
+    private final Float8Vector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public DoubleSetExtractor(final VarBinaryVector vector) {
+    public DoubleSetExtractor(final ListVector vector) {
         super(vector);
+        m_values = (Float8Vector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int getNumBytesPerEntry() {
-        return 8;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        DoubleBuffer ibuffer = buffer.asDoubleBuffer();
-        double[] iar = new double[numVals];
-        ibuffer.get(iar, 0, numVals);
-        return new CellImpl(iar, hasMissing);
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final double[] values = new double[numValues];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, hasMissing);
     }
 
 }
@@ -48,42 +48,43 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.FloatBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Float list vectors.
+ *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public final class FloatListExtractor extends ListExtractor {
+public class FloatListExtractor extends ListExtractor {
 
-    private float[] m_primitives;
+    private final Float4Vector m_values;
 
     /**
-     * @param vector the vector from which to extract float list cells
+     * Constructor.
+     * @param vector the vector to extract from
      */
-    public FloatListExtractor(final VarBinaryVector vector) {
+    public FloatListExtractor(final ListVector vector) {
         super(vector);
+        m_values = (Float4Vector)getDataVector();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        final FloatBuffer floatBuffer = buffer.asFloatBuffer();
-        m_primitives = new float[numVals];
-        floatBuffer.get(m_primitives);
-    }
-
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_primitives, missings);
+    protected Cell extractValues(final int start, final int end) {
+        final float[] values = new float[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
-    @Override
-    protected int getValuesLength() {
-        return 4 * m_primitives.length;
-    }
 }
@@ -48,36 +48,44 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.FloatBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Float set vectors.
+ *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public final class FloatSetExtractor extends FixedSizeSetExtractor {
+public class FloatSetExtractor extends SetExtractor {
+
+    private final Float4Vector m_values;
 
     /**
-     * @param vector the vector from which to extract float set cells
+     * Constructor.
+     * @param vector the vector to extract from
      */
-    public FloatSetExtractor(final VarBinaryVector vector) {
+    public FloatSetExtractor(final ListVector vector) {
         super(vector);
+        m_values = (Float4Vector)getDataVector();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        final FloatBuffer floatBuffer = buffer.asFloatBuffer();
-        final float[] floatValues = new float[numVals];
-        floatBuffer.get(floatValues, 0, numVals);
-        return new CellImpl(floatValues, hasMissing);
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final float[] values = new float[numValues];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, hasMissing);
     }
 
-    @Override
-    protected int getNumBytesPerEntry() {
-        return 4;
-    }
 }
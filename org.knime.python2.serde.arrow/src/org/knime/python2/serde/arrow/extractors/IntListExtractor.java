@@ -48,10 +48,8 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
@@ -65,40 +63,29 @@
  */
 public class IntListExtractor extends ListExtractor {
 
-    private int[] m_primitives;
+    private final IntVector m_values;
 
     /**
      * Constructor.
      * @param vector the vector to extract from
      */
-    public IntListExtractor(final VarBinaryVector vector) {
-       super(vector);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        m_primitives = new int[numVals];
-        ibuffer.get(m_primitives);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_primitives, missings);
+    public IntListExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (IntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int getValuesLength() {
-        return 4 * m_primitives.length;
+    protected Cell extractValues(final int start, final int end) {
+        final int[] values = new int[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
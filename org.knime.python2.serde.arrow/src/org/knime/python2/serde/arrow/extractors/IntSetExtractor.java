@@ -48,48 +48,45 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Manages the data transfer between the arrow table format and the python table format. Works on Integer set vectors.
+ * Manages the data transfer between the arrow table format and the python table format.
+ * Works on Integer set vectors.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class IntSetExtractor extends FixedSizeSetExtractor {
+public class IntSetExtractor extends SetExtractor {
+
+    private final IntVector m_values;
 
     /**
      * Constructor.
-     *
      * @param vector the vector to extract from
      */
-    public IntSetExtractor(final VarBinaryVector vector) {
+    public IntSetExtractor(final ListVector vector) {
         super(vector);
+        m_values = (IntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int getNumBytesPerEntry() {
-        return 4;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        int[] iar = new int[numVals];
-        ibuffer.get(iar, 0, numVals);
-        return new CellImpl(iar, hasMissing);
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final int[] values = new int[numValues];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, hasMissing);
     }
 
 }
@@ -48,16 +48,15 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Base class for List types that are transferred between the arrow table format and the python table format.
+ * Base class for List types that are transferred between the arrow table format and the python table format. The
+ * collections are read from a native arrow {@link ListVector}.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -65,7 +64,7 @@
  */
 public abstract class ListExtractor implements VectorExtractor {
 
-    private final VarBinaryVector m_vector;
+    private final ListVector m_vector;
 
     private int m_ctr;
 
@@ -74,53 +73,57 @@ public abstract class ListExtractor implements VectorExtractor {
      *
      * @param vector the vector to extract from
      */
-    protected ListExtractor(final VarBinaryVector vector) {
+    protected ListExtractor(final ListVector vector) {
         m_vector = vector;
     }
 
     /**
-     * Extract the list from the buffer (type specific).
-     *
-     * @param buffer the buffer containing the list
-     * @param numVals the number of values to read
+     * @return the data vector holding the entries of all collections
      */
-    protected abstract void fillInternalArray(final ByteBuffer buffer, int numVals);
+    protected FieldVector getDataVector() {
+        return m_vector.getDataVector();
+    }
 
     /**
-     * Wrap the extracted list into a {@link Cell} representation.
-     * @param missings the bit encoded missing values array
+     * Extract the collection from the given range of the data vector (type specific).
      *
+     * @param start the index of the first entry in the data vector (inclusive)
+     * @param end the index of the last entry in the data vector (exclusive)
      * @return the {@link Cell} representation
      */
-    protected abstract Cell getReturnValue(byte[] missings);
+    protected abstract Cell extractValues(int start, int end);
 
     /**
-     * Returns the length of the section in the buffer occupied by values
+     * Bit encodes which entries in the given range of the data vector are present. A set bit denotes a non-missing
+     * entry.
      *
-     * @return the length of the section in the buffer occupied by values
+     * @param start the index of the first entry in the data vector (inclusive)
+     * @param end the index of the last entry in the data vector (exclusive)
+     * @return the bit encoded missing values array
      */
-    protected abstract int getValuesLength();
+    protected final byte[] getBitEncodedMissings(final int start, final int end) {
+        final FieldVector values = m_vector.getDataVector();
+        final int numValues = end - start;
+        final byte[] missings = new byte[numValues / 8 + (numValues % 8 == 0 ? 0 : 1)];
+        for (int i = 0; i < numValues; i++) {
+            if (!values.isNull(start + i)) {
+                missings[i / 8] |= (byte)(1 << (i % 8));
+            }
+        }
+        return missings;
+    }
 
     @Override
     public Cell extract() {
+        final Cell cell;
         if (m_vector.isNull(m_ctr)) {
-            m_ctr++;
-            return new CellImpl();
+            cell = new CellImpl();
+        } else {
+            //template method
+            cell = extractValues(m_vector.getElementStartIndex(m_ctr), m_vector.getElementEndIndex(m_ctr));
         }
-
-        ByteBuffer buffer = ByteBuffer.wrap(m_vector.getObject(m_ctr)).order(ByteOrder.LITTLE_ENDIAN);
-        int nVals = buffer.asIntBuffer().get();
-        buffer.position(4);
-        //template method
-        fillInternalArray(buffer, nVals);
-        //template method
-        buffer.position(getValuesLength() + 4);
-        byte[] missings = new byte[nVals / 8 + (nVals % 8 == 0 ? 0:1)];
-        buffer.get(missings);
-
         m_ctr++;
-        //template method
-        return getReturnValue(missings);
+        return cell;
     }
 
 }
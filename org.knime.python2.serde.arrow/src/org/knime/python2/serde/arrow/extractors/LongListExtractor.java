@@ -48,10 +48,8 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.LongBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
@@ -65,40 +63,29 @@
  */
 public class LongListExtractor extends ListExtractor {
 
-    private long[] m_primitives;
+    private final BigIntVector m_values;
 
     /**
      * Constructor.
      * @param vector the vector to extract from
      */
-    public LongListExtractor(final VarBinaryVector vector) {
-       super(vector);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        LongBuffer ibuffer = buffer.asLongBuffer();
-        m_primitives = new long[numVals];
-        ibuffer.get(m_primitives);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_primitives, missings);
+    public LongListExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (BigIntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int getValuesLength() {
-        return 8 * m_primitives.length;
+    protected Cell extractValues(final int start, final int end) {
+        final long[] values = new long[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
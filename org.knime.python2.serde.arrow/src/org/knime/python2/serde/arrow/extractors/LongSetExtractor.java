@@ -48,10 +48,8 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.LongBuffer;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
@@ -63,35 +61,32 @@
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class LongSetExtractor extends FixedSizeSetExtractor {
+public class LongSetExtractor extends SetExtractor {
+
+    private final BigIntVector m_values;
 
     /**
      * Constructor.
      * @param vector the vector to extract from
      */
-    public LongSetExtractor(final VarBinaryVector vector) {
-       super(vector);
-    }
-
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int getNumBytesPerEntry() {
-        return 8;
+    public LongSetExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (BigIntVector)getDataVector();
     }
 
-
     /**
      * {@inheritDoc}
      */
     @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        LongBuffer ibuffer = buffer.asLongBuffer();
-        long[] iar = new long[numVals];
-        ibuffer.get(iar, 0, numVals);
-        return new CellImpl(iar, hasMissing);
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final long[] values = new long[numValues];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = m_values.get(i);
+            }
+        }
+        return new CellImpl(values, hasMissing);
     }
 
 }
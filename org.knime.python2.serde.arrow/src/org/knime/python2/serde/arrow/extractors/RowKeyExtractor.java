@@ -44,74 +44,40 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 2, 2017 (clemens): created
+ *   Oct 19, 2026: created
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-
-import org.apache.arrow.vector.VarBinaryVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.serde.arrow.inserters.RowKeyInserter;
 
 /**
- * Base class for Sets of fixed size types that are transferred between the arrow table format and the python table format.
+ * Manages the data transfer of the row keys from the arrow table format to the python table format if python only
+ * transferred the first of a sequence of default row keys. Generates the keys "Row&lt;start&gt;",
+ * "Row&lt;start + 1&gt;", ...
  *
- * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
- * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
- * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-public abstract class FixedSizeSetExtractor implements VectorExtractor {
+public class RowKeyExtractor implements VectorExtractor {
 
-    private final VarBinaryVector m_vector;
+    private final long m_start;
 
     private int m_ctr;
 
     /**
      * Constructor.
      *
-     * @param vector the vector to extract from
+     * @param start the row number of the first row key
      */
-    protected FixedSizeSetExtractor(final VarBinaryVector vector) {
-        m_vector = vector;
+    public RowKeyExtractor(final long start) {
+        m_start = start;
     }
 
-    /**
-     * Extract the list from the buffer (type specific).
-     *
-     * @param buffer the buffer containing the list
-     * @param numVals the number of values to read
-     * @param hasMissing includes a missing value yes/no
-     * @return a reference to the extracted list
-     */
-    public abstract Cell extractArray(final ByteBuffer buffer, int numVals, boolean hasMissing);
-
-    /**
-     * Returns the length of the section in the buffer occupied by values
-     *
-     * @return the length of the section in the buffer occupied by values
-     */
-    protected abstract int getNumBytesPerEntry();
-
     @Override
     public Cell extract() {
-
-        if (m_vector.isNull(m_ctr)) {
-            m_ctr++;
-            return new CellImpl();
-        }
-
-        ByteBuffer buffer = ByteBuffer.wrap(m_vector.getObject(m_ctr)).order(ByteOrder.LITTLE_ENDIAN);
-        m_ctr++;
-        int nVals = buffer.asIntBuffer().get();
-        buffer.position(4);
-        //template method
-        boolean hasMissing = (buffer.get(4 + nVals * getNumBytesPerEntry()) == 0);
-        //template method
-        return extractArray(buffer, nVals, hasMissing);
-
+        return new CellImpl(RowKeyInserter.DEFAULT_ROW_KEY_PREFIX + (m_start + m_ctr++));
     }
 
 }
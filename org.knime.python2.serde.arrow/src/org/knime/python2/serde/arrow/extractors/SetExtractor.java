@@ -44,76 +44,52 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 2, 2017 (clemens): created
+ *   Oct 19, 2026: created
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
-import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
-import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
 /**
- * Base class for Sets of variable size types that are transferred between the arrow table format and the python table format.
+ * Base class for Set types that are transferred between the arrow table format and the python table format. Sets are
+ * transferred as lists, a missing entry denotes that the set contains a missing value.
  *
- * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
- * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
- * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-public abstract class VariableSizeSetExtractor implements VectorExtractor {
-
-    private final VarBinaryVector m_vector;
-
-    private int m_ctr;
+public abstract class SetExtractor extends ListExtractor {
 
     /**
      * Constructor.
      *
      * @param vector the vector to extract from
      */
-    protected VariableSizeSetExtractor(final VarBinaryVector vector) {
-        m_vector = vector;
+    protected SetExtractor(final ListVector vector) {
+        super(vector);
     }
 
     /**
-     * Extract the list from the buffer (type specific).
+     * Extract the non-missing entries of the set from the given range of the data vector (type specific).
      *
-     * @param buffer the buffer containing the list
-     * @param numVals the number of values to read
+     * @param start the index of the first entry in the data vector (inclusive)
+     * @param end the index of the last entry in the data vector (exclusive)
+     * @param numValues the number of non-missing entries in the range
      * @param hasMissing includes a missing value yes/no
-     * @return a reference to the extracted list
-     */
-    public abstract Cell extractArray(final ByteBuffer buffer, int numVals, boolean hasMissing);
-
-    /**
-     * Returns the length of the section in the buffer occupied by values
-     *
-     * @param buffer the buffer containing the list
-     * @param numVals the number of values to read
-     * @return the length of the section in the buffer occupied by values
+     * @return the {@link Cell} representation
      */
-    protected abstract int getValuesLength(final ByteBuffer buffer, int numVals);
+    protected abstract Cell extractNonMissingValues(int start, int end, int numValues, boolean hasMissing);
 
     @Override
-    public Cell extract() {
-
-        if (m_vector.isNull(m_ctr)) {
-            m_ctr++;
-            return new CellImpl();
+    protected final Cell extractValues(final int start, final int end) {
+        final FieldVector values = getDataVector();
+        int numMissing = 0;
+        for (int i = start; i < end; i++) {
+            if (values.isNull(i)) {
+                numMissing++;
+            }
         }
-
-        ByteBuffer buffer = ByteBuffer.wrap(m_vector.getObject(m_ctr)).order(ByteOrder.LITTLE_ENDIAN);
-        m_ctr++;
-        int nVals = buffer.asIntBuffer().get();
-        buffer.position(4);
-        //template method
-        boolean hasMissing = (buffer.get(4 + getValuesLength(buffer, nVals)) == 0);
-        //template method
-        return extractArray(buffer, nVals, hasMissing);
-
+        return extractNonMissingValues(start, end, end - start - numMissing, numMissing > 0);
     }
 
 }
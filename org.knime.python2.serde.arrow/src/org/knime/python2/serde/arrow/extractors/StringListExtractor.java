@@ -48,11 +48,10 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
@@ -66,49 +65,29 @@
  */
 public class StringListExtractor extends ListExtractor {
 
-    private String[] m_objects;
-    private int[] m_offsets;
+    private final VarCharVector m_values;
 
     /**
      * Constructor.
      * @param vector the vector to extract from
      */
-    public StringListExtractor(final VarBinaryVector vector) {
-       super(vector);
+    public StringListExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (VarCharVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void fillInternalArray(final ByteBuffer buffer, final int numVals) {
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        m_offsets = new int[numVals + 1];
-        ibuffer.get(m_offsets);
-
-        buffer.position(4 + 4 * m_offsets.length);
-        m_objects = new String[numVals];
-        for(int i=0; i<numVals; i++) {
-            byte[] dst = new byte[m_offsets[i + 1] - m_offsets[i]];
-            buffer.get(dst);
-            m_objects[i] = new String(dst, StandardCharsets.UTF_8);
+    protected Cell extractValues(final int start, final int end) {
+        final String[] values = new String[end - start];
+        for (int i = start; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[i - start] = new String(m_values.get(i), StandardCharsets.UTF_8);
+            }
         }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Cell getReturnValue(final byte[] missings) {
-        return new CellImpl(m_objects, missings);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected int getValuesLength() {
-        return 4 * m_offsets.length + m_offsets[m_offsets.length - 1];
+        return new CellImpl(values, getBitEncodedMissings(start, end));
     }
 
 }
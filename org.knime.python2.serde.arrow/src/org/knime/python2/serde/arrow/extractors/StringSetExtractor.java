@@ -48,11 +48,10 @@
  */
 package org.knime.python2.serde.arrow.extractors;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 
@@ -64,46 +63,32 @@
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class StringSetExtractor extends VariableSizeSetExtractor {
+public class StringSetExtractor extends SetExtractor {
 
-    private int[] m_offsets;
+    private final VarCharVector m_values;
 
     /**
      * Constructor.
      * @param vector the vector to extract from
      */
-    public StringSetExtractor(final VarBinaryVector vector) {
-       super(vector);
+    public StringSetExtractor(final ListVector vector) {
+        super(vector);
+        m_values = (VarCharVector)getDataVector();
     }
 
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int getValuesLength(final ByteBuffer buffer, final int numVals) {
-
-        IntBuffer ibuffer = buffer.asIntBuffer();
-        m_offsets = new int[numVals + 1];
-        ibuffer.get(m_offsets);
-
-        return 4 * m_offsets.length + m_offsets[m_offsets.length - 1];
-    }
-
-
     /**
      * {@inheritDoc}
      */
     @Override
-    public Cell extractArray(final ByteBuffer buffer, final int numVals, final boolean hasMissing) {
-        buffer.position(4 + 4 * m_offsets.length);
-        String[] objs = new String[numVals];
-        for(int i=0; i<numVals; i++) {
-            byte[] dst = new byte[m_offsets[i + 1] - m_offsets[i]];
-            buffer.get(dst);
-            objs[i] = new String(dst, StandardCharsets.UTF_8);
+    protected Cell extractNonMissingValues(final int start, final int end, final int numValues,
+        final boolean hasMissing) {
+        final String[] values = new String[numValues];
+        for (int i = start, j = 0; i < end; i++) {
+            if (!m_values.isNull(i)) {
+                values[j++] = new String(m_values.get(i), StandardCharsets.UTF_8);
+            }
         }
-        return new CellImpl(objs, hasMissing);
+        return new CellImpl(values, hasMissing);
     }
 
 }
@@ -48,13 +48,10 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.vector.FieldVector;
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
-import org.knime.python2.util.BitArray;
 
 /**
  * Manages the data transfer between the python table format and the arrow table format. Works on Boolean list cells.
@@ -63,77 +60,38 @@
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class BooleanListInserter implements ArrowVectorInserter {
-
-    private final VarBinaryVector m_vec;
-
-    private int m_ctr;
-
-    private int m_byteCount;
+public class BooleanListInserter extends ListInserter {
 
-    private ByteBuffer m_buffer;
+    private final BitVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public BooleanListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-
-        m_vec = new VarBinaryVector(name, allocator);
-        m_vec.allocateNew(bytesPerCellAssumption * numRows, numRows);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.BIT.getType());
+        m_values = (BitVector)getDataVector();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public void put(final Cell cell) {
-
-        if (m_ctr >= m_vec.getValueCapacity()) {
-            m_vec.reallocValidityAndOffsetBuffers();
-        }
-        if (!cell.isMissing()) {
-            // Implicitly assumed to be missing.
-
-            BitArray bitEncoded = cell.getBitEncodedArrayValue();
-            byte[] primitives = bitEncoded.getEncodedByteArray();
-
-            int len = 4 + 2 * primitives.length;
-            m_byteCount += len;
-            while (m_byteCount > m_vec.getByteCapacity()) {
-                m_vec.reallocDataBuffer();
-            }
-
-            if (m_buffer == null || m_buffer.capacity() != len) {
-                m_buffer = ByteBuffer.allocate(len);
+    protected int putValues(final Cell cell, final int offset) {
+        final boolean[] values = cell.getBooleanArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
             } else {
-                m_buffer.position(0);
+                m_values.setSafe(offset + i, values[i] ? 1 : 0);
             }
-
-            m_buffer.putInt(bitEncoded.getSize());
-
-            m_buffer.put(primitives);
-            m_buffer.put(cell.getBitEncodedMissingListValues());
-
-            // Assumption: array content is coped to target buffer,
-            // i.e., array can be reused by us (see above).
-            m_vec.set(m_ctr, m_buffer.array());
         }
-        m_vec.setValueCount(++m_ctr);
-    }
-
-    @Override
-    public FieldVector retrieveVector() {
-        return m_vec;
+        return values.length;
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void close() {
-        m_vec.close();
-    }
 }
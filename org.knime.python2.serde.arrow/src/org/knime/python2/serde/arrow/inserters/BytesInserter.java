@@ -77,7 +77,7 @@ public BytesInserter(final String name, final BufferAllocator allocator, final i
         final int bytesPerCellAssumption) {
 
         m_vec = new VarBinaryVector(name, allocator);
-        m_vec.allocateNew(bytesPerCellAssumption * numRows, numRows);
+        m_vec.allocateNew((long)bytesPerCellAssumption * numRows, numRows);
     }
 
     @Override
@@ -90,16 +90,18 @@ public void put(final Cell cell) {
 
             byte[] bVal = cell.getBytesValue();
             m_byteCount += bVal.length;
-            while (m_byteCount > m_vec.getByteCapacity()) {
-                m_vec.reallocDataBuffer();
+            if (m_byteCount > m_vec.getByteCapacity()) {
+                // Grow to fit at once instead of doubling repeatedly.
+                m_vec.reallocDataBuffer(m_byteCount);
             }
             m_vec.set(m_ctr, bVal);
         }
-        m_vec.setValueCount(++m_ctr);
+        m_ctr++;
     }
 
     @Override
     public FieldVector retrieveVector() {
+        m_vec.setValueCount(m_ctr);
         return m_vec;
     }
 
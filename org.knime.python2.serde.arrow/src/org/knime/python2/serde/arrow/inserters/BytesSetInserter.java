@@ -48,14 +48,13 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
- * Manages the data transfer between the python table format and the arrow table format. Works on byte[] set cells.
+ * Manages the data transfer between the python table format and the arrow table format. Works on Bytes set cells.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -63,60 +62,40 @@
  */
 public class BytesSetInserter extends SetInserter {
 
-    private byte[][] m_objs;
-
-    private int[] m_offsets;
-
-    private boolean m_hasMissing;
-
-    private int m_size;
+    private final VarBinaryVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public BytesSetInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.VARBINARY.getType());
+        m_values = (VarBinaryVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_objs = cell.getBytesArrayValue();
-
-        m_offsets = new int[m_objs.length + 1];
-        m_hasMissing = cell.hasMissingInSet();
-        //Put missing value to last array position
-        for (int j = 0; j < m_objs.length; j++) {
-            m_offsets[j + 1] = m_offsets[j] + m_objs[j].length;
+    protected int putNonMissingValues(final Cell cell, final int offset) {
+        final byte[][] values = cell.getBytesArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            m_values.setSafe(offset + i, values[i]);
         }
-        m_size = m_objs.length;
-        return new int[]{m_size, (m_size + 1) * 4 + m_offsets[m_size]};
+        return values.length;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        IntBuffer intBuffer = buffer.asIntBuffer();
-        //put values
-        intBuffer.put(m_offsets, 0, m_size + 1);
-
-        buffer.position(4 + (m_size + 1) * 4);
-        for (int i = 0; i < m_size; i++) {
-            buffer.put(m_objs[i]);
-        }
-        return m_hasMissing;
-
+    protected void putMissingValue(final int index) {
+        m_values.setNull(index);
     }
 
 }
@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+
+/**
+ * Manages the data transfer between the python table format and the arrow table format. Works on String cells. The
+ * strings are replaced by their codes in a {@link StringDictionary}. If the column turns out to contain more distinct
+ * values than allowed, the inserter falls back to a plain {@link StringInserter}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class DictionaryStringInserter implements ArrowVectorInserter {
+
+    private final String m_name;
+
+    private final BufferAllocator m_allocator;
+
+    private final int m_numRows;
+
+    private final int m_bytesPerCellAssumption;
+
+    private final StringDictionary m_dictionary;
+
+    private final int m_maxDictionarySize;
+
+    private final IntVector m_vec;
+
+    private int m_ctr;
+
+    private StringInserter m_fallback;
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the managed vector
+     * @param allocator an allocator for the underlying buffer
+     * @param numRows the number of rows in the managed vector
+     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell, used in case of a fallback
+     * @param dictionary the dictionary to encode the strings with
+     * @param maxDictionarySize the number of distinct values above which the strings are not encoded anymore
+     */
+    public DictionaryStringInserter(final String name, final BufferAllocator allocator, final int numRows,
+        final int bytesPerCellAssumption, final StringDictionary dictionary, final int maxDictionarySize) {
+        m_name = name;
+        m_allocator = allocator;
+        m_numRows = numRows;
+        m_bytesPerCellAssumption = bytesPerCellAssumption;
+        m_dictionary = dictionary;
+        m_maxDictionarySize = maxDictionarySize;
+        final FieldType fieldType =
+            new FieldType(true, dictionary.getEncoding().getIndexType(), dictionary.getEncoding());
+        m_vec = new IntVector(name, fieldType, allocator);
+        m_vec.allocateNew(numRows);
+    }
+
+    @Override
+    public void put(final Cell cell) {
+        if (m_fallback != null) {
+            m_fallback.put(cell);
+            return;
+        }
+        if (m_ctr >= m_vec.getValueCapacity()) {
+            m_vec.reAlloc();
+        }
+        if (cell.isMissing()) {
+            m_vec.setNull(m_ctr);
+        } else {
+            final int code = m_dictionary.encode(cell.getStringValue());
+            if (m_dictionary.size() > m_maxDictionarySize) {
+                fallBackToPlainStrings();
+                m_fallback.put(cell);
+                return;
+            }
+            m_vec.set(m_ctr, code);
+        }
+        m_ctr++;
+    }
+
+    private void fallBackToPlainStrings() {
+        m_fallback = new StringInserter(m_name, m_allocator, m_numRows, m_bytesPerCellAssumption);
+        for (int i = 0; i < m_ctr; i++) {
+            m_fallback.putValue(m_vec.isNull(i) ? null : m_dictionary.decode(m_vec.get(i)));
+        }
+        m_vec.clear();
+    }
+
+    @Override
+    public FieldVector retrieveVector() {
+        if (m_fallback != null) {
+            return m_fallback.retrieveVector();
+        }
+        m_vec.setValueCount(m_ctr);
+        return m_vec;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        m_vec.close();
+        if (m_fallback != null) {
+            m_fallback.close();
+        }
+    }
+}
@@ -48,10 +48,9 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
@@ -63,40 +62,36 @@
  */
 public class DoubleListInserter extends ListInserter {
 
-    private double[] m_primitives;
+    private final Float8Vector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public DoubleListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.FLOAT8.getType());
+        m_values = (Float8Vector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_primitives = cell.getDoubleArrayValue();
-
-        return new int[]{m_primitives.length, 8 * m_primitives.length};
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        DoubleBuffer valBuffer = buffer.asDoubleBuffer();
-        //put values
-        valBuffer.put(m_primitives);
+    protected int putValues(final Cell cell, final int offset) {
+        final double[] values = cell.getDoubleArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
+            } else {
+                m_values.setSafe(offset + i, values[i]);
+            }
+        }
+        return values.length;
     }
 
 }
@@ -48,40 +48,49 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.FloatBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
+ * Manages the data transfer between the python table format and the arrow table format. Works on Float list cells.
+ *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public final class FloatListInserter extends ListInserter {
+public class FloatListInserter extends ListInserter {
 
-    private float[] m_primitives;
+    private final Float4Vector m_values;
 
     /**
-     * @param vectorName the name of the managed vector
-     * @param allocator allocates the underlying buffer
-     * @param numCells the number of cells inside the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * Constructor.
+     *
+     * @param name the name of the managed vector
+     * @param allocator an allocator for the underlying buffers
+     * @param numRows the number of rows in the managed vector
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
-    public FloatListInserter(final String vectorName, final BufferAllocator allocator, final int numCells,
-        final int bytesPerCellAssumption) {
-        super(vectorName, allocator, numCells, bytesPerCellAssumption);
+    public FloatListInserter(final String name, final BufferAllocator allocator, final int numRows,
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.FLOAT4.getType());
+        m_values = (Float4Vector)getDataVector();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_primitives = cell.getFloatArrayValue();
-        return new int[]{m_primitives.length, 4 * m_primitives.length};
+    protected int putValues(final Cell cell, final int offset) {
+        final float[] values = cell.getFloatArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
+            } else {
+                m_values.setSafe(offset + i, values[i]);
+            }
+        }
+        return values.length;
     }
 
-    @Override
-    protected void putCollection(final ByteBuffer buffer, final Cell cell) {
-        final FloatBuffer floatBuffer = buffer.asFloatBuffer();
-        floatBuffer.put(m_primitives);
-    }
 }
@@ -48,10 +48,9 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
@@ -63,40 +62,36 @@
  */
 public class IntListInserter extends ListInserter {
 
-    private int[] m_ints;
+    private final IntVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public IntListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.INT.getType());
+        m_values = (IntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_ints = cell.getIntegerArrayValue();
-        return new int[]{m_ints.length, 4 * m_ints.length};
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        IntBuffer intBuffer = buffer.asIntBuffer();
-        //put values
-        intBuffer.put(m_ints);
-
+    protected int putValues(final Cell cell, final int offset) {
+        final int[] values = cell.getIntegerArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
+            } else {
+                m_values.setSafe(offset + i, values[i]);
+            }
+        }
+        return values.length;
     }
 
 }
@@ -48,10 +48,9 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
@@ -63,49 +62,40 @@
  */
 public class IntSetInserter extends SetInserter {
 
-    private int[] m_ints;
-
-    private boolean m_hasMissing;
-
-    private int m_size;
+    private final IntVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public IntSetInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.INT.getType());
+        m_values = (IntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int[] fillInternalArrayAndGetSize(final Cell cell) {
-
-        m_ints = cell.getIntegerArrayValue();
-        m_hasMissing = cell.hasMissingInSet();
-        m_size = m_ints.length;
-        return new int[]{m_size, m_size * 4};
+    protected int putNonMissingValues(final Cell cell, final int offset) {
+        final int[] values = cell.getIntegerArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            m_values.setSafe(offset + i, values[i]);
+        }
+        return values.length;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        IntBuffer intBuffer = buffer.asIntBuffer();
-        //put values
-        intBuffer.put(m_ints, 0, m_size);
-
-        return m_hasMissing;
-
+    protected void putMissingValue(final int index) {
+        m_values.setNull(index);
     }
 
 }
@@ -48,15 +48,17 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.FieldVector;
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.FieldType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
- * Base class for ListTypes that are transferred between the python table format and the arrow table format.
+ * Base class for ListTypes that are transferred between the python table format and the arrow table format. The
+ * collections are stored in a native arrow {@link ListVector}, i.e. the entries of all cells are stored consecutively
+ * in a single typed data vector. Missing entries are marked via the validity buffer of the data vector.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -64,84 +66,57 @@
  */
 public abstract class ListInserter implements ArrowVectorInserter {
 
-    private final VarBinaryVector m_vec;
+    private final ListVector m_vec;
 
     private int m_ctr;
 
-    private int m_byteCount;
-
-    private ByteBuffer m_buffer;
-
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
+     * @param valueType the arrow type of the entries
      */
     protected ListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-
-        m_vec = new VarBinaryVector(name, allocator);
-        m_vec.allocateNew(bytesPerCellAssumption * numRows, numRows);
+        final int valuesPerCellAssumption, final ArrowType valueType) {
+        m_vec = ListVector.empty(name, allocator);
+        m_vec.addOrGetVector(FieldType.nullable(valueType));
+        m_vec.setInitialCapacity(numRows, valuesPerCellAssumption);
+        m_vec.allocateNew();
     }
 
     /**
-     * Extract the cell as primitive array and return the length.
-     *
-     * @param cell the cell to process
-     * @return int[2]: [0] the number of values, [1] the length of the value array
+     * @return the data vector holding the entries of all collections
      */
-    protected abstract int[] fillInternalArrayAndGetSize(Cell cell);
+    protected FieldVector getDataVector() {
+        return m_vec.getDataVector();
+    }
 
     /**
-     * Put the collection into the {@link ByteBuffer}.
+     * Put the entries of the collection into the data vector.
      *
-     * @param buffer the internal {@link ByteBuffer}
      * @param cell the cell to process
+     * @param offset the index in the data vector at which the first entry is put
+     * @return the number of entries that were put
      */
-    protected abstract void putCollection(ByteBuffer buffer, Cell cell);
+    protected abstract int putValues(Cell cell, int offset);
 
     @Override
     public void put(final Cell cell) {
-
-        if (m_ctr >= m_vec.getValueCapacity()) {
-            m_vec.reallocValidityAndOffsetBuffers();
-        }
-        if (!cell.isMissing()) {
-            // Implicitly assumed to be missing.
-
-            int[] numAndLen = fillInternalArrayAndGetSize(cell);
-
-            int len = 4 + numAndLen[1] + numAndLen[0] / 8 + (numAndLen[0] % 8 == 0 ? 0 : 1);
-            m_byteCount += len;
-            while (m_byteCount > m_vec.getByteCapacity()) {
-                m_vec.reallocDataBuffer();
-            }
-
-            if (m_buffer == null || m_buffer.capacity() != len) {
-                m_buffer = ByteBuffer.allocate(len);
-            } else {
-                m_buffer.position(0);
-            }
-
-            m_buffer.putInt(numAndLen[0]);
-
-            putCollection(m_buffer, cell);
-            //entries + length (int32)
-            m_buffer.position(numAndLen[1] + 4);
-            m_buffer.put(cell.getBitEncodedMissingListValues());
-
-            // Assumption: array content is coped to target buffer,
-            // i.e., array can be reused by us (see above).
-            m_vec.set(m_ctr, m_buffer.array());
+        if (cell.isMissing()) {
+            m_vec.setNull(m_ctr);
+        } else {
+            final int offset = m_vec.startNewValue(m_ctr);
+            m_vec.endValue(m_ctr, putValues(cell, offset));
         }
-        m_vec.setValueCount(++m_ctr);
+        m_ctr++;
     }
 
     @Override
     public FieldVector retrieveVector() {
+        m_vec.setValueCount(m_ctr);
         return m_vec;
     }
 
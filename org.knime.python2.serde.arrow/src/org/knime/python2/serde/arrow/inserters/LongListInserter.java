@@ -48,10 +48,9 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.LongBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
@@ -63,39 +62,36 @@
  */
 public class LongListInserter extends ListInserter {
 
-    private long[] m_primitives;
+    private final BigIntVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public LongListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_primitives = cell.getLongArrayValue();
-        return new int[]{m_primitives.length, 8 * m_primitives.length};
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.BIGINT.getType());
+        m_values = (BigIntVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        LongBuffer valBuffer = buffer.asLongBuffer();
-        //put values
-        valBuffer.put(m_primitives);
+    protected int putValues(final Cell cell, final int offset) {
+        final long[] values = cell.getLongArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
+            } else {
+                m_values.setSafe(offset + i, values[i]);
+            }
+        }
+        return values.length;
     }
 
 }
@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+
+/**
+ * Manages the data transfer of the row keys from the python table format to the arrow table format. As long as the
+ * row keys follow the default pattern "Row&lt;start&gt;", "Row&lt;start + 1&gt;", ..., they are only counted. The
+ * resulting vector then only contains the first row key followed by missing values, which allows python to represent
+ * the row keys as a RangeIndex. All row keys are written as usual as soon as one of them deviates from the pattern.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class RowKeyInserter implements ArrowVectorInserter {
+
+    /**
+     * The prefix of default row keys.
+     */
+    public static final String DEFAULT_ROW_KEY_PREFIX = "Row";
+
+    private static final int MAX_ROW_NUMBER_DIGITS = 18;
+
+    private final String m_name;
+
+    private final BufferAllocator m_allocator;
+
+    private final int m_numRows;
+
+    private final int m_bytesPerCellAssumption;
+
+    private long m_start = -1;
+
+    private int m_ctr;
+
+    private StringInserter m_inserter;
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the managed vector
+     * @param allocator an allocator for the underlying buffer
+     * @param numRows the number of rows in the managed vector
+     * @param bytesPerCellAssumption an initial assumption of the number of bytes per row key
+     */
+    public RowKeyInserter(final String name, final BufferAllocator allocator, final int numRows,
+        final int bytesPerCellAssumption) {
+        m_name = name;
+        m_allocator = allocator;
+        m_numRows = numRows;
+        m_bytesPerCellAssumption = bytesPerCellAssumption;
+    }
+
+    @Override
+    public void put(final Cell cell) {
+        if (m_inserter == null) {
+            if (!cell.isMissing()) {
+                final String key = cell.getStringValue();
+                if (m_ctr == 0) {
+                    m_start = parseDefaultRowNumber(key);
+                }
+                if (m_start >= 0 && isDefaultRowKey(key, m_start + m_ctr)) {
+                    m_ctr++;
+                    return;
+                }
+            }
+            // Row keys deviate from the default pattern, write all of them.
+            m_inserter = new StringInserter(m_name, m_allocator, m_numRows, m_bytesPerCellAssumption);
+            for (int i = 0; i < m_ctr; i++) {
+                m_inserter.putValue(DEFAULT_ROW_KEY_PREFIX + (m_start + i));
+            }
+        }
+        m_inserter.put(cell);
+    }
+
+    @Override
+    public FieldVector retrieveVector() {
+        if (m_inserter == null) {
+            m_inserter = new StringInserter(m_name, m_allocator, m_ctr, 1);
+            if (m_ctr > 0) {
+                m_inserter.putValue(DEFAULT_ROW_KEY_PREFIX + m_start);
+                for (int i = 1; i < m_ctr; i++) {
+                    m_inserter.putValue(null);
+                }
+            }
+        }
+        return m_inserter.retrieveVector();
+    }
+
+    @Override
+    public void close() {
+        if (m_inserter != null) {
+            m_inserter.close();
+        }
+    }
+
+    /**
+     * @return the row number of the given default row key, -1 if the key is not a default row key
+     */
+    public static long parseDefaultRowNumber(final String key) {
+        final int prefixLength = DEFAULT_ROW_KEY_PREFIX.length();
+        final int numDigits = key.length() - prefixLength;
+        if (!key.startsWith(DEFAULT_ROW_KEY_PREFIX) || numDigits < 1 || numDigits > MAX_ROW_NUMBER_DIGITS
+            || (numDigits > 1 && key.charAt(prefixLength) == '0')) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = prefixLength; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Checks whether the given key equals "Row&lt;number&gt;" without creating the latter.
+     */
+    private static boolean isDefaultRowKey(final String key, final long number) {
+        if (!key.startsWith(DEFAULT_ROW_KEY_PREFIX)) {
+            return false;
+        }
+        int i = key.length();
+        long remainder = number;
+        do {
+            i--;
+            if (i < DEFAULT_ROW_KEY_PREFIX.length() || key.charAt(i) != (char)('0' + remainder % 10)) {
+                return false;
+            }
+            remainder /= 10;
+        } while (remainder != 0);
+        return i == DEFAULT_ROW_KEY_PREFIX.length();
+    }
+
+}
@@ -48,113 +48,57 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.vector.FieldVector;
-import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
- * Base class for Set types that are transferred between the python table format and the arrow table format.
+ * Base class for Set types that are transferred between the python table format and the arrow table format. Sets are
+ * transferred as lists. If a set contains a missing value, a single missing entry is appended to its entries.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public abstract class SetInserter implements ArrowVectorInserter {
-
-    private final VarBinaryVector m_vec;
-
-    private int m_ctr;
-
-    private int m_byteCount;
-
-    private ByteBuffer m_buffer;
+public abstract class SetInserter extends ListInserter {
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
+     * @param valueType the arrow type of the entries
      */
     protected SetInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-
-        m_vec = new VarBinaryVector(name, allocator);
-        m_vec.allocateNew(bytesPerCellAssumption * numRows, numRows);
+        final int valuesPerCellAssumption, final ArrowType valueType) {
+        super(name, allocator, numRows, valuesPerCellAssumption, valueType);
     }
 
     /**
-     * Extract the cell as primitive array and return the length. IMPORTANT: must set m_hasMissing.
+     * Put the non-missing entries of the set into the data vector.
      *
      * @param cell the cell to process
-     * @return int[2]: [0] the number of values, [1] the length of the value array
+     * @param offset the index in the data vector at which the first entry is put
+     * @return the number of entries that were put
      */
-    public abstract int[] fillInternalArrayAndGetSize(Cell cell);
+    protected abstract int putNonMissingValues(Cell cell, int offset);
 
     /**
-     * Put the collection into the {@link ByteBuffer}.
+     * Mark the entry at the given index of the data vector as missing.
      *
-     * @param buffer the internal {@link ByteBuffer}
-     * @param cell the cell to process
-     * @return has a missing value yes / no
+     * @param index the index in the data vector
      */
-    public abstract boolean putCollection(ByteBuffer buffer, Cell cell);
+    protected abstract void putMissingValue(int index);
 
     @Override
-    public void put(final Cell cell) {
-
-        if (m_ctr >= m_vec.getValueCapacity()) {
-            m_vec.reallocValidityAndOffsetBuffers();
+    protected final int putValues(final Cell cell, final int offset) {
+        int numValues = putNonMissingValues(cell, offset);
+        if (cell.hasMissingInSet()) {
+            putMissingValue(offset + numValues);
+            numValues++;
         }
-        if (!cell.isMissing()) {
-            // Implicitly assumed to be missing.
-
-            int[] numAndLen = fillInternalArrayAndGetSize(cell);
-
-            int len = 4 + numAndLen[1] + 1;
-            m_byteCount += len;
-            while (m_byteCount > m_vec.getByteCapacity()) {
-                m_vec.reallocDataBuffer();
-            }
-
-            if (m_buffer == null || m_buffer.capacity() != len) {
-                m_buffer = ByteBuffer.allocate(len);
-            } else {
-                m_buffer.position(0);
-            }
-
-            m_buffer.putInt(numAndLen[0]);
-
-            boolean hasMissing = putCollection(m_buffer, cell);
-            //entries + length (int32)
-            m_buffer.position(numAndLen[1] + 4);
-            if (hasMissing) {
-                m_buffer.put((byte)0);
-            } else {
-                m_buffer.put((byte)1);
-            }
-
-            // Assumption: array content is coped to target buffer,
-            // i.e., array can be reused by us (see above).
-            m_vec.set(m_ctr, m_buffer.array());
-        }
-        m_vec.setValueCount(++m_ctr);
-    }
-
-    @Override
-    public FieldVector retrieveVector() {
-        return m_vec;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void close() {
-        m_vec.close();
+        return numValues;
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+
+/**
+ * The distinct values of a dictionary-encoded string column. The dictionary may be shared by the inserters of several
+ * consecutive chunks of the same column, in which case it accumulates the values of all of them.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class StringDictionary implements AutoCloseable {
+
+    private final DictionaryEncoding m_encoding;
+
+    private final VarCharVector m_values;
+
+    private final Map<String, Integer> m_codes = new HashMap<>();
+
+    private final Dictionary m_dictionary;
+
+    /**
+     * Constructor.
+     *
+     * @param id the id of the dictionary, unique among the dictionaries of a table
+     * @param allocator an allocator for the buffers holding the distinct values
+     */
+    public StringDictionary(final long id, final BufferAllocator allocator) {
+        m_encoding = new DictionaryEncoding(id, false, new ArrowType.Int(32, true));
+        m_values = new VarCharVector("dictionary-" + id, allocator);
+        m_values.allocateNew();
+        m_dictionary = new Dictionary(m_values, m_encoding);
+    }
+
+    /**
+     * @param value the value to encode
+     * @return the code of the given value, the value is added to the dictionary if it is not contained yet
+     */
+    public int encode(final String value) {
+        Integer code = m_codes.get(value);
+        if (code == null) {
+            code = m_codes.size();
+            m_codes.put(value, code);
+            m_values.setSafe(code, value.getBytes(StandardCharsets.UTF_8));
+            m_values.setValueCount(code + 1);
+        }
+        return code;
+    }
+
+    /**
+     * @param code a code returned by {@link #encode(String)}
+     * @return the value of the given code
+     */
+    public String decode(final int code) {
+        return m_values.getObject(code).toString();
+    }
+
+    /**
+     * @return the number of distinct values
+     */
+    public int size() {
+        return m_codes.size();
+    }
+
+    /**
+     * @return the encoding to attach to the fields of vectors that hold the codes of this dictionary
+     */
+    public DictionaryEncoding getEncoding() {
+        return m_encoding;
+    }
+
+    /**
+     * @return the dictionary in the form expected by arrow writers
+     */
+    public Dictionary getDictionary() {
+        return m_dictionary;
+    }
+
+    @Override
+    public void close() {
+        m_values.close();
+    }
+}
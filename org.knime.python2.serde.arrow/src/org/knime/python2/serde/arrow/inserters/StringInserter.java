@@ -45,15 +45,22 @@
 
 package org.knime.python2.serde.arrow.inserters;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVectorHelper;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
- * Manages the data transfer between the python table format and the arrow table format. Works on String cells.
+ * Manages the data transfer between the python table format and the arrow table format. Works on String cells. The
+ * strings are encoded to UTF-8 directly into the data buffer of the vector, without intermediate byte arrays.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -63,6 +70,9 @@ public class StringInserter implements ArrowVectorInserter {
 
     private final VarCharVector m_vec;
 
+    private final CharsetEncoder m_encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
     private int m_ctr;
 
     private int m_byteCount;
@@ -79,28 +89,66 @@ public StringInserter(final String name, final BufferAllocator allocator, final
         final int bytesPerCellAssumption) {
 
         m_vec = new VarCharVector(name, allocator);
-        m_vec.allocateNew(bytesPerCellAssumption * numRows, numRows);
+        m_vec.allocateNew((long)bytesPerCellAssumption * numRows, numRows);
     }
 
     @Override
     public void put(final Cell cell) {
+        putValue(cell.isMissing() ? null : cell.getStringValue());
+    }
+
+    /**
+     * Put the given value into the vector.
+     *
+     * @param value the value, {@code null} if missing
+     */
+    void putValue(final String value) {
         if (m_ctr >= m_vec.getValueCapacity()) {
             m_vec.reallocValidityAndOffsetBuffers();
         }
-        if (!cell.isMissing()) {
+        if (value != null) {
             // Implicitly assumed to be missing.
-            byte[] bVal = cell.getStringValue().getBytes(StandardCharsets.UTF_8);
-            m_byteCount += bVal.length;
-            while (m_byteCount > m_vec.getByteCapacity()) {
-                m_vec.reallocDataBuffer();
+            final int maxLength = maxEncodedLength(value);
+            if (m_byteCount + maxLength > m_vec.getByteCapacity()) {
+                m_vec.reallocDataBuffer((long)m_byteCount + maxLength);
+            }
+            final ByteBuffer target = m_vec.getDataBuffer().nioBuffer(m_byteCount, maxLength);
+            m_encoder.reset();
+            m_encoder.encode(CharBuffer.wrap(value), target, true);
+            m_encoder.flush(target);
+            m_byteCount += target.position();
+            BitVectorHelper.setBit(m_vec.getValidityBuffer(), m_ctr);
+        }
+        m_vec.getOffsetBuffer().setInt((long)(m_ctr + 1) * BaseVariableWidthVector.OFFSET_WIDTH, m_byteCount);
+        m_vec.setLastSet(m_ctr);
+        m_ctr++;
+    }
+
+    /**
+     * @return an upper bound of the number of bytes of the UTF-8 encoding of the given string, exact unless the string
+     *         contains unpaired surrogates
+     */
+    private static int maxEncodedLength(final String value) {
+        final int numChars = value.length();
+        int length = numChars;
+        for (int i = 0; i < numChars; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x800) {
+                // Three bytes per char, except for surrogate pairs which take four bytes for both chars together.
+                length += 2;
+                if (Character.isHighSurrogate(c) && i + 1 < numChars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (c >= 0x80) {
+                length += 1;
             }
-            m_vec.set(m_ctr, bVal);
         }
-        m_vec.setValueCount(++m_ctr);
+        return length;
     }
 
     @Override
     public FieldVector retrieveVector() {
+        m_vec.setValueCount(m_ctr);
         return m_vec;
     }
 
@@ -48,15 +48,15 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
- * Manages the data transfer between the python table format and the arrow table format. Works on Strint list cells.
+ * Manages the data transfer between the python table format and the arrow table format. Works on String list cells.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -64,60 +64,36 @@
  */
 public class StringListInserter extends ListInserter {
 
-    private String[] m_objs;
-
-    private int[] m_offsets;
+    private final VarCharVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public StringListInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.VARCHAR.getType());
+        m_values = (VarCharVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_objs = cell.getStringArrayValue();
-
-        m_offsets = new int[m_objs.length + 1];
-
-        for (int j = 0; j < m_objs.length; j++) {
-            if (m_objs[j] == null) {
-                m_offsets[j + 1] = m_offsets[j];
+    protected int putValues(final Cell cell, final int offset) {
+        final String[] values = cell.getStringArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            if (cell.isMissing(i)) {
+                m_values.setNull(offset + i);
             } else {
-                m_offsets[j + 1] = m_offsets[j] + m_objs[j].length();
-            }
-        }
-
-        //total length = length of variable size block + length of offset vector
-        return new int[]{m_objs.length, m_offsets[m_objs.length] + 4 * m_offsets.length};
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        IntBuffer intBuffer = buffer.asIntBuffer();
-        //put values
-        intBuffer.put(m_offsets);
-
-        buffer.position(4 + m_offsets.length * 4);
-        for (String obj : m_objs) {
-            if (obj != null) {
-                buffer.put(obj.getBytes(StandardCharsets.UTF_8));
+                m_values.setSafe(offset + i, values[i].getBytes(StandardCharsets.UTF_8));
             }
         }
+        return values.length;
     }
 
 }
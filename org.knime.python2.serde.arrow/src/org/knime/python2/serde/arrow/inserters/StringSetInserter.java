@@ -48,11 +48,11 @@
  */
 package org.knime.python2.serde.arrow.inserters;
 
-import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.types.Types.MinorType;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
 /**
@@ -64,60 +64,40 @@
  */
 public class StringSetInserter extends SetInserter {
 
-    private String[] m_objs;
-
-    private int[] m_offsets;
-
-    private boolean m_hasMissing;
-
-    private int m_size;
+    private final VarCharVector m_values;
 
     /**
      * Constructor.
      *
      * @param name the name of the managed vector
-     * @param allocator an allocator for the underlying buffer
+     * @param allocator an allocator for the underlying buffers
      * @param numRows the number of rows in the managed vector
-     * @param bytesPerCellAssumption an initial assumption of the number of bytes per cell
+     * @param valuesPerCellAssumption an initial assumption of the number of entries per cell
      */
     public StringSetInserter(final String name, final BufferAllocator allocator, final int numRows,
-        final int bytesPerCellAssumption) {
-        super(name, allocator, numRows, bytesPerCellAssumption);
+        final int valuesPerCellAssumption) {
+        super(name, allocator, numRows, valuesPerCellAssumption, MinorType.VARCHAR.getType());
+        m_values = (VarCharVector)getDataVector();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int[] fillInternalArrayAndGetSize(final Cell cell) {
-        m_objs = cell.getStringArrayValue();
-
-        m_offsets = new int[m_objs.length + 1];
-        m_hasMissing = cell.hasMissingInSet();
-        //Put missing value to last array position
-        for (int j = 0; j < m_objs.length; j++) {
-            m_offsets[j + 1] = m_offsets[j] + m_objs[j].length();
+    protected int putNonMissingValues(final Cell cell, final int offset) {
+        final String[] values = cell.getStringArrayValue();
+        for (int i = 0; i < values.length; i++) {
+            m_values.setSafe(offset + i, values[i].getBytes(StandardCharsets.UTF_8));
         }
-        m_size = m_objs.length;
-        return new int[]{m_size, (m_size + 1) * 4 + m_offsets[m_size]};
+        return values.length;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean putCollection(final ByteBuffer buffer, final Cell cell) {
-
-        IntBuffer intBuffer = buffer.asIntBuffer();
-        //put values
-        intBuffer.put(m_offsets, 0, m_size + 1);
-
-        buffer.position(4 + (m_size + 1) * 4);
-        for (int i = 0; i < m_size; i++) {
-            buffer.put(m_objs[i].getBytes(StandardCharsets.UTF_8));
-        }
-        return m_hasMissing;
-
+    protected void putMissingValue(final int index) {
+        m_values.setNull(index);
     }
 
 }
@@ -0,0 +1,233 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.arrow.inserters;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DurationVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+
+/**
+ * Manages the data transfer between the python table format and the arrow table format. Works on byte[] cells that
+ * hold the serialized values of the built-in temporal type extensions. The values are written to the corresponding
+ * arrow temporal vector instead of being transferred as bytes, which allows python to convert the whole column at once
+ * instead of invoking the type extension's deserializer on every single value.
+ * <P>
+ * Times, date-times and durations are written with microsecond precision, i.e. values are rounded down to the
+ * previous microsecond. Python's time, datetime and timedelta objects, which the values end up as, cannot hold more
+ * precise values either.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public abstract class TemporalInserter implements ArrowVectorInserter {
+
+    private static final String LOCAL_DATE_ID = "org.knime.localdate";
+
+    private static final String LOCAL_TIME_ID = "org.knime.localtime";
+
+    private static final String LOCAL_DATE_TIME_ID = "org.knime.datetime2";
+
+    private static final String LEGACY_DATE_TIME_ID = "org.knime.datetime";
+
+    private static final String DURATION_ID = "org.knime.duration";
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final int NANOS_PER_MICRO = 1000;
+
+    private final BaseFixedWidthVector m_vec;
+
+    private int m_ctr;
+
+    private TemporalInserter(final BaseFixedWidthVector vec, final int numRows) {
+        m_vec = vec;
+        m_vec.allocateNew(numRows);
+    }
+
+    /**
+     * @param serializerId the id of the type extension whose serialized values are to be inserted
+     * @return true if {@link #create(String, String, BufferAllocator, int)} supports the given type extension
+     */
+    public static boolean isSupported(final String serializerId) {
+        return LOCAL_DATE_ID.equals(serializerId) || LOCAL_TIME_ID.equals(serializerId)
+            || LOCAL_DATE_TIME_ID.equals(serializerId) || LEGACY_DATE_TIME_ID.equals(serializerId)
+            || DURATION_ID.equals(serializerId);
+    }
+
+    /**
+     * Creates an inserter for the serialized values of the given type extension.
+     *
+     * @param serializerId the id of the type extension whose serialized values are to be inserted, must be
+     *            {@link #isSupported(String) supported}
+     * @param name the name of the managed vector
+     * @param allocator an allocator for the underlying buffer
+     * @param numRows the number of rows in the managed vector
+     * @return the inserter
+     */
+    public static TemporalInserter create(final String serializerId, final String name,
+        final BufferAllocator allocator, final int numRows) {
+        switch (serializerId) {
+            case LOCAL_DATE_ID:
+                return new TemporalInserter(new DateDayVector(name, allocator), numRows) {
+
+                    @Override
+                    void set(final int index, final byte[] value) {
+                        // Epoch day.
+                        ((DateDayVector)getVector()).set(index, Math.toIntExact(readLong(value, 0)));
+                    }
+                };
+            case LOCAL_TIME_ID:
+                return new TemporalInserter(new TimeMicroVector(name, allocator), numRows) {
+
+                    @Override
+                    void set(final int index, final byte[] value) {
+                        // Nano of day.
+                        ((TimeMicroVector)getVector()).set(index, readLong(value, 0) / NANOS_PER_MICRO);
+                    }
+                };
+            case LOCAL_DATE_TIME_ID:
+            case LEGACY_DATE_TIME_ID:
+                return new TemporalInserter(new TimeStampMicroVector(name, allocator), numRows) {
+
+                    @Override
+                    void set(final int index, final byte[] value) {
+                        ((TimeStampMicroVector)getVector()).set(index, readMicros(value));
+                    }
+                };
+            case DURATION_ID:
+                final FieldType durationType = FieldType.nullable(new ArrowType.Duration(TimeUnit.MICROSECOND));
+                return new TemporalInserter(new DurationVector(name, durationType, allocator), numRows) {
+
+                    @Override
+                    void set(final int index, final byte[] value) {
+                        ((DurationVector)getVector()).set(index, readMicros(value));
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unsupported temporal type extension: " + serializerId);
+        }
+    }
+
+    /**
+     * Writes the given serialized value to the given index of the vector.
+     *
+     * @throws ArithmeticException if the value cannot be represented by the vector
+     */
+    abstract void set(int index, byte[] value);
+
+    BaseFixedWidthVector getVector() {
+        return m_vec;
+    }
+
+    @Override
+    public void put(final Cell cell) {
+        if (!cell.isMissing()) {
+            // Missing is implicitly assumed.
+            try {
+                set(m_ctr, cell.getBytesValue());
+            } catch (final ArithmeticException ex) {
+                throw new IllegalArgumentException("The value in row " + m_ctr + " of column '" + m_vec.getName()
+                    + "' is outside the range of values supported by the Arrow serialization library. "
+                    + "Please select a different serialization library in the Python preferences.", ex);
+            }
+        }
+        m_ctr++;
+    }
+
+    @Override
+    public FieldVector retrieveVector() {
+        m_vec.setValueCount(m_ctr);
+        return m_vec;
+    }
+
+    @Override
+    public void close() {
+        m_vec.close();
+    }
+
+    /**
+     * @return the microseconds of a value encoded as seconds (eight bytes) followed by the nanoseconds of the second
+     *         (four bytes), the encoding of date-times and durations
+     */
+    static long readMicros(final byte[] value) {
+        final long seconds = readLong(value, 0);
+        final int nanos = readInt(value, Long.BYTES);
+        return Math.addExact(Math.multiplyExact(seconds, MICROS_PER_SECOND), nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * @return the little-endian long at the given offset
+     */
+    static long readLong(final byte[] value, final int offset) {
+        long result = 0;
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            result = (result << 8) | (value[offset + i] & 0xFF);
+        }
+        return result;
+    }
+
+    /**
+     * @return the little-endian int at the given offset
+     */
+    static int readInt(final byte[] value, final int offset) {
+        int result = 0;
+        for (int i = Integer.BYTES - 1; i >= 0; i--) {
+            result = (result << 8) | (value[offset + i] & 0xFF);
+        }
+        return result;
+    }
+
+}
@@ -46,13 +46,33 @@
  */
 package org.knime.python2.serde.csv;
 
+import static org.knime.python2.serde.SerializationTestUtil.DEFAULT_SERIALIZATION_OPTIONS;
+import static org.knime.python2.serde.SerializationTestUtil.assertRowsEqual;
+import static org.knime.python2.serde.SerializationTestUtil.assertTableSpecEquals;
+import static org.knime.python2.serde.SerializationTestUtil.createMissingsVector;
+import static org.knime.python2.serde.SerializationTestUtil.populateMissingsVectorIndex;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
 
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.knime.python2.extensions.serializationlibrary.SerializationException;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
+import org.knime.python2.kernel.PythonCancelable;
 import org.knime.python2.serde.SerializationLibraryTester;
+import org.knime.python2.serde.SerializationTestUtil.RowListCreator;
 import org.knime.python2.testing.PreferencesSetup;
 
 /**
@@ -77,6 +97,24 @@ public CSVSerializationTest() {
 		m_tester = new SerializationLibraryTester(CsvSerializationFactory.class);
 	}
 
+	/**
+	 * @see SerializationLibraryTester#testBooleanOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBooleanOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testBooleanOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testBooleanOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBooleanOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBooleanOnlineSerializationDeserializationIdentity();
+	}
+
 	/**
 	 * @see SerializationLibraryTester#testIntOfflineSerializationDeserializationIdentity()
 	 */
@@ -94,4 +132,154 @@ public void testIntOfflineSerializationDeserializationIdentity() throws Serializ
 	public void testIntOnlineSerializationDeserializationIdentity() throws IOException {
 		m_tester.testIntOnlineSerializationDeserializationIdentity();
 	}
+
+	/**
+	 * @see SerializationLibraryTester#testLongOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testLongOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testLongOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testLongOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testLongOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testLongOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testStringOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testStringOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testStringOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testStringOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testStringOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testStringOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testDoubleOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testDoubleOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testDoubleOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testDoubleOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testDoubleOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testDoubleOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testFloatOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testFloatOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testFloatOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testBytesOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBytesOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testBytesOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testBytesOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBytesOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBytesOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testCollectionOfflineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testCollectionOfflineSerializationDeserializationIdentity() throws SerializationException {
+		m_tester.testCollectionOfflineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testCollectionOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testCollectionOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testCollectionOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * Tests reading BYTES values that are base64 encoded in the CSV file itself instead of being stored in a binary
+	 * sidecar file, which is how older versions of the Python side wrote them.
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBytesWithoutSidecarDeserialization() throws Exception {
+		final Type[] types = new Type[] { Type.BYTES, Type.BYTES_LIST, Type.BYTES_SET };
+		final String[] names = new String[] { "bytes", "bytes_list", "bytes_set" };
+		final TableSpec spec = new TableSpecImpl(types, names, new HashMap<>());
+		final Path file = Files.createTempFile("python-to-java-", ".csv");
+		Files.write(file, Arrays.asList( //
+				"#," + Type.BYTES.getId() + "," + Type.BYTES_LIST.getId() + "," + Type.BYTES_SET.getId(), //
+				"#", //
+				",bytes,bytes_list,bytes_set", //
+				"Row0,AAEC,\"[b'AAEC', None, b'']\",{b'/w=='}", //
+				"Row1,MissingCell,[],{None}", //
+				"Row2,b'/w==',[None],set()"), StandardCharsets.UTF_8);
+		final byte[] bytes = file.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8);
+
+		final byte[] listMissings = createMissingsVector(3);
+		populateMissingsVectorIndex(listMissings, 0);
+		populateMissingsVectorIndex(listMissings, 2);
+		final Row[] expectedRows = new Row[] { //
+				createRow("Row0", new CellImpl(new byte[] { 0, 1, 2 }),
+						new CellImpl(new byte[][] { { 0, 1, 2 }, null, {} }, listMissings),
+						new CellImpl(new byte[][] { { (byte) 0xFF } }, false)),
+				createRow("Row1", new CellImpl(), new CellImpl(new byte[0][], createMissingsVector(0)),
+						new CellImpl(new byte[0][], true)),
+				createRow("Row2", new CellImpl(new byte[] { (byte) 0xFF }),
+						new CellImpl(new byte[][] { null }, createMissingsVector(1)),
+						new CellImpl(new byte[0][], false)) };
+
+		try (final CsvSerializationLibrary library = new CsvSerializationLibrary()) {
+			assertTableSpecEquals(spec, library.tableSpecFromBytes(bytes, PythonCancelable.NOT_CANCELABLE));
+			final RowListCreator creator = new RowListCreator(spec);
+			library.bytesIntoTable(creator, bytes, DEFAULT_SERIALIZATION_OPTIONS, PythonCancelable.NOT_CANCELABLE);
+			assertRowsEqual(Arrays.asList(expectedRows), creator.getTable());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static Row createRow(final String rowKey, final Cell... cells) {
+		final Row row = new RowImpl(rowKey, cells.length);
+		for (int i = 0; i < cells.length; i++) {
+			row.setCell(cells[i], i);
+		}
+		return row;
+	}
 }
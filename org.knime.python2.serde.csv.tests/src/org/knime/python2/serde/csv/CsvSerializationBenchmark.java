@@ -0,0 +1,241 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.csv;
+
+import static org.knime.python2.serde.SerializationTestUtil.DEFAULT_SERIALIZATION_OPTIONS;
+import static org.knime.python2.serde.SerializationTestUtil.assertRowsEqual;
+import static org.knime.python2.serde.SerializationTestUtil.createMissingsVector;
+import static org.knime.python2.serde.SerializationTestUtil.populateMissingsVectorIndex;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.SerializationLibrary;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
+import org.knime.python2.kernel.PythonCancelable;
+import org.knime.python2.serde.SerializationTestUtil.RowListCreator;
+import org.knime.python2.serde.SerializationTestUtil.RowListIterator;
+
+/**
+ * Compares the time {@link CsvSerializationLibrary} and its predecessor, {@link LegacyCsvSerializationLibrary}, take to
+ * write and read a table of mixed columns. Both results are checked against the written table.
+ * <P>
+ * This is a benchmark, not a test: its name keeps it out of the regular test runs. Run it manually, e.g. from the IDE,
+ * and compare the printed median times.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class CsvSerializationBenchmark {
+
+	private static final int NUM_ROWS = 200_000;
+
+	/**
+	 * Restricted to what the legacy library can read back, i.e. no empty collections and no strings in collections.
+	 */
+	private static final Type[] COLUMN_TYPES = new Type[] { Type.INTEGER, Type.LONG, Type.DOUBLE, Type.DOUBLE,
+		Type.BOOLEAN, Type.STRING, Type.STRING, Type.INTEGER_LIST, Type.LONG_LIST, Type.DOUBLE_LIST };
+
+	private static final int NUM_COLLECTION_ELEMENTS = 5;
+
+	private static final int MAX_STRING_LENGTH = 24;
+
+	private static final String STRING_CHARACTERS =
+		"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+
+	private static final float MISSING_RATIO = 0.05f;
+
+	private static final int NUM_WARMUP_ITERATIONS = 3;
+
+	private static final int NUM_MEASURED_ITERATIONS = 7;
+
+	private static final long NANOS_PER_MILLI = 1_000_000;
+
+	private final Random m_random = new Random(1234567);
+
+	@Test
+	public void benchmarkWriteAndRead() throws Exception {
+		final TableSpec spec = createSpec();
+		final List<Row> rows = createRows(spec);
+		try (final SerializationLibrary legacy = new LegacyCsvSerializationLibrary();
+				final SerializationLibrary current = new CsvSerializationLibrary()) {
+			final long[] legacyMillis = measure(legacy, spec, rows);
+			final long[] currentMillis = measure(current, spec, rows);
+			System.out.println(String.format(Locale.ROOT,
+				"CSV, %d rows x %d columns, median of %d runs: write %d ms (legacy) -> %d ms, read %d ms (legacy) -> "
+					+ "%d ms",
+				NUM_ROWS, COLUMN_TYPES.length, NUM_MEASURED_ITERATIONS, legacyMillis[0], currentMillis[0],
+				legacyMillis[1], currentMillis[1]));
+		}
+	}
+
+	/**
+	 * @return the median milliseconds it takes to write and to read the table
+	 */
+	private static long[] measure(final SerializationLibrary library, final TableSpec spec, final List<Row> rows)
+		throws Exception {
+		final long[] writeNanos = new long[NUM_MEASURED_ITERATIONS];
+		final long[] readNanos = new long[NUM_MEASURED_ITERATIONS];
+		for (int i = 0; i < NUM_WARMUP_ITERATIONS + NUM_MEASURED_ITERATIONS; i++) {
+			final long writeStart = System.nanoTime();
+			final byte[] bytes = library.tableToBytes(new RowListIterator(spec, rows), DEFAULT_SERIALIZATION_OPTIONS,
+				PythonCancelable.NOT_CANCELABLE);
+			final long readStart = System.nanoTime();
+			final RowListCreator creator =
+				new RowListCreator(library.tableSpecFromBytes(bytes, PythonCancelable.NOT_CANCELABLE), NUM_ROWS);
+			library.bytesIntoTable(creator, bytes, DEFAULT_SERIALIZATION_OPTIONS, PythonCancelable.NOT_CANCELABLE);
+			final long readEnd = System.nanoTime();
+			if (i == 0) {
+				// The first warm-up run also checks the result.
+				assertRowsEqual(rows, creator.getTable());
+			} else if (i >= NUM_WARMUP_ITERATIONS) {
+				writeNanos[i - NUM_WARMUP_ITERATIONS] = readStart - writeStart;
+				readNanos[i - NUM_WARMUP_ITERATIONS] = readEnd - readStart;
+			}
+		}
+		return new long[] { median(writeNanos) / NANOS_PER_MILLI, median(readNanos) / NANOS_PER_MILLI };
+	}
+
+	private static long median(final long[] values) {
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static TableSpec createSpec() {
+		final String[] names = new String[COLUMN_TYPES.length];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "column" + i;
+		}
+		return new TableSpecImpl(COLUMN_TYPES, names, new HashMap<>());
+	}
+
+	/**
+	 * Doubles are never missing since both libraries read missing doubles as NaN.
+	 */
+	private List<Row> createRows(final TableSpec spec) {
+		final Type[] types = spec.getColumnTypes();
+		final Row[] rows = new Row[NUM_ROWS];
+		for (int i = 0; i < NUM_ROWS; i++) {
+			final Row row = new RowImpl("Row" + i, types.length);
+			for (int j = 0; j < types.length; j++) {
+				final boolean missing = types[j] != Type.DOUBLE && m_random.nextFloat() < MISSING_RATIO;
+				row.setCell(missing ? new CellImpl() : createCell(types[j]), j);
+			}
+			rows[i] = row;
+		}
+		return Arrays.asList(rows);
+	}
+
+	private Cell createCell(final Type type) {
+		switch (type) {
+			case INTEGER:
+				return new CellImpl(m_random.nextInt());
+			case LONG:
+				return new CellImpl(m_random.nextLong());
+			case DOUBLE:
+				return new CellImpl(createDouble());
+			case BOOLEAN:
+				return new CellImpl(m_random.nextBoolean());
+			case STRING:
+				return new CellImpl(createString());
+			case INTEGER_LIST:
+				final int[] ints = new int[NUM_COLLECTION_ELEMENTS];
+				for (int i = 0; i < ints.length; i++) {
+					ints[i] = m_random.nextInt();
+				}
+				return new CellImpl(ints, createNonMissingsVector());
+			case LONG_LIST:
+				final long[] longs = new long[NUM_COLLECTION_ELEMENTS];
+				for (int i = 0; i < longs.length; i++) {
+					longs[i] = m_random.nextLong();
+				}
+				return new CellImpl(longs, createNonMissingsVector());
+			case DOUBLE_LIST:
+				final double[] doubles = new double[NUM_COLLECTION_ELEMENTS];
+				for (int i = 0; i < doubles.length; i++) {
+					doubles[i] = createDouble();
+				}
+				return new CellImpl(doubles, createNonMissingsVector());
+			default:
+				throw new IllegalStateException("Implementation error.");
+		}
+	}
+
+	private double createDouble() {
+		return (m_random.nextDouble() - 0.5) * Math.pow(10, m_random.nextInt(13) - 6);
+	}
+
+	private String createString() {
+		final StringBuilder builder = new StringBuilder();
+		final int length = m_random.nextInt(MAX_STRING_LENGTH + 1);
+		for (int i = 0; i < length; i++) {
+			builder.append(STRING_CHARACTERS.charAt(m_random.nextInt(STRING_CHARACTERS.length())));
+		}
+		return builder.toString();
+	}
+
+	private static byte[] createNonMissingsVector() {
+		final byte[] missings = createMissingsVector(NUM_COLLECTION_ELEMENTS);
+		for (int i = 0; i < NUM_COLLECTION_ELEMENTS; i++) {
+			populateMissingsVectorIndex(missings, i);
+		}
+		return missings;
+	}
+}
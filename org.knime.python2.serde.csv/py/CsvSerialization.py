@@ -43,6 +43,8 @@
 
 import atexit
 import base64
+import io
+import mmap
 import os
 import shutil
 import tempfile
@@ -62,6 +64,11 @@ _bytes_types_ = None
 
 _temp_dir = None
 
+# Appended to the path of a CSV transfer file to obtain the path of its binary sidecar file. The sidecar file holds the
+# raw values of all BYTES cells (including the elements of BYTES collections), which are referenced from the CSV file as
+# '<offset>:<length>'. It only exists if the table contains BYTES columns.
+_BYTES_SIDECAR_SUFFIX = '.bytes'
+
 
 # Initialize the enum of known type ids
 # @param types     the enum of known type ids
@@ -79,7 +86,7 @@ def init(types):
 # @param data_bytes    the serialized path to the temporary CSV file
 def column_names_from_bytes(data_bytes):
     path = data_bytes.decode('utf-8')
-    in_file = open(path, 'r')
+    in_file = io.open(path, 'r', encoding='utf-8')
     try:
         data_frame = pandas.read_csv(in_file, index_col=0, nrows=0, skiprows=2)
     except ValueError:
@@ -93,7 +100,7 @@ def column_names_from_bytes(data_bytes):
 # @param data_bytes    the serialized path to the temporary CSV file
 def column_types_from_bytes(data_bytes):
     path = data_bytes.decode('utf-8')
-    in_file = open(path, 'r')
+    in_file = io.open(path, 'r', encoding='utf-8')
     try:
         types = in_file.readline().strip()[2:].split(',')
         if types == ['']:
@@ -112,7 +119,7 @@ def column_types_from_bytes(data_bytes):
 # @param data_bytes    the serialized path to the temporary CSV file
 def column_serializers_from_bytes(data_bytes):
     path = data_bytes.decode('utf-8')
-    in_file = open(path, 'r')
+    in_file = io.open(path, 'r', encoding='utf-8')
     try:
         types = in_file.readline().strip()[2:].split(',')
         serializers_line = in_file.readline().strip()[2:].split(',')
@@ -133,7 +140,11 @@ def column_serializers_from_bytes(data_bytes):
 # @param data_bytes   the serialized path to the temporary CSV file
 def bytes_into_table(table, data_bytes):
     path = data_bytes.decode('utf-8')
+    sidecar_path = path + _BYTES_SIDECAR_SUFFIX
+    sidecar = None
     try:
+        if os.path.exists(sidecar_path):
+            sidecar = _open_sidecar(sidecar_path)
         with open(path, 'rb') as in_file:
             types = in_file.readline().decode('utf-8').strip()[2:].split(',')
             if types == ['']:
@@ -165,38 +176,27 @@ def bytes_into_table(table, data_bytes):
                             data_frame.at[index, names[i]] = eval(data_frame[names[i]][index])
                         else:
                             data_frame.at[index, names[i]] = None
-                if col_type_id == _types_.BYTES:
-                    for j in range(len(data_frame)):
-                        index = data_frame.index[j]
-                        if str(data_frame[names[i]][index]) != 'nan':
-                            data_frame.at[index, names[i]] = base64.b64decode(data_frame[names[i]][index])
-                        else:
-                            data_frame.at[index, names[i]] = None
-                elif col_type_id == _types_.BYTES_LIST:
-                    for j in range(len(data_frame)):
-                        index = data_frame.index[j]
-                        base64_list = data_frame[names[i]][index]
-                        if base64_list is not None:
-                            bytes_list = []
-                            for k in range(len(base64_list)):
-                                bytes_value = base64_list[k]
-                                if bytes_value:
-                                    bytes_list.append(base64.b64decode(bytes_value))
-                                else:
-                                    bytes_list.append(None)
-                            data_frame.at[index, names[i]] = bytes_list
-                elif col_type_id == _types_.BYTES_SET:
+                if col_type_id in _bytes_types_:
+                    if sidecar is None:
+                        read_bytes = _bytes_from_base64
+                    else:
+                        read_bytes = lambda reference: _bytes_from_sidecar(sidecar, reference)
+                    column = data_frame[names[i]]
                     for j in range(len(data_frame)):
                         index = data_frame.index[j]
-                        base64_set = data_frame[names[i]][index]
-                        if base64_set is not None:
-                            bytes_set = set()
-                            for value in base64_set:
-                                if value:
-                                    bytes_set.add(base64.b64decode(value))
-                                else:
-                                    bytes_set.add(None)
-                            data_frame.at[index, names[i]] = bytes_set
+                        value = column[index]
+                        if col_type_id == _types_.BYTES:
+                            if str(value) != 'nan':
+                                data_frame.at[index, names[i]] = read_bytes(value)
+                            else:
+                                data_frame.at[index, names[i]] = None
+                        elif col_type_id == _types_.BYTES_LIST:
+                            if value is not None:
+                                data_frame.at[index, names[i]] = [read_bytes(v) if v is not None else None
+                                                                  for v in value]
+                        elif value is not None:
+                            data_frame.at[index, names[i]] = {read_bytes(v) if v is not None else None
+                                                              for v in value}
                 elif col_type_id == _types_.DOUBLE:
                     data_frame.iloc[:, i] = data_frame.iloc[:, i].astype('float', copy=False)
                 # Check if column contains only missing values. If so make sure dtype is object.
@@ -205,7 +205,42 @@ def bytes_into_table(table, data_bytes):
                     data_frame.iloc[:, i] = [None] * len(data_frame)
             table._data_frame = data_frame
     finally:
-        PythonUtils.invoke_safely(None, os.remove, [path])
+        PythonUtils.invoke_safely(None, lambda s: s.close(), [sidecar])
+        _remove_transfer_files(path)
+
+
+# Map the binary sidecar file into memory. Empty files cannot be mapped and are represented by an empty bytes object.
+# @param sidecar_path    the path to the binary sidecar file
+def _open_sidecar(sidecar_path):
+    with open(sidecar_path, 'rb') as sidecar_file:
+        if os.fstat(sidecar_file.fileno()).st_size == 0:
+            return _EmptySidecar()
+        return mmap.mmap(sidecar_file.fileno(), 0, access=mmap.ACCESS_READ)
+
+
+class _EmptySidecar(bytes):
+    def close(self):
+        pass
+
+
+# Resolve a '<offset>:<length>' reference into the binary sidecar file.
+def _bytes_from_sidecar(sidecar, reference):
+    offset, length = reference.split(':')
+    offset = int(offset)
+    return sidecar[offset:offset + int(length)]
+
+
+# Decode a base64 encoded value, possibly written as a bytes literal.
+def _bytes_from_base64(value):
+    if isinstance(value, str) and value.startswith("b'"):
+        value = value[2:-1]
+    return base64.b64decode(value)
+
+
+def _remove_transfer_files(path):
+    PythonUtils.invoke_safely(None, os.remove, [path])
+    if os.path.exists(path + _BYTES_SIDECAR_SUFFIX):
+        PythonUtils.invoke_safely(None, os.remove, [path + _BYTES_SIDECAR_SUFFIX])
 
 
 # Serialize a pandas.DataFrame into a temporary CSV file.
@@ -242,46 +277,45 @@ def table_to_bytes(table):
                 data_frame = data_frame.copy()
             names = data_frame.columns.tolist()
             out_buffer = StringIO()
-            for i in range(len(types)):
-                col_type_id = int(types[i])
-                if col_type_id == _types_.BYTES:
+            bytes_columns = [i for i in range(len(types)) if types[i] in _bytes_types_]
+            if len(bytes_columns) > 0:
+                # Values are written row by row, which is the order in which they are read on the Java side.
+                with open(path + _BYTES_SIDECAR_SUFFIX, 'wb') as sidecar_file:
+                    sidecar = _SidecarWriter(sidecar_file)
                     for j in range(len(data_frame)):
                         index = data_frame.index[j]
-                        if data_frame[names[i]][index] is not None:
-                            data_frame.at[index, names[i]] = base64.b64encode(data_frame[names[i]][index])
-                elif col_type_id == _types_.BYTES_LIST:
-                    for j in range(len(data_frame)):
-                        index = data_frame.index[j]
-                        bytes_list = data_frame[names[i]][index]
-                        if bytes_list is not None:
-                            base64_list = []
-                            for k in range(len(bytes_list)):
-                                bytes_value = bytes_list[k]
-                                if bytes_value:
-                                    base64_list.append(base64.b64encode(bytes_value))
-                                else:
-                                    base64_list.append(None)
-                            data_frame.at[index, names[i]] = base64_list
-                elif col_type_id == _types_.BYTES_SET:
-                    for j in range(len(data_frame)):
-                        index = data_frame.index[j]
-                        bytes_set = data_frame[names[i]][index]
-                        if bytes_set is not None:
-                            base64_set = set()
-                            for value in bytes_set:
-                                if value:
-                                    base64_set.add(base64.b64encode(value))
-                                else:
-                                    base64_set.add(None)
-                            data_frame.at[index, names[i]] = base64_set
+                        for i in bytes_columns:
+                            value = data_frame[names[i]][index]
+                            if value is None:
+                                continue
+                            if types[i] == _types_.BYTES:
+                                value = sidecar.append(value)
+                            elif types[i] == _types_.BYTES_LIST:
+                                value = [sidecar.append(v) if v is not None else None for v in value]
+                            else:
+                                value = {sidecar.append(v) if v is not None else None for v in value}
+                            data_frame.at[index, names[i]] = value
             data_frame.to_csv(out_buffer, na_rep='MissingCell', float_format="%.17g", line_terminator="\n")
             out_file.write(out_buffer.getvalue().encode('utf-8'))
         return bytearray(path, 'utf-8')
     except BaseException:
-        PythonUtils.invoke_safely(None, os.remove, [path])
+        _remove_transfer_files(path)
         raise
 
 
+# Appends values to the binary sidecar file and returns their '<offset>:<length>' references.
+class _SidecarWriter(object):
+    def __init__(self, sidecar_file):
+        self._file = sidecar_file
+        self._size = 0
+
+    def append(self, value):
+        offset = self._size
+        self._file.write(value)
+        self._size += len(value)
+        return str(offset) + ':' + str(len(value))
+
+
 def close():
     global _temp_dir
     # Remove entire temporary directory.
@@ -0,0 +1,125 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.csv;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the raw values of BYTES cells from the binary sidecar file that accompanies a CSV transfer file. Values are
+ * expected to be requested roughly in the order in which they were written, which is served from a read-ahead buffer.
+ * Requests for any other offset reposition the buffer.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class BytesSidecarReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel m_channel;
+
+    private final ByteBuffer m_buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /** The file position of the first byte in the buffer. */
+    private long m_bufferStart;
+
+    /**
+     * @param file the file to read from
+     * @throws IOException if the file could not be opened
+     */
+    BytesSidecarReader(final File file) throws IOException {
+        m_channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        m_buffer.limit(0);
+    }
+
+    /**
+     * @param offset the offset of the value within the sidecar file
+     * @param length the length of the value
+     * @return the value
+     * @throws IOException if reading failed or the file ended prematurely
+     */
+    byte[] read(final long offset, final int length) throws IOException {
+        if (offset < m_bufferStart || offset > m_bufferStart + m_buffer.limit()) {
+            m_bufferStart = offset;
+            m_buffer.limit(0);
+        } else {
+            m_buffer.position((int)(offset - m_bufferStart));
+        }
+        final byte[] value = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            if (!m_buffer.hasRemaining()) {
+                fill();
+            }
+            final int numBytes = Math.min(length - copied, m_buffer.remaining());
+            m_buffer.get(value, copied, numBytes);
+            copied += numBytes;
+        }
+        return value;
+    }
+
+    /** Loads the bytes that follow the (entirely consumed) buffer. */
+    private void fill() throws IOException {
+        m_bufferStart += m_buffer.limit();
+        m_buffer.clear();
+        if (m_channel.read(m_buffer, m_bufferStart) < 0) {
+            throw new EOFException("Binary sidecar file ended prematurely.");
+        }
+        m_buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+    }
+}
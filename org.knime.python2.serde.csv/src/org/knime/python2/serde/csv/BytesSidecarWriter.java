@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the raw values of BYTES cells into the binary sidecar file that accompanies a CSV transfer file. The CSV file
+ * only references the values by their offset and length in the sidecar file.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class BytesSidecarWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel m_channel;
+
+    private final ByteBuffer m_buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private long m_size;
+
+    /**
+     * @param file the file to write to, existing contents are replaced
+     * @throws IOException if the file could not be opened
+     */
+    BytesSidecarWriter(final File file) throws IOException {
+        m_channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends the given value to the sidecar file.
+     *
+     * @param value the value
+     * @return the offset of the value within the sidecar file
+     * @throws IOException if writing failed
+     */
+    long append(final byte[] value) throws IOException {
+        final long offset = m_size;
+        if (value.length > m_buffer.remaining()) {
+            flush();
+        }
+        if (value.length > m_buffer.capacity()) {
+            final ByteBuffer wrapped = ByteBuffer.wrap(value);
+            while (wrapped.hasRemaining()) {
+                m_channel.write(wrapped);
+            }
+        } else {
+            m_buffer.put(value);
+        }
+        m_size += value.length;
+        return offset;
+    }
+
+    private void flush() throws IOException {
+        m_buffer.flip();
+        while (m_buffer.hasRemaining()) {
+            m_channel.write(m_buffer);
+        }
+        m_buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            m_channel.close();
+        }
+    }
+}
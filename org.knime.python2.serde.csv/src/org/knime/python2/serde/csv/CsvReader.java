@@ -0,0 +1,581 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streaming tokenizer for the CSV files used for data transfer from python. The file is decoded as UTF-8 from a large
+ * direct buffer. The fields of the current record are kept in a single reused character array and can be parsed into
+ * numbers in place. Collection fields, which contain python literals such as {@code [1, None, 3]} or
+ * {@code {'a', 'b'}}, can be iterated element by element.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class CsvReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final String PYTHON_FLOAT_CALL_PREFIX = "float('";
+
+    private static final String PYTHON_FLOAT_CALL_SUFFIX = "')";
+
+    private final FileChannel m_channel;
+
+    private final ByteBuffer m_bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final CharBuffer m_chars = CharBuffer.allocate(BUFFER_SIZE);
+
+    private final CharsetDecoder m_decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private boolean m_decoderFlushed = false;
+
+    private int m_pushedBack = -1;
+
+    // The fields of the current record. Field i spans [m_fieldEnds[i - 1], m_fieldEnds[i]) of m_fieldChars.
+    private char[] m_fieldChars = new char[1024];
+
+    private int m_numChars;
+
+    private int[] m_fieldEnds = new int[16];
+
+    private int m_numFields;
+
+    // The element cursor within a collection field.
+    private int m_elementStart;
+
+    private int m_elementEnd;
+
+    private int m_collectionPos;
+
+    private int m_collectionEnd;
+
+    /**
+     * @param file the file to read from
+     * @throws IOException if the file could not be opened
+     */
+    CsvReader(final File file) throws IOException {
+        m_channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        m_chars.flip();
+    }
+
+    /**
+     * Reads the next record. Fields are separated by commas, records by line breaks. Quoted fields may contain both,
+     * quotes inside them are doubled.
+     *
+     * @return false if the end of the file was reached
+     * @throws IOException if reading failed
+     */
+    boolean nextRecord() throws IOException {
+        m_numChars = 0;
+        m_numFields = 0;
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        boolean quoted = false;
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    final int next = read();
+                    if (next == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        m_pushedBack = next;
+                    }
+                } else {
+                    append((char)c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                endField();
+            } else if (c == '\n') {
+                break;
+            } else {
+                append((char)c);
+            }
+            c = read();
+        }
+        endField();
+        return true;
+    }
+
+    /**
+     * @return the number of fields of the current record
+     */
+    int getNumberFields() {
+        return m_numFields;
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @return the field's text
+     */
+    String getString(final int field) {
+        final int start = start(field);
+        return new String(m_fieldChars, start, m_fieldEnds[field] - start);
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @param value the text to compare with
+     * @return true if the field's text equals the given text
+     */
+    boolean isEqual(final int field, final String value) {
+        return regionEquals(start(field), m_fieldEnds[field], value);
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @return the field parsed as an integer
+     * @throws NumberFormatException if the field is not an integer
+     */
+    int getInt(final int field) {
+        return parseInt(start(field), m_fieldEnds[field]);
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @return the field parsed as a long, a trailing {@code L} is accepted
+     * @throws NumberFormatException if the field is not a long
+     */
+    long getLong(final int field) {
+        return parseLong(start(field), m_fieldEnds[field]);
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @return the field parsed as a double, {@code inf}, {@code -inf} and {@code nan} are accepted
+     * @throws NumberFormatException if the field is not a double
+     */
+    double getDouble(final int field) {
+        return parseDouble(start(field), m_fieldEnds[field]);
+    }
+
+    /**
+     * @param field the index of the field in the current record
+     * @return the field parsed as a float, {@code inf}, {@code -inf} and {@code nan} are accepted
+     * @throws NumberFormatException if the field is not a float
+     */
+    float getFloat(final int field) {
+        return parseFloat(start(field), m_fieldEnds[field]);
+    }
+
+    /**
+     * Positions the element cursor before the first element of the collection literal in the given field. Lists
+     * ({@code [..]}), sets ({@code {..}}, {@code set(..)}, {@code frozenset(..)}) and tuples are supported.
+     *
+     * @param field the index of the field in the current record
+     */
+    void startCollection(final int field) {
+        int start = skipWhitespace(start(field), m_fieldEnds[field]);
+        int end = trimEnd(start, m_fieldEnds[field]);
+        final int paren = indexOf('(', start, end);
+        if (paren >= 0 && end > paren && m_fieldChars[end - 1] == ')'
+            && (m_fieldChars[start] != '[' && m_fieldChars[start] != '{')) {
+            // set([..]), frozenset({..}), set() etc.
+            start = skipWhitespace(paren + 1, end - 1);
+            end = trimEnd(start, end - 1);
+        }
+        if (end - start >= 2) {
+            final char open = m_fieldChars[start];
+            if (open == '[' || open == '{' || open == '(') {
+                start++;
+                end--;
+            }
+        }
+        m_collectionPos = start;
+        m_collectionEnd = end;
+    }
+
+    /**
+     * Moves the element cursor to the next element of the current collection.
+     *
+     * @return false if there are no more elements
+     */
+    boolean nextElement() {
+        int pos = skipWhitespace(m_collectionPos, m_collectionEnd);
+        if (pos >= m_collectionEnd) {
+            return false;
+        }
+        m_elementStart = pos;
+        char quote = 0;
+        if (isQuote(m_fieldChars[pos])) {
+            quote = m_fieldChars[pos];
+        } else if (pos + 1 < m_collectionEnd && isStringPrefix(m_fieldChars[pos]) && isQuote(m_fieldChars[pos + 1])) {
+            pos++;
+            quote = m_fieldChars[pos];
+        }
+        if (quote != 0) {
+            pos++;
+            while (pos < m_collectionEnd && m_fieldChars[pos] != quote) {
+                pos += m_fieldChars[pos] == '\\' ? 2 : 1;
+            }
+            pos = Math.min(pos + 1, m_collectionEnd);
+            m_elementEnd = pos;
+            pos = indexOf(',', pos, m_collectionEnd);
+        } else {
+            pos = indexOf(',', pos, m_collectionEnd);
+            m_elementEnd = trimEnd(m_elementStart, pos < 0 ? m_collectionEnd : pos);
+        }
+        m_collectionPos = pos < 0 ? m_collectionEnd : pos + 1;
+        return true;
+    }
+
+    /**
+     * @return true if the current element is {@code None}
+     */
+    boolean isElementNone() {
+        return regionEquals(m_elementStart, m_elementEnd, "None");
+    }
+
+    /**
+     * @return the current element parsed as a python boolean literal
+     */
+    boolean getElementBoolean() {
+        return regionEquals(m_elementStart, m_elementEnd, "True");
+    }
+
+    /**
+     * @return the current element parsed as an integer
+     * @throws NumberFormatException if the element is not an integer
+     */
+    int getElementInt() {
+        return parseInt(m_elementStart, m_elementEnd);
+    }
+
+    /**
+     * @return the current element parsed as a long
+     * @throws NumberFormatException if the element is not a long
+     */
+    long getElementLong() {
+        return parseLong(m_elementStart, m_elementEnd);
+    }
+
+    /**
+     * @return the current element parsed as a double
+     * @throws NumberFormatException if the element is not a double
+     */
+    double getElementDouble() {
+        return parseDouble(m_elementStart, m_elementEnd);
+    }
+
+    /**
+     * @return the current element parsed as a float
+     * @throws NumberFormatException if the element is not a float
+     */
+    float getElementFloat() {
+        return parseFloat(m_elementStart, m_elementEnd);
+    }
+
+    /**
+     * @return the current element as a string. Python string and bytes literals are unquoted and unescaped.
+     */
+    String getElementString() {
+        int start = m_elementStart;
+        int end = m_elementEnd;
+        if (isStringPrefix(m_fieldChars[start]) && end - start >= 3 && isQuote(m_fieldChars[start + 1])) {
+            start++;
+        }
+        if (end - start < 2 || !isQuote(m_fieldChars[start]) || m_fieldChars[end - 1] != m_fieldChars[start]) {
+            return new String(m_fieldChars, start, end - start);
+        }
+        start++;
+        end--;
+        if (indexOf('\\', start, end) < 0) {
+            return new String(m_fieldChars, start, end - start);
+        }
+        final StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = m_fieldChars[i];
+            if (c != '\\' || i + 1 >= end) {
+                sb.append(c);
+                continue;
+            }
+            final char escaped = m_fieldChars[++i];
+            switch (escaped) {
+                case '\\':
+                case '\'':
+                case '"':
+                    sb.append(escaped);
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'x':
+                case 'u':
+                case 'U':
+                    final int numDigits = escaped == 'x' ? 2 : (escaped == 'u' ? 4 : 8);
+                    if (i + numDigits < end) {
+                        sb.appendCodePoint(Integer.parseInt(new String(m_fieldChars, i + 1, numDigits), 16));
+                        i += numDigits;
+                    } else {
+                        sb.append('\\').append(escaped);
+                    }
+                    break;
+                default:
+                    sb.append('\\').append(escaped);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+    }
+
+    private int start(final int field) {
+        return field == 0 ? 0 : m_fieldEnds[field - 1];
+    }
+
+    private void append(final char c) {
+        if (m_numChars == m_fieldChars.length) {
+            m_fieldChars = Arrays.copyOf(m_fieldChars, m_fieldChars.length * 2);
+        }
+        m_fieldChars[m_numChars++] = c;
+    }
+
+    private void endField() {
+        if (m_numFields == m_fieldEnds.length) {
+            m_fieldEnds = Arrays.copyOf(m_fieldEnds, m_fieldEnds.length * 2);
+        }
+        m_fieldEnds[m_numFields++] = m_numChars;
+    }
+
+    private int read() throws IOException {
+        if (m_pushedBack >= 0) {
+            final int c = m_pushedBack;
+            m_pushedBack = -1;
+            return c;
+        }
+        if (!m_chars.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return m_chars.get();
+    }
+
+    private boolean fill() throws IOException {
+        m_chars.clear();
+        while (m_chars.position() == 0 && !m_decoderFlushed) {
+            final boolean endOfInput = m_channel.read(m_bytes) < 0;
+            m_bytes.flip();
+            m_decoder.decode(m_bytes, m_chars, endOfInput);
+            m_bytes.compact();
+            if (endOfInput) {
+                m_decoder.flush(m_chars);
+                m_decoderFlushed = true;
+            }
+        }
+        m_chars.flip();
+        return m_chars.hasRemaining();
+    }
+
+    private int parseInt(final int start, final int end) {
+        final long value = parseLong(start, end);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(start, end);
+        }
+        return (int)value;
+    }
+
+    private long parseLong(final int start, final int end) {
+        int pos = skipWhitespace(start, end);
+        int last = trimEnd(pos, end);
+        if (last > pos && (m_fieldChars[last - 1] == 'L' || m_fieldChars[last - 1] == 'l')) {
+            // Python 2 long literal.
+            last--;
+        }
+        final boolean negative = pos < last && m_fieldChars[pos] == '-';
+        if (negative || (pos < last && m_fieldChars[pos] == '+')) {
+            pos++;
+        }
+        if (pos >= last) {
+            throw numberFormatException(start, end);
+        }
+        // Accumulate negatively to be able to represent Long.MIN_VALUE.
+        long value = 0;
+        for (; pos < last; pos++) {
+            final int digit = m_fieldChars[pos] - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+                throw numberFormatException(start, end);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw numberFormatException(start, end);
+            }
+            return -value;
+        }
+        return value;
+    }
+
+    private double parseDouble(final int start, final int end) {
+        final int pos = skipWhitespace(start, end);
+        final int last = trimEnd(pos, end);
+        if (regionEqualsIgnoreCase(pos, last, "nan")) {
+            return Double.NaN;
+        } else if (regionEqualsIgnoreCase(pos, last, "inf")) {
+            return Double.POSITIVE_INFINITY;
+        } else if (regionEqualsIgnoreCase(pos, last, "-inf")) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (isPythonFloatCall(pos, last)) {
+            return parseDouble(pos + PYTHON_FLOAT_CALL_PREFIX.length(), last - PYTHON_FLOAT_CALL_SUFFIX.length());
+        }
+        // Correctly rounded decimal to binary conversion is left to the JDK.
+        return Double.parseDouble(new String(m_fieldChars, pos, last - pos));
+    }
+
+    private float parseFloat(final int start, final int end) {
+        final int pos = skipWhitespace(start, end);
+        final int last = trimEnd(pos, end);
+        if (regionEqualsIgnoreCase(pos, last, "nan")) {
+            return Float.NaN;
+        } else if (regionEqualsIgnoreCase(pos, last, "inf")) {
+            return Float.POSITIVE_INFINITY;
+        } else if (regionEqualsIgnoreCase(pos, last, "-inf")) {
+            return Float.NEGATIVE_INFINITY;
+        } else if (isPythonFloatCall(pos, last)) {
+            return parseFloat(pos + PYTHON_FLOAT_CALL_PREFIX.length(), last - PYTHON_FLOAT_CALL_SUFFIX.length());
+        }
+        return Float.parseFloat(new String(m_fieldChars, pos, last - pos));
+    }
+
+    /**
+     * Special values within collections are written as python expressions, e.g. {@code float('nan')}.
+     */
+    private boolean isPythonFloatCall(final int start, final int end) {
+        final int prefixEnd = start + PYTHON_FLOAT_CALL_PREFIX.length();
+        final int suffixStart = end - PYTHON_FLOAT_CALL_SUFFIX.length();
+        return prefixEnd < suffixStart && regionEquals(start, prefixEnd, PYTHON_FLOAT_CALL_PREFIX)
+            && regionEquals(suffixStart, end, PYTHON_FLOAT_CALL_SUFFIX);
+    }
+
+    private NumberFormatException numberFormatException(final int start, final int end) {
+        return new NumberFormatException(
+            "For input string: \"" + new String(m_fieldChars, start, end - start) + "\"");
+    }
+
+    private boolean regionEquals(final int start, final int end, final String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (m_fieldChars[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEqualsIgnoreCase(final int start, final int end, final String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.toLowerCase(m_fieldChars[start + i]) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(final char c, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (m_fieldChars[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(final int start, final int end) {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(m_fieldChars[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int trimEnd(final int start, final int end) {
+        int pos = end;
+        while (pos > start && Character.isWhitespace(m_fieldChars[pos - 1])) {
+            pos--;
+        }
+        return pos;
+    }
+
+    private static boolean isQuote(final char c) {
+        return c == '\'' || c == '"';
+    }
+
+    private static boolean isStringPrefix(final char c) {
+        return c == 'b' || c == 'B' || c == 'u' || c == 'U';
+    }
+}
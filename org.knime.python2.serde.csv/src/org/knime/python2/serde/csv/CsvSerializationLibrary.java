@@ -45,23 +45,18 @@
 
 package org.knime.python2.serde.csv;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.ThreadUtils;
 import org.knime.python2.extensions.serializationlibrary.SerializationException;
@@ -93,6 +88,15 @@
  */
 public class CsvSerializationLibrary implements SerializationLibrary {
 
+    private static final String MISSING_CELL = "MissingCell";
+
+    /**
+     * Appended to the path of a CSV transfer file to obtain the path of its binary sidecar file. The sidecar file holds
+     * the raw values of all BYTES cells (including the elements of BYTES collections), which are referenced from the
+     * CSV file as {@code <offset>:<length>}. It only exists if the table contains BYTES columns.
+     */
+    private static final String BYTES_SIDECAR_SUFFIX = ".bytes";
+
     /** Used to make (de-)serialization cancelable. */
     private final ExecutorService m_executorService = ThreadUtils.executorServiceWithContext(
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("python-csv-serde-%d").build()));
@@ -105,7 +109,8 @@ public class CsvSerializationLibrary implements SerializationLibrary {
 
     /**
      * Writes a table to a temporary CSV file and serializes the file path as bytes. The file path is sent to python
-     * where the data is read from the CSV file which is deleted afterwards.
+     * where the data is read from the CSV file which is deleted afterwards. The values of BYTES cells are written to a
+     * binary sidecar file next to the CSV file instead of being base64 encoded.
      *
      * @param tableIterator Iterator for the table that should be converted.
      * @param serializationOptions All options that control the serialization process.
@@ -127,16 +132,16 @@ public byte[] tableToBytes(final TableIterator tableIterator, final Serializatio
                 () -> tableToBytesInternal(tableIterator, serializationOptions, finalFile), m_executorService::submit,
                 cancelable);
         } catch (final IOException e) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
             throw new SerializationException("An error occurred during serialization. See log for errors.", e);
         } catch (final NegativeArraySizeException ex) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
             throw new SerializationException(
                 "The requested buffer size during serialization exceeds the maximum buffer size."
                     + " Please consider decreasing the 'Rows per chunk' parameter in the 'Options' tab of the"
                     + " configuration dialog.");
         } catch (final Exception ex) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
             throw ex;
         }
     }
@@ -146,21 +151,33 @@ public byte[] tableToBytes(final TableIterator tableIterator, final Serializatio
      */
     private static byte[] tableToBytesInternal(final TableIterator tableIterator,
         final SerializationOptions serializationOptions, final File file) throws IOException {
-        try (final FileWriter writer = new FileWriter(file)) {
-            String types = "#";
-            String names = "";
-            final TableSpec spec = tableIterator.getTableSpec();
-            for (int i = 0; i < spec.getNumberColumns(); i++) {
-                types += "," + spec.getColumnTypes()[i].getId();
-                names += "," + spec.getColumnNames()[i];
+        final TableSpec spec = tableIterator.getTableSpec();
+        final Type[] columnTypes = spec.getColumnTypes();
+        final String[] columnNames = spec.getColumnNames();
+        try (final CsvWriter writer = new CsvWriter(file);
+                final BytesSidecarWriter sidecar = hasBytesColumns(columnTypes)
+                    ? new BytesSidecarWriter(getBytesSidecarFile(file)) : null) {
+            writer.write('#');
+            for (final Type type : columnTypes) {
+                writer.write(',');
+                writer.write(type.getId());
             }
-            String serializers = "#";
+            writer.newLine();
+            writer.write('#');
             for (final Entry<String, String> entry : spec.getColumnSerializers().entrySet()) {
-                serializers += ',' + entry.getKey() + '=' + entry.getValue();
+                writer.write(',');
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(entry.getValue());
             }
-            writer.write(types + "\n");
-            writer.write(serializers + "\n");
-            writer.write(names + "\n");
+            writer.newLine();
+            for (final String name : columnNames) {
+                writer.write(',');
+                writer.writeEscaped(name);
+            }
+            writer.newLine();
+            // Reused for composing collection values, which need to be escaped as a whole.
+            final StringBuilder collectionBuilder = new StringBuilder();
             int ctr;
             while (tableIterator.hasNext()) {
                 if (Thread.interrupted()) {
@@ -168,267 +185,265 @@ private static byte[] tableToBytesInternal(final TableIterator tableIterator,
                     throw new CancellationException("Serialization canceled by client.");
                 }
                 final Row row = tableIterator.next();
-                String line = row.getRowKey();
+                writer.writeEscaped(row.getRowKey());
                 ctr = 0;
                 for (final Cell cell : row) {
-                    String value = "";
+                    writer.write(',');
                     if (cell.isMissing()) {
-                        value = "MissingCell";
-                        final Type type = spec.getColumnTypes()[ctr];
+                        final Type type = columnTypes[ctr];
                         if (serializationOptions.getConvertMissingToPython()
                             && ((type == Type.INTEGER) || (type == Type.LONG))) {
-                            value = Long.toString(serializationOptions.getSentinelForType(type));
+                            writer.write(serializationOptions.getSentinelForType(type));
+                        } else {
+                            writer.write(MISSING_CELL);
                         }
                     } else {
-                        final Type type = cell.getColumnType();
-                        switch (type) {
-                            case BOOLEAN:
-                                value = cell.getBooleanValue() ? "True" : "False";
-                                break;
-                            case BOOLEAN_LIST:
-                            case BOOLEAN_SET:
-                                final boolean[] booleanArray = cell.getBooleanArrayValue();
-                                final StringBuilder booleanBuilder = new StringBuilder();
-                                booleanBuilder.append(cell.getColumnType() == Type.BOOLEAN_LIST ? "[" : "{");
-                                for (int i = 0; i < booleanArray.length; i++) {
-                                    if (type == Type.BOOLEAN_LIST && cell.isMissing(i)) {
-                                        booleanBuilder.append("None");
-                                    } else {
-                                        booleanBuilder.append(booleanArray[i] ? "True" : "False");
-                                    }
-                                    if ((i + 1) < booleanArray.length) {
-                                        booleanBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.BOOLEAN_SET && cell.hasMissingInSet()) {
-                                    if (booleanArray.length > 0) {
-                                        booleanBuilder.append(",");
-                                    }
-                                    booleanBuilder.append("None");
-                                }
-                                booleanBuilder.append(cell.getColumnType() == Type.BOOLEAN_LIST ? "]" : "}");
-                                value = booleanBuilder.toString();
-                                break;
-                            case INTEGER:
-                                value = Integer.toString(cell.getIntegerValue());
-                                break;
-                            case INTEGER_LIST:
-                            case INTEGER_SET:
-                                final int[] integerArray = cell.getIntegerArrayValue();
-                                final StringBuilder integerBuilder = new StringBuilder();
-                                integerBuilder.append(cell.getColumnType() == Type.INTEGER_LIST ? "[" : "{");
-                                for (int i = 0; i < integerArray.length; i++) {
-                                    if (type == Type.INTEGER_LIST && cell.isMissing(i)) {
-                                        integerBuilder.append("None");
-                                    } else {
-                                        integerBuilder.append(Integer.toString(integerArray[i]));
-                                    }
-                                    if ((i + 1) < integerArray.length) {
-                                        integerBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.INTEGER_SET && cell.hasMissingInSet()) {
-                                    if (integerArray.length > 0) {
-                                        integerBuilder.append(",");
-                                    }
-                                    integerBuilder.append("None");
-                                }
-                                integerBuilder.append(cell.getColumnType() == Type.INTEGER_LIST ? "]" : "}");
-                                value = integerBuilder.toString();
-                                break;
-                            case LONG:
-                                value = Long.toString(cell.getLongValue());
-                                break;
-                            case LONG_LIST:
-                            case LONG_SET:
-                                final long[] longArray = cell.getLongArrayValue();
-                                final StringBuilder longBuilder = new StringBuilder();
-                                longBuilder.append(cell.getColumnType() == Type.LONG_LIST ? "[" : "{");
-                                for (int i = 0; i < longArray.length; i++) {
-                                    if (type == Type.LONG_LIST && cell.isMissing(i)) {
-                                        longBuilder.append("None");
-                                    } else {
-                                        longBuilder.append(Long.toString(longArray[i]));
-                                    }
-                                    if ((i + 1) < longArray.length) {
-                                        longBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.LONG_SET && cell.hasMissingInSet()) {
-                                    if (longArray.length > 0) {
-                                        longBuilder.append(",");
-                                    }
-                                    longBuilder.append("None");
-                                }
-                                longBuilder.append(cell.getColumnType() == Type.LONG_LIST ? "]" : "}");
-                                value = longBuilder.toString();
-                                break;
-                            case DOUBLE:
-                                final double doubleValue = cell.getDoubleValue();
-                                if (Double.isInfinite(doubleValue)) {
-                                    if (doubleValue > 0) {
-                                        value = "inf";
-                                    } else {
-                                        value = "-inf";
-                                    }
-                                } else if (Double.isNaN(doubleValue)) {
-                                    value = "NaN";
-                                } else {
-                                    value = Double.toString(doubleValue);
-                                }
-                                break;
-                            case DOUBLE_LIST:
-                            case DOUBLE_SET:
-                                final double[] doubleArray = cell.getDoubleArrayValue();
-                                final StringBuilder doubleBuilder = new StringBuilder();
-                                doubleBuilder.append(cell.getColumnType() == Type.DOUBLE_LIST ? "[" : "{");
-                                for (int i = 0; i < doubleArray.length; i++) {
-                                    if (type == Type.DOUBLE_LIST && cell.isMissing(i)) {
-                                        doubleBuilder.append("None");
-                                    } else {
-                                        String doubleVal = Double.toString(doubleArray[i]);
-                                        if (doubleVal.equals("NaN")) {
-                                            doubleVal = "float('nan')";
-                                        } else if (doubleVal.equals("-Infinity")) {
-                                            doubleVal = "float('-inf')";
-                                        } else if (doubleVal.equals("Infinity")) {
-                                            doubleVal = "float('inf')";
-                                        }
-                                        doubleBuilder.append(doubleVal);
-                                    }
-                                    if ((i + 1) < doubleArray.length) {
-                                        doubleBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.DOUBLE_SET && cell.hasMissingInSet()) {
-                                    if (doubleArray.length > 0) {
-                                        doubleBuilder.append(",");
-                                    }
-                                    doubleBuilder.append("None");
-                                }
-                                doubleBuilder.append(cell.getColumnType() == Type.DOUBLE_LIST ? "]" : "}");
-                                value = doubleBuilder.toString();
-                                break;
-                            case FLOAT:
-                                final float floatValue = cell.getFloatValue();
-                                if (Float.isInfinite(floatValue)) {
-                                    if (floatValue > 0) {
-                                        value = "inf";
-                                    } else {
-                                        value = "-inf";
-                                    }
-                                } else if (Float.isNaN(floatValue)) {
-                                    value = "NaN";
-                                } else {
-                                    value = Float.toString(floatValue);
-                                }
-                                break;
-                            case FLOAT_LIST:
-                            case FLOAT_SET:
-                                final float[] floatArray = cell.getFloatArrayValue();
-                                final StringBuilder floatBuilder = new StringBuilder();
-                                floatBuilder.append(cell.getColumnType() == Type.FLOAT_LIST ? "[" : "{");
-                                for (int i = 0; i < floatArray.length; i++) {
-                                    if (type == Type.FLOAT_LIST && cell.isMissing(i)) {
-                                        floatBuilder.append("None");
-                                    } else {
-                                        String floatVal = Float.toString(floatArray[i]);
-                                        if (floatVal.equals("NaN")) {
-                                            floatVal = "float('nan')";
-                                        } else if (floatVal.equals("-Infinity")) {
-                                            floatVal = "float('-inf')";
-                                        } else if (floatVal.equals("Infinity")) {
-                                            floatVal = "float('inf')";
-                                        }
-                                        floatBuilder.append(floatVal);
-                                    }
-                                    if ((i + 1) < floatArray.length) {
-                                        floatBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.FLOAT_SET && cell.hasMissingInSet()) {
-                                    if (floatArray.length > 0) {
-                                        floatBuilder.append(",");
-                                    }
-                                    floatBuilder.append("None");
-                                }
-                                floatBuilder.append(cell.getColumnType() == Type.FLOAT_LIST ? "]" : "}");
-                                value = floatBuilder.toString();
-                                break;
-                            case STRING:
-                                value = cell.getStringValue();
-                                break;
-                            case STRING_LIST:
-                            case STRING_SET:
-                                final String[] stringArray = cell.getStringArrayValue();
-                                final StringBuilder stringBuilder = new StringBuilder();
-                                stringBuilder.append(cell.getColumnType() == Type.STRING_LIST ? "[" : "{");
-                                for (int i = 0; i < stringArray.length; i++) {
-                                    String stringValue = stringArray[i];
-                                    if (type == Type.STRING_LIST && cell.isMissing(i)) {
-                                        stringBuilder.append("None");
-                                    } else {
-                                        stringValue = stringValue.replace("\\", "\\\\");
-                                        stringValue = stringValue.replace("'", "\\'");
-                                        stringValue = stringValue.replace("\r", "\\r");
-                                        stringValue = stringValue.replace("\n", "\\n");
-                                        stringBuilder.append("'" + stringValue + "'");
-                                    }
-                                    if ((i + 1) < stringArray.length) {
-                                        stringBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.STRING_SET && cell.hasMissingInSet()) {
-                                    if (stringArray.length > 0) {
-                                        stringBuilder.append(",");
-                                    }
-                                    stringBuilder.append("None");
-                                }
-                                stringBuilder.append(cell.getColumnType() == Type.STRING_LIST ? "]" : "}");
-                                value = stringBuilder.toString();
-                                break;
-                            case BYTES:
-                                value = bytesToBase64(cell.getBytesValue());
-                                break;
-                            case BYTES_LIST:
-                            case BYTES_SET:
-                                final byte[][] bytesArray = cell.getBytesArrayValue();
-                                final StringBuilder bytesBuilder = new StringBuilder();
-                                bytesBuilder.append(cell.getColumnType() == Type.BYTES_LIST ? "[" : "{");
-                                for (int i = 0; i < bytesArray.length; i++) {
-                                    final byte[] bytesValue = bytesArray[i];
-                                    if (type == Type.BYTES_LIST && cell.isMissing(i)) {
-                                        bytesBuilder.append("None");
-                                    } else {
-                                        bytesBuilder.append("'" + bytesToBase64(bytesValue) + "'");
-                                    }
-                                    if ((i + 1) < bytesArray.length) {
-                                        bytesBuilder.append(",");
-                                    }
-                                }
-                                if (type == Type.BYTES_SET && cell.hasMissingInSet()) {
-                                    if (bytesArray.length > 0) {
-                                        bytesBuilder.append(",");
-                                    }
-                                    bytesBuilder.append("None");
-                                }
-                                bytesBuilder.append(cell.getColumnType() == Type.BYTES_LIST ? "]" : "}");
-                                value = bytesBuilder.toString();
-                                break;
-                            default:
-                                break;
-                        }
+                        writeValue(writer, sidecar, cell, collectionBuilder);
                     }
-                    value = escapeValue(value);
-                    line += "," + value;
                     ctr++;
                 }
-                writer.write(line + "\n");
+                writer.newLine();
             }
         }
         return file.getAbsolutePath().getBytes();
     }
 
+    private static void writeValue(final CsvWriter writer, final BytesSidecarWriter sidecar, final Cell cell,
+        final StringBuilder collectionBuilder) throws IOException {
+        final Type type = cell.getColumnType();
+        collectionBuilder.setLength(0);
+        switch (type) {
+            case BOOLEAN:
+                writer.write(cell.getBooleanValue() ? "True" : "False");
+                break;
+            case BOOLEAN_LIST:
+            case BOOLEAN_SET:
+                final boolean[] booleanArray = cell.getBooleanArrayValue();
+                collectionBuilder.append(type == Type.BOOLEAN_LIST ? '[' : '{');
+                for (int i = 0; i < booleanArray.length; i++) {
+                    if (type == Type.BOOLEAN_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        collectionBuilder.append(booleanArray[i] ? "True" : "False");
+                    }
+                    if ((i + 1) < booleanArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.BOOLEAN_SET, booleanArray.length);
+                endCollection(collectionBuilder, type == Type.BOOLEAN_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case INTEGER:
+                writer.write(cell.getIntegerValue());
+                break;
+            case INTEGER_LIST:
+            case INTEGER_SET:
+                final int[] integerArray = cell.getIntegerArrayValue();
+                collectionBuilder.append(type == Type.INTEGER_LIST ? '[' : '{');
+                for (int i = 0; i < integerArray.length; i++) {
+                    if (type == Type.INTEGER_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        collectionBuilder.append(integerArray[i]);
+                    }
+                    if ((i + 1) < integerArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.INTEGER_SET, integerArray.length);
+                endCollection(collectionBuilder, type == Type.INTEGER_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case LONG:
+                writer.write(cell.getLongValue());
+                break;
+            case LONG_LIST:
+            case LONG_SET:
+                final long[] longArray = cell.getLongArrayValue();
+                collectionBuilder.append(type == Type.LONG_LIST ? '[' : '{');
+                for (int i = 0; i < longArray.length; i++) {
+                    if (type == Type.LONG_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        collectionBuilder.append(longArray[i]);
+                    }
+                    if ((i + 1) < longArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.LONG_SET, longArray.length);
+                endCollection(collectionBuilder, type == Type.LONG_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case DOUBLE:
+                final double doubleValue = cell.getDoubleValue();
+                if (Double.isInfinite(doubleValue)) {
+                    writer.write(doubleValue > 0 ? "inf" : "-inf");
+                } else if (Double.isNaN(doubleValue)) {
+                    writer.write("NaN");
+                } else {
+                    writer.write(Double.toString(doubleValue));
+                }
+                break;
+            case DOUBLE_LIST:
+            case DOUBLE_SET:
+                final double[] doubleArray = cell.getDoubleArrayValue();
+                collectionBuilder.append(type == Type.DOUBLE_LIST ? '[' : '{');
+                for (int i = 0; i < doubleArray.length; i++) {
+                    if (type == Type.DOUBLE_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        appendPythonFloat(collectionBuilder, doubleArray[i]);
+                    }
+                    if ((i + 1) < doubleArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.DOUBLE_SET, doubleArray.length);
+                endCollection(collectionBuilder, type == Type.DOUBLE_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case FLOAT:
+                final float floatValue = cell.getFloatValue();
+                if (Float.isInfinite(floatValue)) {
+                    writer.write(floatValue > 0 ? "inf" : "-inf");
+                } else if (Float.isNaN(floatValue)) {
+                    writer.write("NaN");
+                } else {
+                    writer.write(Float.toString(floatValue));
+                }
+                break;
+            case FLOAT_LIST:
+            case FLOAT_SET:
+                final float[] floatArray = cell.getFloatArrayValue();
+                collectionBuilder.append(type == Type.FLOAT_LIST ? '[' : '{');
+                for (int i = 0; i < floatArray.length; i++) {
+                    if (type == Type.FLOAT_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else if (Float.isNaN(floatArray[i]) || Float.isInfinite(floatArray[i])) {
+                        appendPythonFloat(collectionBuilder, floatArray[i]);
+                    } else {
+                        collectionBuilder.append(floatArray[i]);
+                    }
+                    if ((i + 1) < floatArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.FLOAT_SET, floatArray.length);
+                endCollection(collectionBuilder, type == Type.FLOAT_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case STRING:
+                writer.writeEscaped(cell.getStringValue());
+                break;
+            case STRING_LIST:
+            case STRING_SET:
+                final String[] stringArray = cell.getStringArrayValue();
+                collectionBuilder.append(type == Type.STRING_LIST ? '[' : '{');
+                for (int i = 0; i < stringArray.length; i++) {
+                    if (type == Type.STRING_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        appendPythonString(collectionBuilder, stringArray[i]);
+                    }
+                    if ((i + 1) < stringArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.STRING_SET, stringArray.length);
+                endCollection(collectionBuilder, type == Type.STRING_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            case BYTES:
+                final byte[] bytesValue = cell.getBytesValue();
+                writer.write(sidecar.append(bytesValue));
+                writer.write(':');
+                writer.write(bytesValue.length);
+                break;
+            case BYTES_LIST:
+            case BYTES_SET:
+                final byte[][] bytesArray = cell.getBytesArrayValue();
+                collectionBuilder.append(type == Type.BYTES_LIST ? '[' : '{');
+                for (int i = 0; i < bytesArray.length; i++) {
+                    if (type == Type.BYTES_LIST && cell.isMissing(i)) {
+                        collectionBuilder.append("None");
+                    } else {
+                        collectionBuilder.append('\'').append(sidecar.append(bytesArray[i])).append(':')
+                            .append(bytesArray[i].length).append('\'');
+                    }
+                    if ((i + 1) < bytesArray.length) {
+                        collectionBuilder.append(',');
+                    }
+                }
+                appendMissingInSet(collectionBuilder, cell, type == Type.BYTES_SET, bytesArray.length);
+                endCollection(collectionBuilder, type == Type.BYTES_SET);
+                writer.writeEscaped(collectionBuilder);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void appendMissingInSet(final StringBuilder builder, final Cell cell, final boolean isSet,
+        final int numValues) {
+        if (isSet && cell.hasMissingInSet()) {
+            if (numValues > 0) {
+                builder.append(',');
+            }
+            builder.append("None");
+        }
+    }
+
+    private static void endCollection(final StringBuilder builder, final boolean isSet) {
+        if (!isSet) {
+            builder.append(']');
+        } else if (builder.length() == 1) {
+            // Python would evaluate "{}" to an empty dict.
+            builder.setLength(0);
+            builder.append("set()");
+        } else {
+            builder.append('}');
+        }
+    }
+
+    private static void appendPythonFloat(final StringBuilder builder, final double value) {
+        if (Double.isNaN(value)) {
+            builder.append("float('nan')");
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            builder.append("float('-inf')");
+        } else if (value == Double.POSITIVE_INFINITY) {
+            builder.append("float('inf')");
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private static void appendPythonString(final StringBuilder builder, final String value) {
+        builder.append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\'':
+                    builder.append("\\'");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                default:
+                    builder.append(c);
+                    break;
+            }
+        }
+        builder.append('\'');
+    }
+
     /**
      * Reads a table from a temporary CSV file which is deleted afterwards. The file path is received as bytes from
      * python.
@@ -452,7 +467,7 @@ public void bytesIntoTable(final TableCreator<?> tableCreator, final byte[] byte
         } catch (final PythonIOException e) {
             throw new SerializationException("An error occurred during deserialization. See log for details.", e);
         } finally {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
         }
     }
 
@@ -461,23 +476,28 @@ public void bytesIntoTable(final TableCreator<?> tableCreator, final byte[] byte
      */
     private static void bytesIntoTableInternal(final TableCreator<?> tableCreator,
         final SerializationOptions serializationOptions, final File file) throws IOException {
-        try (final BufferedReader br = new BufferedReader(new FileReader(file))) {
-            final List<String> types = parseLine(br); // Ignore, just to skip header.
-            final List<String> serializers = parseLine(br); // Ignore, just to skip header.
-            final List<String> names = parseLine(br); // Ignore, just to skip header.
-            List<String> values;
-            while ((values = parseLine(br)) != null) {
+        final File sidecarFile = getBytesSidecarFile(file);
+        try (final CsvReader reader = new CsvReader(file);
+                final BytesSidecarReader sidecar =
+                    sidecarFile.exists() ? new BytesSidecarReader(sidecarFile) : null) {
+            // Skip the header: types, serializers and names.
+            for (int i = 0; i < 3; i++) {
+                reader.nextRecord();
+            }
+            final String[] columnNames = tableCreator.getTableSpec().getColumnNames();
+            final Type[] columnTypes = tableCreator.getTableSpec().getColumnTypes();
+            while (reader.nextRecord()) {
                 if (Thread.interrupted()) {
                     // Stop deserialization if canceled by client.
                     throw new CancellationException("Deserialization canceled by client.");
                 }
-                final Row row = new RowImpl(values.get(0), values.size() - 1);
-                for (int i = 0; i < (values.size() - 1); i++) {
-                    final String columnName = tableCreator.getTableSpec().getColumnNames()[i];
-                    final Type type = tableCreator.getTableSpec().getColumnTypes()[i];
+                final int numberCells = reader.getNumberFields() - 1;
+                final Row row = new RowImpl(reader.getString(0), numberCells);
+                for (int i = 0; i < numberCells; i++) {
+                    final int field = i + 1;
+                    final Type type = columnTypes[i];
                     Cell cell;
-                    String value = values.get(i + 1);
-                    if (value.equals("MissingCell")) {
+                    if (reader.isEqual(field, MISSING_CELL)) {
                         if (type == Type.DOUBLE) {
                             cell = new CellImpl(Double.NaN);
                         } else if (type == Type.FLOAT) {
@@ -486,48 +506,12 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator,
                             cell = new CellImpl();
                         }
                     } else {
-                        int idxCtr = 0;
                         switch (type) {
                             case BOOLEAN:
-                                cell = new CellImpl(value.equals("True") ? true : false);
-                                break;
-                            case BOOLEAN_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] booleanValues = value.split(",");
-                                final boolean[] booleanArray = new boolean[booleanValues.length];
-                                final BitArray booleanMissings = new BitArray(booleanValues.length);
-                                for (int j = 0; j < booleanArray.length; j++) {
-                                    booleanValues[j] = booleanValues[j].trim();
-                                    if (!booleanValues[j].equals("None")) {
-                                        booleanMissings.setToOne(j);
-                                        booleanArray[j] = booleanValues[j].equals("True");
-                                    }
-                                }
-                                cell = new CellImpl(booleanArray, booleanMissings.getEncodedByteArray());
-                                break;
-                            case BOOLEAN_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] booleanSetValues = value.split(",");
-                                final boolean[] booleanSetArray = new boolean[booleanSetValues.length];
-                                boolean booleanHasMissing = false;
-                                for (String bsValue : booleanSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        booleanSetArray[idxCtr] = bsValue.equals("True");
-                                        idxCtr++;
-                                    } else {
-                                        booleanHasMissing = true;
-                                    }
-                                }
-                                if (!booleanHasMissing) {
-                                    cell = new CellImpl(booleanSetArray, false);
-                                } else {
-                                    cell = new CellImpl(
-                                        ArrayUtils.subarray(booleanSetArray, 0, booleanSetArray.length - 1), true);
-                                }
+                                cell = new CellImpl(reader.isEqual(field, "True"));
                                 break;
                             case INTEGER:
-                                final int intVal = Integer.parseInt(value);
+                                final int intVal = reader.getInt(field);
                                 if (serializationOptions.getConvertMissingFromPython()
                                     && serializationOptions.isSentinel(Type.INTEGER, intVal)) {
                                     cell = new CellImpl();
@@ -535,43 +519,8 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator,
                                     cell = new CellImpl(intVal);
                                 }
                                 break;
-                            case INTEGER_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] integerValues = value.split(",");
-                                final int[] integerArray = new int[integerValues.length];
-                                final BitArray integerMissings = new BitArray(integerValues.length);
-                                for (int j = 0; j < integerArray.length; j++) {
-                                    integerValues[j] = integerValues[j].trim();
-                                    if (!integerValues[j].equals("None")) {
-                                        integerMissings.setToOne(j);
-                                        integerArray[j] = Integer.parseInt(integerValues[j]);
-                                    }
-                                }
-                                cell = new CellImpl(integerArray, integerMissings.getEncodedByteArray());
-                                break;
-                            case INTEGER_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] integerSetValues = value.split(",");
-                                final int[] integerSetArray = new int[integerSetValues.length];
-                                boolean integerHasMissing = false;
-                                for (String bsValue : integerSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        integerSetArray[idxCtr] = Integer.parseInt(bsValue);
-                                        idxCtr++;
-                                    } else {
-                                        integerHasMissing = true;
-                                    }
-                                }
-                                if (!integerHasMissing) {
-                                    cell = new CellImpl(integerSetArray, false);
-                                } else {
-                                    cell = new CellImpl(
-                                        ArrayUtils.subarray(integerSetArray, 0, integerSetArray.length - 1), true);
-                                }
-                                break;
                             case LONG:
-                                final long longVal = Long.parseLong(value.replace("L", ""));
+                                final long longVal = reader.getLong(field);
                                 if (serializationOptions.getConvertMissingFromPython()
                                     && serializationOptions.isSentinel(Type.LONG, longVal)) {
                                     cell = new CellImpl();
@@ -579,277 +528,36 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator,
                                     cell = new CellImpl(longVal);
                                 }
                                 break;
-                            case LONG_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] longValues = value.split(",");
-                                final long[] longArray = new long[longValues.length];
-                                final BitArray longMissings = new BitArray(longValues.length);
-                                for (int j = 0; j < longArray.length; j++) {
-                                    longValues[j] = longValues[j].trim();
-                                    if (!longValues[j].equals("None")) {
-                                        longMissings.setToOne(j);
-                                        longArray[j] = Long.parseLong(longValues[j].replace("L", ""));
-                                    }
-                                }
-                                cell = new CellImpl(longArray, longMissings.getEncodedByteArray());
-                                break;
-                            case LONG_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] longSetValues = value.split(",");
-                                final long[] longSetArray = new long[longSetValues.length];
-                                boolean longHasMissing = false;
-                                for (String bsValue : longSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        longSetArray[idxCtr] = Long.parseLong(bsValue.replace("L", ""));
-                                        idxCtr++;
-                                    } else {
-                                        longHasMissing = true;
-                                    }
-                                }
-                                if (!longHasMissing) {
-                                    cell = new CellImpl(longSetArray, false);
-                                } else {
-                                    cell = new CellImpl(ArrayUtils.subarray(longSetArray, 0, longSetArray.length - 1),
-                                        true);
-                                }
-                                break;
                             case DOUBLE:
-                                double doubleValue;
-                                if (value.equals("inf")) {
-                                    doubleValue = Double.POSITIVE_INFINITY;
-                                } else if (value.equals("-inf")) {
-                                    doubleValue = Double.NEGATIVE_INFINITY;
-                                } else if (value.equals("NaN") || value.contentEquals("nan")) {
-                                    doubleValue = Double.NaN;
-                                } else {
-                                    doubleValue = Double.parseDouble(value);
-                                }
-                                cell = new CellImpl(doubleValue);
+                                cell = new CellImpl(reader.getDouble(field));
                                 break;
-                            case DOUBLE_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] doubleValues = value.split(",");
-                                final double[] doubleArray = new double[doubleValues.length];
-                                final BitArray doubleMissings = new BitArray(doubleValues.length);
-                                for (int j = 0; j < doubleArray.length; j++) {
-                                    doubleValues[j] = doubleValues[j].trim();
-                                    if (!doubleValues[j].equals("None")) {
-                                        doubleMissings.setToOne(j);
-                                        final String doubleVal = doubleValues[j];
-                                        if (doubleVal.equals("nan")) {
-                                            doubleArray[j] = Double.NaN;
-                                        } else if (doubleVal.equals("inf")) {
-                                            doubleArray[j] = Double.POSITIVE_INFINITY;
-                                        } else if (doubleVal.equals("-inf")) {
-                                            doubleArray[j] = Double.NEGATIVE_INFINITY;
-                                        } else {
-                                            doubleArray[j] = Double.parseDouble(doubleVal);
-                                        }
-                                    }
-                                }
-                                cell = new CellImpl(doubleArray, doubleMissings.getEncodedByteArray());
+                            case FLOAT:
+                                cell = new CellImpl(reader.getFloat(field));
                                 break;
-                            case DOUBLE_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] doubleSetValues = value.split(",");
-                                final double[] doubleSetArray = new double[doubleSetValues.length];
-                                boolean doubleHasMissing = false;
-                                for (String bsValue : doubleSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        final String doubleVal = bsValue;
-                                        if (doubleVal.equals("nan")) {
-                                            doubleSetArray[idxCtr] = Double.NaN;
-                                        } else if (doubleVal.equals("inf")) {
-                                            doubleSetArray[idxCtr] = Double.POSITIVE_INFINITY;
-                                        } else if (doubleVal.equals("-inf")) {
-                                            doubleSetArray[idxCtr] = Double.NEGATIVE_INFINITY;
-                                        } else {
-                                            doubleSetArray[idxCtr] = Double.parseDouble(doubleVal);
-                                        }
-                                        idxCtr++;
-                                    } else {
-                                        doubleHasMissing = true;
-                                    }
-                                }
-                                if (!doubleHasMissing) {
-                                    cell = new CellImpl(doubleSetArray, false);
-                                } else {
-                                    cell = new CellImpl(
-                                        ArrayUtils.subarray(doubleSetArray, 0, doubleSetArray.length - 1), true);
-                                }
+                            case STRING:
+                                cell = new CellImpl(reader.getString(field));
                                 break;
-                            case FLOAT:
-                                float floatValue;
-                                if (value.equals("inf")) {
-                                    floatValue = Float.POSITIVE_INFINITY;
-                                } else if (value.equals("-inf")) {
-                                    floatValue = Float.NEGATIVE_INFINITY;
-                                } else if (value.equals("NaN") || value.contentEquals("nan")) {
-                                    floatValue = Float.NaN;
-                                } else {
-                                    floatValue = Float.parseFloat(value);
-                                }
-                                cell = new CellImpl(floatValue);
+                            case BYTES:
+                                cell = new CellImpl(readBytes(sidecar, reader.getString(field)));
                                 break;
+                            case BOOLEAN_LIST:
+                            case BOOLEAN_SET:
+                            case INTEGER_LIST:
+                            case INTEGER_SET:
+                            case LONG_LIST:
+                            case LONG_SET:
+                            case DOUBLE_LIST:
+                            case DOUBLE_SET:
                             case FLOAT_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] floatValues = value.split(",");
-                                final float[] floatArray = new float[floatValues.length];
-                                final BitArray floatMissings = new BitArray(floatValues.length);
-                                for (int j = 0; j < floatArray.length; j++) {
-                                    floatValues[j] = floatValues[j].trim();
-                                    if (!floatValues[j].equals("None")) {
-                                        floatMissings.setToOne(j);
-                                        final String floatVal = floatValues[j];
-                                        if (floatVal.equals("nan")) {
-                                            floatArray[j] = Float.NaN;
-                                        } else if (floatVal.equals("inf")) {
-                                            floatArray[j] = Float.POSITIVE_INFINITY;
-                                        } else if (floatVal.equals("-inf")) {
-                                            floatArray[j] = Float.NEGATIVE_INFINITY;
-                                        } else {
-                                            floatArray[j] = Float.parseFloat(floatVal);
-                                        }
-                                    }
-                                }
-                                cell = new CellImpl(floatArray, floatMissings.getEncodedByteArray());
-                                break;
                             case FLOAT_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] floatSetValues = value.split(",");
-                                final float[] floatSetArray = new float[floatSetValues.length];
-                                boolean floatHasMissings = false;
-                                for (String bsValue : floatSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        final String floatVal = bsValue;
-                                        if (floatVal.equals("nan")) {
-                                            floatSetArray[idxCtr] = Float.NaN;
-                                        } else if (floatVal.equals("inf")) {
-                                            floatSetArray[idxCtr] = Float.POSITIVE_INFINITY;
-                                        } else if (floatVal.equals("-inf")) {
-                                            floatSetArray[idxCtr] = Float.NEGATIVE_INFINITY;
-                                        } else {
-                                            floatSetArray[idxCtr] = Float.parseFloat(floatVal);
-                                        }
-                                        idxCtr++;
-                                    } else {
-                                        floatHasMissings = true;
-                                    }
-                                }
-                                if (!floatHasMissings) {
-                                    cell = new CellImpl(floatSetArray, false);
-                                } else {
-                                    cell = new CellImpl(ArrayUtils.subarray(floatSetArray, 0, floatSetArray.length - 1),
-                                        true);
-                                }
-                                break;
-                            case STRING:
-                                cell = new CellImpl(value);
-                                break;
                             case STRING_LIST:
-                                value = stripCollectionNotation(value);
-                                value = value.replaceAll("None", "'None'");
-                                final String[] stringValues = value.split("(', '|', \"|\", '|\", \")");
-                                final String[] stringArray = new String[stringValues.length];
-                                final BitArray stringMissings = new BitArray(stringValues.length);
-                                for (int j = 0; j < stringArray.length; j++) {
-                                    stringArray[j] = stringValues[j];
-                                    if (j == 0) {
-                                        stringArray[j] = stringArray[j].substring(1);
-                                    }
-                                    if (j == (stringArray.length - 1)) {
-                                        stringArray[j] = stringArray[j].substring(0, stringArray[j].length() - 1);
-                                    }
-                                    if (!(stringArray[j].equals("None") || stringArray[j].equals("'None'"))) {
-                                        // stringArray[j] = stringArray[j].substring(1, stringArray[j].length()-1);
-                                        stringArray[j] = stringArray[j].replace("\\\\", "\\");
-                                        stringArray[j] = stringArray[j].replace("\\'", "'");
-                                        stringArray[j] = stringArray[j].replace("\\r", "\r");
-                                        stringArray[j] = stringArray[j].replace("\\n", "\n");
-                                        stringArray[j] = stringArray[j].replace("\\t", "\t");
-                                        stringMissings.setToOne(j);
-                                    }
-                                }
-                                cell = new CellImpl(stringArray, stringMissings.getEncodedByteArray());
-                                break;
                             case STRING_SET:
-                                value = stripCollectionNotation(value);
-                                value = value.replaceAll("None", "'None'");
-                                final String[] stringSetValues = value.split("(', '|', \"|\", '|\", \")");
-                                final String[] stringSetArray = new String[stringSetValues.length];
-                                boolean hasStringMissing = false;
-                                int posCtr = 0;
-                                for (final String stringValue : stringSetValues) {
-                                    stringSetArray[idxCtr] = stringValue;
-                                    if (posCtr == 0) {
-                                        stringSetArray[idxCtr] = stringValue.substring(1);
-                                    }
-                                    if (posCtr == (stringSetArray.length - 1)) {
-                                        stringSetArray[idxCtr] = stringValue.substring(0, stringValue.length() - 1);
-                                    }
-                                    if (!(stringValue.equals("None") || stringValue.contentEquals("'None'"))) {
-                                        // stringArray[j] = stringArray[j].substring(1, stringArray[j].length()-1);
-                                        stringSetArray[idxCtr] = stringSetArray[idxCtr].replace("\\\\", "\\");
-                                        stringSetArray[idxCtr] = stringSetArray[idxCtr].replace("\\'", "'");
-                                        stringSetArray[idxCtr] = stringSetArray[idxCtr].replace("\\r", "\r");
-                                        stringSetArray[idxCtr] = stringSetArray[idxCtr].replace("\\n", "\n");
-                                        stringSetArray[idxCtr] = stringSetArray[idxCtr].replace("\\t", "\t");
-                                        idxCtr++;
-                                    } else {
-                                        hasStringMissing = true;
-                                    }
-                                    posCtr++;
-                                }
-                                if (!hasStringMissing) {
-                                    cell = new CellImpl(stringSetArray, false);
-                                } else {
-                                    cell = new CellImpl(
-                                        ArrayUtils.subarray(stringSetArray, 0, stringSetArray.length - 1), true);
-                                }
-                                break;
-                            case BYTES:
-                                cell = new CellImpl(bytesFromBase64(value));
-                                break;
                             case BYTES_LIST:
-                                value = stripCollectionNotation(value);
-                                final String[] bytesValues = value.split(",");
-                                final byte[][] bytesArray = new byte[bytesValues.length][];
-                                final BitArray bytesMissings = new BitArray(bytesValues.length);
-                                for (int j = 0; j < bytesArray.length; j++) {
-                                    bytesValues[j] = bytesValues[j].trim();
-                                    if (!bytesValues[j].equals("None")) {
-                                        bytesMissings.setToOne(j);
-                                        bytesArray[j] = bytesFromBase64(bytesValues[j]);
-                                    }
-                                }
-                                cell = new CellImpl(bytesArray, bytesMissings.getEncodedByteArray());
-                                break;
                             case BYTES_SET:
-                                value = stripCollectionNotation(value);
-                                final String[] bytesSetValues = value.split(",");
-                                final byte[][] bytesSetArray = new byte[bytesSetValues.length][];
-                                boolean bytesHasMissing = false;
-                                for (String bsValue : bytesSetValues) {
-                                    bsValue = bsValue.trim();
-                                    if (!bsValue.equals("None")) {
-                                        bytesSetArray[idxCtr] = bytesFromBase64(bsValue);
-                                        idxCtr++;
-                                    } else {
-                                        bytesHasMissing = true;
-                                    }
-                                }
-                                if (!bytesHasMissing) {
-                                    cell = new CellImpl(bytesSetArray, false);
-                                } else {
-                                    cell = new CellImpl(ArrayUtils.subarray(bytesSetArray, 0, bytesSetArray.length - 1),
-                                        true);
-                                }
+                                cell = readCollection(reader, sidecar, field, type);
                                 break;
                             default:
-                                cell = new CellImpl(columnName);
+                                cell = new CellImpl(columnNames[i]);
                                 break;
                         }
                     }
@@ -860,20 +568,112 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator,
         }
     }
 
-    private static String stripCollectionNotation(String value) {
-        if (value.startsWith("set([")) {
-            value = value.substring(5, value.length() - 2);
-        } else if (value.startsWith("frozenset(")) {
-            final char c = value.charAt(10);
-            if (c == '{' || // Python 3
-                c == '[' // Python 2
-            ) {
-                value = value.substring(11, value.length() - 2);
+    /**
+     * Reads a collection cell from its python literal, e.g. {@code [1, None, 3]} or {@code {'a', 'b'}}. Missing list
+     * elements are recorded in the missing bit mask, a missing set element is recorded as a flag.
+     */
+    private static Cell readCollection(final CsvReader reader, final BytesSidecarReader sidecar, final int field,
+        final Type type) throws IOException {
+        reader.startCollection(field);
+        int numElements = 0;
+        while (reader.nextElement()) {
+            numElements++;
+        }
+        reader.startCollection(field);
+        final boolean isList = type == Type.BOOLEAN_LIST || type == Type.INTEGER_LIST || type == Type.LONG_LIST
+            || type == Type.DOUBLE_LIST || type == Type.FLOAT_LIST || type == Type.STRING_LIST
+            || type == Type.BYTES_LIST;
+        final BitArray missings = new BitArray(numElements);
+        boolean hasMissing = false;
+        final Object values;
+        switch (type) {
+            case BOOLEAN_LIST:
+            case BOOLEAN_SET:
+                values = new boolean[numElements];
+                break;
+            case INTEGER_LIST:
+            case INTEGER_SET:
+                values = new int[numElements];
+                break;
+            case LONG_LIST:
+            case LONG_SET:
+                values = new long[numElements];
+                break;
+            case DOUBLE_LIST:
+            case DOUBLE_SET:
+                values = new double[numElements];
+                break;
+            case FLOAT_LIST:
+            case FLOAT_SET:
+                values = new float[numElements];
+                break;
+            case STRING_LIST:
+            case STRING_SET:
+                values = new String[numElements];
+                break;
+            default:
+                values = new byte[numElements][];
+                break;
+        }
+        // Set elements are compacted, list elements keep their positions.
+        int idx = 0;
+        for (int pos = 0; reader.nextElement(); pos++) {
+            if (reader.isElementNone()) {
+                hasMissing = true;
+                if (isList) {
+                    idx++;
+                }
+                continue;
             }
-        } else {
-            value = value.substring(1, value.length() - 1);
+            missings.setToOne(pos);
+            if (values instanceof boolean[]) {
+                ((boolean[])values)[idx] = reader.getElementBoolean();
+            } else if (values instanceof int[]) {
+                ((int[])values)[idx] = reader.getElementInt();
+            } else if (values instanceof long[]) {
+                ((long[])values)[idx] = reader.getElementLong();
+            } else if (values instanceof double[]) {
+                ((double[])values)[idx] = reader.getElementDouble();
+            } else if (values instanceof float[]) {
+                ((float[])values)[idx] = reader.getElementFloat();
+            } else if (values instanceof String[]) {
+                ((String[])values)[idx] = reader.getElementString();
+            } else {
+                ((byte[][])values)[idx] = readBytes(sidecar, reader.getElementString());
+            }
+            idx++;
+        }
+        final byte[] listMissings = missings.getEncodedByteArray();
+        switch (type) {
+            case BOOLEAN_LIST:
+                return new CellImpl((boolean[])values, listMissings);
+            case BOOLEAN_SET:
+                return new CellImpl(Arrays.copyOf((boolean[])values, idx), hasMissing);
+            case INTEGER_LIST:
+                return new CellImpl((int[])values, listMissings);
+            case INTEGER_SET:
+                return new CellImpl(Arrays.copyOf((int[])values, idx), hasMissing);
+            case LONG_LIST:
+                return new CellImpl((long[])values, listMissings);
+            case LONG_SET:
+                return new CellImpl(Arrays.copyOf((long[])values, idx), hasMissing);
+            case DOUBLE_LIST:
+                return new CellImpl((double[])values, listMissings);
+            case DOUBLE_SET:
+                return new CellImpl(Arrays.copyOf((double[])values, idx), hasMissing);
+            case FLOAT_LIST:
+                return new CellImpl((float[])values, listMissings);
+            case FLOAT_SET:
+                return new CellImpl(Arrays.copyOf((float[])values, idx), hasMissing);
+            case STRING_LIST:
+                return new CellImpl((String[])values, listMissings);
+            case STRING_SET:
+                return new CellImpl(Arrays.copyOf((String[])values, idx), hasMissing);
+            case BYTES_LIST:
+                return new CellImpl((byte[][])values, listMissings);
+            default:
+                return new CellImpl(Arrays.copyOf((byte[][])values, idx), hasMissing);
         }
-        return value;
     }
 
     @Override
@@ -885,78 +685,70 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
         try {
             file = new File(new String(bytes, StandardCharsets.UTF_8));
             file.deleteOnExit();
-            try (final BufferedReader br = new BufferedReader(new FileReader(file))) {
-                final List<String> typeValues = parseLine(br);
-                final List<String> serializerValues = parseLine(br);
-                final List<String> nameValues = parseLine(br);
-                final Type[] types = new Type[typeValues.size() - 1];
-                final String[] names = new String[types.length];
+            getBytesSidecarFile(file).deleteOnExit();
+            try (final CsvReader reader = new CsvReader(file)) {
+                reader.nextRecord();
+                final Type[] types = new Type[reader.getNumberFields() - 1];
                 for (int i = 0; i < types.length; i++) {
-                    types[i] = Type.getTypeForId(Integer.parseInt(typeValues.get(i + 1)));
-                    names[i] = nameValues.get(i + 1);
+                    types[i] = Type.getTypeForId(reader.getInt(i + 1));
                 }
+                reader.nextRecord();
                 final Map<String, String> serializers = new HashMap<>();
-                for (int i = 1; i < serializerValues.size(); i++) {
-                    final String[] keyValuePair = serializerValues.get(i).split("=");
+                for (int i = 1; i < reader.getNumberFields(); i++) {
+                    final String[] keyValuePair = reader.getString(i).split("=");
                     serializers.put(keyValuePair[0], keyValuePair[1]);
                 }
+                reader.nextRecord();
+                final String[] names = new String[types.length];
+                for (int i = 0; i < types.length; i++) {
+                    names[i] = reader.getString(i + 1);
+                }
                 return new TableSpecImpl(types, names, serializers);
             }
         } catch (final IOException e) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
             throw new SerializationException("An error occurred during deserialization. See log for details.", e);
         } catch (final Exception ex) {
-            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            deleteTransferFiles(file);
             throw ex;
         }
     }
 
-    private static List<String> parseLine(final BufferedReader reader) throws IOException {
-        final List<String> values = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        boolean end = false;
-        boolean escaped = false;
-        Character previous = null;
-        while (!end) {
-            final int read = reader.read();
-            if (read < 0) {
-                if ((!values.isEmpty()) || (sb.length() > 0)) {
-                    values.add(sb.toString());
-                    return values;
-                } else {
-                    return null;
-                }
+    private static boolean hasBytesColumns(final Type[] columnTypes) {
+        for (final Type type : columnTypes) {
+            if (type == Type.BYTES || type == Type.BYTES_LIST || type == Type.BYTES_SET) {
+                return true;
             }
-            final char c = (char)read;
-            if ((c == '\n') && !escaped) {
-                end = true;
-            } else if (c == '"') {
-                if ((previous != null) && (previous == '"')) {
-                    sb.append(c);
-                }
-                escaped = !escaped;
-            } else if ((c == ',') && !escaped) {
-                values.add(sb.toString());
-                sb = new StringBuilder();
-            } else {
-                sb.append(c);
-            }
-            previous = c;
         }
-        values.add(sb.toString());
-        return values;
+        return false;
     }
 
-    private static String escapeValue(String value) {
-        value = value.replace("\"", "\"\"");
-        if (value.contains("\"") || value.contains("\n") || value.contains(",") || value.contains("\r")) {
-            value = "\"" + value + "\"";
+    private static File getBytesSidecarFile(final File file) {
+        return new File(file.getPath() + BYTES_SIDECAR_SUFFIX);
+    }
+
+    private static void deleteTransferFiles(final File file) {
+        if (file != null) {
+            PythonUtils.Misc.invokeSafely(null, File::delete, file);
+            PythonUtils.Misc.invokeSafely(null, File::delete, getBytesSidecarFile(file));
         }
-        return value;
     }
 
-    private static String bytesToBase64(final byte[] bytes) {
-        return new String(Base64.getEncoder().encode(bytes));
+    /**
+     * Resolves a BYTES value from its {@code <offset>:<length>} reference into the sidecar file. Falls back to base64
+     * if the table was written without a sidecar file.
+     */
+    private static byte[] readBytes(final BytesSidecarReader sidecar, final String value) throws IOException {
+        if (sidecar == null) {
+            return bytesFromBase64(value);
+        }
+        final int separator = value.indexOf(':');
+        if (separator < 0) {
+            throw new IOException("Invalid reference into the binary sidecar file: '" + value + "'.");
+        }
+        final long offset = Long.parseLong(value, 0, separator, 10);
+        final int length = Integer.parseInt(value, separator + 1, value.length(), 10);
+        return sidecar.read(offset, length);
     }
 
     private static byte[] bytesFromBase64(String base64) {
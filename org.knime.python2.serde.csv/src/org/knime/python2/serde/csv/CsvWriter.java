@@ -0,0 +1,244 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the CSV files used for data transfer to python. Output is UTF-8 encoded into a large direct buffer that is
+ * written to the file channel whenever it is full. Numbers are formatted without intermediate strings.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class CsvWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes();
+
+    private final FileChannel m_channel;
+
+    private final ByteBuffer m_buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    // Large enough for the digits of any long.
+    private final byte[] m_digits = new byte[20];
+
+    /**
+     * @param file the file to write to, existing contents are replaced
+     * @throws IOException if the file could not be opened
+     */
+    CsvWriter(final File file) throws IOException {
+        m_channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * @param c an ASCII character
+     * @throws IOException if writing failed
+     */
+    void write(final char c) throws IOException {
+        ensureRemaining(1);
+        m_buffer.put((byte)c);
+    }
+
+    /**
+     * @param bytes raw bytes, e.g. ASCII text
+     * @throws IOException if writing failed
+     */
+    void write(final byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureRemaining(1);
+            final int length = Math.min(bytes.length - offset, m_buffer.remaining());
+            m_buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * @param value the value to write in decimal notation
+     * @throws IOException if writing failed
+     */
+    void write(final int value) throws IOException {
+        write((long)value);
+    }
+
+    /**
+     * @param value the value to write in decimal notation
+     * @throws IOException if writing failed
+     */
+    void write(final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(LONG_MIN_VALUE);
+            return;
+        }
+        ensureRemaining(m_digits.length + 1);
+        long remaining = value;
+        if (remaining < 0) {
+            m_buffer.put((byte)'-');
+            remaining = -remaining;
+        }
+        int pos = m_digits.length;
+        do {
+            m_digits[--pos] = (byte)('0' + (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        m_buffer.put(m_digits, pos, m_digits.length - pos);
+    }
+
+    /**
+     * Writes the given text as it is.
+     *
+     * @param value the text
+     * @throws IOException if writing failed
+     */
+    void write(final CharSequence value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            i = writeChar(value, i);
+        }
+    }
+
+    /**
+     * Writes the given text as a single CSV field. The field is quoted if it contains quotes, commas or line breaks.
+     * Quotes inside the field are doubled.
+     *
+     * @param value the text
+     * @throws IOException if writing failed
+     */
+    void writeEscaped(final CharSequence value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == ',' || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) {
+            write(value);
+            return;
+        }
+        write('"');
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                write('"');
+            }
+            i = writeChar(value, i);
+        }
+        write('"');
+    }
+
+    /**
+     * Writes the line terminator.
+     *
+     * @throws IOException if writing failed
+     */
+    void newLine() throws IOException {
+        write('\n');
+    }
+
+    /**
+     * UTF-8 encodes the character at the given index, or the surrogate pair starting there.
+     *
+     * @return the index of the last character that was consumed
+     */
+    private int writeChar(final CharSequence value, final int index) throws IOException {
+        final char c = value.charAt(index);
+        ensureRemaining(4);
+        if (c < 0x80) {
+            m_buffer.put((byte)c);
+        } else if (c < 0x800) {
+            m_buffer.put((byte)(0xC0 | (c >> 6)));
+            m_buffer.put((byte)(0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(index + 1))) {
+            final int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            m_buffer.put((byte)(0xF0 | (codePoint >> 18)));
+            m_buffer.put((byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+            m_buffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+            m_buffer.put((byte)(0x80 | (codePoint & 0x3F)));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            // Unpaired surrogate, replaced like String#getBytes does.
+            m_buffer.put((byte)'?');
+        } else {
+            m_buffer.put((byte)(0xE0 | (c >> 12)));
+            m_buffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+            m_buffer.put((byte)(0x80 | (c & 0x3F)));
+        }
+        return index;
+    }
+
+    private void ensureRemaining(final int numBytes) throws IOException {
+        if (m_buffer.remaining() < numBytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        m_buffer.flip();
+        while (m_buffer.hasRemaining()) {
+            m_channel.write(m_buffer);
+        }
+        m_buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            m_channel.close();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.kernel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.python2.prefs.PythonPreferences;
+import org.knime.python2.testing.PreferencesSetup;
+
+/**
+ * Tests that the schema of a table that is transferred from Python in several chunks is inferred once, on the entire
+ * data frame, and is released once the transfer is complete.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class ChunkedOutputTableTest {
+
+	/**
+	 * The tests in this class require the preferences of the Python integration to be properly set up, which is ensured
+	 * by this rule.
+	 */
+	@ClassRule
+	public static final TestRule preferencesSetup = new PreferencesSetup("org.knime.python2.serde.flatbuffers.tests");
+
+	private static final int CHUNK_SIZE = 7;
+
+	private PythonKernel m_kernel;
+
+	private ExecutionContext m_exec;
+
+	@Before
+	public void setup() throws IOException {
+		m_kernel = new PythonKernel(new Python2KernelBackend(PythonPreferences.getPython3CommandPreference()));
+		final PythonKernelOptions options = new PythonKernelOptions();
+		m_kernel.setOptions(
+			options.forSerializationOptions(options.getSerializationOptions().forChunkSize(CHUNK_SIZE)));
+		m_exec = createExecutionContext();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if (m_kernel != null) {
+			m_kernel.close();
+		}
+	}
+
+	@Test
+	public void testIntegerTypeIsInferredOnEntireTable() throws IOException, CanceledExecutionException {
+		// Only the last chunk contains a value that does not fit into an int.
+		execute("import pandas\n" //
+			+ "output_table = pandas.DataFrame({'a': [1] * 14 + [2 ** 40] * 6})");
+		final BufferedDataTable table = m_kernel.getDataTable("output_table", m_exec, m_exec);
+		assertEquals(LongCell.TYPE, table.getDataTableSpec().getColumnSpec("a").getType());
+		long rowIndex = 0;
+		for (final DataRow row : table) {
+			assertEquals(new LongCell(rowIndex < 14 ? 1 : (1L << 40)), row.getCell(0));
+			rowIndex++;
+		}
+		assertEquals(20, rowIndex);
+	}
+
+	@Test
+	public void testObjectColumnTypeIsInferredOnEntireTable() throws IOException, CanceledExecutionException {
+		// The first chunk only contains missing values, which would make the column a string column on its own.
+		execute("import pandas\n" //
+			+ "output_table = pandas.DataFrame({'a': pandas.Series([None] * 7 + list(range(7, 20)), dtype=object)})");
+		final BufferedDataTable table = m_kernel.getDataTable("output_table", m_exec, m_exec);
+		assertEquals(IntCell.TYPE, table.getDataTableSpec().getColumnSpec("a").getType());
+		int rowIndex = 0;
+		for (final DataRow row : table) {
+			if (rowIndex < 7) {
+				assertTrue(row.getCell(0).isMissing());
+			} else {
+				assertEquals(new IntCell(rowIndex), row.getCell(0));
+			}
+			rowIndex++;
+		}
+		assertEquals(20, rowIndex);
+	}
+
+	@Test
+	public void testSchemaIsReleasedAfterTransfer() throws IOException, CanceledExecutionException {
+		execute("import pandas\n" //
+			+ "output_table = pandas.DataFrame({'a': range(20)})");
+		m_kernel.getDataTable("output_table", m_exec, m_exec);
+		assertEquals("0", execute("print(len(workspace._table_schemas))")[0].trim());
+	}
+
+	@Test
+	public void testSchemaIsInferredAgainForEachTransfer() throws IOException, CanceledExecutionException {
+		execute("import pandas\n" //
+			+ "output_table = pandas.DataFrame({'a': range(20)})");
+		assertEquals(IntCell.TYPE, m_kernel.getDataTable("output_table", m_exec, m_exec).getDataTableSpec()
+			.getColumnSpec("a").getType());
+		// Modify the same data frame object in place.
+		execute("output_table['a'] = output_table['a'] + 0.5");
+		assertEquals(DoubleCell.TYPE, m_kernel.getDataTable("output_table", m_exec, m_exec).getDataTableSpec()
+			.getColumnSpec("a").getType());
+	}
+
+	private String[] execute(final String sourceCode) throws IOException, CanceledExecutionException {
+		return m_kernel.execute(sourceCode, PythonCancelable.NOT_CANCELABLE);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ExecutionContext createExecutionContext() {
+		final NodeFactory<NodeModel> factory =
+			(NodeFactory) new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+		return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+			SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.kernel;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.data.time.localdatetime.LocalDateTimeCellFactory;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeCellFactory;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.python2.prefs.PythonPreferences;
+import org.knime.python2.testing.PreferencesSetup;
+
+/**
+ * Tests that date-times survive the transfer to the {@link Python2KernelBackend old Python kernel back end} and back,
+ * and that date-times created in Python arrive with the expected zone.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class DateTimeTransferTest {
+
+	/**
+	 * The tests in this class require the preferences of the Python integration to be properly set up, which is ensured
+	 * by this rule.
+	 */
+	@ClassRule
+	public static final TestRule preferencesSetup = new PreferencesSetup("org.knime.python2.serde.flatbuffers.tests");
+
+	private PythonKernel m_kernel;
+
+	private ExecutionContext m_exec;
+
+	@Before
+	public void setup() throws IOException {
+		m_kernel = new PythonKernel(new Python2KernelBackend(PythonPreferences.getPython3CommandPreference()));
+		m_kernel.setOptions(new PythonKernelOptions());
+		m_exec = createExecutionContext();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if (m_kernel != null) {
+			m_kernel.close();
+		}
+	}
+
+	@Test
+	public void testZonedDateTimeRoundTrip() throws IOException, CanceledExecutionException {
+		final List<DataCell> cells = Arrays.asList( //
+			zoned(2024, 7, 1, 12, 30, 15, 123456000, ZoneId.of("Europe/Berlin")),
+			zoned(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin")),
+			zoned(2000, 2, 29, 23, 0, 0, 0, ZoneOffset.UTC));
+		assertRoundTrip(cells);
+	}
+
+	@Test
+	public void testNegativeOffsetRoundTrip() throws IOException, CanceledExecutionException {
+		final List<DataCell> cells = Arrays.asList( //
+			zoned(2024, 3, 10, 1, 59, 59, 999999000, ZoneId.of("America/New_York")),
+			zoned(2024, 11, 3, 23, 0, 0, 0, ZoneOffset.ofHoursMinutes(-3, -30)));
+		assertRoundTrip(cells);
+	}
+
+	@Test
+	public void testPreEpochRoundTrip() throws IOException, CanceledExecutionException {
+		final List<DataCell> zonedCells = Arrays.asList( //
+			zoned(1969, 12, 31, 23, 59, 59, 999999000, ZoneOffset.UTC),
+			zoned(1969, 7, 20, 20, 17, 40, 0, ZoneId.of("America/New_York")),
+			zoned(1900, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-5)));
+		assertRoundTrip(zonedCells);
+		final List<DataCell> localCells = Arrays.asList( //
+			local(1969, 12, 31, 23, 59, 59, 999999000),
+			local(1582, 10, 4, 12, 0, 0, 0),
+			local(1, 1, 1, 0, 0, 0, 0));
+		assertRoundTrip(localCells);
+	}
+
+	@Test
+	public void testZonedDateTimesFromPython() throws IOException, CanceledExecutionException {
+		m_kernel.execute("from datetime import datetime, timedelta, timezone\n" //
+			+ "from dateutil import tz\n" //
+			+ "import pandas as pd\n" //
+			+ "output_table = pd.DataFrame({'dt': pd.Series([\n" //
+			+ "    pd.Timestamp('1969-07-20 20:17:40', tz='America/New_York').to_pydatetime(),\n" //
+			+ "    datetime(1900, 1, 1, 12, tzinfo=timezone(timedelta(hours=-3, minutes=-30))),\n" //
+			+ "    datetime(2024, 7, 1, 12, tzinfo=tz.tzoffset('CEST', 2 * 3600))], dtype=object)})",
+			PythonCancelable.NOT_CANCELABLE);
+		final Iterator<DataRow> rows = m_kernel.getDataTable("output_table", m_exec, m_exec).iterator();
+		assertEquals(zoned(1969, 7, 20, 20, 17, 40, 0, ZoneId.of("America/New_York")), rows.next().getCell(0));
+		assertEquals(zoned(1900, 1, 1, 12, 0, 0, 0, ZoneOffset.ofHoursMinutes(-3, -30)), rows.next().getCell(0));
+		// Abbreviations are no zone ids, the offset is used instead.
+		assertEquals(zoned(2024, 7, 1, 12, 0, 0, 0, ZoneOffset.ofHours(2)), rows.next().getCell(0));
+	}
+
+	private void assertRoundTrip(final List<DataCell> cells) throws IOException, CanceledExecutionException {
+		final DataTableSpec spec =
+			new DataTableSpec(new DataColumnSpecCreator("dt", cells.get(0).getType()).createSpec());
+		final BufferedDataContainer container = m_exec.createDataContainer(spec);
+		for (int i = 0; i < cells.size(); i++) {
+			container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), cells.get(i)));
+		}
+		container.close();
+		m_kernel.putDataTable("input_table", container.getTable(), m_exec);
+		m_kernel.execute("output_table = input_table.copy()", PythonCancelable.NOT_CANCELABLE);
+		final BufferedDataTable output = m_kernel.getDataTable("output_table", m_exec, m_exec);
+		assertEquals(cells.size(), output.size());
+		final Iterator<DataRow> rows = output.iterator();
+		for (final DataCell cell : cells) {
+			assertEquals(cell, rows.next().getCell(0));
+		}
+	}
+
+	private static DataCell zoned(final int year, final int month, final int day, final int hour, final int minute,
+		final int second, final int nano, final ZoneId zone) {
+		return ZonedDateTimeCellFactory.create(ZonedDateTime.of(year, month, day, hour, minute, second, nano, zone));
+	}
+
+	private static DataCell local(final int year, final int month, final int day, final int hour, final int minute,
+		final int second, final int nano) {
+		return LocalDateTimeCellFactory.create(LocalDateTime.of(year, month, day, hour, minute, second, nano));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ExecutionContext createExecutionContext() {
+		final NodeFactory<NodeModel> factory =
+			(NodeFactory) new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+		return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+			SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+	}
+}
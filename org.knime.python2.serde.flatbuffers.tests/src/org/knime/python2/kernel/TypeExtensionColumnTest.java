@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.kernel;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.python2.prefs.PythonPreferences;
+import org.knime.python2.testing.PreferencesSetup;
+
+/**
+ * Tests for the column-level (de)serialization of extension types on the Python side of the
+ * {@link Python2KernelBackend old Python kernel back end}. The actual tests are implemented in
+ * {@code python3/testing/TypeExtensionColumnTest.py} and fail by raising an error in Python.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class TypeExtensionColumnTest {
+
+	/**
+	 * The tests in this class require the preferences of the Python integration to be properly set up, which is ensured
+	 * by this rule.
+	 */
+	@ClassRule
+	public static final TestRule preferencesSetup = new PreferencesSetup("org.knime.python2.serde.flatbuffers.tests");
+
+	private PythonKernel m_kernel;
+
+	@Before
+	public void setup() throws IOException {
+		m_kernel = new PythonKernel(new Python2KernelBackend(PythonPreferences.getPython3CommandPreference()));
+		m_kernel.setOptions(new PythonKernelOptions());
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if (m_kernel != null) {
+			m_kernel.close();
+		}
+	}
+
+	@Test
+	public void testCollectColumnValues() throws IOException, CanceledExecutionException {
+		runPythonTest("test_collect_column_values()");
+	}
+
+	@Test
+	public void testReplaceColumnValues() throws IOException, CanceledExecutionException {
+		runPythonTest("test_replace_column_values()");
+	}
+
+	@Test
+	public void testColumnFunctionPrefersColumnFunction() throws IOException, CanceledExecutionException {
+		runPythonTest("test_column_function_prefers_column_function()");
+	}
+
+	@Test
+	public void testColumnFunctionFallsBackToValueFunction() throws IOException, CanceledExecutionException {
+		runPythonTest("test_column_function_falls_back_to_value_function()");
+	}
+
+	@Test
+	public void testColumnFunctionRejectsLengthMismatch() throws IOException, CanceledExecutionException {
+		runPythonTest("test_column_function_rejects_length_mismatch()");
+	}
+
+	@Test
+	public void testColumnSerializersById() throws IOException, CanceledExecutionException {
+		runPythonTest("test_column_serializers_by_id()");
+	}
+
+	@Test
+	public void testSerializeObjectsToBytes() throws IOException, CanceledExecutionException {
+		runPythonTest("test_serialize_objects_to_bytes()");
+	}
+
+	@Test
+	public void testDeserializeFromBytes() throws IOException, CanceledExecutionException {
+		runPythonTest("test_deserialize_from_bytes()");
+	}
+
+	@Test
+	public void testBuiltinColumnFunctions() throws IOException, CanceledExecutionException {
+		runPythonTest("test_builtin_column_functions(globals()['workspace'])");
+	}
+
+	@Test
+	public void testZonedDateTimeSerialization() throws IOException, CanceledExecutionException {
+		runPythonTest("test_zoned_date_time_serialization(globals()['workspace'])");
+	}
+
+	private void runPythonTest(final String call) throws IOException, CanceledExecutionException {
+		final String sourceCode = "import python3.testing.TypeExtensionColumnTest as TypeExtensionColumnTest\n" //
+			+ "TypeExtensionColumnTest." + call;
+		// Use cancelable method overload to throw exception on error.
+		m_kernel.execute(sourceCode, PythonCancelable.NOT_CANCELABLE);
+	}
+}
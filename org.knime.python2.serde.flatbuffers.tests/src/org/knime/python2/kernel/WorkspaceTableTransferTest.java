@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.kernel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
+import org.knime.python2.prefs.PythonPreferences;
+import org.knime.python2.testing.PreferencesSetup;
+
+/**
+ * Tests that tables which are put into the workspace of the {@link Python2KernelBackend old Python kernel back end} in
+ * several chunks or lazily are seen as complete data frames by every way of reading the workspace.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class WorkspaceTableTransferTest {
+
+	/**
+	 * The tests in this class require the preferences of the Python integration to be properly set up, which is ensured
+	 * by this rule.
+	 */
+	@ClassRule
+	public static final TestRule preferencesSetup = new PreferencesSetup("org.knime.python2.serde.flatbuffers.tests");
+
+	private static final int CHUNK_SIZE = 7;
+
+	private static final int NUM_ROWS = 20;
+
+	private static final DataTableSpec SPEC = new DataTableSpec( //
+		new DataColumnSpecCreator("x", IntCell.TYPE).createSpec(), //
+		new DataColumnSpecCreator("name", StringCell.TYPE).createSpec());
+
+	private Python2KernelBackend m_backend;
+
+	private PythonKernel m_kernel;
+
+	private ExecutionContext m_exec;
+
+	private BufferedDataTable m_table;
+
+	@Before
+	public void setup() throws IOException {
+		m_backend = new Python2KernelBackend(PythonPreferences.getPython3CommandPreference());
+		m_kernel = new PythonKernel(m_backend);
+		m_exec = createExecutionContext();
+		final BufferedDataContainer container = m_exec.createDataContainer(SPEC);
+		for (int i = 0; i < NUM_ROWS; i++) {
+			container.addRowToTable(
+				new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell("row " + i)));
+		}
+		container.close();
+		m_table = container.getTable();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if (m_kernel != null) {
+			m_kernel.close();
+		}
+	}
+
+	@Test
+	public void testChunkedTableRoundTrip() throws IOException, CanceledExecutionException {
+		setOptions(false);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		m_kernel.execute("output_table = input_table.copy()", PythonCancelable.NOT_CANCELABLE);
+		assertTableEquals(m_table, m_kernel.getDataTable("output_table", m_exec, m_exec));
+	}
+
+	@Test
+	public void testListVariablesResolvesChunkedTables() throws IOException, CanceledExecutionException {
+		setOptions(false);
+		// No code is executed between putting the table and listing the variables.
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		assertListedAsDataFrame("input_table", m_kernel.listVariables());
+	}
+
+	@Test
+	public void testLazyTableRoundTrip() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		m_kernel.execute("output_table = input_table.copy()", PythonCancelable.NOT_CANCELABLE);
+		assertTableEquals(m_table, m_kernel.getDataTable("output_table", m_exec, m_exec));
+	}
+
+	@Test
+	public void testLazyTableIsOnlyTransferredWhenUsed() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		final String[] output = m_kernel.execute("print(type(dict.get(globals(), 'input' + '_table')).__name__)",
+			PythonCancelable.NOT_CANCELABLE);
+		assertEquals("_LazyTable", output[0].trim());
+	}
+
+	@Test
+	public void testLazyTableThroughRawDictionaryAccess() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		// The name occurs in the source code, so the table is resolved before the code is executed.
+		m_kernel.execute("output_table = dict.get(globals(), 'input_table')", PythonCancelable.NOT_CANCELABLE);
+		assertTableEquals(m_table, m_kernel.getDataTable("output_table", m_exec, m_exec));
+	}
+
+	@Test
+	public void testLazyTableThroughDictionaryMethods() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		m_kernel.putDataTable("other_table", m_table, m_exec);
+		m_kernel.execute("output_table = dict(globals())['input' + '_table']\n" //
+			+ "other = [v for k, v in globals().items() if k == 'other' + '_table'][0]",
+			PythonCancelable.NOT_CANCELABLE);
+		assertTableEquals(m_table, m_kernel.getDataTable("output_table", m_exec, m_exec));
+		assertTableEquals(m_table, m_kernel.getDataTable("other", m_exec, m_exec));
+	}
+
+	@Test
+	public void testLazyTableInFunction() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		m_kernel.execute("def f():\n" //
+			+ "    return globals()['input' + '_table']\n" //
+			+ "output_table = f()", PythonCancelable.NOT_CANCELABLE);
+		assertTableEquals(m_table, m_kernel.getDataTable("output_table", m_exec, m_exec));
+	}
+
+	@Test
+	public void testLazyTableWithRowFilter() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec, NUM_ROWS, null, RowFilterExpression.parse("x >= 5"));
+		m_kernel.execute("output_table = input_table", PythonCancelable.NOT_CANCELABLE);
+		final BufferedDataTable output = m_kernel.getDataTable("output_table", m_exec, m_exec);
+		assertEquals(NUM_ROWS - 5, output.size());
+		int expected = 5;
+		for (final DataRow row : output) {
+			assertEquals(new IntCell(expected++), row.getCell(0));
+		}
+	}
+
+	@Test
+	public void testListVariablesResolvesLazyTables() throws IOException, CanceledExecutionException {
+		setOptions(true);
+		m_kernel.putDataTable("input_table", m_table, m_exec);
+		assertListedAsDataFrame("input_table", m_kernel.listVariables());
+	}
+
+	private void setOptions(final boolean lazyTableTransfer) {
+		final PythonKernelOptions options = new PythonKernelOptions();
+		final SerializationOptions serializationOptions =
+			options.getSerializationOptions().forChunkSize(CHUNK_SIZE).forLazyTableTransfer(lazyTableTransfer);
+		m_kernel.setOptions(options.forSerializationOptions(serializationOptions));
+	}
+
+	private static void assertListedAsDataFrame(final String name, final List<Map<String, String>> variables) {
+		for (final Map<String, String> variable : variables) {
+			if (name.equals(variable.get("name"))) {
+				assertEquals(name, "DataFrame", variable.get("type"));
+				assertTrue(name, variable.get("value").contains("row " + (NUM_ROWS - 1)));
+				return;
+			}
+		}
+		throw new AssertionError("Variable '" + name + "' is not listed.");
+	}
+
+	private static void assertTableEquals(final BufferedDataTable expected, final BufferedDataTable actual) {
+		assertEquals(expected.size(), actual.size());
+		final Iterator<DataRow> actualRows = actual.iterator();
+		for (final DataRow expectedRow : expected) {
+			final DataRow actualRow = actualRows.next();
+			assertEquals(expectedRow.getKey(), actualRow.getKey());
+			for (int i = 0; i < expectedRow.getNumCells(); i++) {
+				assertEquals(expectedRow.getCell(i), actualRow.getCell(i));
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ExecutionContext createExecutionContext() {
+		final NodeFactory<NodeModel> factory =
+			(NodeFactory) new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+		return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+			SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.flatbuffers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.SerializationException;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
+import org.knime.python2.kernel.PythonCancelable;
+import org.knime.python2.kernel.PythonCanceledExecutionException;
+import org.knime.python2.serde.SerializationTestUtil;
+import org.knime.python2.serde.SerializationTestUtil.RowListIterator;
+
+/**
+ * Tests that reusing the builder of the Flatbuffers serialization library across chunks of different sizes does not
+ * affect the serialized bytes, i.e. that every chunk is serialized exactly like by a fresh library instance.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class FlatbuffersBuilderReuseTest {
+
+	private static final TableSpec SPEC = new TableSpecImpl(
+		new Type[] { Type.INTEGER, Type.DOUBLE, Type.STRING, Type.BYTES, Type.STRING_LIST, Type.INTEGER_SET,
+			Type.BYTES_LIST },
+		new String[] { "integer", "double", "string", "bytes", "string_list", "integer_set", "bytes_list" },
+		new HashMap<>());
+
+	private final SerializationTestUtil m_util = new SerializationTestUtil();
+
+	private Flatbuffers m_library;
+
+	@Before
+	public void setup() {
+		m_library = new Flatbuffers();
+	}
+
+	@After
+	public void cleanup() throws Exception {
+		m_library.close();
+	}
+
+	@Test
+	public void testChunksOfDifferentSizes() throws Exception {
+		// Large, then small (the retained builder is larger than needed), then large again (the builder is pre-sized
+		// according to the small chunk and has to grow).
+		for (final int numRows : new int[] { 2000, 3, 5000, 1, 0, 300 }) {
+			assertSerializedLikeByFreshLibrary(m_util.createRandomRows(SPEC, numRows, 0.2f, 0.2f, 0.1f));
+		}
+	}
+
+	@Test
+	public void testChunkAfterFailedChunk() throws Exception {
+		assertSerializedLikeByFreshLibrary(m_util.createRandomRows(SPEC, 100, 0.2f, 0.2f, 0.1f));
+		// The failure leaves the builder in the middle of the chunk.
+		final Row[] failingRows = m_util.createRandomRows(SPEC, 100, 0f, 0f, 0f);
+		failingRows[50] = new RowImpl("Row50", SPEC.getNumberColumns());
+		for (int i = 0; i < SPEC.getNumberColumns(); i++) {
+			failingRows[50].setCell(new CellImpl(), i);
+		}
+		failingRows[50].setCell(new CellImpl(42), 2);
+		try {
+			serialize(m_library, failingRows);
+			fail("Expected the serialization of an integer cell in a string column to fail.");
+		} catch (final SerializationException ex) {
+			// Expected.
+		}
+		assertSerializedLikeByFreshLibrary(m_util.createRandomRows(SPEC, 100, 0.2f, 0.2f, 0.1f));
+	}
+
+	private void assertSerializedLikeByFreshLibrary(final Row[] rows) throws Exception {
+		final byte[] expected;
+		try (final Flatbuffers freshLibrary = new Flatbuffers()) {
+			expected = serialize(freshLibrary, rows);
+		}
+		assertArrayEquals(expected, serialize(m_library, rows));
+	}
+
+	private static byte[] serialize(final Flatbuffers library, final Row[] rows)
+		throws SerializationException, PythonCanceledExecutionException {
+		return library.tableToBytes(new RowListIterator(SPEC, rows), new SerializationOptions(),
+			PythonCancelable.NOT_CANCELABLE);
+	}
+}
@@ -0,0 +1,345 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.flatbuffers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.knime.python2.serde.SerializationTestUtil.createMissingsVector;
+import static org.knime.python2.serde.SerializationTestUtil.populateMissingsVectorIndex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
+import org.knime.python2.kernel.PythonCancelable;
+import org.knime.python2.serde.SerializationTestUtil.RowListIterator;
+import org.knime.python2.serde.flatbuffers.flatc.ByteCell;
+import org.knime.python2.serde.flatbuffers.flatc.ByteCollectionCell;
+import org.knime.python2.serde.flatbuffers.flatc.ByteCollectionColumn;
+import org.knime.python2.serde.flatbuffers.flatc.ByteColumn;
+import org.knime.python2.serde.flatbuffers.flatc.Column;
+import org.knime.python2.serde.flatbuffers.flatc.IntCollectionColumn;
+import org.knime.python2.serde.flatbuffers.flatc.IntegerCollectionCell;
+import org.knime.python2.serde.flatbuffers.flatc.StringCollectionCell;
+import org.knime.python2.serde.flatbuffers.flatc.StringCollectionColumn;
+
+import com.google.flatbuffers.Table;
+
+/**
+ * Tests the Flatbuffers encoding of string, bytes and collection columns, whose values are encoded as they are put
+ * instead of when the column is created. Reads the serialized table in the standard Flatbuffers layout, which is what
+ * the Python side expects. The rows cover missing cells, missing collection elements and empty collections.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class FlatbuffersEncodingTest {
+
+	private static final int STRING = 0;
+
+	private static final int BYTES = 1;
+
+	private static final int STRING_LIST = 2;
+
+	private static final int INTEGER_SET = 3;
+
+	private static final int BYTES_LIST = 4;
+
+	// Fields of the tables, see the generated classes.
+
+	private static final int TABLE_ROW_IDS = 4;
+
+	private static final int TABLE_COLUMN_NAMES = 6;
+
+	private static final int TABLE_COLUMNS = 8;
+
+	private static final int COLUMN_STRING_COLUMN = 36;
+
+	private static final int STRING_COLUMN_VALUES = 4;
+
+	private static final int STRING_COLUMN_MISSING = 6;
+
+	private static final String BYTES_SERIALIZER = "org.knime.test.bytes";
+
+	private static final TableSpec SPEC;
+
+	static {
+		final Map<String, String> serializers = new HashMap<>();
+		serializers.put("bytes", BYTES_SERIALIZER);
+		serializers.put("bytes_list", BYTES_SERIALIZER);
+		SPEC = new TableSpecImpl(
+			new Type[] { Type.STRING, Type.BYTES, Type.STRING_LIST, Type.INTEGER_SET, Type.BYTES_LIST },
+			new String[] { "string", "bytes", "string_list", "integer_set", "bytes_list" }, serializers);
+	}
+
+	private static final Row[] ROWS = new Row[] { //
+		createRow("present", new CellImpl("gr\u00fcn"), new CellImpl(new byte[] { 1, 2, 3 }),
+			createStringList("a", null, "c"), new CellImpl(new int[] { 3, 1, 2 }, false),
+			createBytesList(new byte[] { 4 }, null)), //
+		createRow("missing", new CellImpl(), new CellImpl(), new CellImpl(), new CellImpl(), new CellImpl()), //
+		createRow("empty", new CellImpl(""), new CellImpl(new byte[0]), createStringList(),
+			new CellImpl(new int[0], true), createBytesList()) };
+
+	private static Flatbuffers library;
+
+	private static ByteBuffer buffer;
+
+	private static StandardLayoutReader table;
+
+	@BeforeClass
+	public static void serialize() throws Exception {
+		library = new Flatbuffers();
+		// Serialize twice to cover a reused builder, too.
+		library.tableToBytes(new RowListIterator(SPEC, ROWS), new SerializationOptions(),
+			PythonCancelable.NOT_CANCELABLE);
+		final byte[] bytes = library.tableToBytes(new RowListIterator(SPEC, ROWS), new SerializationOptions(),
+			PythonCancelable.NOT_CANCELABLE);
+		buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		table = new StandardLayoutReader(buffer, buffer.getInt(buffer.position()) + buffer.position());
+	}
+
+	@AfterClass
+	public static void close() throws Exception {
+		library.close();
+	}
+
+	@Test
+	public void testTableLayout() {
+		final String[] rowKeys = table.strings(TABLE_ROW_IDS);
+		assertEquals(ROWS.length, rowKeys.length);
+		for (int i = 0; i < ROWS.length; i++) {
+			assertEquals(ROWS[i].getRowKey(), rowKeys[i]);
+		}
+		assertArrayEquals(SPEC.getColumnNames(), table.strings(TABLE_COLUMN_NAMES));
+		for (int j = 0; j < SPEC.getNumberColumns(); j++) {
+			assertEquals(SPEC.getColumnTypes()[j].getId(), column(j).type());
+		}
+	}
+
+	@Test
+	public void testStringColumn() {
+		final StandardLayoutReader column =
+			new StandardLayoutReader(buffer, table.tableInVector(TABLE_COLUMNS, STRING)).table(COLUMN_STRING_COLUMN);
+		final boolean[] missings = column.booleans(STRING_COLUMN_MISSING);
+		assertColumnMissings(STRING, missings.length, i -> missings[i]);
+		assertArrayEquals(new String[] { "gr\u00fcn", "", "" }, column.strings(STRING_COLUMN_VALUES));
+	}
+
+	@Test
+	public void testBytesColumn() {
+		final ByteColumn column = column(BYTES).byteColumn();
+		assertEquals(BYTES_SERIALIZER, column.serializer());
+		assertEquals(ROWS.length, column.valuesLength());
+		assertColumnMissings(BYTES, column.missingLength(), column::missing);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, toBytes(column.values(0)));
+		assertArrayEquals(new byte[0], toBytes(column.values(1)));
+		assertArrayEquals(new byte[0], toBytes(column.values(2)));
+	}
+
+	@Test
+	public void testStringListColumn() {
+		final StringCollectionColumn column = column(STRING_LIST).stringListColumn();
+		assertEquals(ROWS.length, column.valuesLength());
+		assertColumnMissings(STRING_LIST, column.missingLength(), column::missing);
+		final StringCollectionCell present = column.values(0);
+		assertEquals(3, present.valueLength());
+		assertEquals("a", present.value(0));
+		assertEquals("", present.value(1));
+		assertEquals("c", present.value(2));
+		assertFalse(present.missing(0));
+		assertTrue(present.missing(1));
+		assertFalse(present.missing(2));
+		assertFalse(present.keepDummy());
+		// Missing cells are encoded as empty collections.
+		assertEquals(0, column.values(1).valueLength());
+		assertEquals(0, column.values(2).valueLength());
+	}
+
+	@Test
+	public void testIntegerSetColumn() {
+		final IntCollectionColumn column = column(INTEGER_SET).intSetColumn();
+		assertEquals(ROWS.length, column.valuesLength());
+		assertColumnMissings(INTEGER_SET, column.missingLength(), column::missing);
+		final IntegerCollectionCell present = column.values(0);
+		assertEquals(3, present.valueLength());
+		assertEquals(3, present.value(0));
+		assertEquals(1, present.value(1));
+		assertEquals(2, present.value(2));
+		assertFalse(present.keepDummy());
+		assertEquals(0, column.values(1).valueLength());
+		assertFalse(column.values(1).keepDummy());
+		// An otherwise empty set that contains a missing value.
+		assertEquals(0, column.values(2).valueLength());
+		assertTrue(column.values(2).keepDummy());
+	}
+
+	@Test
+	public void testBytesListColumn() {
+		final ByteCollectionColumn column = column(BYTES_LIST).byteListColumn();
+		assertEquals(BYTES_SERIALIZER, column.serializer());
+		assertEquals(ROWS.length, column.valuesLength());
+		assertColumnMissings(BYTES_LIST, column.missingLength(), column::missing);
+		final ByteCollectionCell present = column.values(0);
+		assertEquals(2, present.valueLength());
+		assertArrayEquals(new byte[] { 4 }, toBytes(present.value(0)));
+		assertArrayEquals(new byte[0], toBytes(present.value(1)));
+		assertFalse(present.missing(0));
+		assertTrue(present.missing(1));
+		assertEquals(0, column.values(2).valueLength());
+	}
+
+	private static void assertColumnMissings(final int columnIndex, final int missingLength,
+		final IntPredicate missing) {
+		assertEquals(ROWS.length, missingLength);
+		for (int i = 0; i < ROWS.length; i++) {
+			assertEquals("Row " + i, ROWS[i].getCell(columnIndex).isMissing(), missing.test(i));
+		}
+	}
+
+	private static Column column(final int index) {
+		return new Column().__assign(table.tableInVector(TABLE_COLUMNS, index), buffer);
+	}
+
+	private static byte[] toBytes(final ByteCell cell) {
+		final byte[] bytes = new byte[cell.valueLength()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)cell.value(i);
+		}
+		return bytes;
+	}
+
+	private static Row createRow(final String key, final Cell... cells) {
+		final Row row = new RowImpl(key, cells.length);
+		for (int i = 0; i < cells.length; i++) {
+			row.setCell(cells[i], i);
+		}
+		return row;
+	}
+
+	/** {@code null} elements are missing. */
+	private static Cell createStringList(final String... elements) {
+		final byte[] missings = createMissingsVector(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i] != null) {
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	/** {@code null} elements are missing. */
+	private static Cell createBytesList(final byte[]... elements) {
+		final byte[] missings = createMissingsVector(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i] != null) {
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	/**
+	 * Reads tables in the standard Flatbuffers layout. The generated classes of the table and of string columns expect
+	 * the row keys and strings in the layout written by Python, which differs from the one written by Java.
+	 */
+	private static final class StandardLayoutReader extends Table {
+
+		StandardLayoutReader(final ByteBuffer buffer, final int position) {
+			bb = buffer;
+			bb_pos = position;
+		}
+
+		/**
+		 * @return the reader of the table in the given field
+		 */
+		StandardLayoutReader table(final int field) {
+			return new StandardLayoutReader(bb, __indirect(__offset(field) + bb_pos));
+		}
+
+		/**
+		 * @return the position of the table at the given index of the vector in the given field
+		 */
+		int tableInVector(final int field, final int index) {
+			return __indirect(__vector(__offset(field)) + index * Integer.BYTES);
+		}
+
+		String[] strings(final int field) {
+			final int offset = __offset(field);
+			final String[] strings = new String[__vector_len(offset)];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = __string(__vector(offset) + i * Integer.BYTES);
+			}
+			return strings;
+		}
+
+		boolean[] booleans(final int field) {
+			final int offset = __offset(field);
+			final boolean[] booleans = new boolean[__vector_len(offset)];
+			for (int i = 0; i < booleans.length; i++) {
+				booleans[i] = bb.get(__vector(offset) + i) != 0;
+			}
+			return booleans;
+		}
+	}
+}
@@ -79,6 +79,15 @@ public FlatbuffersSerializationTest() {
 		m_tester = new SerializationLibraryTester(FlatbuffersColumnSerializationFactory.class);
 	}
 
+	/**
+	 * @see SerializationLibraryTester#testBooleanOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBooleanOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBooleanOnlineSerializationDeserializationIdentity();
+	}
+
 	/**
 	 * @see SerializationLibraryTester#testIntOnlineSerializationDeserializationIdentity()
 	 */
@@ -87,4 +96,76 @@ public FlatbuffersSerializationTest() {
 	public void testIntOnlineSerializationDeserializationIdentity() throws IOException {
 		m_tester.testIntOnlineSerializationDeserializationIdentity();
 	}
+
+	/**
+	 * @see SerializationLibraryTester#testLongOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testLongOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testLongOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testStringOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testStringOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testStringOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testDoubleOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testDoubleOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testDoubleOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testBytesOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testBytesOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testBytesOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testCollectionOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testCollectionOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testCollectionOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testChunkedOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testChunkedOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testChunkedOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testGrowingCellSizesOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testGrowingCellSizesOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testGrowingCellSizesOnlineSerializationDeserializationIdentity();
+	}
+
+	/**
+	 * @see SerializationLibraryTester#testNonRetainingCreatorOnlineSerializationDeserializationIdentity()
+	 */
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testNonRetainingCreatorOnlineSerializationDeserializationIdentity() throws IOException {
+		m_tester.testNonRetainingCreatorOnlineSerializationDeserializationIdentity();
+	}
 }
@@ -47,7 +47,9 @@
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -57,6 +59,7 @@
 import org.knime.core.util.ThreadUtils;
 import org.knime.python2.extensions.serializationlibrary.SerializationException;
 import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
 import org.knime.python2.extensions.serializationlibrary.interfaces.SerializationLibrary;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreator;
@@ -69,6 +72,7 @@
 import org.knime.python2.kernel.PythonCancelable;
 import org.knime.python2.kernel.PythonCanceledExecutionException;
 import org.knime.python2.kernel.PythonIOException;
+import org.knime.python2.serde.flatbuffers.extractors.AbstractColumnCell;
 import org.knime.python2.serde.flatbuffers.extractors.BooleanExtractor;
 import org.knime.python2.serde.flatbuffers.extractors.BooleanListExtractor;
 import org.knime.python2.serde.flatbuffers.extractors.BooleanSetExtractor;
@@ -135,16 +139,39 @@
  */
 public class Flatbuffers implements SerializationLibrary {
 
+    /**
+     * Builders whose buffer exceeds this capacity are not retained after a chunk to not pin large amounts of memory
+     * between transfers. The next builder is still pre-sized according to the previous chunk.
+     */
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 64 * 1024 * 1024;
+
+    private static final int MIN_BUILDER_CAPACITY = 1024;
+
     /** Used to make (de-)serialization cancelable. */
     private final ExecutorService m_executorService = ThreadUtils.executorServiceWithContext(Executors
         .newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("python-flatbuffers-serde-%d").build()));
 
+    /**
+     * Reused across chunks to avoid growing a fresh buffer by repeated doubling for every chunk. Only accessed by the
+     * single thread of {@link #m_executorService}.
+     */
+    private FlatBufferBuilder m_builder;
+
+    /** The size of the previously serialized chunk. Used to pre-size new builders. */
+    private int m_lastChunkSize = MIN_BUILDER_CAPACITY;
+
     @Override
     public byte[] tableToBytes(final TableIterator tableIterator, final SerializationOptions serializationOptions,
         final PythonCancelable cancelable) throws SerializationException, PythonCanceledExecutionException {
         try {
-            return PythonUtils.Misc.executeCancelable(() -> tableToBytesInternal(tableIterator, serializationOptions),
-                m_executorService::submit, cancelable);
+            return PythonUtils.Misc.executeCancelable(() -> {
+                final FlatBufferBuilder builder = acquireBuilder();
+                try {
+                    return tableToBytesInternal(tableIterator, serializationOptions, builder);
+                } finally {
+                    releaseBuilder(builder);
+                }
+            }, m_executorService::submit, cancelable);
         } catch (final PythonIOException ex) {
             throw new SerializationException("An error occurred during serialization. See log for errors.", ex);
         } catch (final AssertionError ex) {
@@ -156,12 +183,29 @@ public byte[] tableToBytes(final TableIterator tableIterator, final Serializatio
         }
     }
 
+    private FlatBufferBuilder acquireBuilder() {
+        final FlatBufferBuilder builder = m_builder;
+        m_builder = null;
+        if (builder == null) {
+            // Some headroom to not grow the buffer for slightly larger chunks.
+            return new FlatBufferBuilder((int)Math.min(Integer.MAX_VALUE, m_lastChunkSize + (long)m_lastChunkSize / 8));
+        }
+        builder.clear();
+        return builder;
+    }
+
+    private void releaseBuilder(final FlatBufferBuilder builder) {
+        m_lastChunkSize = Math.max(MIN_BUILDER_CAPACITY, builder.offset());
+        if (builder.dataBuffer().capacity() <= MAX_RETAINED_BUILDER_CAPACITY) {
+            m_builder = builder;
+        }
+    }
+
     /**
      * Possibly interrupted by {@link #tableToBytes(TableIterator, SerializationOptions, PythonCancelable)}.
      */
     private static byte[] tableToBytesInternal(final TableIterator tableIterator,
-        final SerializationOptions serializationOptions) {
-        final FlatBufferBuilder builder = new FlatBufferBuilder();
+        final SerializationOptions serializationOptions, final FlatBufferBuilder builder) {
         final List<FlatbuffersVectorInserter> inserters = new ArrayList<>();
 
         final Type[] types = tableIterator.getTableSpec().getColumnTypes();
@@ -175,11 +219,11 @@ private static byte[] tableToBytesInternal(final TableIterator tableIterator,
                     break;
                 }
                 case BOOLEAN_LIST: {
-                    inserters.add(new BooleanListInserter(numRows));
+                    inserters.add(new BooleanListInserter(numRows, builder));
                     break;
                 }
                 case BOOLEAN_SET: {
-                    inserters.add(new BooleanSetInserter(numRows));
+                    inserters.add(new BooleanSetInserter(numRows, builder));
                     break;
                 }
                 case INTEGER: {
@@ -187,11 +231,11 @@ private static byte[] tableToBytesInternal(final TableIterator tableIterator,
                     break;
                 }
                 case INTEGER_LIST: {
-                    inserters.add(new IntListInserter(numRows));
+                    inserters.add(new IntListInserter(numRows, builder));
                     break;
                 }
                 case INTEGER_SET: {
-                    inserters.add(new IntSetInserter(numRows));
+                    inserters.add(new IntSetInserter(numRows, builder));
                     break;
                 }
                 case LONG: {
@@ -199,11 +243,11 @@ private static byte[] tableToBytesInternal(final TableIterator tableIterator,
                     break;
                 }
                 case LONG_LIST: {
-                    inserters.add(new LongListInserter(numRows));
+                    inserters.add(new LongListInserter(numRows, builder));
                     break;
                 }
                 case LONG_SET: {
-                    inserters.add(new LongSetInserter(numRows));
+                    inserters.add(new LongSetInserter(numRows, builder));
                     break;
                 }
                 case DOUBLE:
@@ -213,36 +257,36 @@ private static byte[] tableToBytesInternal(final TableIterator tableIterator,
                 }
                 case DOUBLE_LIST:
                 case FLOAT_LIST: {
-                    inserters.add(new DoubleListInserter(numRows));
+                    inserters.add(new DoubleListInserter(numRows, builder));
                     break;
                 }
                 case DOUBLE_SET:
                 case FLOAT_SET: {
-                    inserters.add(new DoubleSetInserter(numRows));
+                    inserters.add(new DoubleSetInserter(numRows, builder));
                     break;
                 }
                 case STRING: {
-                    inserters.add(new StringInserter(numRows));
+                    inserters.add(new StringInserter(numRows, builder));
                     break;
                 }
                 case STRING_LIST: {
-                    inserters.add(new StringListInserter(numRows));
+                    inserters.add(new StringListInserter(numRows, builder));
                     break;
                 }
                 case STRING_SET: {
-                    inserters.add(new StringSetInserter(numRows));
+                    inserters.add(new StringSetInserter(numRows, builder));
                     break;
                 }
                 case BYTES: {
-                    inserters.add(new BytesInserter(numRows, serializers.get(names[i])));
+                    inserters.add(new BytesInserter(numRows, serializers.get(names[i]), builder));
                     break;
                 }
                 case BYTES_LIST: {
-                    inserters.add(new BytesListInserter(numRows, serializers.get(names[i])));
+                    inserters.add(new BytesListInserter(numRows, serializers.get(names[i]), builder));
                     break;
                 }
                 case BYTES_SET: {
-                    inserters.add(new BytesSetInserter(numRows, serializers.get(names[i])));
+                    inserters.add(new BytesSetInserter(numRows, serializers.get(names[i]), builder));
                     break;
                 }
                 default:
@@ -310,13 +354,18 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
         final KnimeTable table = KnimeTable.getRootAsKnimeTable(ByteBuffer.wrap(bytes));
         final Map<String, Type> colTypes = new HashMap<>();
         final List<VectorExtractor> extractors = new ArrayList<>();
+        // Scalar columns are additionally exposed through reusable cells that read directly from the buffer.
+        final AbstractColumnCell[] columnCells = new AbstractColumnCell[table.columnsLength()];
+        final Column col = new Column();
         for (int j = 0; j < table.columnsLength(); j++) {
-            final Column col = table.columns(j);
+            table.columns(col, j);
             switch (Type.getTypeForId(col.type())) {
                 case BOOLEAN: {
                     final BooleanColumn colVec = col.booleanColumn();
                     colTypes.put(table.colNames(j), Type.BOOLEAN);
-                    extractors.add(new BooleanExtractor(colVec));
+                    final BooleanExtractor extractor = new BooleanExtractor(colVec);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
                     break;
                 }
                 case BOOLEAN_LIST: {
@@ -334,7 +383,9 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
                 case INTEGER: {
                     final IntColumn colVec = col.intColumn();
                     colTypes.put(table.colNames(j), Type.INTEGER);
-                    extractors.add(new IntExtractor(colVec, serializationOptions));
+                    final IntExtractor extractor = new IntExtractor(colVec, serializationOptions);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
                     break;
                 }
                 case INTEGER_LIST: {
@@ -352,7 +403,9 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
                 case LONG: {
                     final LongColumn colVec = col.longColumn();
                     colTypes.put(table.colNames(j), Type.LONG);
-                    extractors.add(new LongExtractor(colVec, serializationOptions));
+                    final LongExtractor extractor = new LongExtractor(colVec, serializationOptions);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
                     break;
                 }
                 case LONG_LIST: {
@@ -371,7 +424,9 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
                 case FLOAT: {
                     final DoubleColumn colVec = col.doubleColumn();
                     colTypes.put(table.colNames(j), Type.DOUBLE);
-                    extractors.add(new DoubleExtractor(colVec));
+                    final DoubleExtractor extractor = new DoubleExtractor(colVec);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
 
                     break;
                 }
@@ -392,7 +447,9 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
                 case STRING: {
                     final StringColumn colVec = col.stringColumn();
                     colTypes.put(table.colNames(j), Type.STRING);
-                    extractors.add(new StringExtractor(colVec));
+                    final StringExtractor extractor = new StringExtractor(colVec);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
                     break;
                 }
                 case STRING_LIST: {
@@ -411,7 +468,9 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
 
                     final ByteColumn colVec = col.byteColumn();
                     colTypes.put(table.colNames(j), Type.BYTES);
-                    extractors.add(new BytesExtractor(colVec));
+                    final BytesExtractor extractor = new BytesExtractor(colVec);
+                    extractors.add(extractor);
+                    columnCells[j] = extractor.createColumnCell();
 
                     break;
                 }
@@ -435,14 +494,32 @@ private static void bytesIntoTableInternal(final TableCreator<?> tableCreator, f
 
         final int numRows = table.rowIDsLength();
         final int numCols = table.colNamesLength();
+        // Creators that consume rows immediately get the same row instance for every row, which decodes its row key
+        // only on request and exposes scalar values without copying them into intermediate cells.
+        final ReusableRow reusableRow = tableCreator.retainsRows() ? null : new ReusableRow(table, numCols);
         for (int rowCount = 0; rowCount < numRows; rowCount++) {
             if (Thread.interrupted()) {
                 // Stop serialization if canceled by client.
                 throw new CancellationException("Deserialization canceled by client.");
             }
-            final Row r = new RowImpl(table.rowID(rowCount), numCols);
-            for (int colCount = 0; colCount < numCols; colCount++) {
-                r.setCell(extractors.get(colCount).extract(), colCount);
+            final Row r;
+            if (reusableRow != null) {
+                reusableRow.setIndex(rowCount);
+                for (int colCount = 0; colCount < numCols; colCount++) {
+                    final AbstractColumnCell columnCell = columnCells[colCount];
+                    if (columnCell != null) {
+                        columnCell.setIndex(rowCount);
+                        reusableRow.setCell(columnCell, colCount);
+                    } else {
+                        reusableRow.setCell(extractors.get(colCount).extract(), colCount);
+                    }
+                }
+                r = reusableRow;
+            } else {
+                r = new RowImpl(table.rowID(rowCount), numCols);
+                for (int colCount = 0; colCount < numCols; colCount++) {
+                    r.setCell(extractors.get(colCount).extract(), colCount);
+                }
             }
             tableCreator.addRow(r);
         }
@@ -463,8 +540,9 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
         }
 
         final Map<String, String> serializers = new HashMap<>();
+        final Column col = new Column();
         for (int j = 0; j < table.columnsLength(); j++) {
-            final Column col = table.columns(j);
+            table.columns(col, j);
             types[j] = Type.getTypeForId(col.type());
             switch (Type.getTypeForId(col.type())) {
                 case BYTES: {
@@ -491,4 +569,50 @@ public TableSpec tableSpecFromBytes(final byte[] bytes, final PythonCancelable c
     public void close() throws Exception {
         PythonUtils.Misc.invokeSafely(null, ExecutorService::shutdownNow, m_executorService);
     }
+
+    /**
+     * A row that is moved across all rows of a deserialized table. Only valid until it is moved on.
+     */
+    private static final class ReusableRow implements Row {
+
+        private final KnimeTable m_table;
+
+        private final Cell[] m_cells;
+
+        private int m_index;
+
+        private ReusableRow(final KnimeTable table, final int numberCells) {
+            m_table = table;
+            m_cells = new Cell[numberCells];
+        }
+
+        private void setIndex(final int index) {
+            m_index = index;
+        }
+
+        @Override
+        public void setCell(final Cell cell, final int index) {
+            m_cells[index] = cell;
+        }
+
+        @Override
+        public int getNumberCells() {
+            return m_cells.length;
+        }
+
+        @Override
+        public String getRowKey() {
+            return m_table.rowID(m_index);
+        }
+
+        @Override
+        public Cell getCell(final int index) {
+            return m_cells[index];
+        }
+
+        @Override
+        public Iterator<Cell> iterator() {
+            return Arrays.asList(m_cells).iterator();
+        }
+    }
 }
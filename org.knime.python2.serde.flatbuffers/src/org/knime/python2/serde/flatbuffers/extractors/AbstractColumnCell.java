@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.serde.flatbuffers.extractors;
+
+import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.util.BitArray;
+
+/**
+ * A reusable {@link Cell} that reads its value directly from a flatbuffers column at the current row index instead of
+ * copying it into a cell object. Only valid until the index is moved on, so it must only be handed to consumers that
+ * do not retain the cells they are given.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public abstract class AbstractColumnCell implements Cell {
+
+    /**
+     * The index of the row whose value is currently exposed.
+     */
+    protected int m_index;
+
+    /**
+     * @param index the index of the row whose value this cell exposes from now on
+     */
+    public void setIndex(final int index) {
+        m_index = index;
+    }
+
+    @Override
+    public boolean isMissing(final int index) {
+        throw unsupported("collection");
+    }
+
+    @Override
+    public byte[] getBitEncodedMissingListValues() {
+        throw unsupported("collection");
+    }
+
+    @Override
+    public boolean hasMissingInSet() {
+        throw unsupported("set");
+    }
+
+    @Override
+    public boolean getBooleanValue() throws IllegalStateException {
+        throw unsupported("boolean");
+    }
+
+    @Override
+    public boolean[] getBooleanArrayValue() throws IllegalStateException {
+        throw unsupported("boolean array");
+    }
+
+    @Override
+    public BitArray getBitEncodedArrayValue() throws IllegalStateException {
+        throw unsupported("bit encoded boolean array");
+    }
+
+    @Override
+    public int getIntegerValue() throws IllegalStateException {
+        throw unsupported("integer");
+    }
+
+    @Override
+    public int[] getIntegerArrayValue() throws IllegalStateException {
+        throw unsupported("integer array");
+    }
+
+    @Override
+    public long getLongValue() throws IllegalStateException {
+        throw unsupported("long");
+    }
+
+    @Override
+    public long[] getLongArrayValue() throws IllegalStateException {
+        throw unsupported("long array");
+    }
+
+    @Override
+    public double getDoubleValue() throws IllegalStateException {
+        throw unsupported("double");
+    }
+
+    @Override
+    public double[] getDoubleArrayValue() throws IllegalStateException {
+        throw unsupported("double array");
+    }
+
+    @Override
+    public float getFloatValue() throws IllegalStateException {
+        throw unsupported("float");
+    }
+
+    @Override
+    public float[] getFloatArrayValue() throws IllegalStateException {
+        throw unsupported("float array");
+    }
+
+    @Override
+    public String getStringValue() throws IllegalStateException {
+        throw unsupported("string");
+    }
+
+    @Override
+    public String[] getStringArrayValue() throws IllegalStateException {
+        throw unsupported("string array");
+    }
+
+    @Override
+    public byte[] getBytesValue() throws IllegalStateException {
+        throw unsupported("bytes");
+    }
+
+    @Override
+    public byte[][] getBytesArrayValue() throws IllegalStateException {
+        throw unsupported("bytes array");
+    }
+
+    private IllegalStateException unsupported(final String valueKind) {
+        return new IllegalStateException("Requested " + valueKind + " value from cell with type: " + getColumnType());
+    }
+}
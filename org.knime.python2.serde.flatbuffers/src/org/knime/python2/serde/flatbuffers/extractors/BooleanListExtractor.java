@@ -62,6 +62,7 @@
 public class BooleanListExtractor implements VectorExtractor {
 
     private BooleanCollectionColumn m_colVec;
+    private final BooleanCollectionCell m_cell = new BooleanCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final BooleanCollectionCell cell = m_colVec.values(m_ctr);
+        final BooleanCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final boolean[] l = new boolean[cell.valueLength()];
         byte[] missings = new byte[cell.valueLength() / 8 + (cell.valueLength() % 8 == 0 ? 0:1)];
@@ -62,6 +62,7 @@
 public class BooleanSetExtractor implements VectorExtractor {
 
     private BooleanCollectionColumn m_colVec;
+    private final BooleanCollectionCell m_cell = new BooleanCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final BooleanCollectionCell cell = m_colVec.values(m_ctr);
+        final BooleanCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         boolean[] l = new boolean[cell.valueLength()];
         for (int k = 0; k < cell.valueLength(); k++) {
@@ -49,8 +49,10 @@
 package org.knime.python2.serde.flatbuffers.extractors;
 
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.serde.flatbuffers.flatc.ByteCell;
 import org.knime.python2.serde.flatbuffers.flatc.ByteColumn;
 
 /**
@@ -61,6 +63,7 @@
 public class BytesExtractor implements VectorExtractor {
 
     private ByteColumn m_colVec;
+    private final ByteCell m_byteCell = new ByteCell();
     private int m_ctr;
 
     /**
@@ -81,12 +84,42 @@ public Cell extract() {
        if(m_colVec.missing(m_ctr)) {
            c = new CellImpl();
        } else {
-           byte[] bytes = new byte[m_colVec.values(m_ctr).valueLength()];
-           m_colVec.values(m_ctr).valueAsByteBuffer().get(bytes);
+           final ByteCell byteCell = m_colVec.values(m_byteCell, m_ctr);
+           byte[] bytes = new byte[byteCell.valueLength()];
+           byteCell.valueAsByteBuffer().get(bytes);
            c = new CellImpl(bytes);
        }
        m_ctr++;
        return c;
     }
 
+    /**
+     * Creates a reusable cell that reads the value of this extractor's column at the index it is set to, without
+     * copying it into an intermediate cell object.
+     *
+     * @return the column cell
+     */
+    public AbstractColumnCell createColumnCell() {
+        return new AbstractColumnCell() {
+
+            @Override
+            public Type getColumnType() {
+                return Type.BYTES;
+            }
+
+            @Override
+            public boolean isMissing() {
+                return m_colVec.missing(m_index);
+            }
+
+            @Override
+            public byte[] getBytesValue() {
+                final ByteCell byteCell = m_colVec.values(m_byteCell, m_index);
+                final byte[] bytes = new byte[byteCell.valueLength()];
+                byteCell.valueAsByteBuffer().get(bytes);
+                return bytes;
+            }
+        };
+    }
+
 }
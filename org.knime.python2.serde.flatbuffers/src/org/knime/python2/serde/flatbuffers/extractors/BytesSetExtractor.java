@@ -51,6 +51,7 @@
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.serde.flatbuffers.flatc.ByteCell;
 import org.knime.python2.serde.flatbuffers.flatc.ByteCollectionCell;
 import org.knime.python2.serde.flatbuffers.flatc.ByteCollectionColumn;
 
@@ -62,6 +63,8 @@
 public class BytesSetExtractor implements VectorExtractor {
 
     private ByteCollectionColumn m_colVec;
+    private final ByteCollectionCell m_cell = new ByteCollectionCell();
+    private final ByteCell m_byteCell = new ByteCell();
 
     private int m_ctr;
 
@@ -83,12 +86,13 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final ByteCollectionCell cell = m_colVec.values(m_ctr);
+        final ByteCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final byte[][] l = new byte[cell.valueLength()][];
         for (int k = 0; k < cell.valueLength(); k++) {
-            byte[] bb = new byte[cell.value(k).valueLength()];
-            cell.value(k).valueAsByteBuffer().get(bb);
+            final ByteCell byteCell = cell.value(m_byteCell, k);
+            byte[] bb = new byte[byteCell.valueLength()];
+            byteCell.valueAsByteBuffer().get(bb);
             l[k] = bb;
         }
         m_ctr++;
@@ -64,6 +64,7 @@
 public class DoubleListExtractor implements VectorExtractor {
 
     private DoubleCollectionColumn m_colVec;
+    private final DoubleCollectionCell m_cell = new DoubleCollectionCell();
     private int m_ctr;
 
     /**
@@ -84,7 +85,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final DoubleCollectionCell cell = m_colVec.values(m_ctr);
+        final DoubleCollectionCell cell = m_colVec.values(m_cell, m_ctr);
         DoubleBuffer buff = cell.valueAsByteBuffer().asDoubleBuffer();
         double[] values = new double[cell.valueLength()];
         buff.get(values);
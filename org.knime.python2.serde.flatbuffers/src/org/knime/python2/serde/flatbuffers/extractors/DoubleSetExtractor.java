@@ -62,6 +62,7 @@
 public class DoubleSetExtractor implements VectorExtractor {
 
     private DoubleCollectionColumn m_colVec;
+    private final DoubleCollectionCell m_cell = new DoubleCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final DoubleCollectionCell cell = m_colVec.values(m_ctr);
+        final DoubleCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final double[] values = new double[cell.valueLength()];
         cell.valueAsByteBuffer().asDoubleBuffer().get(values, 0, cell.valueLength());
@@ -96,4 +96,31 @@ public Cell extract() {
         return c;
     }
 
+    /**
+     * Creates a reusable cell that reads the value of this extractor's column at the index it is set to, without
+     * copying it into an intermediate cell object.
+     *
+     * @return the column cell
+     */
+    public AbstractColumnCell createColumnCell() {
+        return new AbstractColumnCell() {
+
+            @Override
+            public Type getColumnType() {
+                return Type.INTEGER;
+            }
+
+            @Override
+            public boolean isMissing() {
+                return m_serializationOptions.getConvertMissingFromPython()
+                    && m_serializationOptions.isSentinel(Type.INTEGER, m_colVec.values(m_index));
+            }
+
+            @Override
+            public int getIntegerValue() {
+                return m_colVec.values(m_index);
+            }
+        };
+    }
+
 }
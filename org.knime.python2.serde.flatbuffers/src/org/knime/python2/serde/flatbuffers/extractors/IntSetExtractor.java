@@ -62,6 +62,7 @@
 public class IntSetExtractor implements VectorExtractor {
 
     private IntCollectionColumn m_colVec;
+    private final IntegerCollectionCell m_cell = new IntegerCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final IntegerCollectionCell cell = m_colVec.values(m_ctr);
+        final IntegerCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final int[] values = new int[cell.valueLength()];
         cell.valueAsByteBuffer().asIntBuffer().get(values, 0, cell.valueLength());
@@ -64,6 +64,7 @@
 public class LongListExtractor implements VectorExtractor {
 
     private LongCollectionColumn m_colVec;
+    private final LongCollectionCell m_cell = new LongCollectionCell();
     private int m_ctr;
 
     /**
@@ -84,7 +85,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final LongCollectionCell cell = m_colVec.values(m_ctr);
+        final LongCollectionCell cell = m_colVec.values(m_cell, m_ctr);
         LongBuffer buff = cell.valueAsByteBuffer().asLongBuffer();
         long[] values = new long[cell.valueLength()];
         buff.get(values);
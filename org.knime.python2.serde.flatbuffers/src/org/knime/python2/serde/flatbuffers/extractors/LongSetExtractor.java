@@ -62,6 +62,7 @@
 public class LongSetExtractor implements VectorExtractor {
 
     private LongCollectionColumn m_colVec;
+    private final LongCollectionCell m_cell = new LongCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final LongCollectionCell cell = m_colVec.values(m_ctr);
+        final LongCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final long[] values = new long[cell.valueLength()];
         cell.valueAsByteBuffer().asLongBuffer().get(values, 0, cell.valueLength());
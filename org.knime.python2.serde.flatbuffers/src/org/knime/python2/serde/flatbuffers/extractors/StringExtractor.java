@@ -49,6 +49,7 @@
 package org.knime.python2.serde.flatbuffers.extractors;
 
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.VectorExtractor;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 import org.knime.python2.serde.flatbuffers.flatc.StringColumn;
@@ -87,4 +88,30 @@ public Cell extract() {
        return c;
     }
 
+    /**
+     * Creates a reusable cell that reads the value of this extractor's column at the index it is set to, without
+     * copying it into an intermediate cell object.
+     *
+     * @return the column cell
+     */
+    public AbstractColumnCell createColumnCell() {
+        return new AbstractColumnCell() {
+
+            @Override
+            public Type getColumnType() {
+                return Type.STRING;
+            }
+
+            @Override
+            public boolean isMissing() {
+                return m_colVec.missing(m_index);
+            }
+
+            @Override
+            public String getStringValue() {
+                return m_colVec.values(m_index);
+            }
+        };
+    }
+
 }
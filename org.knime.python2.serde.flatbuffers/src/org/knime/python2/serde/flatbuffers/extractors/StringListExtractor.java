@@ -62,6 +62,7 @@
 public class StringListExtractor implements VectorExtractor {
 
     private StringCollectionColumn m_colVec;
+    private final StringCollectionCell m_cell = new StringCollectionCell();
     private int m_ctr;
 
     /**
@@ -82,7 +83,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final StringCollectionCell cell = m_colVec.values(m_ctr);
+        final StringCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         final String[] l = new String[cell.valueLength()];
         byte[] missings = new byte[cell.valueLength() / 8 + (cell.valueLength() % 8 == 0 ? 0:1)];
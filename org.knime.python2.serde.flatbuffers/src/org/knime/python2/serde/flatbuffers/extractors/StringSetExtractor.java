@@ -62,6 +62,7 @@
 public class StringSetExtractor implements VectorExtractor {
 
     private StringCollectionColumn m_colVec;
+    private final StringCollectionCell m_cell = new StringCollectionCell();
 
     private int m_ctr;
 
@@ -83,7 +84,7 @@ public Cell extract() {
             m_ctr++;
             return new CellImpl();
         }
-        final StringCollectionCell cell = m_colVec.values(m_ctr);
+        final StringCollectionCell cell = m_colVec.values(m_cell, m_ctr);
 
         String[] l = new String[cell.valueLength()];
         for (int k = 0; k < cell.valueLength(); k++) {
@@ -50,28 +50,42 @@
 
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 
+import com.google.flatbuffers.FlatBufferBuilder;
+
 /**
+ * Base class for inserters of collection columns. Every cell is encoded into the builder as soon as it is put, so only
+ * the offsets of the encoded cells are retained until the column is created.
  *
  * @author Clemens von Schwerin, KNIME GmbH, Konstanz, Germany
  */
 public abstract class AbstractCollectionInserter implements FlatbuffersVectorInserter {
 
     /**
-     * Cells of collection column
+     * Offsets of the encoded cells of the collection column
      */
-    protected Cell[] m_column;
+    protected final int[] m_cellOffsets;
+
+    /**
+     * Missing flags of the cells of the collection column
+     */
+    protected final boolean[] m_missings;
 
     /**
      * Global counter
      */
     protected int m_ctr;
 
+    private final FlatBufferBuilder m_builder;
+
     /**
      * Constructor.
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    protected AbstractCollectionInserter(final int numRows) {
-        m_column = new Cell[numRows];
+    protected AbstractCollectionInserter(final int numRows, final FlatBufferBuilder builder) {
+        m_cellOffsets = new int[numRows];
+        m_missings = new boolean[numRows];
+        m_builder = builder;
     }
 
     /**
@@ -79,10 +93,20 @@ protected AbstractCollectionInserter(final int numRows) {
      */
     @Override
     public void put(final Cell cell) {
-        m_column[m_ctr] = cell;
+        m_missings[m_ctr] = cell.isMissing();
+        m_cellOffsets[m_ctr] = createCell(m_builder, cell);
         m_ctr++;
     }
 
+    /**
+     * Encodes a single cell of the collection column. Missing cells are encoded as empty collections.
+     *
+     * @param builder the builder to encode the cell into
+     * @param cell the cell
+     * @return the offset of the encoded cell
+     */
+    protected abstract int createCell(FlatBufferBuilder builder, Cell cell);
+
     /**
      *
      * @param c the cell
@@ -67,42 +67,42 @@ public class BooleanSetInserter extends AbstractCollectionInserter {
      * Constructor.
      *
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public BooleanSetInserter(final int numRows) {
-        super(numRows);
+    public BooleanSetInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
 
-            boolean addMissingValue = false;
-            boolean[] missingCells;
-            boolean[] values;
-            if (c.isMissing()) {
-                values = new boolean[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getBooleanArrayValue();
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[values.length];
-            }
-            final int valuesOffset = BooleanCollectionCell.createValueVector(builder, values);
-            final int missingCellsOffset = BooleanCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = BooleanCollectionCell.createBooleanCollectionCell(builder, valuesOffset,
-                missingCellsOffset, addMissingValue);
-            ctr++;
+        boolean addMissingValue = false;
+        boolean[] missingCells;
+        boolean[] values;
+        if (c.isMissing()) {
+            values = new boolean[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getBooleanArrayValue();
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[values.length];
         }
+        final int valuesOffset = BooleanCollectionCell.createValueVector(builder, values);
+        final int missingCellsOffset = BooleanCollectionCell.createMissingVector(builder, missingCells);
+        return BooleanCollectionCell.createBooleanCollectionCell(builder, valuesOffset, missingCellsOffset,
+            addMissingValue);
+    }
 
-        final int valuesVector = BooleanCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = BooleanCollectionColumn.createMissingVector(builder, missings);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = BooleanCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = BooleanCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset =
             BooleanCollectionColumn.createBooleanCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
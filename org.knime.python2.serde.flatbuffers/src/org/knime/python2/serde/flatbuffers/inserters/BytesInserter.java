@@ -63,8 +63,9 @@
  */
 public class BytesInserter implements FlatbuffersVectorInserter {
 
-    private byte[][] m_values;
-    private boolean[] m_missings;
+    private final int[] m_offsets;
+    private final boolean[] m_missings;
+    private final FlatBufferBuilder m_builder;
     private int m_ctr;
 
     private String m_serializer;
@@ -73,11 +74,13 @@ public class BytesInserter implements FlatbuffersVectorInserter {
      * Constructor.
      * @param numRows the number of rows in the table
      * @param serializer the serializer for the underlying type
+     * @param builder the builder into which the values are encoded as they are put
      */
-    public BytesInserter(final int numRows, final String serializer) {
-        m_values = new byte[numRows][];
+    public BytesInserter(final int numRows, final String serializer, final FlatBufferBuilder builder) {
+        m_offsets = new int[numRows];
         m_missings = new boolean[numRows];
         m_serializer = serializer;
+        m_builder = builder;
     }
 
     /**
@@ -85,11 +88,14 @@ public BytesInserter(final int numRows, final String serializer) {
      */
     @Override
     public void put(final Cell cell) {
+        int byteCellOffset;
         if(cell.isMissing()) {
             m_missings[m_ctr] = true;
+            byteCellOffset = m_builder.createByteVector(new byte[0]);
         } else {
-            m_values[m_ctr] = cell.getBytesValue();
+            byteCellOffset = m_builder.createByteVector(cell.getBytesValue());
         }
+        m_offsets[m_ctr] = ByteCell.createByteCell(m_builder, byteCellOffset);
         m_ctr++;
     }
 
@@ -98,19 +104,7 @@ public void put(final Cell cell) {
      */
     @Override
     public int createColumn(final FlatBufferBuilder builder) {
-        int[] bytesOffsets = new int[m_values.length];
-        int ctr = 0;
-        for (final byte[] bytes : m_values) {
-            int byteCellOffset;
-            if(bytes == null) {
-                byteCellOffset = builder.createByteVector(new byte[0]);
-            } else {
-                byteCellOffset = builder.createByteVector(bytes);
-            }
-            bytesOffsets[ctr] = ByteCell.createByteCell(builder, byteCellOffset);
-            ctr++;
-        }
-        final int valuesOffset = ByteColumn.createValuesVector(builder, bytesOffsets);
+        final int valuesOffset = ByteColumn.createValuesVector(builder, m_offsets);
 
         final int missingOffset = ByteColumn.createMissingVector(builder, m_missings);
 
@@ -71,9 +71,10 @@ public class BytesListInserter extends AbstractCollectionInserter {
      *
      * @param numRows the number of rows in the table
      * @param serializer the serializer for the contained type
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public BytesListInserter(final int numRows, final String serializer) {
-        super(numRows);
+    public BytesListInserter(final int numRows, final String serializer, final FlatBufferBuilder builder) {
+        super(numRows, builder);
         m_serializer = serializer;
     }
 
@@ -81,48 +82,46 @@ public BytesListInserter(final int numRows, final String serializer) {
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            int[] bytesCellOffsets;
-            boolean[] missingCells;
-            if (c.isMissing()) {
-                missingCells = new boolean[0];
-                final int bytesCellValVec = ByteCell.createValueVector(builder, new byte[0]);
-                bytesCellOffsets = new int[1];
-                bytesCellOffsets[0] = ByteCell.createByteCell(builder, bytesCellValVec);
-                missings[ctr] = true;
-            } else {
-                bytesCellOffsets = new int[c.getBytesArrayValue().length];
-                missingCells = new boolean[c.getBytesArrayValue().length];
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        int[] bytesCellOffsets;
+        boolean[] missingCells;
+        if (c.isMissing()) {
+            missingCells = new boolean[0];
+            final int bytesCellValVec = ByteCell.createValueVector(builder, new byte[0]);
+            bytesCellOffsets = new int[1];
+            bytesCellOffsets[0] = ByteCell.createByteCell(builder, bytesCellValVec);
+        } else {
+            bytesCellOffsets = new int[c.getBytesArrayValue().length];
+            missingCells = new boolean[c.getBytesArrayValue().length];
 
-                int cIdx = 0;
-                for (final byte[] b : c.getBytesArrayValue()) {
-                    if (c.isMissing(cIdx)) {
-                        final int bytesCellValVec = builder.createByteVector(new byte[0]);
-                        bytesCellOffsets[cIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
-                        missingCells[cIdx] = true;
-                    } else {
-                        final int bytesCellValVec = builder.createByteVector(b);
-                        bytesCellOffsets[cIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
-                        missingCells[cIdx] = false;
-                    }
-                    cIdx++;
+            int cIdx = 0;
+            for (final byte[] b : c.getBytesArrayValue()) {
+                if (c.isMissing(cIdx)) {
+                    final int bytesCellValVec = builder.createByteVector(new byte[0]);
+                    bytesCellOffsets[cIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
+                    missingCells[cIdx] = true;
+                } else {
+                    final int bytesCellValVec = builder.createByteVector(b);
+                    bytesCellOffsets[cIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
+                    missingCells[cIdx] = false;
                 }
+                cIdx++;
             }
-            final int valuesOffset = ByteCollectionCell.createValueVector(builder, bytesCellOffsets);
-
-            final int missingCellsOffset = ByteCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] =
-                ByteCollectionCell.createByteCollectionCell(builder, valuesOffset, missingCellsOffset, false);
-            ctr++;
         }
+        final int valuesOffset = ByteCollectionCell.createValueVector(builder, bytesCellOffsets);
 
-        final int valuesVector = ByteCollectionColumn.createValuesVector(builder, cellOffsets);
+        final int missingCellsOffset = ByteCollectionCell.createMissingVector(builder, missingCells);
+        return ByteCollectionCell.createByteCollectionCell(builder, valuesOffset, missingCellsOffset, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = ByteCollectionColumn.createValuesVector(builder, m_cellOffsets);
 
-        final int missingOffset = ByteCollectionColumn.createMissingVector(builder, missings);
+        final int missingOffset = ByteCollectionColumn.createMissingVector(builder, m_missings);
 
         final int colOffset = ByteCollectionColumn.createByteCollectionColumn(builder,
             builder.createString(m_serializer), valuesVector, missingOffset);
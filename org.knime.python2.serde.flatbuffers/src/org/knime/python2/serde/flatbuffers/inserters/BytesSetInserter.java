@@ -72,9 +72,10 @@ public class BytesSetInserter extends AbstractCollectionInserter {
      *
      * @param numRows the number of rows in the table
      * @param serializer the serializer for the underlying type
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public BytesSetInserter(final int numRows, final String serializer) {
-        super(numRows);
+    public BytesSetInserter(final int numRows, final String serializer, final FlatBufferBuilder builder) {
+        super(numRows, builder);
         m_serializer = serializer;
     }
 
@@ -82,39 +83,37 @@ public BytesSetInserter(final int numRows, final String serializer) {
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            int[] valOffsets;
-            boolean[] missingCells;
-            boolean addMissingValue = false;
-            if (c.isMissing()) {
-                valOffsets = new int[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                valOffsets = new int[c.getBytesArrayValue().length];
-                int valIdx = 0;
-                for (final byte[] b : c.getBytesArrayValue()) {
-                    final int bytesCellValVec = builder.createByteVector(b);
-                    valOffsets[valIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
-                    valIdx++;
-                }
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[c.getBytesArrayValue().length];
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        int[] valOffsets;
+        boolean[] missingCells;
+        boolean addMissingValue = false;
+        if (c.isMissing()) {
+            valOffsets = new int[0];
+            missingCells = new boolean[0];
+        } else {
+            valOffsets = new int[c.getBytesArrayValue().length];
+            int valIdx = 0;
+            for (final byte[] b : c.getBytesArrayValue()) {
+                final int bytesCellValVec = builder.createByteVector(b);
+                valOffsets[valIdx] = ByteCell.createByteCell(builder, bytesCellValVec);
+                valIdx++;
             }
-            final int valuesOffset = StringCollectionCell.createValueVector(builder, valOffsets);
-
-            final int missingCellsOffset = ByteCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] =
-                ByteCollectionCell.createByteCollectionCell(builder, valuesOffset, missingCellsOffset, addMissingValue);
-            ctr++;
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[c.getBytesArrayValue().length];
         }
+        final int valuesOffset = StringCollectionCell.createValueVector(builder, valOffsets);
 
-        final int valuesVector = ByteCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = ByteCollectionColumn.createMissingVector(builder, missings);
+        final int missingCellsOffset = ByteCollectionCell.createMissingVector(builder, missingCells);
+        return ByteCollectionCell.createByteCollectionCell(builder, valuesOffset, missingCellsOffset, addMissingValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = ByteCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = ByteCollectionColumn.createMissingVector(builder, m_missings);
 
         final int colOffset = ByteCollectionColumn.createByteCollectionColumn(builder,
             builder.createString(m_serializer), valuesVector, missingOffset);
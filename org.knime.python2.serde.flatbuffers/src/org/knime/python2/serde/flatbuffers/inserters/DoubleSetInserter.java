@@ -67,42 +67,42 @@ public class DoubleSetInserter extends AbstractCollectionInserter {
      * Constructor.
      *
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public DoubleSetInserter(final int numRows) {
-        super(numRows);
+    public DoubleSetInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
 
-            boolean addMissingValue = false;
-            double[] values;
-            boolean[] missingCells;
-            if (c.isMissing()) {
-                values = new double[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getDoubleArrayValue();
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[values.length];
-            }
-            final int valuesOffset = DoubleCollectionCell.createValueVector(builder, values);
-            final int missingCellsOffset = DoubleCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = DoubleCollectionCell.createDoubleCollectionCell(builder, valuesOffset,
-                missingCellsOffset, addMissingValue);
-            ctr++;
+        boolean addMissingValue = false;
+        double[] values;
+        boolean[] missingCells;
+        if (c.isMissing()) {
+            values = new double[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getDoubleArrayValue();
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[values.length];
         }
+        final int valuesOffset = DoubleCollectionCell.createValueVector(builder, values);
+        final int missingCellsOffset = DoubleCollectionCell.createMissingVector(builder, missingCells);
+        return DoubleCollectionCell.createDoubleCollectionCell(builder, valuesOffset, missingCellsOffset,
+            addMissingValue);
+    }
 
-        final int valuesVector = DoubleCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = DoubleCollectionColumn.createMissingVector(builder, missings);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = DoubleCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = DoubleCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset = DoubleCollectionColumn.createDoubleCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
         Column.addType(builder, Type.DOUBLE_SET.getId());
@@ -66,49 +66,48 @@ public class IntListInserter extends AbstractCollectionInserter {
     /**
      * Constructor.
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public IntListInserter(final int numRows) {
-        super(numRows);
+    public IntListInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            int[] values;
-            boolean[] missingCells;
-            if(c.isMissing()) {
-                values = new int[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getIntegerArrayValue();
-                //TODO Flatbuffers missing bit encoding (1 missing, 0 available)
-                missingCells = new boolean[values.length];
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        int[] values;
+        boolean[] missingCells;
+        if(c.isMissing()) {
+            values = new int[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getIntegerArrayValue();
+            //TODO Flatbuffers missing bit encoding (1 missing, 0 available)
+            missingCells = new boolean[values.length];
 
-                for(int i=0; i<values.length; i++) {
-                    if(c.isMissing(i)) {
-                        missingCells[i] = true;
-                    }
+            for(int i=0; i<values.length; i++) {
+                if(c.isMissing(i)) {
+                    missingCells[i] = true;
                 }
-
             }
-            final int valuesOffset =
-                    IntegerCollectionCell.createValueVector(builder, values);
 
-            final int missingCellsOffset = IntegerCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = IntegerCollectionCell.createIntegerCollectionCell(builder, valuesOffset,
-                missingCellsOffset, false);
-            ctr++;
         }
+        final int valuesOffset =
+                IntegerCollectionCell.createValueVector(builder, values);
 
-        final int valuesVector = IntCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = IntCollectionColumn.createMissingVector(builder, missings);
+        final int missingCellsOffset = IntegerCollectionCell.createMissingVector(builder, missingCells);
+        return IntegerCollectionCell.createIntegerCollectionCell(builder, valuesOffset, missingCellsOffset, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = IntCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = IntCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset =
                 IntCollectionColumn.createIntCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
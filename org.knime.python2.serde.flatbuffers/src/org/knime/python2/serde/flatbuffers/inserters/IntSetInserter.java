@@ -67,41 +67,41 @@ public class IntSetInserter extends AbstractCollectionInserter {
      * Constructor.
      *
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public IntSetInserter(final int numRows) {
-        super(numRows);
+    public IntSetInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            int[] values;
-            boolean[] missingCells;
-            boolean addMissingValue = false;
-            if(c.isMissing()) {
-                values = new int[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getIntegerArrayValue();
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[values.length];
-            }
-            final int valuesOffset = IntegerCollectionCell.createValueVector(builder, values);
-            final int missingCellsOffset = IntegerCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = IntegerCollectionCell.createIntegerCollectionCell(builder, valuesOffset,
-                missingCellsOffset, addMissingValue);
-            ctr++;
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        int[] values;
+        boolean[] missingCells;
+        boolean addMissingValue = false;
+        if(c.isMissing()) {
+            values = new int[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getIntegerArrayValue();
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[values.length];
         }
+        final int valuesOffset = IntegerCollectionCell.createValueVector(builder, values);
+        final int missingCellsOffset = IntegerCollectionCell.createMissingVector(builder, missingCells);
+        return IntegerCollectionCell.createIntegerCollectionCell(builder, valuesOffset, missingCellsOffset,
+            addMissingValue);
+    }
 
-        final int valuesVector = IntCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = IntCollectionColumn.createMissingVector(builder, missings);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = IntCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = IntCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset = IntCollectionColumn.createIntCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
         Column.addType(builder, Type.INTEGER_SET.getId());
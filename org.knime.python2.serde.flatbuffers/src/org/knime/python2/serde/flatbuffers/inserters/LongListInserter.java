@@ -66,42 +66,41 @@ public class LongListInserter extends AbstractCollectionInserter {
     /**
      * Constructor.
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public LongListInserter(final int numRows) {
-        super(numRows);
+    public LongListInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            long[] values;
-            boolean[] missingCells;
-            if(c.isMissing()) {
-                values = new long[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getLongArrayValue();
-                missingCells = getMissingInnerCells(c, values.length);
-
-            }
-            final int valuesOffset =
-                    LongCollectionCell.createValueVector(builder, values);
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        long[] values;
+        boolean[] missingCells;
+        if(c.isMissing()) {
+            values = new long[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getLongArrayValue();
+            missingCells = getMissingInnerCells(c, values.length);
 
-            final int missingCellsOffset = LongCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = LongCollectionCell.createLongCollectionCell(builder, valuesOffset,
-                missingCellsOffset, false);
-            ctr++;
         }
+        final int valuesOffset =
+                LongCollectionCell.createValueVector(builder, values);
 
-        final int valuesVector = LongCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = LongCollectionColumn.createMissingVector(builder, missings);
+        final int missingCellsOffset = LongCollectionCell.createMissingVector(builder, missingCells);
+        return LongCollectionCell.createLongCollectionCell(builder, valuesOffset, missingCellsOffset, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = LongCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = LongCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset =
                 LongCollectionColumn.createLongCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
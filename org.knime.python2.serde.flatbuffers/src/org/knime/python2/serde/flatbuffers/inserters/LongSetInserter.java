@@ -67,42 +67,41 @@ public class LongSetInserter extends AbstractCollectionInserter {
      * Constructor.
      *
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public LongSetInserter(final int numRows) {
-       super(numRows);
+    public LongSetInserter(final int numRows, final FlatBufferBuilder builder) {
+       super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
 
-            boolean addMissingValue = false;
-            long[] values;
-            boolean[] missingCells;
-            if (c.isMissing()) {
-                values = new long[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                values = c.getLongArrayValue();
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[values.length];
-            }
-            final int valuesOffset = LongCollectionCell.createValueVector(builder, values);
-            final int missingCellsOffset = LongCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] =
-                LongCollectionCell.createLongCollectionCell(builder, valuesOffset, missingCellsOffset, addMissingValue);
-            ctr++;
+        boolean addMissingValue = false;
+        long[] values;
+        boolean[] missingCells;
+        if (c.isMissing()) {
+            values = new long[0];
+            missingCells = new boolean[0];
+        } else {
+            values = c.getLongArrayValue();
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[values.length];
         }
+        final int valuesOffset = LongCollectionCell.createValueVector(builder, values);
+        final int missingCellsOffset = LongCollectionCell.createMissingVector(builder, missingCells);
+        return LongCollectionCell.createLongCollectionCell(builder, valuesOffset, missingCellsOffset, addMissingValue);
+    }
 
-        final int valuesVector = LongCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = LongCollectionColumn.createMissingVector(builder, missings);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = LongCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = LongCollectionColumn.createMissingVector(builder, m_missings);
         final int colOffset = LongCollectionColumn.createLongCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
         Column.addType(builder, Type.LONG_SET.getId());
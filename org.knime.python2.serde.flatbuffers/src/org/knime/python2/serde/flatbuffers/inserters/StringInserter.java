@@ -62,17 +62,20 @@
  */
 public class StringInserter implements FlatbuffersVectorInserter {
 
-    private String[] m_values;
-    private boolean[] m_missings;
+    private final int[] m_offsets;
+    private final boolean[] m_missings;
+    private final FlatBufferBuilder m_builder;
     private int m_ctr;
 
     /**
      * Constructor.
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the values are encoded as they are put
      */
-    public StringInserter(final int numRows) {
-        m_values = new String[numRows];
+    public StringInserter(final int numRows, final FlatBufferBuilder builder) {
+        m_offsets = new int[numRows];
         m_missings = new boolean[numRows];
+        m_builder = builder;
     }
 
     /**
@@ -82,9 +85,9 @@ public StringInserter(final int numRows) {
     public void put(final Cell cell) {
         if(cell.isMissing()) {
             m_missings[m_ctr] = true;
-            m_values[m_ctr] = "";
+            m_offsets[m_ctr] = m_builder.createString("");
         } else {
-            m_values[m_ctr] = cell.getStringValue();
+            m_offsets[m_ctr] = m_builder.createString(cell.getStringValue());
         }
         m_ctr++;
     }
@@ -94,13 +97,7 @@ public void put(final Cell cell) {
      */
     @Override
     public int createColumn(final FlatBufferBuilder builder) {
-        int[] strOffsets = new int[m_values.length];
-        int ctr = 0;
-        for (final String str : m_values) {
-            strOffsets[ctr] = builder.createString(str);
-            ctr++;
-        }
-        final int valuesOffset = StringColumn.createValuesVector(builder, strOffsets);
+        final int valuesOffset = StringColumn.createValuesVector(builder, m_offsets);
         final int missingOffset = StringColumn.createMissingVector(builder, m_missings);
         final int colOffset = StringColumn.createStringColumn(builder, valuesOffset, missingOffset);
         Column.startColumn(builder);
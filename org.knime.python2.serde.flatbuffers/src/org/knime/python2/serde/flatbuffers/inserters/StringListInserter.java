@@ -67,51 +67,50 @@ public class StringListInserter extends AbstractCollectionInserter {
      * Constructor.
      *
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public StringListInserter(final int numRows) {
-        super(numRows);
+    public StringListInserter(final int numRows, final FlatBufferBuilder builder) {
+        super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            int[] strOffsets;
-            boolean[] missingCells;
-            if(c.isMissing()) {
-                strOffsets = new int[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                strOffsets = new int[c.getStringArrayValue().length];
-                missingCells = new boolean[c.getStringArrayValue().length];
-                int cIdx = 0;
-                for (final String s : c.getStringArrayValue()) {
-                    if (c.isMissing(cIdx)) {
-                        strOffsets[cIdx] = builder.createString("");
-                        missingCells[cIdx] = true;
-                    } else {
-                        strOffsets[cIdx] = builder.createString(s);
-                        missingCells[cIdx] = false;
-                    }
-                    cIdx++;
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        int[] strOffsets;
+        boolean[] missingCells;
+        if(c.isMissing()) {
+            strOffsets = new int[0];
+            missingCells = new boolean[0];
+        } else {
+            strOffsets = new int[c.getStringArrayValue().length];
+            missingCells = new boolean[c.getStringArrayValue().length];
+            int cIdx = 0;
+            for (final String s : c.getStringArrayValue()) {
+                if (c.isMissing(cIdx)) {
+                    strOffsets[cIdx] = builder.createString("");
+                    missingCells[cIdx] = true;
+                } else {
+                    strOffsets[cIdx] = builder.createString(s);
+                    missingCells[cIdx] = false;
                 }
+                cIdx++;
             }
-            final int valuesOffset = StringCollectionCell.createValueVector(builder, strOffsets);
-
-            final int missingCellsOffset = StringCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] =
-                StringCollectionCell.createStringCollectionCell(builder, valuesOffset, missingCellsOffset, false);
-            ctr++;
         }
+        final int valuesOffset = StringCollectionCell.createValueVector(builder, strOffsets);
 
-        final int valuesVector = StringCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = StringCollectionColumn.createMissingVector(builder, missings);
+        final int missingCellsOffset = StringCollectionCell.createMissingVector(builder, missingCells);
+        return StringCollectionCell.createStringCollectionCell(builder, valuesOffset, missingCellsOffset, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = StringCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = StringCollectionColumn.createMissingVector(builder, m_missings);
 
         final int colOffset = StringCollectionColumn.createStringCollectionColumn(builder, valuesVector, missingOffset);
         Column.startColumn(builder);
@@ -66,47 +66,47 @@ public class StringSetInserter extends AbstractCollectionInserter {
     /**
      * Constructor.
      * @param numRows the number of rows in the table
+     * @param builder the builder into which the cells are encoded as they are put
      */
-    public StringSetInserter(final int numRows) {
-       super(numRows);
+    public StringSetInserter(final int numRows, final FlatBufferBuilder builder) {
+       super(numRows, builder);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int createColumn(final FlatBufferBuilder builder) {
-        final int[] cellOffsets = new int[m_column.length];
-        final boolean[] missings = new boolean[m_column.length];
-        int ctr = 0;
-        for (final Cell c : m_column) {
-            boolean addMissingValue = false;
-            int[] strOffsets;
-            boolean[] missingCells;
-            if(c.isMissing()) {
-                strOffsets = new int[0];
-                missingCells = new boolean[0];
-                missings[ctr] = true;
-            } else {
-                strOffsets = new int[c.getStringArrayValue().length];
-                int valIdx = 0;
-                for (final String s : c.getStringArrayValue()) {
-                    strOffsets[valIdx] = builder.createString(s);
-                    valIdx++;
-                }
-                addMissingValue = c.hasMissingInSet();
-                missingCells = new boolean[strOffsets.length];
+    protected int createCell(final FlatBufferBuilder builder, final Cell c) {
+        boolean addMissingValue = false;
+        int[] strOffsets;
+        boolean[] missingCells;
+        if(c.isMissing()) {
+            strOffsets = new int[0];
+            missingCells = new boolean[0];
+        } else {
+            strOffsets = new int[c.getStringArrayValue().length];
+            int valIdx = 0;
+            for (final String s : c.getStringArrayValue()) {
+                strOffsets[valIdx] = builder.createString(s);
+                valIdx++;
             }
-            final int valuesOffset = StringCollectionCell.createValueVector(builder, strOffsets);
-
-            final int missingCellsOffset = StringCollectionCell.createMissingVector(builder, missingCells);
-            cellOffsets[ctr] = StringCollectionCell.createStringCollectionCell(builder, valuesOffset,
-                missingCellsOffset, addMissingValue);
-            ctr++;
+            addMissingValue = c.hasMissingInSet();
+            missingCells = new boolean[strOffsets.length];
         }
+        final int valuesOffset = StringCollectionCell.createValueVector(builder, strOffsets);
 
-        final int valuesVector = StringCollectionColumn.createValuesVector(builder, cellOffsets);
-        final int missingOffset = StringCollectionColumn.createMissingVector(builder, missings);
+        final int missingCellsOffset = StringCollectionCell.createMissingVector(builder, missingCells);
+        return StringCollectionCell.createStringCollectionCell(builder, valuesOffset, missingCellsOffset,
+            addMissingValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createColumn(final FlatBufferBuilder builder) {
+        final int valuesVector = StringCollectionColumn.createValuesVector(builder, m_cellOffsets);
+        final int missingOffset = StringCollectionColumn.createMissingVector(builder, m_missings);
 
         final int colOffset =
                 StringCollectionColumn.createStringCollectionColumn(builder, valuesVector, missingOffset);
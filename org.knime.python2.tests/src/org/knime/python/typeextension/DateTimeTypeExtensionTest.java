@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python.typeextension;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeCellFactory;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeCellFactory;
+
+/**
+ * Tests the binary transfer format of date-times between Java and Python, which is shared by the nodes of
+ * {@code org.knime.python} and {@code org.knime.python2}. Values written by Python are encoded the way
+ * {@code DateTimeSerializer.py} does.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class DateTimeTypeExtensionTest {
+
+	private static final String DATE_TIME_ID = "org.knime.datetime2";
+
+	private KnimeToPythonExtensions m_serializers;
+
+	private Deserializer m_deserializer;
+
+	@Before
+	public void setup() {
+		KnimeToPythonExtensions.init();
+		PythonToKnimeExtensions.init();
+		m_serializers = new KnimeToPythonExtensions();
+		m_deserializer = new PythonToKnimeExtensions().getDeserializer(DATE_TIME_ID);
+	}
+
+	@Test
+	public void testZonedDateTimeRoundTrip() throws IOException {
+		assertRoundTrip(ZonedDateTime.of(2024, 7, 1, 12, 30, 15, 123456789, ZoneId.of("Europe/Berlin")));
+		assertRoundTrip(ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin")));
+		assertRoundTrip(ZonedDateTime.of(2000, 2, 29, 23, 0, 0, 0, ZoneOffset.UTC));
+	}
+
+	@Test
+	public void testNegativeOffsetRoundTrip() throws IOException {
+		assertRoundTrip(ZonedDateTime.of(2024, 3, 10, 1, 59, 59, 999999999, ZoneId.of("America/New_York")));
+		assertRoundTrip(ZonedDateTime.of(2024, 11, 3, 23, 0, 0, 0, ZoneOffset.ofHoursMinutes(-3, -30)));
+		assertRoundTrip(ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, ZoneOffset.ofHours(-18)));
+	}
+
+	@Test
+	public void testPreEpochRoundTrip() throws IOException {
+		assertRoundTrip(ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 999999999, ZoneOffset.UTC));
+		assertRoundTrip(ZonedDateTime.of(1969, 7, 20, 20, 17, 40, 0, ZoneId.of("America/New_York")));
+		assertRoundTrip(ZonedDateTime.of(1900, 1, 1, 0, 0, 0, 1, ZoneId.of("Asia/Kolkata")));
+		assertRoundTrip(ZonedDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-5)));
+		assertRoundTrip(LocalDateTimeCellFactory.create(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999)));
+		assertRoundTrip(LocalDateTimeCellFactory.create(LocalDateTime.of(1582, 10, 4, 12, 0, 0, 500)));
+		assertRoundTrip(LocalDateTimeCellFactory.create(LocalDateTime.of(1, 1, 1, 0, 0)));
+	}
+
+	@Test
+	public void testZoneIdFromPython() throws IOException {
+		final LocalDateTime dateTime = LocalDateTime.of(1969, 7, 20, 20, 17, 40, 5000);
+		// IANA key of a zoneinfo or pytz timezone.
+		assertEquals(ZonedDateTimeCellFactory.create(ZonedDateTime.of(dateTime, ZoneId.of("America/New_York"))),
+			m_deserializer.deserialize(encodeLikePython(dateTime, -4 * 3600, "America/New_York"), null));
+		// Timezones without a key (e.g. datetime.timezone) are transferred without an id.
+		assertEquals(ZonedDateTimeCellFactory.create(ZonedDateTime.of(dateTime, ZoneOffset.ofHours(-4))),
+			m_deserializer.deserialize(encodeLikePython(dateTime, -4 * 3600, ""), null));
+	}
+
+	@Test
+	public void testUnknownZoneIdFallsBackToOffset() throws IOException {
+		final LocalDateTime dateTime = LocalDateTime.of(1969, 7, 20, 20, 17, 40);
+		// Abbreviations like the ones returned by tzname() are no zone ids.
+		for (int i = 0; i < 2; i++) {
+			assertEquals(ZonedDateTimeCellFactory.create(ZonedDateTime.of(dateTime, ZoneOffset.ofHours(-4))),
+				m_deserializer.deserialize(encodeLikePython(dateTime, -4 * 3600, "EDT"), null));
+			assertEquals(ZonedDateTimeCellFactory.create(ZonedDateTime.of(dateTime, ZoneOffset.ofHours(2))),
+				m_deserializer.deserialize(encodeLikePython(dateTime, 2 * 3600, "EDT"), null));
+		}
+	}
+
+	private void assertRoundTrip(final ZonedDateTime dateTime) throws IOException {
+		assertRoundTrip(ZonedDateTimeCellFactory.create(dateTime));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertRoundTrip(final DataCell cell) throws IOException {
+		final byte[] bytes = ((Serializer<DataValue>)m_serializers.getSerializer(cell.getType())).serialize(cell);
+		assertEquals(cell, m_deserializer.deserialize(bytes, null));
+	}
+
+	private static byte[] encodeLikePython(final LocalDateTime dateTime, final int offsetSeconds,
+		final String zoneId) {
+		final byte[] zoneIdBytes = zoneId.getBytes(StandardCharsets.UTF_8);
+		return ByteBuffer.allocate(Long.BYTES + 2 * Integer.BYTES + zoneIdBytes.length) //
+			.order(ByteOrder.LITTLE_ENDIAN) //
+			.putLong(dateTime.toEpochSecond(ZoneOffset.UTC)) //
+			.putInt(dateTime.getNano()) //
+			.putInt(offsetSeconds) //
+			.put(zoneIdBytes) //
+			.array();
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python.typeextension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.time.localdate.LocalDateCellFactory;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeCellFactory;
+
+/**
+ * Tests the per-type lookup cache of {@link KnimeToPythonExtensions} and the publication of the extension maps of
+ * {@link KnimeToPythonExtensions} and {@link PythonToKnimeExtensions} by their {@code init()} methods.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class TypeExtensionLookupTest {
+
+	private static final String LOCAL_DATE_ID = "org.knime.localdate";
+
+	private static final String ZONED_DATE_TIME_ID = "org.knime.zoneddatetime";
+
+	private static final int NUM_THREADS = 8;
+
+	private static final int NUM_ITERATIONS = 200;
+
+	@Before
+	public void initExtensions() {
+		KnimeToPythonExtensions.init();
+		PythonToKnimeExtensions.init();
+	}
+
+	@Test
+	public void testGetExtensionResolvesAndCachesType() {
+		final KnimeToPythonExtension extension = KnimeToPythonExtensions.getExtension(LocalDateCellFactory.TYPE);
+		assertNotNull(extension);
+		assertEquals(LOCAL_DATE_ID, extension.getId());
+		assertSame(extension, KnimeToPythonExtensions.getExtension(LocalDateCellFactory.TYPE));
+		assertEquals(ZONED_DATE_TIME_ID, KnimeToPythonExtensions.getExtension(ZonedDateTimeCellFactory.TYPE).getId());
+	}
+
+	@Test
+	public void testGetExtensionCachesTypeWithoutExtension() {
+		assertNull(KnimeToPythonExtensions.getExtension(StringCell.TYPE));
+		assertNull(KnimeToPythonExtensions.getExtension(StringCell.TYPE));
+	}
+
+	@Test
+	public void testInitClearsTypeCache() {
+		final KnimeToPythonExtension before = KnimeToPythonExtensions.getExtension(LocalDateCellFactory.TYPE);
+		KnimeToPythonExtensions.init();
+		final KnimeToPythonExtension after = KnimeToPythonExtensions.getExtension(LocalDateCellFactory.TYPE);
+		// Re-initialization creates new extension instances, the cache must not hand out the old one.
+		assertNotSame(before, after);
+		assertSame(findExtension(LOCAL_DATE_ID), after);
+	}
+
+	@Test
+	public void testGetSerializerByTypeIsCachedPerInstance() {
+		final KnimeToPythonExtensions extensions = new KnimeToPythonExtensions();
+		final Serializer<? extends DataValue> serializer = extensions.getSerializer(LocalDateCellFactory.TYPE);
+		assertNotNull(serializer);
+		assertSame(serializer, extensions.getSerializer(LocalDateCellFactory.TYPE));
+		assertSame(serializer, extensions.getSerializer(LOCAL_DATE_ID));
+		assertNull(extensions.getSerializer(StringCell.TYPE));
+
+		// Serializers may hold state, so they are not shared between instances.
+		assertNotSame(serializer, new KnimeToPythonExtensions().getSerializer(LocalDateCellFactory.TYPE));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testKnimeToPythonExtensionsAreUnmodifiable() {
+		KnimeToPythonExtensions.getExtensions().clear();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testPythonToKnimeExtensionsAreUnmodifiable() {
+		PythonToKnimeExtensions.getExtensions().clear();
+	}
+
+	/**
+	 * Readers running concurrently to re-initialization must always observe a completely filled map.
+	 */
+	@Test
+	public void testConcurrentInitAndLookup() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < NUM_THREADS; t++) {
+				final boolean initializing = t % 2 == 0;
+				futures.add(executor.submit((Callable<Void>)() -> {
+					start.await();
+					for (int i = 0; i < NUM_ITERATIONS; i++) {
+						if (initializing) {
+							KnimeToPythonExtensions.init();
+							PythonToKnimeExtensions.init();
+						} else {
+							assertLookupsSucceed();
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (final Future<Void> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertLookupsSucceed();
+	}
+
+	private static void assertLookupsSucceed() {
+		final KnimeToPythonExtension extension = KnimeToPythonExtensions.getExtension(LocalDateCellFactory.TYPE);
+		assertNotNull(extension);
+		assertEquals(LOCAL_DATE_ID, extension.getId());
+		assertNull(KnimeToPythonExtensions.getExtension(StringCell.TYPE));
+		assertNotNull(PythonToKnimeExtensions.getExtension(LOCAL_DATE_ID));
+		assertTrue(KnimeToPythonExtensions.getExtensions().size() > 1);
+		assertTrue(PythonToKnimeExtensions.getExtensions().size() > 1);
+	}
+
+	private static KnimeToPythonExtension findExtension(final String id) {
+		for (final KnimeToPythonExtension extension : KnimeToPythonExtensions.getExtensions()) {
+			if (extension.getId().equals(id)) {
+				return extension;
+			}
+		}
+		return null;
+	}
+}
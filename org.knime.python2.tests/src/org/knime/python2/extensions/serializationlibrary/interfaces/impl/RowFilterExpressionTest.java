@@ -0,0 +1,235 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.extensions.serializationlibrary.interfaces.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests parsing and evaluation of {@link RowFilterExpression}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class RowFilterExpressionTest {
+
+	private static final DataTableSpec SPEC = new DataTableSpec( //
+		new DataColumnSpecCreator("x", IntCell.TYPE).createSpec(), //
+		new DataColumnSpecCreator("name", StringCell.TYPE).createSpec(), //
+		new DataColumnSpecCreator("y", DoubleCell.TYPE).createSpec(), //
+		new DataColumnSpecCreator("flag", BooleanCell.TYPE).createSpec(), //
+		new DataColumnSpecCreator("my col", IntCell.TYPE).createSpec());
+
+	private static final DataCell MISSING = DataType.getMissingCell();
+
+	private static BufferedDataTable table;
+
+	@BeforeClass
+	@SuppressWarnings("javadoc")
+	public static void createTable() {
+		final ExecutionContext exec = createExecutionContext();
+		final BufferedDataContainer container = exec.createDataContainer(SPEC);
+		addRow(container, 0, new IntCell(1), new StringCell("foo"), new DoubleCell(1.5), BooleanCell.TRUE,
+			new IntCell(0));
+		addRow(container, 1, new IntCell(-2), new StringCell("bar"), new DoubleCell(Double.NaN), BooleanCell.FALSE,
+			new IntCell(1));
+		addRow(container, 2, MISSING, new StringCell("baz"), MISSING, MISSING, MISSING);
+		addRow(container, 3, new IntCell(5), new StringCell("foo"), new DoubleCell(0), BooleanCell.TRUE,
+			new IntCell(3));
+		container.close();
+		table = container.getTable();
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testColumnNames() {
+		final RowFilterExpression expression =
+			RowFilterExpression.parse("x > 0 and name != \"foo\" and `my col` is not missing and x < 10");
+		assertArrayEquals(new String[] { "x", "name", "my col" }, expression.getColumnNames());
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testColumnNamesStartingWithKeywords() {
+		final RowFilterExpression expression =
+			RowFilterExpression.parse("and_x > 0 and or_1 is not missing and is_valid == true and not_y is missing");
+		assertArrayEquals(new String[] { "and_x", "or_1", "is_valid", "not_y" }, expression.getColumnNames());
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testKeywordsAreCaseInsensitive() throws CanceledExecutionException {
+		assertMatches("x IS NOT MISSING AND flag == TRUE", 0, 3);
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testInvalidExpressions() {
+		for (final String expression : new String[] { null, " ", "x >", "x ~ 1", "x > 1 or y < 2", "`x > 1",
+			"name == 'foo", "x is nothing", "> 1", "x > abc", "x is missing and_y > 1", "x is not_missing",
+			"flag == true_1" }) {
+			try {
+				RowFilterExpression.parse(expression);
+			} catch (final IllegalArgumentException ex) {
+				continue;
+			}
+			throw new AssertionError("Expression '" + expression + "' should not be parseable.");
+		}
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testIsApplicableTo() {
+		assertTrue(RowFilterExpression.parse("x > 0 and `my col` is missing").isApplicableTo(SPEC));
+		assertFalse(RowFilterExpression.parse("x > 0 and z is missing").isApplicableTo(SPEC));
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testNumericComparisons() throws CanceledExecutionException {
+		// Missing cells never satisfy a comparison.
+		assertMatches("x > 0", 0, 3);
+		assertMatches("x <= 1", 0, 1);
+		assertMatches("x >= -2.5", 0, 1, 3);
+		assertMatches("x == 5", 3);
+		// NaN only satisfies !=.
+		assertMatches("y != 1.5", 1, 3);
+		assertMatches("y < 2", 0, 3);
+		assertMatches("y <= 1.5", 0, 3);
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testStringAndBooleanComparisons() throws CanceledExecutionException {
+		assertMatches("name == 'foo'", 0, 3);
+		assertMatches("name != \"foo\"", 1, 2);
+		assertMatches("name < 'c'", 1, 2);
+		assertMatches("flag == true", 0, 3);
+		assertMatches("flag != true", 1);
+		// Type mismatches never match.
+		assertMatches("name == 1");
+		assertMatches("x == 'foo'");
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testMissingChecksAndConjunctions() throws CanceledExecutionException {
+		assertMatches("x is missing", 2);
+		assertMatches("y is not missing", 0, 1, 3);
+		assertMatches("name == 'foo' and x >= 5", 3);
+		assertMatches("x > 0 and name != 'foo'");
+		assertMatches("`my col` > 0 and y is not missing", 1, 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("javadoc")
+	public void testMissingColumn() throws CanceledExecutionException {
+		RowFilterExpression.parse("z > 0").findMatchingRows(table, new ExecutionMonitor());
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testProgressIsReported() throws CanceledExecutionException {
+		final DefaultNodeProgressMonitor progressMonitor = new DefaultNodeProgressMonitor();
+		RowFilterExpression.parse("x > 0").findMatchingRows(table, new ExecutionMonitor(progressMonitor));
+		assertEquals(1, progressMonitor.getProgress().doubleValue(), 0);
+	}
+
+	private static void assertMatches(final String expression, final int... expectedRows)
+		throws CanceledExecutionException {
+		final BitSet expected = new BitSet();
+		for (final int row : expectedRows) {
+			expected.set(row);
+		}
+		assertEquals(expression, expected,
+			RowFilterExpression.parse(expression).findMatchingRows(table, new ExecutionMonitor()));
+	}
+
+	private static void addRow(final DataContainer container, final int index, final DataCell... cells) {
+		container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)index), cells));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ExecutionContext createExecutionContext() {
+		final NodeFactory<NodeModel> factory =
+			(NodeFactory) new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+		return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+			SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+	}
+}
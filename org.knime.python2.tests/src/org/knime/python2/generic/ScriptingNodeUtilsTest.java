@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.generic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ScriptingNodeUtils#findReferencedColumns(String, String)}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class ScriptingNodeUtilsTest {
+
+	private static final String TABLE = "input_table";
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testSingleColumnSubscripts() {
+		assertColumns("x = input_table['a']\ny = input_table[\"b\"] + input_table[ 'a' ]", "a", "b");
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testColumnListSubscripts() {
+		assertColumns("df = input_table[['a', \"b\"]]\ndf2 = input_table[ [ 'c', ] ]", "a", "b", "c");
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testEscapedColumnNames() {
+		assertColumns("x = input_table['it\\'s']\ny = input_table[\"tab\\tand\\\\\"]", "it's", "tab\tand\\");
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testOtherVariablesAreIgnored() {
+		// Variables whose names merely contain the table's name and attribute accesses on other objects.
+		assertColumns("my_input_table = 1\ninput_table2 = 2\nfoo.input_table = 3\nx = input_table['a']", "a");
+	}
+
+	@Test
+	@SuppressWarnings("javadoc")
+	public void testUndeterminableColumns() {
+		for (final String sourceCode : new String[] { //
+			"output_table = input_table", // Whole table.
+			"output_table = input_table.copy()", // Attribute access.
+			"print(len(input_table))", // Passed to a function.
+			"x = input_table['a']\ny = input_table[c]", // Column name is not a literal.
+			"x = input_table['a' + 'b']", // Expression.
+			"x = input_table[['a', c]]", // List containing a non-literal.
+			"x = input_table[1:5]", // Slice.
+			"x = input_table['a\nb']", // Unterminated literal.
+			"x = input_table['\\x41']", // Unsupported escape sequence.
+			"x = input_table[f'a']", // Prefixed literal.
+			"output_table = 1", // Not referenced at all.
+			"" }) {
+			assertFalse(sourceCode, ScriptingNodeUtils.findReferencedColumns(sourceCode, TABLE).isPresent());
+		}
+		assertFalse(ScriptingNodeUtils.findReferencedColumns(null, TABLE).isPresent());
+		assertFalse(ScriptingNodeUtils.findReferencedColumns("x = input_table['a']", "").isPresent());
+	}
+
+	private static void assertColumns(final String sourceCode, final String... expectedColumns) {
+		final Optional<String[]> columns = ScriptingNodeUtils.findReferencedColumns(sourceCode, TABLE);
+		assertArrayEquals(sourceCode, expectedColumns, columns.orElse(null));
+	}
+}
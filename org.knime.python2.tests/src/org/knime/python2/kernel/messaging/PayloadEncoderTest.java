@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.kernel.messaging;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.knime.python2.kernel.messaging.DefaultMessage.PayloadDecoder;
+import org.knime.python2.kernel.messaging.DefaultMessage.PayloadEncoder;
+
+/**
+ * Tests that {@link PayloadEncoder} produces the same payload regardless of its initial capacity.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class PayloadEncoderTest {
+
+	private static final byte[] TABLE = createBytes(5000);
+
+	@Test
+	public void testExactCapacity() {
+		final byte[] payload = new PayloadEncoder(TABLE.length + Integer.BYTES).putBytes(TABLE).get();
+		assertEquals(TABLE.length + Integer.BYTES, payload.length);
+		assertArrayEquals(TABLE, new PayloadDecoder(payload).getNextBytes());
+	}
+
+	@Test
+	public void testSameAsDefaultCapacity() {
+		final byte[] expected = new PayloadEncoder().putBytes(TABLE).putInt(1).get();
+		for (final int initialCapacity : new int[] { 0, 1, TABLE.length, TABLE.length + 2 * Integer.BYTES,
+			10 * TABLE.length }) {
+			final byte[] payload = new PayloadEncoder(initialCapacity).putBytes(TABLE).putInt(1).get();
+			assertArrayEquals("Initial capacity: " + initialCapacity, expected, payload);
+		}
+	}
+
+	@Test
+	public void testMixedValues() {
+		final byte[] payload = new PayloadEncoder(3).putString("name").putBytes(new byte[0]).putLong(-7L)
+			.putBytes(TABLE).putInt(Integer.MIN_VALUE).get();
+		final PayloadDecoder decoder = new PayloadDecoder(payload);
+		assertEquals("name", decoder.getNextString());
+		assertArrayEquals(new byte[0], decoder.getNextBytes());
+		assertEquals(-7L, decoder.getNextLong());
+		assertArrayEquals(TABLE, decoder.getNextBytes());
+		assertEquals(Integer.MIN_VALUE, decoder.getNextInt());
+	}
+
+	private static byte[] createBytes(final int length) {
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte)i;
+		}
+		return bytes;
+	}
+}
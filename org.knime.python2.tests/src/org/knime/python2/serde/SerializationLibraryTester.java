@@ -51,20 +51,29 @@
 import static org.knime.python2.serde.SerializationTestUtil.DEFAULT_TABLE_SIZE;
 import static org.knime.python2.serde.SerializationTestUtil.assertRowsEqual;
 import static org.knime.python2.serde.SerializationTestUtil.assertTableSpecEquals;
+import static org.knime.python2.serde.SerializationTestUtil.createMissingsVector;
+import static org.knime.python2.serde.SerializationTestUtil.populateMissingsVectorIndex;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import org.knime.python2.extensions.serializationlibrary.SerializationException;
 import org.knime.python2.extensions.serializationlibrary.SerializationLibraryExtension;
 import org.knime.python2.extensions.serializationlibrary.SerializationLibraryExtensions;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
 import org.knime.python2.extensions.serializationlibrary.interfaces.SerializationLibrary;
 import org.knime.python2.extensions.serializationlibrary.interfaces.SerializationLibraryFactory;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreator;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreatorFactory;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
@@ -75,10 +84,11 @@
 import org.knime.python2.kernel.PythonCanceledExecutionException;
 import org.knime.python2.kernel.PythonKernel;
 import org.knime.python2.kernel.PythonKernelOptions;
+import org.knime.python2.serde.SerializationTestUtil.CopyingRowListCreatorFactory;
 import org.knime.python2.serde.SerializationTestUtil.RowListCreator;
 import org.knime.python2.serde.SerializationTestUtil.RowListCreatorFactory;
 import org.knime.python2.serde.SerializationTestUtil.RowListIterator;
-import org.knime.python2.serde.SerializationTestUtil.SingleChunkTableChunker;
+import org.knime.python2.serde.SerializationTestUtil.RowListTableChunker;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -88,6 +98,24 @@ public final class SerializationLibraryTester {
 
 	private static final String DEFAULT_TABLE_NAME = "test_table";
 
+	private static final float MISSING_CELL_RATIO = 0.1f;
+
+	private static final float MISSING_ELEMENT_RATIO = 0.1f;
+
+	private static final float EMPTY_COLLECTION_RATIO = 0.1f;
+
+	/**
+	 * Splits tables of {@link SerializationTestUtil#DEFAULT_TABLE_SIZE default size} into several chunks, the last of
+	 * which is smaller than the others.
+	 */
+	private static final int SMALL_CHUNK_SIZE = 7;
+
+	private static final int CATEGORICAL_TABLE_SIZE = 60;
+
+	private static final int CATEGORICAL_CHUNK_SIZE = 20;
+
+	private static final String[] CATEGORIES = new String[] { "red", "green", "blue", "", "gr\u00fcn" };
+
 	private final SerializationLibraryExtension m_serializationLibraryExtension;
 
 	private final SerializationLibrary m_serializer;
@@ -108,10 +136,64 @@ public SerializationLibraryTester(final Class<? extends SerializationLibraryFact
 
 	// Tests:
 
-	// TODO:
-	// - Add tests for other data types.
-	// - Generalize #createDefaultIntTable() to create arbitrary test tables based on a table spec.
-	// - Move generalized method to SerializationTestUtil.
+	/**
+	 * Tests Java side only using booleans and collections of booleans.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 */
+	public void testBooleanOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.BOOLEAN, Type.BOOLEAN_LIST, Type.BOOLEAN_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side using booleans and collections of booleans. The table does not contain missing
+	 * cells since pandas would turn the boolean column into a column of objects otherwise.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testBooleanOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(new Type[] { Type.BOOLEAN, Type.BOOLEAN_LIST, Type.BOOLEAN_SET },
+				DEFAULT_TABLE_MISSING_CELL_RATIO, MISSING_ELEMENT_RATIO, EMPTY_COLLECTION_RATIO);
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side only using longs and collections of longs.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 */
+	public void testLongOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.LONG, Type.LONG_LIST, Type.LONG_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side using longs and collections of longs. The values lie outside of the range of
+	 * integers, otherwise Python would transfer them back as integers. The table does not contain missing cells since
+	 * pandas would turn the long column into a column of doubles otherwise.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testLongOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(new Type[] { Type.LONG, Type.LONG_LIST, Type.LONG_SET },
+				DEFAULT_TABLE_MISSING_CELL_RATIO, MISSING_ELEMENT_RATIO, EMPTY_COLLECTION_RATIO);
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side only using floats and collections of floats including infinity and NaN. There is no online
+	 * counterpart since Python does not retain single precision: it transfers floats back as doubles.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 * @see SerializationTestUtil#SPECIAL_FLOATS
+	 */
+	public void testFloatOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.FLOAT, Type.FLOAT_LIST, Type.FLOAT_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
 
 	/**
 	 * Tests Java side only. Note that this test only works properly if the data format used by the serialization
@@ -135,40 +217,291 @@ public void testIntOnlineSerializationDeserializationIdentity() throws IOExcepti
 		testOnlineSerializationDeserializationIdentity(table);
 	}
 
-	// Helpers:
+	/**
+	 * Tests Java side only using strings that need to be quoted or escaped by text based formats and non-ASCII strings.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 * @see SerializationTestUtil#SPECIAL_STRINGS
+	 */
+	public void testStringOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.STRING, Type.STRING_LIST, Type.STRING_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
 
-	private TestTable createDefaultIntTable() {
-		final Type[] types = new Type[] { Type.INTEGER, Type.INTEGER_LIST, Type.INTEGER_SET };
-		final String[] names = new String[] { "scalar", "list", "set" };
-		final TableSpecImpl spec = new TableSpecImpl(types, names, new HashMap<>());
-		final int numberOfColumns = spec.getNumberColumns();
+	/**
+	 * Tests Java side and Python side using strings that need to be quoted or escaped by text based formats and
+	 * non-ASCII strings.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 * @see SerializationTestUtil#SPECIAL_STRINGS
+	 */
+	public void testStringOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(Type.STRING, Type.STRING_LIST, Type.STRING_SET);
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side only using doubles including infinity and NaN.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 * @see SerializationTestUtil#SPECIAL_DOUBLES
+	 */
+	public void testDoubleOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.DOUBLE, Type.DOUBLE_LIST, Type.DOUBLE_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side using doubles including infinity and NaN.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 * @see SerializationTestUtil#SPECIAL_DOUBLES
+	 */
+	public void testDoubleOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(Type.DOUBLE, Type.DOUBLE_LIST, Type.DOUBLE_SET);
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side only using bytes, possibly empty, and collections of bytes.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 */
+	public void testBytesOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createTable(Type.BYTES, Type.BYTES_LIST, Type.BYTES_SET);
+		testOfflineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side using bytes, possibly empty. Collections of bytes are not tested since Python
+	 * cannot infer their type without a type extension.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testBytesOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(Type.BYTES);
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side only using collections of which many are empty, missing or contain missing elements.
+	 *
+	 * @throws SerializationException If something went wrong during (de)serialization.
+	 */
+	public void testCollectionOfflineSerializationDeserializationIdentity() throws SerializationException {
+		final TestTable table = createCollectionTable();
+		testOfflineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side using collections of which many are empty, missing or contain missing elements.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testCollectionOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createCollectionTable();
+		testOnlineSerializationDeserializationIdentity(table);
+	}
+
+	/**
+	 * Tests Java side and Python side transferring the table in several chunks, the last of which is smaller than the
+	 * others. All values of one of the columns are missing in one of the chunks.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testChunkedOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createMixedTable();
+		final int stringColumn = 2;
+		for (int i = SMALL_CHUNK_SIZE; i < 2 * SMALL_CHUNK_SIZE; i++) {
+			table.m_rows[i].setCell(new CellImpl(), stringColumn);
+		}
+		testOnlineSerializationDeserializationIdentity(table, o -> o.forChunkSize(SMALL_CHUNK_SIZE),
+				new RowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side transferring the table in several chunks whose cells are much larger than the
+	 * ones of the first chunk. Serialization libraries that preallocate memory for a chunk based on the previous one
+	 * must grow it as needed.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testGrowingCellSizesOnlineSerializationDeserializationIdentity() throws IOException {
+		final TableSpec spec = new TableSpecImpl(
+				new Type[] { Type.STRING, Type.BYTES, Type.INTEGER_LIST, Type.STRING_LIST },
+				new String[] { "string", "bytes", "integer_list", "string_list" }, new HashMap<>());
 		final Row[] rows = new Row[DEFAULT_TABLE_SIZE];
-		final int numberOfRows = rows.length;
-		for (int i = 0; i < numberOfRows; i++) {
-			final Row row = new RowImpl("Row" + i, numberOfColumns);
-			for (int j = 0; j < numberOfColumns; j++) {
-				Cell cell;
-				if (m_util.getMissingDecision(DEFAULT_TABLE_MISSING_CELL_RATIO)) {
-					cell = new CellImpl();
-				} else {
-					switch (types[j]) {
-					case INTEGER:
-						cell = m_util.createRandomIntCell();
-						break;
-					case INTEGER_LIST:
-						cell = m_util.createRandomIntListCell(m_util.getRandomNumberOfCollectionElements(), -1f);
-						break;
-					case INTEGER_SET:
-						cell = m_util.createRandomIntSetCell(m_util.getRandomNumberOfCollectionElements(), -1f);
-						break;
-					default:
-						throw new IllegalStateException("Implementation error.");
-					}
+		for (int i = 0; i < rows.length; i++) {
+			// Cells of the first chunk hold a single character or element, the ones of later chunks many more.
+			final int size = i < SMALL_CHUNK_SIZE ? 1 : 50 * i;
+			final StringBuilder string = new StringBuilder(size);
+			final int[] ints = new int[size];
+			final String[] strings = new String[size];
+			final byte[] missings = createMissingsVector(size);
+			for (int j = 0; j < size; j++) {
+				string.append(j % 2 == 0 ? 'a' : '\u00fc');
+				// Every third element is missing.
+				if (j % 3 != 2) {
+					ints[j] = j;
+					strings[j] = "s" + j;
+					populateMissingsVectorIndex(missings, j);
 				}
-				row.setCell(cell, j);
 			}
-			rows[i] = row;
+			rows[i] = new RowImpl("Row" + i, spec.getNumberColumns());
+			rows[i].setCell(new CellImpl(string.toString()), 0);
+			rows[i].setCell(new CellImpl(new byte[size]), 1);
+			rows[i].setCell(new CellImpl(ints, missings), 2);
+			rows[i].setCell(new CellImpl(strings, missings), 3);
 		}
+		testOnlineSerializationDeserializationIdentity(new TestTable(rows, spec),
+				o -> o.forChunkSize(SMALL_CHUNK_SIZE), new RowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side using a table creator that does not retain the rows it is passed, which allows
+	 * serialization libraries to pass rows and cells that are only valid until the next row is read.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testNonRetainingCreatorOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createMixedTable();
+		testOnlineSerializationDeserializationIdentity(table, o -> o.forChunkSize(SMALL_CHUNK_SIZE),
+				new CopyingRowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side transferring strings as categoricals. Only few distinct values occur in the
+	 * first chunk of the categorical column, later chunks add further ones. The other string column has too many
+	 * distinct values to be transferred as categorical.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testCategoricalStringsOnlineSerializationDeserializationIdentity() throws IOException {
+		final TableSpec spec = new TableSpecImpl(new Type[] { Type.STRING, Type.STRING },
+				new String[] { "categorical", "string" }, new HashMap<>());
+		final Row[] rows = m_util.createRandomRows(spec, CATEGORICAL_TABLE_SIZE, MISSING_CELL_RATIO, -1f, -1f);
+		for (int i = 0; i < rows.length; i++) {
+			if (!rows[i].getCell(0).isMissing()) {
+				final int numberOfCategories = i < CATEGORICAL_CHUNK_SIZE ? 2 : CATEGORIES.length;
+				rows[i].setCell(m_util.createRandomCategoryCell(CATEGORIES, numberOfCategories), 0);
+			}
+		}
+		testOnlineSerializationDeserializationIdentity(new TestTable(rows, spec),
+				o -> o.forCategoricalStrings(true).forChunkSize(CATEGORICAL_CHUNK_SIZE), new RowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side transferring default row keys ("Row0", "Row1", ...) as range index.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testRangeIndexRowKeysOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(Type.DOUBLE, Type.STRING);
+		testOnlineSerializationDeserializationIdentity(table,
+				o -> o.forRangeIndexRowKeys(true).forChunkSize(SMALL_CHUNK_SIZE), new RowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side transferring row keys as range index where possible. One of the chunks
+	 * contains a row key that follows the default pattern but is out of sequence.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testNonDefaultRowKeysWithRangeIndexOnlineSerializationDeserializationIdentity() throws IOException {
+		final TestTable table = createTable(Type.DOUBLE, Type.STRING);
+		final int rowIndex = SMALL_CHUNK_SIZE + 1;
+		final Row row = table.m_rows[rowIndex];
+		final Row renamedRow = new RowImpl("Row" + (table.m_rows.length + rowIndex), row.getNumberCells());
+		for (int i = 0; i < row.getNumberCells(); i++) {
+			renamedRow.setCell(row.getCell(i), i);
+		}
+		table.m_rows[rowIndex] = renamedRow;
+		testOnlineSerializationDeserializationIdentity(table,
+				o -> o.forRangeIndexRowKeys(true).forChunkSize(SMALL_CHUNK_SIZE), new RowListCreatorFactory());
+	}
+
+	/**
+	 * Tests Java side and Python side using dates, times, date-times and durations of the built-in type extensions.
+	 * Values are of microsecond precision since Python does not support finer ones.
+	 *
+	 * @throws IOException If any error occurred while communicating with Python. This includes errors during
+	 *             (de)serialization.
+	 */
+	public void testTemporalOnlineSerializationDeserializationIdentity() throws IOException {
+		final String[] names = new String[] { "localdate", "localtime", "datetime2", "duration" };
+		final List<Supplier<Cell>> generators = Arrays.asList(m_util::createRandomLocalDateCell,
+				m_util::createRandomLocalTimeCell, m_util::createRandomLocalDateTimeCell,
+				m_util::createRandomDurationCell);
+		final Type[] types = new Type[names.length];
+		final Map<String, String> serializers = new HashMap<>();
+		for (int i = 0; i < names.length; i++) {
+			types[i] = Type.BYTES;
+			serializers.put(names[i], "org.knime." + names[i]);
+		}
+		final TableSpec spec = new TableSpecImpl(types, names, serializers);
+		final Row[] rows = new Row[DEFAULT_TABLE_SIZE];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = new RowImpl("Row" + i, names.length);
+			for (int j = 0; j < names.length; j++) {
+				rows[i].setCell(m_util.getMissingDecision(MISSING_CELL_RATIO) //
+						? new CellImpl() //
+						: generators.get(j).get(), j);
+			}
+		}
+		testOnlineSerializationDeserializationIdentity(new TestTable(rows, spec),
+				o -> o.forChunkSize(SMALL_CHUNK_SIZE), new RowListCreatorFactory());
+	}
+
+	// Helpers:
+
+	private TestTable createDefaultIntTable() {
+		return createTable(new Type[] { Type.INTEGER, Type.INTEGER_LIST, Type.INTEGER_SET },
+				DEFAULT_TABLE_MISSING_CELL_RATIO, -1f, -1f);
+	}
+
+	/**
+	 * Creates a table of scalar and collection columns. Python cannot represent missing integers, so the integer column
+	 * does not contain any.
+	 */
+	private TestTable createMixedTable() {
+		final TestTable table = createTable(Type.INTEGER, Type.DOUBLE, Type.STRING, Type.BYTES, Type.INTEGER_LIST,
+				Type.STRING_SET);
+		for (final Row row : table.m_rows) {
+			if (row.getCell(0).isMissing()) {
+				row.setCell(m_util.createRandomIntCell(), 0);
+			}
+		}
+		return table;
+	}
+
+	private TestTable createCollectionTable() {
+		return createTable(new Type[] { Type.INTEGER_LIST, Type.INTEGER_SET, Type.DOUBLE_LIST, Type.DOUBLE_SET,
+				Type.STRING_LIST, Type.STRING_SET }, 0.2f, 0.5f, 0.3f);
+	}
+
+	private TestTable createTable(final Type... types) {
+		return createTable(types, MISSING_CELL_RATIO, MISSING_ELEMENT_RATIO, EMPTY_COLLECTION_RATIO);
+	}
+
+	private TestTable createTable(final Type[] types, final float missingCellRatio, final float missingElementRatio,
+			final float emptyCollectionRatio) {
+		final String[] names = new String[types.length];
+		for (int i = 0; i < types.length; i++) {
+			names[i] = types[i].name().toLowerCase(Locale.ROOT);
+		}
+		final TableSpecImpl spec = new TableSpecImpl(types, names, new HashMap<>());
+		final Row[] rows = m_util.createRandomRows(spec, DEFAULT_TABLE_SIZE, missingCellRatio, missingElementRatio,
+				emptyCollectionRatio);
 		return new TestTable(rows, spec);
 	}
 
@@ -187,7 +520,7 @@ private void testOfflineSerializationDeserializationIdentity(final TestTable tes
 			final RowListCreator creator = new RowListCreator(deserializedSpec);
 			m_serializer.bytesIntoTable(creator, bytes, DEFAULT_SERIALIZATION_OPTIONS, PythonCancelable.NOT_CANCELABLE);
 			final List<Row> deserializedTable = creator.getTable();
-			assertRowsEqual(Arrays.asList(originalRows), deserializedTable);
+			assertRowsEqual(toExpectedRows(testTable), deserializedTable);
 		} catch (final PythonCanceledExecutionException ex) {
 			// Cannot happen, we pass non-cancelables above.
 			throw new IllegalStateException(ex);
@@ -195,36 +528,76 @@ private void testOfflineSerializationDeserializationIdentity(final TestTable tes
 	}
 
 	private void testOnlineSerializationDeserializationIdentity(final TestTable testTable) throws IOException {
+		testOnlineSerializationDeserializationIdentity(testTable, UnaryOperator.identity(),
+				new RowListCreatorFactory());
+	}
+
+	/**
+	 * @param serializationOptions configures the serialization options in addition to the serialization library
+	 * @param creatorFactory creates the table that receives the rows read from Python, must create
+	 *            {@link RowListCreator row list creators}
+	 */
+	private void testOnlineSerializationDeserializationIdentity(final TestTable testTable,
+			final UnaryOperator<SerializationOptions> serializationOptions, final TableCreatorFactory creatorFactory)
+			throws IOException {
 		final TableSpec originalSpec = testTable.m_spec;
 		final Row[] originalRows = testTable.m_rows;
-		final PythonKernelOptions options = createConfiguredKernelOptions(new PythonKernelOptions());
+		final PythonKernelOptions options = createConfiguredKernelOptions(new PythonKernelOptions(),
+				serializationOptions);
 		final Python2KernelBackend kernelBackend = new Python2KernelBackend(options.getUsePython3() //
 				? options.getPython3Command() //
 				: options.getPython2Command());
 		try (PythonKernel kernel = new PythonKernel(kernelBackend)) {
 			kernel.setOptions(options);
-			kernelBackend.putData(DEFAULT_TABLE_NAME,
-					new SingleChunkTableChunker(new RowListIterator(originalSpec, originalRows)), originalRows.length,
-					PythonCancelable.NOT_CANCELABLE);
+			// The table is split into chunks according to the chunk size of the serialization options.
+			kernelBackend.putData(DEFAULT_TABLE_NAME, new RowListTableChunker(originalSpec, originalRows),
+					originalRows.length, PythonCancelable.NOT_CANCELABLE);
 
 			@SuppressWarnings("unchecked")
 			final TableCreator<List<Row>> creator = (TableCreator<List<Row>>) kernelBackend.getData(DEFAULT_TABLE_NAME,
-					new RowListCreatorFactory(), PythonCancelable.NOT_CANCELABLE);
+					creatorFactory, PythonCancelable.NOT_CANCELABLE);
 
 			final TableSpec deserializedSpec = creator.getTableSpec();
 			assertTableSpecEquals(originalSpec, deserializedSpec);
 
 			final List<Row> deserializedTable = creator.getTable();
-			assertRowsEqual(Arrays.asList(originalRows), deserializedTable);
+			assertRowsEqual(toExpectedRows(testTable), deserializedTable);
 		} catch (final PythonCanceledExecutionException ex) {
 			// Cannot happen, we pass non-cancelables above.
 			throw new IllegalStateException(ex);
 		}
 	}
 
-	private PythonKernelOptions createConfiguredKernelOptions(final PythonKernelOptions options) {
-		return options.forSerializationOptions(
-				options.getSerializationOptions().forSerializerId(m_serializationLibraryExtension.getId()));
+	/**
+	 * @return the given table's rows as they are expected to be read back. Pandas represents missing doubles as NaN and
+	 *         the Java side of each serialization library mirrors that by reading missing scalar doubles and floats as
+	 *         NaN, which therefore also applies to offline tests. All other cells are expected to be read back as they
+	 *         are, missing and NaN collection elements included.
+	 */
+	private static List<Row> toExpectedRows(final TestTable table) {
+		final Type[] types = table.m_spec.getColumnTypes();
+		final List<Row> expectedRows = new ArrayList<>(table.m_rows.length);
+		for (final Row row : table.m_rows) {
+			final Row expectedRow = new RowImpl(row.getRowKey(), types.length);
+			for (int i = 0; i < types.length; i++) {
+				final Cell cell = row.getCell(i);
+				if (cell.isMissing() && types[i] == Type.DOUBLE) {
+					expectedRow.setCell(new CellImpl(Double.NaN), i);
+				} else if (cell.isMissing() && types[i] == Type.FLOAT) {
+					expectedRow.setCell(new CellImpl(Float.NaN), i);
+				} else {
+					expectedRow.setCell(cell, i);
+				}
+			}
+			expectedRows.add(expectedRow);
+		}
+		return expectedRows;
+	}
+
+	private PythonKernelOptions createConfiguredKernelOptions(final PythonKernelOptions options,
+			final UnaryOperator<SerializationOptions> serializationOptions) {
+		return options.forSerializationOptions(serializationOptions
+				.apply(options.getSerializationOptions().forSerializerId(m_serializationLibraryExtension.getId())));
 	}
 
 	private class TestTable {
@@ -48,14 +48,21 @@
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Set;
 
 import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
@@ -65,7 +72,9 @@
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreatorFactory;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableIterator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -85,6 +94,50 @@ public final class SerializationTestUtil {
 
 	public static final long DEFAULT_RANDOM_SEED = 1234567;
 
+	/**
+	 * The probability of a random double, float or string to be one of the {@link #SPECIAL_DOUBLES},
+	 * {@link #SPECIAL_FLOATS} or {@link #SPECIAL_STRINGS}, respectively.
+	 */
+	public static final float DEFAULT_SPECIAL_VALUE_RATIO = 0.2f;
+
+	public static final double[] SPECIAL_DOUBLES = new double[] { 0d, Double.NaN, Double.POSITIVE_INFINITY,
+			Double.NEGATIVE_INFINITY, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL };
+
+	public static final float[] SPECIAL_FLOATS = new float[] { 0f, Float.NaN, Float.POSITIVE_INFINITY,
+			Float.NEGATIVE_INFINITY, Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE, Float.MIN_NORMAL };
+
+	/**
+	 * Strings that need to be quoted or escaped by text based formats, non-ASCII strings and strings that could be
+	 * mistaken for something else.
+	 */
+	public static final String[] SPECIAL_STRINGS = new String[] { "", " ", " padded ", "comma, separated",
+			"semicolon; separated", "\"double quoted\"", "'single quoted'", "both ' and \"", "back\\slash",
+			"trailing backslash\\", "multi\nline", "carriage\r\nreturn", "tab\tseparated", "None", "nan", "True",
+			"[not, a, list]", "{not, a, set}", "#hash", "Gr\u00fc\u00dfe aus Z\u00fcrich", "\u65e5\u672c\u8a9e",
+			"\u20ac 100", "emoji \ud83d\ude00" };
+
+	// Code points of the characters of random strings, including characters that need to be quoted or escaped by text
+	// based formats and non-ASCII characters (outside of the basic multilingual plane, too).
+	private static final int[] STRING_CODE_POINTS = ("abcdefxyzABCXYZ 019,;:\"'\\\n\r\t#{}[]()"
+			+ "\u00e4\u00f6\u00fc\u00df\u00e9\u20ac\u65e5\u672c\ud83d\ude00\ud83d\udca9").codePoints().toArray();
+
+	private static final int MAX_RANDOM_STRING_LENGTH = 16;
+
+	private static final int MAX_RANDOM_BYTES_LENGTH = 32;
+
+	// Random dates lie within about 270 years around the epoch, which keeps them within the range of pandas timestamps.
+	private static final long MAX_RANDOM_EPOCH_DAY = 100_000;
+
+	private static final long MAX_RANDOM_DURATION_SECONDS = 1_000_000_000;
+
+	private static final long SECONDS_PER_DAY = 86_400;
+
+	private static final long MICROS_PER_DAY = SECONDS_PER_DAY * 1_000_000;
+
+	private static final int MICROS_PER_SECOND = 1_000_000;
+
+	private static final int NANOS_PER_MICRO = 1_000;
+
 	// Static utilities for test setup:
 
 	public static byte[] createMissingsVector(final int numberOfElements) {
@@ -95,42 +148,111 @@ public static void populateMissingsVectorIndex(final byte[] missings, final int
 		missings[index / 8] += (1 << (index % 8));
 	}
 
-	public static class SingleChunkTableChunker implements TableChunker {
+	/**
+	 * @return a copy of the given cell that does not share any state with it
+	 */
+	public static Cell copyCell(final Cell cell) {
+		if (cell.isMissing()) {
+			return new CellImpl();
+		}
+		final Type type = cell.getColumnType();
+		switch (type) {
+		case BOOLEAN:
+			return new CellImpl(cell.getBooleanValue());
+		case BOOLEAN_LIST:
+			return new CellImpl(cell.getBooleanArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case BOOLEAN_SET:
+			return new CellImpl(cell.getBooleanArrayValue().clone(), cell.hasMissingInSet());
+		case INTEGER:
+			return new CellImpl(cell.getIntegerValue());
+		case INTEGER_LIST:
+			return new CellImpl(cell.getIntegerArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case INTEGER_SET:
+			return new CellImpl(cell.getIntegerArrayValue().clone(), cell.hasMissingInSet());
+		case LONG:
+			return new CellImpl(cell.getLongValue());
+		case LONG_LIST:
+			return new CellImpl(cell.getLongArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case LONG_SET:
+			return new CellImpl(cell.getLongArrayValue().clone(), cell.hasMissingInSet());
+		case DOUBLE:
+			return new CellImpl(cell.getDoubleValue());
+		case DOUBLE_LIST:
+			return new CellImpl(cell.getDoubleArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case DOUBLE_SET:
+			return new CellImpl(cell.getDoubleArrayValue().clone(), cell.hasMissingInSet());
+		case FLOAT:
+			return new CellImpl(cell.getFloatValue());
+		case FLOAT_LIST:
+			return new CellImpl(cell.getFloatArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case FLOAT_SET:
+			return new CellImpl(cell.getFloatArrayValue().clone(), cell.hasMissingInSet());
+		case STRING:
+			return new CellImpl(cell.getStringValue());
+		case STRING_LIST:
+			return new CellImpl(cell.getStringArrayValue().clone(), cell.getBitEncodedMissingListValues().clone());
+		case STRING_SET:
+			return new CellImpl(cell.getStringArrayValue().clone(), cell.hasMissingInSet());
+		case BYTES:
+			return new CellImpl(cell.getBytesValue().clone());
+		case BYTES_LIST:
+			return new CellImpl(copyBytesArray(cell.getBytesArrayValue()),
+					cell.getBitEncodedMissingListValues().clone());
+		case BYTES_SET:
+			return new CellImpl(copyBytesArray(cell.getBytesArrayValue()), cell.hasMissingInSet());
+		default:
+			throw new IllegalStateException("Implementation error.");
+		}
+	}
+
+	private static byte[][] copyBytesArray(final byte[][] bytesArray) {
+		return Arrays.stream(bytesArray).map(bytes -> bytes == null ? null : bytes.clone()).toArray(byte[][]::new);
+	}
+
+	/**
+	 * Splits a list of rows into chunks of the requested sizes.
+	 */
+	public static class RowListTableChunker implements TableChunker {
+
+		private final TableSpec m_spec;
+
+		private final List<Row> m_rows;
 
-		private final TableIterator m_delegate;
+		private int m_position;
 
-		private boolean m_hasNext = true;
+		public RowListTableChunker(final TableSpec spec, final Row... rows) {
+			this(spec, Arrays.asList(rows));
+		}
 
-		public SingleChunkTableChunker(final TableIterator iterator) {
-			m_delegate = iterator;
+		public RowListTableChunker(final TableSpec spec, final List<Row> rows) {
+			m_spec = spec;
+			m_rows = rows;
 		}
 
 		@Override
 		public boolean hasNextChunk() {
-			return m_hasNext;
+			return m_position < m_rows.size();
 		}
 
 		@Override
 		public TableIterator nextChunk(final int numRows) {
-			if (m_hasNext) {
-				if (numRows != m_delegate.getNumberRemainingRows()) {
-					throw new IllegalStateException("Not implemented.");
-				}
-				m_hasNext = false;
-				return m_delegate;
-			} else {
+			// Empty chunks are valid, empty tables are transferred as one.
+			if (numRows > getNumberRemainingRows()) {
 				throw new NoSuchElementException();
 			}
+			final List<Row> chunk = m_rows.subList(m_position, m_position + numRows);
+			m_position += numRows;
+			return new RowListIterator(m_spec, chunk);
 		}
 
 		@Override
 		public int getNumberRemainingRows() {
-			return m_delegate.getNumberRemainingRows();
+			return m_rows.size() - m_position;
 		}
 
 		@Override
 		public TableSpec getTableSpec() {
-			return m_delegate.getTableSpec();
+			return m_spec;
 		}
 	}
 
@@ -215,6 +337,39 @@ public List<Row> getTable() {
 		}
 	}
 
+	public static class CopyingRowListCreatorFactory implements TableCreatorFactory {
+
+		@Override
+		public TableCreator<?> createTableCreator(final TableSpec spec, final int tableSize) {
+			return new CopyingRowListCreator(spec, tableSize);
+		}
+	}
+
+	/**
+	 * Copies the added rows instead of retaining them. This allows serialization libraries to pass rows and cells that
+	 * are only valid during {@link #addRow(Row)}.
+	 */
+	public static class CopyingRowListCreator extends RowListCreator {
+
+		public CopyingRowListCreator(final TableSpec spec, final int tableSize) {
+			super(spec, tableSize);
+		}
+
+		@Override
+		public void addRow(final Row row) {
+			final Row copy = new RowImpl(row.getRowKey(), row.getNumberCells());
+			for (int i = 0; i < row.getNumberCells(); i++) {
+				copy.setCell(copyCell(row.getCell(i)), i);
+			}
+			super.addRow(copy);
+		}
+
+		@Override
+		public boolean retainsRows() {
+			return false;
+		}
+	}
+
 	// Static utilities for assertions:
 
 	public static void assertTableSpecEquals(final TableSpec expected, final TableSpec actual) {
@@ -247,11 +402,121 @@ public static void assertRowEquals(final Row expected, final Row actual) {
 		}
 	}
 
+	/**
+	 * Compares the values of the given cells. The elements of set cells are compared irrespective of their order. A
+	 * missing cell only equals another missing cell, NaN only equals NaN.
+	 */
 	public static void assertCellEquals(final Cell expectedCell, final Cell actualCell) {
-		if (!(expectedCell instanceof CellImpl && actualCell instanceof CellImpl)) {
-			throw new IllegalStateException("Not implemented.");
+		if (expectedCell.isMissing() || actualCell.isMissing()) {
+			assertTrue("Expected " + cellToString(expectedCell) + " but was " + cellToString(actualCell),
+					expectedCell.isMissing() && actualCell.isMissing());
+			return;
+		}
+		final Type type = expectedCell.getColumnType();
+		assertEquals(type, actualCell.getColumnType());
+		final Object[] expectedElements = getElements(expectedCell);
+		final Object[] actualElements = getElements(actualCell);
+		if (isListType(type)) {
+			assertEquals("Number of list elements", expectedElements.length, actualElements.length);
+			for (int i = 0; i < expectedElements.length; i++) {
+				assertEquals("Missing list element " + i, expectedCell.isMissing(i), actualCell.isMissing(i));
+				if (!expectedCell.isMissing(i)) {
+					assertEquals("List element " + i, expectedElements[i], actualElements[i]);
+				}
+			}
+		} else if (isSetType(type)) {
+			assertEquals("Missing set element", expectedCell.hasMissingInSet(), actualCell.hasMissingInSet());
+			assertEquals("Set elements", countElements(expectedElements), countElements(actualElements));
+		} else {
+			assertEquals(expectedElements[0], actualElements[0]);
+		}
+	}
+
+	private static String cellToString(final Cell cell) {
+		return cell.isMissing() ? "missing cell" : Arrays.deepToString(getElements(cell));
+	}
+
+	private static boolean isListType(final Type type) {
+		return type.name().endsWith("_LIST");
+	}
+
+	private static boolean isSetType(final Type type) {
+		return type.name().endsWith("_SET");
+	}
+
+	/**
+	 * @return the scalar value or collection elements of the cell, boxed such that {@link Object#equals(Object)}
+	 *         compares values (e.g., NaN equals NaN and byte arrays are compared by content)
+	 */
+	private static Object[] getElements(final Cell cell) {
+		switch (cell.getColumnType()) {
+		case BOOLEAN:
+			return new Object[] { cell.getBooleanValue() };
+		case BOOLEAN_LIST:
+		case BOOLEAN_SET:
+			final boolean[] booleans = cell.getBooleanArrayValue();
+			final Object[] booleanElements = new Object[booleans.length];
+			for (int i = 0; i < booleans.length; i++) {
+				booleanElements[i] = booleans[i];
+			}
+			return booleanElements;
+		case INTEGER:
+			return new Object[] { cell.getIntegerValue() };
+		case INTEGER_LIST:
+		case INTEGER_SET:
+			return Arrays.stream(cell.getIntegerArrayValue()).boxed().toArray();
+		case LONG:
+			return new Object[] { cell.getLongValue() };
+		case LONG_LIST:
+		case LONG_SET:
+			return Arrays.stream(cell.getLongArrayValue()).boxed().toArray();
+		case DOUBLE:
+			return new Object[] { cell.getDoubleValue() };
+		case DOUBLE_LIST:
+		case DOUBLE_SET:
+			return Arrays.stream(cell.getDoubleArrayValue()).boxed().toArray();
+		case FLOAT:
+			return new Object[] { cell.getFloatValue() };
+		case FLOAT_LIST:
+		case FLOAT_SET:
+			final float[] floats = cell.getFloatArrayValue();
+			final Object[] floatElements = new Object[floats.length];
+			for (int i = 0; i < floats.length; i++) {
+				floatElements[i] = floats[i];
+			}
+			return floatElements;
+		case STRING:
+			return new Object[] { cell.getStringValue() };
+		case STRING_LIST:
+		case STRING_SET:
+			return cell.getStringArrayValue().clone();
+		case BYTES:
+			return new Object[] { toBytesElement(cell.getBytesValue()) };
+		case BYTES_LIST:
+		case BYTES_SET:
+			return Arrays.stream(cell.getBytesArrayValue()).map(SerializationTestUtil::toBytesElement).toArray();
+		default:
+			throw new IllegalStateException("Implementation error.");
 		}
-		CellImpl.cellImplEquals((CellImpl) expectedCell, (CellImpl) actualCell);
+	}
+
+	private static Object toBytesElement(final byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		final Byte[] boxed = new Byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			boxed[i] = bytes[i];
+		}
+		return Arrays.asList(boxed);
+	}
+
+	private static Map<Object, Integer> countElements(final Object[] elements) {
+		final Map<Object, Integer> counts = new HashMap<>();
+		for (final Object element : elements) {
+			counts.merge(element, 1, Integer::sum);
+		}
+		return counts;
 	}
 
 	// Stateful utilities for test setup:
@@ -276,6 +541,121 @@ public boolean getMissingDecision(final float missingProbability) {
 		return m_random.nextFloat() < missingProbability;
 	}
 
+	/**
+	 * Creates rows with random values of the given spec's column types.
+	 *
+	 * @param emptyCollectionProbability the probability of a collection cell to not have any (non-missing) elements
+	 */
+	public Row[] createRandomRows(final TableSpec spec, final int numberOfRows, final float missingCellProbability,
+			final float missingElementProbability, final float emptyCollectionProbability) {
+		final Type[] types = spec.getColumnTypes();
+		final Row[] rows = new Row[numberOfRows];
+		for (int i = 0; i < numberOfRows; i++) {
+			final Row row = new RowImpl("Row" + i, types.length);
+			for (int j = 0; j < types.length; j++) {
+				final Cell cell;
+				if (getMissingDecision(missingCellProbability)) {
+					cell = new CellImpl();
+				} else {
+					final int numberOfElements = getMissingDecision(emptyCollectionProbability) //
+							? 0 //
+							: getRandomNumberOfCollectionElements();
+					cell = createRandomCell(types[j], numberOfElements, missingElementProbability);
+				}
+				row.setCell(cell, j);
+			}
+			rows[i] = row;
+		}
+		return rows;
+	}
+
+	/**
+	 * @param numberOfElements the number of elements if the type is a collection type, ignored otherwise
+	 */
+	public Cell createRandomCell(final Type type, final int numberOfElements, final float missingElementProbability) {
+		switch (type) {
+		case BOOLEAN:
+			return createRandomBooleanCell();
+		case BOOLEAN_LIST:
+			return createRandomBooleanListCell(numberOfElements, missingElementProbability);
+		case BOOLEAN_SET:
+			return createRandomBooleanSetCell(numberOfElements, missingElementProbability);
+		case INTEGER:
+			return createRandomIntCell();
+		case INTEGER_LIST:
+			return createRandomIntListCell(numberOfElements, missingElementProbability);
+		case INTEGER_SET:
+			return createRandomIntSetCell(numberOfElements, missingElementProbability);
+		case LONG:
+			return createRandomLongCell();
+		case LONG_LIST:
+			return createRandomLongListCell(numberOfElements, missingElementProbability);
+		case LONG_SET:
+			return createRandomLongSetCell(numberOfElements, missingElementProbability);
+		case DOUBLE:
+			return createRandomDoubleCell();
+		case DOUBLE_LIST:
+			return createRandomDoubleListCell(numberOfElements, missingElementProbability);
+		case DOUBLE_SET:
+			return createRandomDoubleSetCell(numberOfElements, missingElementProbability);
+		case FLOAT:
+			return createRandomFloatCell();
+		case FLOAT_LIST:
+			return createRandomFloatListCell(numberOfElements, missingElementProbability);
+		case FLOAT_SET:
+			return createRandomFloatSetCell(numberOfElements, missingElementProbability);
+		case STRING:
+			return createRandomStringCell();
+		case STRING_LIST:
+			return createRandomStringListCell(numberOfElements, missingElementProbability);
+		case STRING_SET:
+			return createRandomStringSetCell(numberOfElements, missingElementProbability);
+		case BYTES:
+			return createRandomBytesCell();
+		case BYTES_LIST:
+			return createRandomBytesListCell(numberOfElements, missingElementProbability);
+		case BYTES_SET:
+			return createRandomBytesSetCell(numberOfElements, missingElementProbability);
+		default:
+			throw new IllegalStateException("Not implemented.");
+		}
+	}
+
+	public boolean createRandomBoolean() {
+		return m_random.nextBoolean();
+	}
+
+	public Cell createRandomBooleanCell() {
+		return new CellImpl(createRandomBoolean());
+	}
+
+	public Cell createRandomBooleanListCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean[] elements = new boolean[numberOfElements];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomBoolean();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	/**
+	 * @return a set of at most two elements, since there are only two distinct booleans
+	 */
+	public Cell createRandomBooleanSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = Math
+				.min(getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement), 2);
+		final boolean first = createRandomBoolean();
+		final boolean[] elements = new boolean[numberOfNonMissingElements];
+		for (int i = 0; i < numberOfNonMissingElements; i++) {
+			elements[i] = i == 0 ? first : !first;
+		}
+		return new CellImpl(elements, hasMissingElement);
+	}
+
 	public int createRandomInt() {
 		return m_random.nextInt();
 	}
@@ -303,11 +683,250 @@ public Cell createRandomIntListCell(final int numberOfElements, final float miss
 
 	public Cell createRandomIntSetCell(final int numberOfElements, final float missingElementProbability) {
 		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
-		final int numberOfNonMissingElements = hasMissingElement ? numberOfElements - 1 : numberOfElements;
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
 		final int[] elements = new int[numberOfNonMissingElements];
 		for (int i = 0; i < numberOfNonMissingElements; i++) {
 			elements[i] = createRandomInt();
 		}
 		return new CellImpl(elements, hasMissingElement);
 	}
+
+	/**
+	 * @return a random long, which almost certainly lies outside of the range of integers
+	 */
+	public long createRandomLong() {
+		return m_random.nextLong();
+	}
+
+	public Cell createRandomLongCell() {
+		return new CellImpl(createRandomLong());
+	}
+
+	public Cell createRandomLongListCell(final int numberOfElements, final float missingElementProbability) {
+		final long[] elements = new long[numberOfElements];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomLong();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	public Cell createRandomLongSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
+		final Set<Long> elements = new LinkedHashSet<>();
+		while (elements.size() < numberOfNonMissingElements) {
+			elements.add(createRandomLong());
+		}
+		return new CellImpl(elements.stream().mapToLong(Long::longValue).toArray(), hasMissingElement);
+	}
+
+	public double createRandomDouble() {
+		if (getMissingDecision(DEFAULT_SPECIAL_VALUE_RATIO)) {
+			return SPECIAL_DOUBLES[m_random.nextInt(SPECIAL_DOUBLES.length)];
+		}
+		return (m_random.nextDouble() - 0.5) * Math.pow(10, m_random.nextInt(41) - 20);
+	}
+
+	public Cell createRandomDoubleCell() {
+		return new CellImpl(createRandomDouble());
+	}
+
+	public Cell createRandomDoubleListCell(final int numberOfElements, final float missingElementProbability) {
+		final double[] elements = new double[numberOfElements];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomDouble();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	public Cell createRandomDoubleSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
+		// Boxed doubles are distinct by value, NaN included.
+		final Set<Double> elements = new LinkedHashSet<>();
+		while (elements.size() < numberOfNonMissingElements) {
+			elements.add(createRandomDouble());
+		}
+		return new CellImpl(elements.stream().mapToDouble(Double::doubleValue).toArray(), hasMissingElement);
+	}
+
+	public float createRandomFloat() {
+		if (getMissingDecision(DEFAULT_SPECIAL_VALUE_RATIO)) {
+			return SPECIAL_FLOATS[m_random.nextInt(SPECIAL_FLOATS.length)];
+		}
+		return (float)((m_random.nextDouble() - 0.5) * Math.pow(10, m_random.nextInt(41) - 20));
+	}
+
+	public Cell createRandomFloatCell() {
+		return new CellImpl(createRandomFloat());
+	}
+
+	public Cell createRandomFloatListCell(final int numberOfElements, final float missingElementProbability) {
+		final float[] elements = new float[numberOfElements];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomFloat();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	public Cell createRandomFloatSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
+		// Boxed floats are distinct by value, NaN included.
+		final Set<Float> elements = new LinkedHashSet<>();
+		while (elements.size() < numberOfNonMissingElements) {
+			elements.add(createRandomFloat());
+		}
+		final float[] elementArray = new float[elements.size()];
+		int i = 0;
+		for (final Float element : elements) {
+			elementArray[i++] = element;
+		}
+		return new CellImpl(elementArray, hasMissingElement);
+	}
+
+	public String createRandomString() {
+		if (getMissingDecision(DEFAULT_SPECIAL_VALUE_RATIO)) {
+			return SPECIAL_STRINGS[m_random.nextInt(SPECIAL_STRINGS.length)];
+		}
+		final StringBuilder builder = new StringBuilder();
+		final int length = m_random.nextInt(MAX_RANDOM_STRING_LENGTH + 1);
+		for (int i = 0; i < length; i++) {
+			builder.appendCodePoint(STRING_CODE_POINTS[m_random.nextInt(STRING_CODE_POINTS.length)]);
+		}
+		return builder.toString();
+	}
+
+	public Cell createRandomStringCell() {
+		return new CellImpl(createRandomString());
+	}
+
+	public Cell createRandomStringListCell(final int numberOfElements, final float missingElementProbability) {
+		final String[] elements = new String[numberOfElements];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomString();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	public Cell createRandomStringSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
+		final Set<String> elements = new LinkedHashSet<>();
+		while (elements.size() < numberOfNonMissingElements) {
+			elements.add(createRandomString());
+		}
+		return new CellImpl(elements.toArray(new String[0]), hasMissingElement);
+	}
+
+	/**
+	 * @return random bytes, possibly none
+	 */
+	public byte[] createRandomBytes() {
+		final byte[] bytes = new byte[m_random.nextInt(MAX_RANDOM_BYTES_LENGTH + 1)];
+		m_random.nextBytes(bytes);
+		return bytes;
+	}
+
+	public Cell createRandomBytesCell() {
+		return new CellImpl(createRandomBytes());
+	}
+
+	public Cell createRandomBytesListCell(final int numberOfElements, final float missingElementProbability) {
+		final byte[][] elements = new byte[numberOfElements][];
+		final byte[] missings = createMissingsVector(numberOfElements);
+		for (int i = 0; i < numberOfElements; i++) {
+			if (!getMissingDecision(missingElementProbability)) {
+				elements[i] = createRandomBytes();
+				populateMissingsVectorIndex(missings, i);
+			}
+		}
+		return new CellImpl(elements, missings);
+	}
+
+	public Cell createRandomBytesSetCell(final int numberOfElements, final float missingElementProbability) {
+		final boolean hasMissingElement = getMissingDecision(missingElementProbability);
+		final int numberOfNonMissingElements = getNumberOfNonMissingSetElements(numberOfElements, hasMissingElement);
+		// Byte buffers are distinct by content.
+		final Set<ByteBuffer> elements = new LinkedHashSet<>();
+		while (elements.size() < numberOfNonMissingElements) {
+			elements.add(ByteBuffer.wrap(createRandomBytes()));
+		}
+		return new CellImpl(elements.stream().map(ByteBuffer::array).toArray(byte[][]::new), hasMissingElement);
+	}
+
+	/**
+	 * @return one of the first {@code numberOfCategories} of the given categories
+	 */
+	public Cell createRandomCategoryCell(final String[] categories, final int numberOfCategories) {
+		return new CellImpl(categories[m_random.nextInt(numberOfCategories)]);
+	}
+
+	/**
+	 * @return a random date, serialized like the {@code org.knime.localdate} type extension does: the epoch day as
+	 *         eight little-endian bytes
+	 */
+	public Cell createRandomLocalDateCell() {
+		final long epochDay = createRandomLong(MAX_RANDOM_EPOCH_DAY);
+		return new CellImpl(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(epochDay).array());
+	}
+
+	/**
+	 * @return a random time of microsecond precision, serialized like the {@code org.knime.localtime} type extension
+	 *         does: the nano of day as eight little-endian bytes
+	 */
+	public Cell createRandomLocalTimeCell() {
+		final long nanoOfDay = (long)(m_random.nextDouble() * MICROS_PER_DAY) * NANOS_PER_MICRO;
+		return new CellImpl(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(nanoOfDay).array());
+	}
+
+	/**
+	 * @return a random date and time of microsecond precision, serialized like the {@code org.knime.datetime2} type
+	 *         extension does: the epoch second as eight and the nano of second as four little-endian bytes
+	 */
+	public Cell createRandomLocalDateTimeCell() {
+		return createRandomSecondsAndNanosCell(MAX_RANDOM_EPOCH_DAY * SECONDS_PER_DAY);
+	}
+
+	/**
+	 * @return a random duration of microsecond precision, serialized like the {@code org.knime.duration} type
+	 *         extension does: the seconds as eight and the nano of second as four little-endian bytes
+	 */
+	public Cell createRandomDurationCell() {
+		return createRandomSecondsAndNanosCell(MAX_RANDOM_DURATION_SECONDS);
+	}
+
+	private Cell createRandomSecondsAndNanosCell(final long maxAbsoluteSeconds) {
+		final long seconds = createRandomLong(maxAbsoluteSeconds);
+		final int nanos = m_random.nextInt(MICROS_PER_SECOND) * NANOS_PER_MICRO;
+		return new CellImpl(ByteBuffer.allocate(Long.BYTES + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+				.putLong(seconds).putInt(nanos).array());
+	}
+
+	/**
+	 * @return a random long between {@code -maxAbsoluteValue} and {@code maxAbsoluteValue}
+	 */
+	private long createRandomLong(final long maxAbsoluteValue) {
+		return (long)((m_random.nextDouble() * 2 - 1) * maxAbsoluteValue);
+	}
+
+	private static int getNumberOfNonMissingSetElements(final int numberOfElements, final boolean hasMissingElement) {
+		return hasMissingElement ? Math.max(numberOfElements - 1, 0) : numberOfElements;
+	}
 }
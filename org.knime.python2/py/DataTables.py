@@ -74,18 +74,37 @@ class FromPandasTable:
     # @param start_row_number  the corresponding row number to the first row of the
     #                          dataframe. Differs from 0 as soon as a table chunk is
     #                          sent.
-    def __init__(self, data_frame, serializer, start_row_number=0):
+    # @param schema            the schema of the table as returned by infer_schema(...)
+    #                          or None if it shall be inferred from data_frame. Allows
+    #                          to infer the schema only once for all chunks of a table.
+    def __init__(self, data_frame, serializer, start_row_number=0, schema=None):
         # (Shallow) Copy because we modify columns and index (see below).
         self._data_frame = data_frame.copy(deep=False)
         self._standardize_index(start_row_number)
         self._standardize_column_names()
-        self._setup_serializers(serializer)
+        if schema is None:
+            self._setup_serializers(serializer)
+        else:
+            self._column_types, self._column_serializers = schema
         serializer.serialize_objects_to_bytes(self._data_frame, self._column_serializers)
 
+    # Infers the schema of the given data frame without serializing it.
+    # @param data_frame  a pandas DataFrame
+    # @param serializer  the serializer
+    # @return a tuple of the list of column types and the dict of column serializers
+    @staticmethod
+    def infer_schema(data_frame, serializer):
+        table = FromPandasTable.__new__(FromPandasTable)
+        table._data_frame = data_frame.copy(deep=False)
+        table._standardize_column_names()
+        table._setup_serializers(serializer)
+        return table._column_types, table._column_serializers
+
     # Checks and fails if the index contains duplicate entries.
     # Replaces default numeric indices with the KNIME standard row indices.
     # This means that if an index value is equal to the numeric index of
-    # a row (N) it is replaced by 'RowN'.
+    # a row (N) it is replaced by 'RowN'. Remembers the start row number if
+    # all row indices are KNIME standard row indices, None otherwise.
     # @param start_row_number  the corresponding row number to the first row of the
     #                          dataframe. Differs from 0 as soon as a table chunk is
     #                          sent.
@@ -104,11 +123,15 @@ class FromPandasTable:
                 ". This is not supported. Please make sure that each"
                 " entry in the index (i.e., each row key) is unique.")
         row_indices = []
+        default_row_keys = True
         for i in range(len(index)):
+            default_row_key = u'Row' + str(i + start_row_number)
             if type(index[i]) == int and index[i] == i + start_row_number:
-                row_indices.append(u'Row' + str(i + start_row_number))
+                row_indices.append(default_row_key)
             else:
                 row_indices.append(str(index[i]))
+                default_row_keys = default_row_keys and row_indices[-1] == default_row_key
+        self._row_key_start = start_row_number if default_row_keys else None
         data_frame.set_index(keys=Index(row_indices), drop=True, inplace=True)
         self._row_indices = data_frame.index.astype(str)
 
@@ -99,6 +99,15 @@ class PythonCommands(object):
         return self.create_task(PythonCommands._ResolveKnimeUrlTaskHandler(),
                                 Message(self._messaging.create_next_message_id(), "resolve_knime_url", payload))
 
+    def request_table_chunk(self, name):
+        """
+        Requests the next chunk of the lazily transferred table with the given name from Java. The task's result is a
+        tuple of the serialized chunk and a flag indicating whether further chunks are available.
+        """
+        payload = PayloadEncoder().put_string(name).payload
+        return self.create_task(PythonCommands._TableChunkRequestTaskHandler(),
+                                Message(self._messaging.create_next_message_id(), "table_chunk_request", payload))
+
     def start(self):
         self._messaging.start()
 
@@ -127,3 +136,10 @@ class PythonCommands(object):
     class _ResolveKnimeUrlTaskHandler(AbstractTaskHandler):
         def _handle_success_message(self, message):
             return PayloadDecoder(message.payload).get_next_string()
+
+    class _TableChunkRequestTaskHandler(AbstractTaskHandler):
+        def _handle_success_message(self, message):
+            payload_decoder = PayloadDecoder(message.payload)
+            data_bytes = payload_decoder.get_next_bytes()
+            has_more_chunks = payload_decoder.get_next_int() != 0
+            return data_bytes, has_more_chunks
@@ -114,6 +114,9 @@ class PythonKernelBase(Borg):
 
         self._cleanup_object_names = set()
 
+        # Output table schemas that are reused across the chunks of a table transfer, see get_table_schema().
+        self._table_schemas = {}
+
         if sys.getdefaultencoding() != "utf-8":
             warnings.warn(
                 "Your default encoding is not 'utf-8'. You may experience errors with non ascii characters!"
@@ -213,7 +216,8 @@ class PythonKernelBase(Borg):
         functions = []
         variables = []
         # iterate over dictionary to and put modules, classes, functions and variables in their respective lists
-        for key, value in dict(self._exec_env).items():
+        # (reading the items replaces tables that were transferred in chunks or lazily by their data frames)
+        for key, value in list(self._exec_env.items()):
             # get name of the type
             var_type = type(value).__name__
             # class type changed from classobj to type in python 3
@@ -242,15 +246,53 @@ class PythonKernelBase(Borg):
         response.extend(variables)
         return response
 
+    def put_lazy_table(self, name):
+        """
+        Put a placeholder for the table with the given name into the local environment. The table is only transferred
+        from Java when the variable is first accessed.
+        """
+        self._exec_env.put_deferred(name, _LazyTable(name, self))
+
+    def _materialize_lazy_table(self, name):
+        data_frames = []
+        while True:
+            data_bytes, has_more_chunks = self._commands.request_table_chunk(name).get()
+            data_frames.append(self._serializer.bytes_to_data_frame(data_bytes))
+            if not has_more_chunks:
+                break
+        if len(data_frames) == 1:
+            return data_frames[0]
+        return _concat_chunks(data_frames)
+
     def append_to_table(self, name, data_frame):
         """
         Append the given data frame to an existing one, if it does not exist put the data frame into the local
-        environment.
+        environment. The chunks are only concatenated once, when the table is first accessed.
         """
-        if self._exec_env[name] is None:
+        existing = self._exec_env.get_raw(name)
+        if existing is None:
             self._exec_env[name] = data_frame
+        elif isinstance(existing, _ChunkedTable):
+            existing.append(data_frame)
         else:
-            self._exec_env[name] = self._exec_env[name].append(data_frame)
+            self._exec_env.put_deferred(name, _ChunkedTable(existing, data_frame))
+
+    def get_table_schema(self, name, data_frame, refresh=False):
+        """
+        Get the schema of the given table that is about to be transferred to Java in chunks. The schema is inferred
+        from the entire data frame once and reused for all chunks.
+        """
+        cached = self._table_schemas.get(name)
+        if refresh or cached is None or cached[0] is not data_frame:
+            cached = (data_frame, self._serializer.infer_table_schema(data_frame))
+            self._table_schemas[name] = cached
+        return cached[1]
+
+    def release_table_schema(self, name):
+        """
+        Discard the cached schema of the given table once its transfer is complete.
+        """
+        self._table_schemas.pop(name, None)
 
     @staticmethod
     def has_auto_complete():
@@ -323,6 +365,9 @@ class PythonKernelBase(Borg):
 
         # FIXME: This is dangerous!
         self._exec_env["python_messaging_initiating_message_id"] = initiating_message_id
+        # Python 2 does not route global name lookups within functions through __getitem__, and code can read the
+        # workspace in ways that bypass it.
+        self._exec_env.materialize_tables_used_by(source_code)
         try:
             exec(source_code, self._exec_env, self._exec_env)
         finally:
@@ -335,7 +380,7 @@ class PythonKernelBase(Borg):
         """
         Reset the current workspace.
         """
-        self._exec_env = {"workspace": self}
+        self._exec_env = _Workspace({"workspace": self})
         try:
             import knime_jupyter
 
@@ -448,3 +493,149 @@ class PythonKernelBase(Borg):
 
         def isatty(self):
             return False
+
+
+def _concat_chunks(data_frames):
+    """
+    Concatenate the chunks of a table. Categorical columns remain categorical even if their categories differ between
+    the chunks (pandas.concat would turn them into object columns otherwise). Chunks whose default row keys were
+    received as RangeIndex are converted back to string row keys if other chunks have non-default row keys.
+    """
+    import pandas
+
+    range_indices = [isinstance(data_frame.index, pandas.RangeIndex) for data_frame in data_frames]
+    if any(range_indices) and not all(range_indices):
+        for data_frame, is_range_index in zip(data_frames, range_indices):
+            if is_range_index:
+                data_frame.index = pandas.Index(['Row' + str(i) for i in data_frame.index], dtype=object)
+    try:
+        from pandas.api.types import CategoricalDtype, union_categoricals
+    except ImportError:
+        # Old pandas versions without categorical dtypes.
+        return pandas.concat(data_frames)
+    for column in data_frames[0].columns:
+        if all(isinstance(data_frame[column].dtype, CategoricalDtype) for data_frame in data_frames):
+            categories = union_categoricals([data_frame[column] for data_frame in data_frames]).categories
+            for data_frame in data_frames:
+                data_frame[column] = data_frame[column].cat.set_categories(categories)
+    return pandas.concat(data_frames)
+
+
+class _DeferredTable(object):
+    """
+    Placeholder for a table in the workspace whose final data frame is only created on first access.
+    """
+
+    __metaclass__ = abc.ABCMeta
+
+    @abc.abstractmethod
+    def materialize(self):
+        raise NotImplementedError()
+
+
+class _ChunkedTable(_DeferredTable):
+    """
+    The chunks of a table that was transferred from Java in several parts. Concatenating them once on first access
+    avoids copying the accumulated data frame for each appended chunk.
+    """
+
+    def __init__(self, *data_frames):
+        self._data_frames = list(data_frames)
+
+    def append(self, data_frame):
+        self._data_frames.append(data_frame)
+
+    def materialize(self):
+        return _concat_chunks(self._data_frames)
+
+    def __repr__(self):
+        return "<table (" + str(len(self._data_frames)) + " chunks, not concatenated yet)>"
+
+
+class _LazyTable(_DeferredTable):
+    """
+    Placeholder for an input table whose data is pulled from Java on first access.
+    """
+
+    def __init__(self, name, kernel):
+        self._name = name
+        self._kernel = kernel
+
+    def materialize(self):
+        return self._kernel._materialize_lazy_table(self._name)
+
+    def __repr__(self):
+        return "<table '" + self._name + "' (not loaded yet)>"
+
+
+class _Workspace(dict):
+    """
+    The local environment in which scripts are executed. Replaces deferred table placeholders by the actual tables when
+    they are first read. Note that Python 3 routes global name lookups of code executed in a dict subclass through
+    __getitem__. All other reading methods of dict are overridden as well, and __iter__ is defined so that copying the
+    workspace (e.g. dict(globals())) goes through keys() and __getitem__ instead of reading the raw entries.
+    """
+
+    def put_deferred(self, name, deferred_table):
+        dict.__setitem__(self, name, deferred_table)
+
+    def get_raw(self, name):
+        return dict.get(self, name)
+
+    def materialize_chunked_tables(self):
+        for name, value in list(dict.items(self)):
+            if isinstance(value, _ChunkedTable):
+                dict.__setitem__(self, name, value.materialize())
+
+    def materialize_tables_used_by(self, source_code):
+        """
+        Materializes all chunked tables and the lazy tables whose names occur in the given source code. Code can still
+        read the raw entries (e.g. via dict.get(globals(), name)), so the tables it is likely to use are resolved before
+        it is executed. Lazy tables that are not mentioned stay deferred.
+        """
+        self.materialize_chunked_tables()
+        for name, value in list(dict.items(self)):
+            if isinstance(value, _LazyTable) and re.search(r"\b" + re.escape(name) + r"\b", source_code):
+                self[name]
+
+    def materialize_all_tables(self):
+        for name, value in list(dict.items(self)):
+            if isinstance(value, _DeferredTable):
+                self[name]
+
+    def __getitem__(self, key):
+        value = dict.__getitem__(self, key)
+        if isinstance(value, _DeferredTable):
+            value = value.materialize()
+            dict.__setitem__(self, key, value)
+        return value
+
+    def __iter__(self):
+        return dict.__iter__(self)
+
+    def get(self, key, default=None):
+        return self[key] if key in self else default
+
+    def setdefault(self, key, default=None):
+        return self[key] if key in self else dict.setdefault(self, key, default)
+
+    def pop(self, key, *default):
+        if key in self:
+            self[key]
+        return dict.pop(self, key, *default)
+
+    def popitem(self):
+        self.materialize_all_tables()
+        return dict.popitem(self)
+
+    def items(self):
+        self.materialize_all_tables()
+        return dict.items(self)
+
+    def values(self):
+        self.materialize_all_tables()
+        return dict.values(self)
+
+    def copy(self):
+        self.materialize_all_tables()
+        return dict.copy(self)
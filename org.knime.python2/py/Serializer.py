@@ -89,39 +89,19 @@ class Serializer(object):
                                   A serializer_id should be the id of the java extension point on which the serializer
                                   is registered. Each column identified by the dict keys is serialized using the
                                   serializer provided by the TypeExtensionManager for the given serializer_id.
+                                  All non-missing values of a column (including the elements of list and set cells) are
+                                  passed to the serializer at once.
         """
         for column in column_serializers:
-            serializer = self._type_extension_manager.get_serializer_by_id(column_serializers[column])
-            col_idx = data_frame.columns.get_loc(column)
-            if data_frame[column].dtype != 'object':
-                data_frame[column] = data_frame[column].astype('object')
-            for i in range(len(data_frame)):
-                if debug_util.is_debug_enabled():
-                    progress = int(i * 100 / len(data_frame))
-                    if progress % 5 == 0:
-                        debug_util.debug_msg(str(progress) + ' percent done (serialize)')
-                row_key = data_frame.index[i]
-                # Using bracket accessor is necessary here to ensure that there are no unwanted type conversions.
-                value = data_frame[column][row_key]
-                if value is not None:
-                    if isinstance(value, list):
-                        new_list = []
-                        for inner_value in value:
-                            if inner_value is None:
-                                new_list.append(None)
-                            else:
-                                new_list.append(serializer.serialize(inner_value))
-                        data_frame.iat[i, col_idx] = new_list
-                    elif isinstance(value, set):
-                        new_set = set()
-                        for inner_value in value:
-                            if inner_value is None:
-                                new_set.add(None)
-                            else:
-                                new_set.add(serializer.serialize(inner_value))
-                        data_frame.iat[i, col_idx] = new_set
-                    else:
-                        data_frame.iat[i, col_idx] = serializer.serialize(value)
+            serialize_column = self._type_extension_manager.get_column_serializer_by_id(column_serializers[column])
+            # Using the values of the column is necessary here to ensure that there are no unwanted type conversions.
+            values = data_frame[column].astype('object').values
+            positions, to_serialize = Serializer._collect_column_values(
+                values, lambda value: value is None)
+            if debug_util.is_debug_enabled():
+                debug_util.debug_msg('Serializing ' + str(len(to_serialize)) + ' values of column ' + str(column))
+            serialized = serialize_column(to_serialize)
+            data_frame[column] = Serializer._replace_column_values(values, positions, serialized)
 
     def deserialize_from_bytes(self, data_frame, column_serializers):
         """
@@ -131,48 +111,68 @@ class Serializer(object):
                                   values. A deserializer_id should be the id of the java extension point on which the
                                   deserializer is registered. Each column identified by the dict keys is deserialized
                                   using the deserializer provided by the TypeExtensionManager for the given
-                                  deserializer_id.
+                                  deserializer_id. All non-missing values of a column (including the elements of list
+                                  and set cells) are passed to the deserializer at once.
         """
-
-        # print('Data frame: ' + str(data_frame) + '\nserializers: ' + str(column_serializers) + '\n')
         for column in column_serializers:
-            deserializer = self._type_extension_manager.get_deserializer_by_id(column_serializers[column])
-            for i in range(len(data_frame)):
-                if debug_util.is_debug_enabled():
-                    lastp = -1
-                    if (i * 100 / len(data_frame)) % 5 == 0 and int(i * 100 / len(data_frame)) != lastp:
-                        debug_util.debug_msg(str(i * 100 / len(data_frame)) + ' percent done (deserialize)')
-                        # lastp = int(i * 100/len(data_frame))
-                col_idx = data_frame.columns.get_loc(column)
-                # Using bracket accessor is necessary here for ensuring that there are no unwanted type conversions.
-                value = data_frame[column][data_frame.index[i]]
-                if isinstance(value, numpy.float64) and numpy.isnan(value):
-                    value = None
-                if value:
-                    if isinstance(value, list):
-                        new_list = []
-                        for inner_value in value:
-                            if isinstance(inner_value, numpy.float64) and numpy.isnan(inner_value):
-                                inner_value = None
-                            if inner_value:
-                                new_list.append(deserializer.deserialize(inner_value))
-                            else:
-                                new_list.append(None)
-                        data_frame.iat[i, col_idx] = new_list
-                    elif isinstance(value, set):
-                        new_set = set()
-                        for inner_value in value:
-                            if isinstance(inner_value, numpy.float64) and numpy.isnan(inner_value):
-                                inner_value = None
-                            if inner_value:
-                                new_set.add(deserializer.deserialize(inner_value))
-                            else:
-                                new_set.add(None)
-                        data_frame.iat[i, col_idx] = new_set
+            deserialize_column = self._type_extension_manager.get_column_deserializer_by_id(
+                column_serializers[column])
+            # Using the values of the column is necessary here to ensure that there are no unwanted type conversions.
+            # Columns that only contain missing values are not of dtype object (NaN); they become all None below.
+            values = data_frame[column].astype('object').values
+            positions, to_deserialize = Serializer._collect_column_values(
+                values, lambda value: not value or (isinstance(value, float) and numpy.isnan(value)))
+            if debug_util.is_debug_enabled():
+                debug_util.debug_msg('Deserializing ' + str(len(to_deserialize)) + ' values of column ' + str(column))
+            deserialized = deserialize_column(to_deserialize)
+            data_frame[column] = Serializer._replace_column_values(values, positions, deserialized)
+
+    @staticmethod
+    def _collect_column_values(values, is_missing_value):
+        """
+        Collect all non-missing values of a column, including the non-missing elements of list and set cells, so that
+        they can be converted at once.
+        @param values the values of the column
+        @param is_missing_value function that tells whether a value (or collection element) is missing
+        @return tuple containing a dict that maps the row position of each non-missing cell to the index of its value
+                within the collected values (or to a list of such indices, None for missing elements, in case of list
+                and set cells) and the list of collected values
+        """
+        positions = {}
+        collected = []
+        for i, value in enumerate(values):
+            if isinstance(value, (list, set)):
+                element_positions = []
+                for inner_value in value:
+                    if is_missing_value(inner_value):
+                        element_positions.append(None)
                     else:
-                        data_frame.iat[i, col_idx] = deserializer.deserialize(value)
-                else:
-                    data_frame.iat[i, col_idx] = None
+                        element_positions.append(len(collected))
+                        collected.append(inner_value)
+                positions[i] = element_positions
+            elif not is_missing_value(value):
+                positions[i] = len(collected)
+                collected.append(value)
+        return positions, collected
+
+    @staticmethod
+    def _replace_column_values(values, positions, converted):
+        """
+        Create the new values of a column from the converted values returned for the values collected by
+        _collect_column_values. Cells that are not contained in positions become missing (None).
+        @param values the original values of the column
+        @param positions the positions as returned by _collect_column_values
+        @param converted the converted values
+        @return a numpy array of dtype object containing the new values of the column
+        """
+        new_values = numpy.empty(len(values), dtype=object)
+        for i, position in positions.items():
+            if isinstance(position, list):
+                new_elements = [None if j is None else converted[j] for j in position]
+                new_values[i] = set(new_elements) if isinstance(values[i], set) else new_elements
+            else:
+                new_values[i] = converted[position]
+        return new_values
 
     def bytes_to_data_frame(self, data_bytes):
         """
@@ -187,15 +187,26 @@ class Serializer(object):
         self._serialization_library.bytes_into_table(table, data_bytes)
         return table.get_data_frame()
 
-    def data_frame_to_bytes(self, data_frame, start_row_number=0):
+    def abort_stream(self, data_bytes):
+        """
+        Releases the resources held for a stream of table chunks that will not be completed, e.g. because the transfer
+        was canceled on Java side. Only has an effect if the configured serialization library streams chunks.
+        @param data_bytes the serialized table chunk that was last sent as part of the stream
+        """
+        abort_stream = getattr(self._serialization_library, 'abort_stream', None)
+        if abort_stream is not None:
+            abort_stream(data_bytes)
+
+    def data_frame_to_bytes(self, data_frame, start_row_number=0, schema=None):
         """
         Converts data_frame into a byte array using the configured serialization library.
         For extension types appropriate serializers are requested from the type extension manager.
         @param data_frame a pandas DataFrame containing the table to serializeregisterCommandHand
         @param start_row_number the corresponding row number to the first row of the dataframe.
                                 Differs from 0 as soon as a table chunk is sent.
+        @param schema the schema of data_frame as returned by infer_table_schema or None if it shall be inferred
         """
-        table = FromPandasTable(data_frame, self, start_row_number)
+        table = FromPandasTable(data_frame, self, start_row_number, schema)
         # Uncomment to profile serialization time.
         # import cProfile
         # profilepath = os.path.join(os.path.expanduser('~'), 'profileres.txt')
@@ -205,6 +216,15 @@ class Serializer(object):
         data_bytes = self._serialization_library.table_to_bytes(table)
         return data_bytes
 
+    def infer_table_schema(self, data_frame):
+        """
+        Infers the column types and serializers of the given data frame without serializing it. The result can be
+        passed to data_frame_to_bytes for each chunk of the data frame to avoid repeated type inference.
+        @param data_frame a pandas DataFrame
+        @return the schema of the data frame
+        """
+        return FromPandasTable.infer_schema(data_frame, self)
+
     def fill_flow_variables_from_data_frame(self, flow_variables, data_frame):
         """
         Fill the flow variable dict using a pandas DataFrame. The DataFrame is expected to contain only a single row.
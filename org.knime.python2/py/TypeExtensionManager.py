@@ -70,6 +70,10 @@ class TypeExtensionManager(Borg):
     Serializers and deserializers can be accessed using the identifier, which is the id of the java extension point or
     the type_string corresponding to the python type. This type string is set in the extension point's specification in
     plugin.xml.
+    Besides the mandatory serialize(object) and deserialize(bytes) methods, a serializer or deserializer module may
+    implement serialize_column(objects) or deserialize_column(bytes_list), respectively. These receive a list of all
+    non-missing values of a column and return a sequence of the same length containing the converted values. They are
+    used to convert entire columns at once (e.g., using pandas.to_datetime).
     """
 
     def __init__(self, commands):
@@ -144,6 +148,45 @@ class TypeExtensionManager(Borg):
             return self._get_extension_by_index(self._request_deserializer(identifier), self._deserializers)
         return self._get_extension_by_index(self._deserializer_id_to_index[identifier], self._deserializers)
 
+    def get_column_serializer_by_id(self, identifier):
+        """
+        Get a function that serializes a list of values using the serializer associated with the given id.
+        @param identifier the java extension point id (string)
+        @return function taking a list of non-missing values and returning a list of bytes of the same length, backed by
+                the serializer's serialize_column(objects) method if available or its serialize(object) method otherwise
+        """
+        serializer = self.get_serializer_by_id(identifier)
+        return TypeExtensionManager._get_column_function(serializer, 'serialize_column', 'serialize')
+
+    def get_column_deserializer_by_id(self, identifier):
+        """
+        Get a function that deserializes a list of bytes using the deserializer associated with the given id.
+        @param identifier the java extension point id (string)
+        @return function taking a list of bytes and returning a list of deserialized values of the same length, backed
+                by the deserializer's deserialize_column(bytes_list) method if available or its deserialize(bytes)
+                method otherwise
+        """
+        deserializer = self.get_deserializer_by_id(identifier)
+        return TypeExtensionManager._get_column_function(deserializer, 'deserialize_column', 'deserialize')
+
+    @staticmethod
+    def _get_column_function(type_extension, column_function_name, value_function_name):
+        column_function = getattr(type_extension, column_function_name, None)
+        if column_function is not None:
+            def convert_column(values):
+                converted = list(column_function(values))
+                if len(converted) != len(values):
+                    raise ValueError('Type extension ' + type_extension.__name__ + '.' + column_function_name
+                                     + ' returned ' + str(len(converted)) + ' values for ' + str(len(values))
+                                     + ' inputs.')
+                return converted
+        else:
+            value_function = getattr(type_extension, value_function_name)
+
+            def convert_column(values):
+                return [value_function(value) for value in values]
+        return convert_column
+
     def _request_serializer(self, type_or_id):
         """
         Request a serializer for the requested python type or extension id from the extension manager on java side.
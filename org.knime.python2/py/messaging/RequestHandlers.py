@@ -167,6 +167,15 @@ class PutTableRequestHandler(AbstractRequestHandler):
         return AbstractRequestHandler._create_response(request, response_message_id)
 
 
+class PutLazyTableRequestHandler(AbstractRequestHandler):
+    def _respond(self, request, response_message_id, workspace):
+        name = request.get_header_field(_PAYLOAD_NAME)
+
+        workspace.put_lazy_table(name)
+
+        return AbstractRequestHandler._create_response(request, response_message_id)
+
+
 class AppendToTableRequestHandler(AbstractRequestHandler):
     def _respond(self, request, response_message_id, workspace):
         payload_decoder = PayloadDecoder(request.payload)
@@ -179,6 +188,16 @@ class AppendToTableRequestHandler(AbstractRequestHandler):
         return AbstractRequestHandler._create_response(request, response_message_id)
 
 
+class AbortTableStreamRequestHandler(AbstractRequestHandler):
+    def _respond(self, request, response_message_id, workspace):
+        payload_decoder = PayloadDecoder(request.payload)
+        data_bytes = payload_decoder.get_next_bytes()
+
+        workspace.serializer.abort_stream(data_bytes)
+
+        return AbstractRequestHandler._create_response(request, response_message_id)
+
+
 class GetTableSizeRequestHandler(AbstractRequestHandler):
     def _respond(self, request, response_message_id, workspace):
         name = PayloadDecoder(request.payload).get_next_string()
@@ -214,8 +233,12 @@ class GetTableChunkRequestHandler(AbstractRequestHandler):
         if type(data_frame) != pandas.core.frame.DataFrame:
             raise TypeError("Expected pandas.DataFrame, got: " + str(type(data_frame))
                             + "\nPlease make sure your output_table is a pandas.DataFrame.")
-        data_frame_chunk = data_frame[start:end + 1]
-        data_bytes = workspace.serializer.data_frame_to_bytes(data_frame_chunk, start)
+        # The schema is inferred once per transfer (i.e. on the first chunk) on the entire data frame.
+        schema = workspace.get_table_schema(name, data_frame, refresh=(start == 0))
+        data_frame_chunk = data_frame.iloc[start:end + 1]
+        data_bytes = workspace.serializer.data_frame_to_bytes(data_frame_chunk, start, schema)
+        if end + 1 >= len(data_frame):
+            workspace.release_table_schema(name)
 
         return AbstractRequestHandler._create_response(request, response_message_id,
                                                        response_payload=_create_byte_array_payload(data_bytes))
@@ -406,7 +429,9 @@ _builtin_request_handlers = {'getpid': GetPidRequestHandler(),
                              'putFlowVariables': PutFlowVariablesRequestHandler(),
                              'getFlowVariables': GetFlowVariablesRequestHandler(),
                              'putTable': PutTableRequestHandler(),
+                             'putLazyTable': PutLazyTableRequestHandler(),
                              'appendToTable': AppendToTableRequestHandler(),
+                             'abortTableStream': AbortTableStreamRequestHandler(),
                              'getTableSize': GetTableSizeRequestHandler(),
                              'getTable': GetTableRequestHandler(),
                              'getTableChunk': GetTableChunkRequestHandler(),
@@ -0,0 +1,259 @@
+# -*- coding: utf-8 -*-
+# ------------------------------------------------------------------------
+#  Copyright by KNIME AG, Zurich, Switzerland
+#  Website: http://www.knime.com; Email: contact@knime.com
+#
+#  This program is free software; you can redistribute it and/or modify
+#  it under the terms of the GNU General Public License, Version 3, as
+#  published by the Free Software Foundation.
+#
+#  This program is distributed in the hope that it will be useful, but
+#  WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+#  GNU General Public License for more details.
+#
+#  You should have received a copy of the GNU General Public License
+#  along with this program; if not, see <http://www.gnu.org/licenses>.
+#
+#  Additional permission under GNU GPL version 3 section 7:
+#
+#  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+#  Hence, KNIME and ECLIPSE are both independent programs and are not
+#  derived from each other. Should, however, the interpretation of the
+#  GNU GPL Version 3 ("License") under any applicable laws result in
+#  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+#  you the additional permission to use and propagate KNIME together with
+#  ECLIPSE with only the license terms in place for ECLIPSE applying to
+#  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+#  license terms of ECLIPSE themselves allow for the respective use and
+#  propagation of ECLIPSE together with KNIME.
+#
+#  Additional permission relating to nodes for KNIME that extend the Node
+#  Extension (and in particular that are based on subclasses of NodeModel,
+#  NodeDialog, and NodeView) and that only interoperate with KNIME through
+#  standard APIs ("Nodes"):
+#  Nodes are deemed to be separate and independent programs and to not be
+#  covered works.  Notwithstanding anything to the contrary in the
+#  License, the License does not apply to Nodes, you are not required to
+#  license Nodes under the License, and you are granted a license to
+#  prepare and propagate Nodes, in each case even if such Nodes are
+#  propagated with or for interoperation with KNIME.  The owner of a Node
+#  may freely choose the license terms applicable to such Node, including
+#  when such Node is propagated with or for interoperation with KNIME.
+# ------------------------------------------------------------------------
+
+"""
+Tests for the column-level (de)serialization of extension types in Serializer and TypeExtensionManager and for the
+built-in type extensions. Each test function raises an AssertionError on failure.
+
+@author KNIME GmbH, Konstanz, Germany
+"""
+
+import types
+from datetime import date
+from datetime import datetime
+from datetime import time
+from datetime import timedelta
+from datetime import timezone
+
+import numpy
+import pandas as pd
+from dateutil import tz
+
+from Serializer import Serializer
+from TypeExtensionManager import TypeExtensionManager
+
+
+def test_collect_column_values():
+    values = _to_object_array([1, None, [2, None, 3], {None, 4}, []])
+    positions, collected = Serializer._collect_column_values(values, lambda value: value is None)
+    _assert_equal([1, 2, 3, 4], collected)
+    _assert_equal(0, positions[0])
+    _assert_equal(False, 1 in positions)
+    _assert_equal([1, None, 2], positions[2])
+    _assert_equal([None, 3], sorted(positions[3], key=lambda position: -1 if position is None else position))
+    _assert_equal([], positions[4])
+
+
+def test_replace_column_values():
+    values = _to_object_array([1, None, [2, None, 3], {None, 4}, []])
+    positions, collected = Serializer._collect_column_values(values, lambda value: value is None)
+    new_values = Serializer._replace_column_values(values, positions, [str(value) for value in collected])
+    _assert_equal(numpy.dtype(object), new_values.dtype)
+    _assert_equal(['1', None, ['2', None, '3'], {None, '4'}, []], list(new_values))
+    _assert_equal(set, type(new_values[3]))
+
+
+def test_column_function_prefers_column_function():
+    calls = []
+
+    def serialize_column(values):
+        calls.append(list(values))
+        return [value * 2 for value in values]
+
+    def serialize(value):
+        raise AssertionError('The per-value function must not be called if a column function is available.')
+
+    type_extension = _create_type_extension('ColumnSerializer', serialize_column=serialize_column,
+                                            serialize=serialize)
+    convert_column = TypeExtensionManager._get_column_function(type_extension, 'serialize_column', 'serialize')
+    _assert_equal([2, 4, 6], convert_column([1, 2, 3]))
+    _assert_equal([[1, 2, 3]], calls)
+
+
+def test_column_function_falls_back_to_value_function():
+    type_extension = _create_type_extension('ValueDeserializer', deserialize=lambda value: value.decode('utf-8'))
+    convert_column = TypeExtensionManager._get_column_function(type_extension, 'deserialize_column', 'deserialize')
+    _assert_equal(['a', 'b'], convert_column([b'a', b'b']))
+    _assert_equal([], convert_column([]))
+
+
+def test_column_function_rejects_length_mismatch():
+    type_extension = _create_type_extension('BrokenSerializer', serialize_column=lambda values: values[:-1])
+    convert_column = TypeExtensionManager._get_column_function(type_extension, 'serialize_column', 'serialize')
+    try:
+        convert_column([1, 2])
+    except ValueError as error:
+        _assert_equal(True, 'BrokenSerializer.serialize_column' in str(error))
+    else:
+        raise AssertionError('Expected a ValueError for a column function returning too few values.')
+
+
+def test_column_serializers_by_id():
+    serializer = _create_type_extension('MySerializer', serialize=lambda value: str(value).encode('utf-8'))
+    deserializer = _create_type_extension('MyDeserializer',
+                                          deserialize_column=lambda values: [int(value) for value in values])
+    manager = _StubTypeExtensionManager({'my-id': serializer}, {'my-id': deserializer})
+    _assert_equal([b'1', b'2'], manager.get_column_serializer_by_id('my-id')([1, 2]))
+    _assert_equal([1, 2], manager.get_column_deserializer_by_id('my-id')([b'1', b'2']))
+
+
+def test_serialize_objects_to_bytes():
+    calls = []
+
+    def serialize_column(values):
+        calls.append(list(values))
+        return [str(value).encode('utf-8') for value in values]
+
+    serializer = _create_type_extension('MySerializer', serialize_column=serialize_column)
+    data_frame = pd.DataFrame({
+        'extension': pd.Series([1, None, [2, None], {3}, []], dtype=object),
+        'other': pd.Series([1, 2, 3, 4, 5])})
+    Serializer(None, _StubTypeExtensionManager({'my-id': serializer}, {})).serialize_objects_to_bytes(
+        data_frame, {'extension': 'my-id'})
+    # All non-missing values of the column, including collection elements, are serialized at once.
+    _assert_equal([[1, 2, 3]], calls)
+    _assert_equal([b'1', None, [b'2', None], {b'3'}, []], list(data_frame['extension']))
+    _assert_equal([1, 2, 3, 4, 5], list(data_frame['other']))
+
+
+def test_deserialize_from_bytes():
+    calls = []
+
+    def deserialize_column(values):
+        calls.append(list(values))
+        return [int(value) for value in values]
+
+    deserializer = _create_type_extension('MyDeserializer', deserialize_column=deserialize_column)
+    data_frame = pd.DataFrame({
+        'extension': pd.Series([b'1', None, float('nan'), [b'2', None], {b'3'}], dtype=object),
+        # Columns that only contain missing values arrive as float columns.
+        'missing': pd.Series([numpy.nan] * 5, dtype='float64')})
+    Serializer(None, _StubTypeExtensionManager({}, {'my-id': deserializer})).deserialize_from_bytes(
+        data_frame, {'extension': 'my-id', 'missing': 'my-id'})
+    _assert_equal([[b'1', b'2', b'3'], []], calls)
+    _assert_equal([1, None, None, [2, None], {3}], list(data_frame['extension']))
+    _assert_equal([None] * 5, list(data_frame['missing']))
+
+
+def test_builtin_column_functions(workspace):
+    """
+    Round trips values through the column functions of the built-in type extensions, which are requested from Java,
+    and checks that they agree with the per-value functions.
+    """
+    manager = workspace.type_extension_manager
+    _assert_round_trip(manager, 'org.knime.localdate', 'org.knime.localdate',
+                       [date(1970, 1, 1), date(1969, 12, 31), date(2024, 2, 29), date(1, 1, 1), date(9999, 12, 31)])
+    _assert_round_trip(manager, 'org.knime.localtime', 'org.knime.localtime',
+                       [time(0, 0), time(12, 30, 15, 500), time(23, 59, 59, 999999)])
+    _assert_round_trip(manager, 'org.knime.duration', 'org.knime.duration',
+                       [timedelta(0), timedelta(microseconds=-1), timedelta(days=-1, microseconds=1),
+                        timedelta(days=3, seconds=5, microseconds=7)])
+    _assert_round_trip(manager, 'org.knime.datetime2', 'org.knime.datetime2',
+                       [datetime(1970, 1, 1), datetime(1969, 12, 31, 23, 59, 59, 999999), datetime(1, 1, 1),
+                        datetime(9999, 12, 31, 23, 59, 59, 999999), datetime(2020, 5, 17, 8, 15, 30, 123456)])
+
+
+def test_zoned_date_time_serialization(workspace):
+    """
+    Checks the zone ids that are sent to Java for the different kinds of timezones and round trips zoned values.
+    """
+    manager = workspace.type_extension_manager
+    serializer = manager.get_serializer_by_id('org.knime.datetime2')
+    # Timezones as created by the deserializer for values coming from Java carry the Java zone id.
+    from_java = datetime(1969, 7, 20, 20, 17, 40, 5, tzinfo=tz.tzoffset('America/New_York', -4 * 3600))
+    _assert_equal(b'America/New_York', serializer.serialize(from_java)[16:])
+    # Fixed offsets have no id, their names (here 'UTC-03:30') are not sent.
+    negative_offset = datetime(1900, 1, 1, 12, tzinfo=timezone(timedelta(hours=-3, minutes=-30)))
+    _assert_equal(b'', serializer.serialize(negative_offset)[16:])
+    # IANA key of zoneinfo and pytz timezones.
+    localized = pd.Timestamp('1969-12-31 23:59:59.999999', tz='Europe/Berlin')
+    _assert_equal(b'Europe/Berlin', serializer.serialize(localized)[16:])
+    values = [from_java, negative_offset, localized.to_pydatetime(), datetime(1969, 12, 31, 23, 59, 59, 999999)]
+    _assert_round_trip(manager, 'org.knime.datetime2', 'org.knime.datetime2', values)
+    deserialized = manager.get_column_deserializer_by_id('org.knime.datetime2')(
+        manager.get_column_serializer_by_id('org.knime.datetime2')(values))
+    _assert_equal([value.utcoffset() for value in values], [value.utcoffset() for value in deserialized])
+
+
+def _assert_round_trip(manager, serializer_id, deserializer_id, values):
+    serializer = manager.get_serializer_by_id(serializer_id)
+    deserializer = manager.get_deserializer_by_id(deserializer_id)
+    serialized = manager.get_column_serializer_by_id(serializer_id)(values)
+    _assert_equal([serializer.serialize(value) for value in values], list(serialized))
+    deserialized = manager.get_column_deserializer_by_id(deserializer_id)(serialized)
+    _assert_equal([deserializer.deserialize(data_bytes) for data_bytes in serialized], list(deserialized))
+    _assert_equal(values, list(deserialized))
+
+
+def _assert_equal(expected, actual):
+    if expected != actual:
+        raise AssertionError('Expected ' + repr(expected) + ' but got ' + repr(actual) + '.')
+
+
+def _to_object_array(values):
+    # numpy.array would try to create nested arrays from the list cells.
+    array = numpy.empty(len(values), dtype=object)
+    for i, value in enumerate(values):
+        array[i] = value
+    return array
+
+
+def _create_type_extension(name, **functions):
+    type_extension = types.ModuleType(name)
+    for function_name, function in functions.items():
+        setattr(type_extension, function_name, function)
+    return type_extension
+
+
+class _StubTypeExtensionManager(object):
+    """
+    Resolves ids to the given type extensions without requesting them from Java. TypeExtensionManager itself is not
+    instantiated since it shares its state with the manager of the running kernel.
+    """
+
+    def __init__(self, serializers, deserializers):
+        self._serializers = serializers
+        self._deserializers = deserializers
+
+    def get_serializer_by_id(self, identifier):
+        return self._serializers[identifier]
+
+    def get_deserializer_by_id(self, identifier):
+        return self._deserializers[identifier]
+
+    def get_column_serializer_by_id(self, identifier):
+        return TypeExtensionManager.get_column_serializer_by_id(self, identifier)
+
+    def get_column_deserializer_by_id(self, identifier):
+        return TypeExtensionManager.get_column_deserializer_by_id(self, identifier)
@@ -45,11 +45,14 @@
 
 package org.knime.python2.config;
 
+import java.util.Optional;
+
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.python2.extensions.serializationlibrary.SentinelOption;
 import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
 import org.knime.python2.generic.SourceCodeConfig;
 
 /**
@@ -71,6 +74,16 @@ public class PythonSourceCodeConfig extends SourceCodeConfig {
 
     private static final String CFG_SENTINEL_VALUE = "sentinelValue";
 
+    private static final String CFG_TRANSFER_REFERENCED_COLUMNS_ONLY = "transferReferencedColumnsOnly";
+
+    private static final String CFG_ROW_FILTER = "rowFilter";
+
+    private static final String CFG_LAZY_TABLE_TRANSFER = "lazyTableTransfer";
+
+    private static final String CFG_CATEGORICAL_STRINGS = "categoricalStrings";
+
+    private static final String CFG_RANGE_INDEX_ROW_KEYS = "rangeIndexRowKeys";
+
     private int m_chunkSize = SerializationOptions.DEFAULT_CHUNK_SIZE;
 
     private boolean m_convertMissingToPython = SerializationOptions.DEFAULT_CONVERT_MISSING_TO_PYTHON;
@@ -81,6 +94,16 @@ public class PythonSourceCodeConfig extends SourceCodeConfig {
 
     private int m_sentinelValue = SerializationOptions.DEFAULT_SENTINEL_VALUE;
 
+    private boolean m_transferReferencedColumnsOnly = false;
+
+    private String m_rowFilter = "";
+
+    private boolean m_lazyTableTransfer = SerializationOptions.DEFAULT_LAZY_TABLE_TRANSFER;
+
+    private boolean m_categoricalStrings = SerializationOptions.DEFAULT_CATEGORICAL_STRINGS;
+
+    private boolean m_rangeIndexRowKeys = SerializationOptions.DEFAULT_RANGE_INDEX_ROW_KEYS;
+
     /**
      *
      * @return The configured number of rows to transfer to/from Python per chunk of an input/output table.
@@ -161,6 +184,100 @@ public void setSentinelValue(final int sentinelValue) {
         m_sentinelValue = sentinelValue;
     }
 
+    /**
+     * @return {@code true} if only the columns of an input table that are referenced by the source code shall be
+     *         transferred to Python (if they can be determined statically). {@code false} if all columns shall be
+     *         transferred.
+     */
+    public boolean isTransferringReferencedColumnsOnly() {
+        return m_transferReferencedColumnsOnly;
+    }
+
+    /**
+     * @param transferReferencedColumnsOnly {@code true} to configure that only the columns of an input table that are
+     *            referenced by the source code shall be transferred to Python (if they can be determined statically).
+     *            {@code false} if all columns shall be transferred.
+     */
+    public void setTransferReferencedColumnsOnly(final boolean transferReferencedColumnsOnly) {
+        m_transferReferencedColumnsOnly = transferReferencedColumnsOnly;
+    }
+
+    /**
+     * @return {@code true} if input tables shall only be transferred to Python when they are first accessed by the
+     *         source code. {@code false} if they shall be transferred before the source code is executed.
+     */
+    public boolean isTransferringTablesLazily() {
+        return m_lazyTableTransfer;
+    }
+
+    /**
+     * @param lazyTableTransfer {@code true} to configure that input tables shall only be transferred to Python when
+     *            they are first accessed by the source code. {@code false} if they shall be transferred before the
+     *            source code is executed.
+     */
+    public void setTransferTablesLazily(final boolean lazyTableTransfer) {
+        m_lazyTableTransfer = lazyTableTransfer;
+    }
+
+    /**
+     * @return {@code true} if string columns with few distinct values shall be transferred to Python as categorical
+     *         data. {@code false} if they shall be transferred as plain strings.
+     */
+    public boolean isTransferringCategoricalStrings() {
+        return m_categoricalStrings;
+    }
+
+    /**
+     * @param categoricalStrings {@code true} to configure that string columns with few distinct values shall be
+     *            transferred to Python as categorical data. {@code false} if they shall be transferred as plain
+     *            strings.
+     */
+    public void setTransferCategoricalStrings(final boolean categoricalStrings) {
+        m_categoricalStrings = categoricalStrings;
+    }
+
+    /**
+     * @return {@code true} if default row keys ("Row0", "Row1", ...) shall be represented by a pandas RangeIndex in
+     *         Python. {@code false} if row keys shall always be represented as strings.
+     */
+    public boolean isUsingRangeIndexForRowKeys() {
+        return m_rangeIndexRowKeys;
+    }
+
+    /**
+     * @param rangeIndexRowKeys {@code true} to configure that default row keys ("Row0", "Row1", ...) shall be
+     *            represented by a pandas RangeIndex in Python. {@code false} if row keys shall always be represented
+     *            as strings.
+     */
+    public void setUseRangeIndexForRowKeys(final boolean rangeIndexRowKeys) {
+        m_rangeIndexRowKeys = rangeIndexRowKeys;
+    }
+
+    /**
+     * @return The configured row filter expression (see {@link RowFilterExpression}) that rows of an input table must
+     *         satisfy in order to be transferred to Python. Empty if all rows shall be transferred.
+     */
+    public String getRowFilter() {
+        return m_rowFilter;
+    }
+
+    /**
+     * @param rowFilter The configured row filter expression (see {@link RowFilterExpression}) that rows of an input
+     *            table must satisfy in order to be transferred to Python. Empty or {@code null} if all rows shall be
+     *            transferred.
+     */
+    public void setRowFilter(final String rowFilter) {
+        m_rowFilter = rowFilter == null ? "" : rowFilter;
+    }
+
+    /**
+     * @return The parsed row filter expression, empty if no row filter is configured.
+     * @throws IllegalArgumentException if the configured row filter expression cannot be parsed
+     */
+    public Optional<RowFilterExpression> getParsedRowFilter() {
+        return m_rowFilter.trim().isEmpty() ? Optional.empty() : Optional.of(RowFilterExpression.parse(m_rowFilter));
+    }
+
     @Override
     public void saveTo(final NodeSettingsWO settings) {
         super.saveTo(settings);
@@ -169,12 +286,22 @@ public void saveTo(final NodeSettingsWO settings) {
         settings.addString(CFG_SENTINEL_OPTION, getSentinelOption().name());
         settings.addInt(CFG_SENTINEL_VALUE, getSentinelValue());
         settings.addInt(CFG_CHUNK_SIZE, getChunkSize());
+        settings.addBoolean(CFG_TRANSFER_REFERENCED_COLUMNS_ONLY, isTransferringReferencedColumnsOnly());
+        settings.addString(CFG_ROW_FILTER, getRowFilter());
+        settings.addBoolean(CFG_LAZY_TABLE_TRANSFER, isTransferringTablesLazily());
+        settings.addBoolean(CFG_CATEGORICAL_STRINGS, isTransferringCategoricalStrings());
+        settings.addBoolean(CFG_RANGE_INDEX_ROW_KEYS, isUsingRangeIndexForRowKeys());
     }
 
     @Override
     public void loadFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         super.loadFrom(settings);
         loadFromSettings(settings);
+        try {
+            getParsedRowFilter();
+        } catch (final IllegalArgumentException ex) {
+            throw new InvalidSettingsException(ex.getMessage(), ex);
+        }
     }
 
     @Override
@@ -190,5 +317,12 @@ private void loadFromSettings(final NodeSettingsRO settings) {
         setSentinelOption(SentinelOption.valueOf(settings.getString(CFG_SENTINEL_OPTION, getSentinelOption().name())));
         setSentinelValue(settings.getInt(CFG_SENTINEL_VALUE, getSentinelValue()));
         setChunkSize(settings.getInt(CFG_CHUNK_SIZE, getChunkSize()));
+        setTransferReferencedColumnsOnly(
+            settings.getBoolean(CFG_TRANSFER_REFERENCED_COLUMNS_ONLY, isTransferringReferencedColumnsOnly()));
+        setRowFilter(settings.getString(CFG_ROW_FILTER, getRowFilter()));
+        setTransferTablesLazily(settings.getBoolean(CFG_LAZY_TABLE_TRANSFER, isTransferringTablesLazily()));
+        setTransferCategoricalStrings(
+            settings.getBoolean(CFG_CATEGORICAL_STRINGS, isTransferringCategoricalStrings()));
+        setUseRangeIndexForRowKeys(settings.getBoolean(CFG_RANGE_INDEX_ROW_KEYS, isUsingRangeIndexForRowKeys()));
     }
 }
@@ -103,6 +103,16 @@ public class PythonSourceCodeOptionsPanel extends SourceCodeOptionsPanel<PythonS
 
     private JSpinner m_chunkSize;
 
+    private JCheckBox m_lazyTableTransfer;
+
+    private JCheckBox m_categoricalStrings;
+
+    private JCheckBox m_rangeIndexRowKeys;
+
+    private JCheckBox m_transferReferencedColumnsOnly;
+
+    private JTextField m_rowFilter;
+
     // Not intended for serialization.
     private final CopyOnWriteArrayList<Consumer<SerializationOptions>> m_listeners = new CopyOnWriteArrayList<>(); // NOSONAR
 
@@ -181,6 +191,51 @@ protected JPanel getAdditionalOptionsPanel() {
         gbc.gridy++;
         panel.add(chunkingPanel, gbc);
 
+        final JPanel lazyPanel = new JPanel(new GridLayout(0, 1));
+        lazyPanel.setBorder(BorderFactory.createTitledBorder("Transfer mode"));
+        m_lazyTableTransfer = new JCheckBox("Transfer input tables on first access (Python 3 only)");
+        m_lazyTableTransfer.setToolTipText("<html>Input tables are only sent to Python when the script first uses "
+            + "them.<br/>Tables that are never used are not transferred at all.</html>");
+        m_lazyTableTransfer.addActionListener(changeListener);
+        lazyPanel.add(m_lazyTableTransfer);
+        m_categoricalStrings = new JCheckBox("Transfer string columns with few distinct values as categoricals");
+        m_categoricalStrings.setToolTipText("<html>Such columns are sent to Python in a compact dictionary-encoded "
+            + "form and become pandas categorical columns.<br/>Only supported by the Apache Arrow serializer.</html>");
+        m_categoricalStrings.addActionListener(changeListener);
+        lazyPanel.add(m_categoricalStrings);
+        m_rangeIndexRowKeys = new JCheckBox("Represent default row keys (Row0, Row1, ...) as a RangeIndex");
+        m_rangeIndexRowKeys.setToolTipText("<html>Row keys that follow the default pattern are not transferred to "
+            + "Python.<br/>The data frames get a pandas RangeIndex instead. Only supported by the Apache Arrow "
+            + "serializer.</html>");
+        m_rangeIndexRowKeys.addActionListener(changeListener);
+        lazyPanel.add(m_rangeIndexRowKeys);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        panel.add(lazyPanel, gbc);
+
+        final JPanel columnsPanel = new JPanel(new GridLayout(0, 1));
+        columnsPanel.setBorder(BorderFactory.createTitledBorder("Input columns"));
+        m_transferReferencedColumnsOnly =
+            new JCheckBox("Only transfer columns referenced in the script (e.g. input_table['column'])");
+        m_transferReferencedColumnsOnly.setToolTipText("<html>Columns are only omitted if each access to the input "
+            + "table in the script<br/>selects columns by name using string literals.</html>");
+        columnsPanel.add(m_transferReferencedColumnsOnly);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        panel.add(columnsPanel, gbc);
+
+        final JPanel rowsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        rowsPanel.setBorder(BorderFactory.createTitledBorder("Input rows"));
+        rowsPanel.add(new JLabel("Only transfer rows where"));
+        m_rowFilter = new JTextField(30);
+        m_rowFilter.setToolTipText("<html>Conditions joined by <i>and</i>, evaluated before the table is transferred "
+            + "to Python, e.g.<br/><code>x &gt; 0 and `my column` != \"foo\" and y is not missing</code><br/>"
+            + "Leave empty to transfer all rows.</html>");
+        rowsPanel.add(m_rowFilter);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        panel.add(rowsPanel, gbc);
+
         return panel;
     }
 
@@ -190,7 +245,10 @@ public SerializationOptions getSerializationOptions() {
         final boolean convertMissingFromPython = m_convertMissingFromPython.isSelected();
         final SentinelOption sentinelOption = getSentinelOption();
         return new SerializationOptions(chunkSize, convertMissingToPython, convertMissingFromPython, sentinelOption,
-            m_customSentinelValue).forSerializerId(m_serializerId);
+            m_customSentinelValue).forSerializerId(m_serializerId)
+                .forLazyTableTransfer(m_lazyTableTransfer.isSelected())
+                .forCategoricalStrings(m_categoricalStrings.isSelected())
+                .forRangeIndexRowKeys(m_rangeIndexRowKeys.isSelected());
     }
 
     public void addSerializationOptionsChangeListener(final Consumer<SerializationOptions> listener) {
@@ -220,6 +278,11 @@ public void loadSettingsFrom(final PythonSourceCodeConfig config) {
         m_customSentinelValueInput.setText(config.getSentinelValue() + "");
         m_customSentinelValue = config.getSentinelValue();
         m_chunkSize.setValue(config.getChunkSize());
+        m_lazyTableTransfer.setSelected(config.isTransferringTablesLazily());
+        m_categoricalStrings.setSelected(config.isTransferringCategoricalStrings());
+        m_rangeIndexRowKeys.setSelected(config.isUsingRangeIndexForRowKeys());
+        m_transferReferencedColumnsOnly.setSelected(config.isTransferringReferencedColumnsOnly());
+        m_rowFilter.setText(config.getRowFilter());
 
         onSerializationOptionsChanged();
     }
@@ -243,6 +306,11 @@ public void saveSettingsTo(final PythonSourceCodeConfig config) {
         config.setSentinelOption(getSentinelOption());
         config.setSentinelValue(m_customSentinelValue);
         config.setChunkSize(getChunkSize());
+        config.setTransferTablesLazily(m_lazyTableTransfer.isSelected());
+        config.setTransferCategoricalStrings(m_categoricalStrings.isSelected());
+        config.setUseRangeIndexForRowKeys(m_rangeIndexRowKeys.isSelected());
+        config.setTransferReferencedColumnsOnly(m_transferReferencedColumnsOnly.isSelected());
+        config.setRowFilter(m_rowFilter.getText());
     }
 
     private SentinelOption getSentinelOption() {
@@ -92,6 +92,21 @@ public class SerializationOptions {
      */
     public static final int DEFAULT_SENTINEL_VALUE = 0;
 
+    /**
+     * Transfer input tables eagerly by default.
+     */
+    public static final boolean DEFAULT_LAZY_TABLE_TRANSFER = false;
+
+    /**
+     * Transfer string columns as plain strings by default.
+     */
+    public static final boolean DEFAULT_CATEGORICAL_STRINGS = false;
+
+    /**
+     * Transfer row keys as strings by default.
+     */
+    public static final boolean DEFAULT_RANGE_INDEX_ROW_KEYS = false;
+
     private final String m_serializerId;
 
     private final int m_chunkSize;
@@ -104,6 +119,12 @@ public class SerializationOptions {
 
     private final int m_sentinelValue;
 
+    private final boolean m_lazyTableTransfer;
+
+    private final boolean m_categoricalStrings;
+
+    private final boolean m_rangeIndexRowKeys;
+
     /**
      * Default constructor. Consults the {@link PythonPreferences preferences} for the
      * {@link PythonPreferences#getSerializerPreference() serializer} to use. Initializes the other values of these
@@ -116,6 +137,9 @@ public SerializationOptions() {
         m_convertMissingFromPython = DEFAULT_CONVERT_MISSING_FROM_PYTHON;
         m_sentinelOption = DEFAULT_SENTINEL_OPTION;
         m_sentinelValue = DEFAULT_SENTINEL_VALUE;
+        m_lazyTableTransfer = DEFAULT_LAZY_TABLE_TRANSFER;
+        m_categoricalStrings = DEFAULT_CATEGORICAL_STRINGS;
+        m_rangeIndexRowKeys = DEFAULT_RANGE_INDEX_ROW_KEYS;
     }
 
     /**
@@ -139,6 +163,9 @@ public SerializationOptions(final int chunkSize, final boolean convertMissingToP
         m_convertMissingFromPython = convertMissingFromPython;
         m_sentinelOption = sentinelOption;
         m_sentinelValue = sentinelValue;
+        m_lazyTableTransfer = DEFAULT_LAZY_TABLE_TRANSFER;
+        m_categoricalStrings = DEFAULT_CATEGORICAL_STRINGS;
+        m_rangeIndexRowKeys = DEFAULT_RANGE_INDEX_ROW_KEYS;
     }
 
     /**
@@ -147,13 +174,17 @@ public SerializationOptions(final int chunkSize, final boolean convertMissingToP
      *            {@link PythonPreferences#getSerializerPreference()}.
      */
     private SerializationOptions(final String serializerId, final int chunkSize, final boolean convertMissingToPython,
-        final boolean convertMissingFromPython, final SentinelOption sentinelOption, final int sentinelValue) {
+        final boolean convertMissingFromPython, final SentinelOption sentinelOption, final int sentinelValue,
+        final boolean lazyTableTransfer, final boolean categoricalStrings, final boolean rangeIndexRowKeys) {
         m_serializerId = serializerId != null ? serializerId : PythonPreferences.getSerializerPreference();
         m_chunkSize = chunkSize;
         m_convertMissingToPython = convertMissingToPython;
         m_convertMissingFromPython = convertMissingFromPython;
         m_sentinelOption = sentinelOption;
         m_sentinelValue = sentinelValue;
+        m_lazyTableTransfer = lazyTableTransfer;
+        m_categoricalStrings = categoricalStrings;
+        m_rangeIndexRowKeys = rangeIndexRowKeys;
     }
 
     /**
@@ -175,7 +206,7 @@ public String getSerializerId() {
      */
     public SerializationOptions forSerializerId(final String serializerId) {
         return new SerializationOptions(serializerId, m_chunkSize, m_convertMissingToPython, m_convertMissingFromPython,
-            m_sentinelOption, m_sentinelValue);
+            m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings, m_rangeIndexRowKeys);
     }
 
     /**
@@ -194,7 +225,7 @@ public int getChunkSize() {
      */
     public SerializationOptions forChunkSize(final int chunkSize) {
         return new SerializationOptions(m_serializerId, chunkSize, m_convertMissingToPython, m_convertMissingFromPython,
-            m_sentinelOption, m_sentinelValue);
+            m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings, m_rangeIndexRowKeys);
     }
 
     /**
@@ -214,7 +245,7 @@ public boolean getConvertMissingToPython() {
      */
     public SerializationOptions forConvertMissingToPython(final boolean convertMissingToPython) {
         return new SerializationOptions(m_serializerId, m_chunkSize, convertMissingToPython, m_convertMissingFromPython,
-            m_sentinelOption, m_sentinelValue);
+            m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings, m_rangeIndexRowKeys);
     }
 
     /**
@@ -234,7 +265,7 @@ public boolean getConvertMissingFromPython() {
      */
     public SerializationOptions forConvertMissingFromPython(final boolean convertMissingFromPython) {
         return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython, convertMissingFromPython,
-            m_sentinelOption, m_sentinelValue);
+            m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings, m_rangeIndexRowKeys);
     }
 
     /**
@@ -254,7 +285,8 @@ public SentinelOption getSentinelOption() {
      */
     public SerializationOptions forSentinelOption(final SentinelOption sentinelOption) {
         return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython,
-            m_convertMissingFromPython, sentinelOption, m_sentinelValue);
+            m_convertMissingFromPython, sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings,
+            m_rangeIndexRowKeys);
     }
 
     /**
@@ -274,7 +306,77 @@ public int getSentinelValue() {
      */
     public SerializationOptions forSentinelValue(final int sentinelValue) {
         return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython,
-            m_convertMissingFromPython, m_sentinelOption, sentinelValue);
+            m_convertMissingFromPython, m_sentinelOption, sentinelValue, m_lazyTableTransfer, m_categoricalStrings,
+            m_rangeIndexRowKeys);
+    }
+
+    /**
+     * @return {@code true} if input tables shall only be transferred to Python when they are first accessed by the
+     *         Python code. {@code false} if they shall be transferred before the code is executed.
+     */
+    public boolean getLazyTableTransfer() {
+        return m_lazyTableTransfer;
+    }
+
+    /**
+     * Returns a copy of this instance for the given lazy table transfer option. This instance remains unaffected.
+     *
+     * @param lazyTableTransfer {@code true} to configure that input tables shall only be transferred to Python when
+     *            they are first accessed by the Python code. {@code false} if they shall be transferred before the
+     *            code is executed.
+     * @return A copy of this options instance with the given value set.
+     */
+    public SerializationOptions forLazyTableTransfer(final boolean lazyTableTransfer) {
+        return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython,
+            m_convertMissingFromPython, m_sentinelOption, m_sentinelValue, lazyTableTransfer, m_categoricalStrings,
+            m_rangeIndexRowKeys);
+    }
+
+    /**
+     * @return {@code true} if string columns with few distinct values shall be transferred to Python in a
+     *         dictionary-encoded form that Python represents as categorical data. {@code false} if all string columns
+     *         shall be transferred as plain strings. Serialization libraries that do not support dictionary encoding
+     *         ignore this option.
+     */
+    public boolean getCategoricalStrings() {
+        return m_categoricalStrings;
+    }
+
+    /**
+     * Returns a copy of this instance for the given categorical strings option. This instance remains unaffected.
+     *
+     * @param categoricalStrings {@code true} to configure that string columns with few distinct values shall be
+     *            transferred to Python as categorical data. {@code false} if all string columns shall be transferred
+     *            as plain strings.
+     * @return A copy of this options instance with the given value set.
+     */
+    public SerializationOptions forCategoricalStrings(final boolean categoricalStrings) {
+        return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython,
+            m_convertMissingFromPython, m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, categoricalStrings,
+            m_rangeIndexRowKeys);
+    }
+
+    /**
+     * @return {@code true} if tables whose row keys follow the default pattern "Row0", "Row1", ... shall be
+     *         represented by a pandas RangeIndex in Python and transferred without their row keys. {@code false} if row
+     *         keys shall always be transferred and represented as strings. Serialization libraries that do not support
+     *         this ignore this option.
+     */
+    public boolean getRangeIndexRowKeys() {
+        return m_rangeIndexRowKeys;
+    }
+
+    /**
+     * Returns a copy of this instance for the given range index option. This instance remains unaffected.
+     *
+     * @param rangeIndexRowKeys {@code true} to configure that default row keys shall be represented by a pandas
+     *            RangeIndex in Python. {@code false} if row keys shall always be represented as strings.
+     * @return A copy of this options instance with the given value set.
+     */
+    public SerializationOptions forRangeIndexRowKeys(final boolean rangeIndexRowKeys) {
+        return new SerializationOptions(m_serializerId, m_chunkSize, m_convertMissingToPython,
+            m_convertMissingFromPython, m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings,
+            rangeIndexRowKeys);
     }
 
     /**
@@ -333,7 +435,7 @@ public boolean isSentinel(final Type type, final long value) {
     @Override
     public int hashCode() {
         return Objects.hash(m_serializerId, m_chunkSize, m_convertMissingToPython, m_convertMissingFromPython,
-            m_sentinelOption, m_sentinelValue);
+            m_sentinelOption, m_sentinelValue, m_lazyTableTransfer, m_categoricalStrings, m_rangeIndexRowKeys);
     }
 
     @Override
@@ -352,6 +454,9 @@ public boolean equals(final Object obj) {
         b.append(m_convertMissingFromPython, other.m_convertMissingFromPython);
         b.append(m_sentinelOption, other.m_sentinelOption);
         b.append(m_sentinelValue, other.m_sentinelValue);
+        b.append(m_lazyTableTransfer, other.m_lazyTableTransfer);
+        b.append(m_categoricalStrings, other.m_categoricalStrings);
+        b.append(m_rangeIndexRowKeys, other.m_rangeIndexRowKeys);
         return b.isEquals();
     }
 }
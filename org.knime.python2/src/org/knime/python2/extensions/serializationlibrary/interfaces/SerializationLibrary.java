@@ -73,6 +73,22 @@ public interface SerializationLibrary extends AutoCloseable {
     byte[] tableToBytes(TableIterator tableIterator, SerializationOptions serializationOptions,
         PythonCancelable cancelable) throws SerializationException, PythonCanceledExecutionException;
 
+    /**
+     * Creates a serializer for the consecutive chunks of a single table transfer to python. The default implementation
+     * serializes every chunk independently via
+     * {@link #tableToBytes(TableIterator, SerializationOptions, PythonCancelable)}. Libraries that are able to stream
+     * many chunks through a single transfer unit should override this method.
+     *
+     * @param numberRows The total number of rows of all chunks that will be serialized.
+     * @param serializationOptions All options that control the serialization process.
+     * @return The serializer. Must be closed once python has consumed all chunks.
+     * @throws SerializationException if the serializer could not be created
+     */
+    default TableStreamSerializer createTableStreamSerializer(final int numberRows,
+        final SerializationOptions serializationOptions) throws SerializationException {
+        return (tableIterator, cancelable) -> tableToBytes(tableIterator, serializationOptions, cancelable);
+    }
+
     /**
      * Adds the rows contained in the bytes to the given {@link TableCreator}. Implementing classes are expected to
      * cancel deserialization in a timely manner if demanded.
@@ -58,6 +58,16 @@
      */
     void addRow(Row row);
 
+    /**
+     * Indicates whether this creator keeps references to the rows or cells passed to {@link #addRow(Row)} after the
+     * call returned. If not, serialization libraries may pass the same, lazily evaluated row instance for every row.
+     *
+     * @return true if rows are retained beyond {@link #addRow(Row)}, false if they are consumed within the call
+     */
+    default boolean retainsRows() {
+        return true;
+    }
+
     /**
      * @return The {@link TableSpec}.
      */
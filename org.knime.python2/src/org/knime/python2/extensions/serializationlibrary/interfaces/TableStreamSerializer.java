@@ -0,0 +1,89 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.extensions.serializationlibrary.interfaces;
+
+import org.knime.python2.extensions.serializationlibrary.SerializationException;
+import org.knime.python2.kernel.PythonCancelable;
+import org.knime.python2.kernel.PythonCanceledExecutionException;
+
+/**
+ * Serializes the consecutive chunks of a single table transfer to python. Libraries that support streaming write all
+ * chunks into one transfer unit (e.g. a single file containing many record batches), so per-transfer setup such as
+ * writing the table schema and metadata is only done once.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @see SerializationLibrary#createTableStreamSerializer(int,
+ *      org.knime.python2.extensions.serializationlibrary.SerializationOptions)
+ */
+@FunctionalInterface
+public interface TableStreamSerializer extends AutoCloseable {
+
+    /**
+     * Converts the next chunk of the table into bytes for transfer to python. Implementing classes are expected to
+     * cancel serialization in a timely manner if demanded.
+     *
+     * @param tableIterator Iterator for the chunk that should be converted.
+     * @param cancelable Can be used to cancel the serialization.
+     * @return The bytes that should be send to python.
+     * @throws SerializationException if something went wrong during serialization
+     * @throws PythonCanceledExecutionException if serialization was canceled
+     */
+    byte[] chunkToBytes(TableIterator tableIterator, PythonCancelable cancelable)
+        throws SerializationException, PythonCanceledExecutionException;
+
+    /**
+     * Releases all resources held by the stream. Must only be called once python has consumed all chunks or, if the
+     * transfer was canceled or failed, once python has aborted the stream (see
+     * {@link org.knime.python2.kernel.PythonCommands#abortTableStream(byte[])}).
+     */
+    @Override
+    default void close() {
+        // Nothing to release by default.
+    }
+}
@@ -57,6 +57,19 @@ public enum Type {
     LONG_SET(9), DOUBLE(10), DOUBLE_LIST(11), DOUBLE_SET(12), STRING(13), STRING_LIST(14), STRING_SET(15),
     BYTES(16), BYTES_LIST(17), BYTES_SET(18), FLOAT(19), FLOAT_LIST(20), FLOAT_SET(21);
 
+    private static final Type[] TYPES_BY_ID;
+
+    static {
+        int maxId = 0;
+        for (final Type type : values()) {
+            maxId = Math.max(maxId, type.getId());
+        }
+        TYPES_BY_ID = new Type[maxId + 1];
+        for (final Type type : values()) {
+            TYPES_BY_ID[type.getId()] = type;
+        }
+    }
+
     private final int m_id;
 
     /**
@@ -84,11 +97,9 @@ public int getId() {
      * @return the {@link Type} or null if id is unknown
      */
     public static Type getTypeForId(final int id) {
-        for (final Type type : Type.values()) {
-            if (type.getId() == id) {
-                return type;
-            }
+        if (id < 0 || id >= TYPES_BY_ID.length) {
+            return null;
         }
-        return null;
+        return TYPES_BY_ID[id];
     }
 }
@@ -45,6 +45,11 @@
 
 package org.knime.python2.extensions.serializationlibrary.interfaces.impl;
 
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
@@ -70,6 +75,8 @@ public class BufferedDataTableChunker implements TableChunker {
 
     private final TableSpec m_spec;
 
+    private final int[] m_columnIndices;
+
     private BufferedDataTableIterator m_currentTableIterator;
 
     /**
@@ -81,7 +88,43 @@ public class BufferedDataTableChunker implements TableChunker {
      */
     public BufferedDataTableChunker(final DataTableSpec spec, final CloseableRowIterator rowIterator,
         final int numberRows) {
-        this(BufferedDataTableIterator.dataTableSpecToTableSpec(spec), rowIterator, numberRows);
+        this(spec, rowIterator, numberRows, null);
+    }
+
+    /**
+     * Constructor. Only the columns at the given indices are transferred (column projection).
+     *
+     * @param spec the spec of the table to chunk in the standard KNIME format
+     * @param rowIterator an iterator for the table to chunk
+     * @param numberRows the number of rows of the table to chunk
+     * @param columnIndices the indices of the columns to transfer, in the order in which they shall appear in the
+     *            transferred table. May be {@code null} in which case all columns are transferred.
+     */
+    public BufferedDataTableChunker(final DataTableSpec spec, final CloseableRowIterator rowIterator,
+        final int numberRows, final int[] columnIndices) {
+        this(BufferedDataTableIterator.dataTableSpecToTableSpec(spec, columnIndices), rowIterator, numberRows,
+            columnIndices);
+    }
+
+    /**
+     * Constructor. Only the columns at the given indices (column projection) and the rows at the given indices (row
+     * filter) are transferred. Rows that are not selected are skipped before they are converted and serialized.
+     *
+     * @param spec the spec of the table to chunk in the standard KNIME format
+     * @param rowIterator an iterator for the table to chunk
+     * @param numberRows the number of rows to chunk, i.e. the number of selected rows if {@code selectedRows} is not
+     *            {@code null}
+     * @param columnIndices the indices of the columns to transfer, in the order in which they shall appear in the
+     *            transferred table. May be {@code null} in which case all columns are transferred.
+     * @param selectedRows the indices of the rows of the underlying table to transfer, see
+     *            {@link RowFilterExpression#findMatchingRows(org.knime.core.node.BufferedDataTable, ExecutionMonitor)}.
+     *            May be {@code null} in which case all rows are transferred.
+     */
+    public BufferedDataTableChunker(final DataTableSpec spec, final CloseableRowIterator rowIterator,
+        final int numberRows, final int[] columnIndices, final BitSet selectedRows) {
+        this(BufferedDataTableIterator.dataTableSpecToTableSpec(spec, columnIndices),
+            selectedRows == null ? rowIterator : new SelectedRowIterator(rowIterator, selectedRows), numberRows,
+            columnIndices);
     }
 
     /**
@@ -93,7 +136,13 @@ public BufferedDataTableChunker(final DataTableSpec spec, final CloseableRowIter
      */
     public BufferedDataTableChunker(final TableSpec spec, final CloseableRowIterator rowIterator,
         final int numberRows) {
+        this(spec, rowIterator, numberRows, null);
+    }
+
+    private BufferedDataTableChunker(final TableSpec spec, final CloseableRowIterator rowIterator,
+        final int numberRows, final int[] columnIndices) {
         m_spec = spec;
+        m_columnIndices = columnIndices;
         m_iterationProperties = new IterationProperties(numberRows);
         m_iterator = rowIterator;
         m_currentTableIterator = null;
@@ -130,7 +179,8 @@ public TableIterator nextChunk(int numRows, final ExecutionMonitor executionMoni
             m_currentTableIterator.close();
         }
         m_currentTableIterator =
-                new BufferedDataTableIterator(m_spec, m_iterator, numRows, executionMonitor, m_iterationProperties);
+                new BufferedDataTableIterator(m_spec, m_iterator, numRows, executionMonitor, m_iterationProperties,
+                    m_columnIndices);
         return m_currentTableIterator;
     }
 
@@ -150,6 +200,47 @@ public TableSpec getTableSpec() {
         return m_spec;
     }
 
+    /**
+     * Row iterator that only returns the rows at the selected indices of the underlying iterator.
+     */
+    private static final class SelectedRowIterator extends CloseableRowIterator {
+
+        private final CloseableRowIterator m_delegate;
+
+        private final BitSet m_selectedRows;
+
+        private int m_position = 0;
+
+        private SelectedRowIterator(final CloseableRowIterator delegate, final BitSet selectedRows) {
+            m_delegate = delegate;
+            m_selectedRows = selectedRows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_selectedRows.nextSetBit(m_position) >= 0 && m_delegate.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            final int nextSelected = m_selectedRows.nextSetBit(m_position);
+            if (nextSelected < 0) {
+                throw new NoSuchElementException();
+            }
+            while (m_position < nextSelected) {
+                m_delegate.next();
+                m_position++;
+            }
+            m_position++;
+            return m_delegate.next();
+        }
+
+        @Override
+        public void close() {
+            m_delegate.close();
+        }
+    }
+
     /**
      * Internal class shared with the {@link BufferedDataTableIterator} for ensuring the correct row pointer on both
      * ends.
@@ -157,6 +248,9 @@ public TableSpec getTableSpec() {
     class IterationProperties {
         public int m_remainingRows;
 
+        /** Rows that were read ahead by a closed iterator but not consumed, see {@link BufferedDataTableIterator}. */
+        final ArrayDeque<DataRow> m_lookAhead = new ArrayDeque<>();
+
         private IterationProperties(final int numRows) {
             m_remainingRows = numRows;
         }
@@ -79,12 +79,15 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.python.typeextension.BatchDeserializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.PythonToKnimeExtensions;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 
 /**
  * Used for creating a {@link BufferedDataTable} out of a python integration specific table structure.
@@ -95,6 +98,9 @@ public class BufferedDataTableCreator implements TableCreator<BufferedDataTable>
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(BufferedDataTableCreator.class);
 
+    /** The number of rows whose BYTES values are deserialized together, see {@link BatchDeserializer}. */
+    private static final int BATCH_SIZE = 1024;
+
     private final BufferedDataContainer m_container;
 
     private final TableSpec m_spec;
@@ -115,6 +121,25 @@ public class BufferedDataTableCreator implements TableCreator<BufferedDataTable>
 
     private final ExecutionContext m_exec;
 
+    /**
+     * The batch deserializers of the BYTES columns, indexed by column. {@code null} if there are none, in which case
+     * rows are added to the table immediately. Otherwise, rows are held back until {@link #BATCH_SIZE} rows are
+     * pending and the values of these columns are deserialized column-wise.
+     */
+    private final BatchDeserializer[] m_batchDeserializers;
+
+    /** The serialized values of the pending rows, indexed by column. */
+    private final BytesBatch.Builder[] m_pendingValues;
+
+    /** The positions of the pending rows the serialized values belong to, indexed by column. */
+    private final int[][] m_pendingPositions;
+
+    private final String[] m_pendingRowKeys;
+
+    private final DataCell[][] m_pendingCells;
+
+    private int m_numPendingRows = 0;
+
     /**
      * Constructor.
      *
@@ -246,6 +271,49 @@ public BufferedDataTableCreator(final TableSpec spec, final ExecutionContext con
         }
         m_dataTableSpec = new DataTableSpec(colSpecs);
         m_container = context.createDataContainer(m_dataTableSpec);
+        BatchDeserializer[] batchDeserializers = null;
+        for (int i = 0; i < colSpecs.length; i++) {
+            key = spec.getColumnTypes()[i] == Type.BYTES ? spec.getColumnSerializers().get(spec.getColumnNames()[i])
+                : null;
+            if (key != null) {
+                final Deserializer deserializer =
+                    m_pythonToKnimeExtensions.getDeserializer(PythonToKnimeExtensions.getExtension(key).getId());
+                if (deserializer instanceof BatchDeserializer) {
+                    if (batchDeserializers == null) {
+                        batchDeserializers = new BatchDeserializer[colSpecs.length];
+                    }
+                    batchDeserializers[i] = (BatchDeserializer)deserializer;
+                }
+            }
+        }
+        m_batchDeserializers = batchDeserializers;
+        if (batchDeserializers != null) {
+            m_pendingValues = new BytesBatch.Builder[colSpecs.length];
+            m_pendingPositions = new int[colSpecs.length][];
+            for (int i = 0; i < colSpecs.length; i++) {
+                if (batchDeserializers[i] != null) {
+                    m_pendingValues[i] = new BytesBatch.Builder(BATCH_SIZE, 32);
+                    m_pendingPositions[i] = new int[BATCH_SIZE];
+                }
+            }
+            m_pendingRowKeys = new String[BATCH_SIZE];
+            m_pendingCells = new DataCell[BATCH_SIZE][];
+        } else {
+            m_pendingValues = null;
+            m_pendingPositions = null;
+            m_pendingRowKeys = null;
+            m_pendingCells = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc} All values of a row are copied within {@link #addRow(Row)}: they are either converted into KNIME
+     * data cells immediately or, in case of BYTES values that are deserialized in batches, copied into a pending
+     * buffer until the batch is complete.
+     */
+    @Override
+    public boolean retainsRows() {
+        return false;
     }
 
     @Override
@@ -420,6 +488,14 @@ public void addRow(final Row row) {
                         cells[i] = CollectionCellFactory.createSetCell(stringSetCells);
                         break;
                     case BYTES:
+                        if (m_batchDeserializers != null && m_batchDeserializers[i] != null) {
+                            // Deserialized together with the values of the other pending rows.
+                            final BytesBatch.Builder pendingValues = m_pendingValues[i];
+                            m_pendingPositions[i][pendingValues.size()] = m_numPendingRows;
+                            pendingValues.write(cell.getBytesValue());
+                            pendingValues.endValue();
+                            break;
+                        }
                         final String bytesTypeId = m_spec.getColumnSerializers().get(m_spec.getColumnNames()[i]);
                         if (bytesTypeId != null) {
                             final Deserializer bytesDeserializer = m_pythonToKnimeExtensions
@@ -559,11 +635,80 @@ public void addRow(final Row row) {
             }
             i++;
         }
-        m_container.addRowToTable(new DefaultRow(row.getRowKey(), cells));
+        if (m_batchDeserializers == null) {
+            addRowToTable(row.getRowKey(), cells);
+        } else {
+            m_pendingRowKeys[m_numPendingRows] = row.getRowKey();
+            m_pendingCells[m_numPendingRows] = cells;
+            m_numPendingRows++;
+            if (m_numPendingRows == BATCH_SIZE) {
+                addPendingRows();
+            }
+        }
+    }
+
+    private void addRowToTable(final String rowKey, final DataCell[] cells) {
+        m_container.addRowToTable(new DefaultRow(rowKey, cells));
         m_rowsDone++;
         m_executionMonitor.setProgress(m_rowsDone / (double)m_tableSize);
     }
 
+    /**
+     * Deserializes the pending values of the batched BYTES columns and adds the pending rows to the table.
+     */
+    private void addPendingRows() {
+        for (int i = 0; i < m_batchDeserializers.length; i++) {
+            if (m_batchDeserializers[i] == null) {
+                continue;
+            }
+            final BytesBatch batch = m_pendingValues[i].build();
+            // Sized by the values of the previous batch.
+            m_pendingValues[i] =
+                new BytesBatch.Builder(BATCH_SIZE, Math.max(1, batch.getOffset(batch.size()) / BATCH_SIZE));
+            final DataCell[] deserialized = deserializeValues(m_batchDeserializers[i], batch);
+            final DataTypeContainer dataTypeContainer = m_columnsToRetype.get(i);
+            for (int j = 0; j < deserialized.length; j++) {
+                final DataCell[] cells = m_pendingCells[m_pendingPositions[i][j]];
+                if (deserialized[j] != null) {
+                    cells[i] = deserialized[j];
+                    if (dataTypeContainer != null) {
+                        dataTypeContainer.m_dataTypes.add(deserialized[j].getType());
+                    }
+                } else {
+                    cells[i] = new MissingCell(null);
+                }
+            }
+        }
+        for (int k = 0; k < m_numPendingRows; k++) {
+            addRowToTable(m_pendingRowKeys[k], m_pendingCells[k]);
+            m_pendingRowKeys[k] = null;
+            m_pendingCells[k] = null;
+        }
+        m_numPendingRows = 0;
+    }
+
+    /**
+     * Deserializes all values of the given batch at once. Falls back to deserializing the values one by one if that
+     * fails. Values that could not be deserialized are logged and returned as {@code null}.
+     */
+    private DataCell[] deserializeValues(final BatchDeserializer deserializer, final BytesBatch batch) {
+        try {
+            return deserializer.deserialize(batch, m_fileStoreFactory);
+        } catch (IllegalStateException | IOException e) {
+            // Fall back to deserializing the values one by one to isolate the failing ones.
+            LOGGER.debug(e.getMessage(), e);
+        }
+        final DataCell[] cells = new DataCell[batch.size()];
+        for (int j = 0; j < cells.length; j++) {
+            try {
+                cells[j] = deserializer.deserialize(batch.get(j), m_fileStoreFactory);
+            } catch (IllegalStateException | IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+        return cells;
+    }
+
     @Override
     public TableSpec getTableSpec() {
         return m_spec;
@@ -580,6 +725,9 @@ private DataType getMostCommonAncestor(final HashSet<DataType> types) {
 
     @Override
     public BufferedDataTable getTable() {
+        if (m_numPendingRows > 0) {
+            addPendingRows();
+        }
         m_container.close();
         final DataTableSpec tableSpec = m_container.getTableSpec();
         final DataColumnSpec[] colSpecs = new DataColumnSpec[tableSpec.getNumColumns()];
@@ -50,7 +50,10 @@
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.ArrayUtils;
@@ -70,6 +73,8 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.python.typeextension.BatchSerializer;
+import org.knime.python.typeextension.BytesBatch;
 import org.knime.python.typeextension.KnimeToPythonExtension;
 import org.knime.python.typeextension.KnimeToPythonExtensions;
 import org.knime.python.typeextension.Serializer;
@@ -88,6 +93,9 @@ public class BufferedDataTableIterator implements TableIterator {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(BufferedDataTableIterator.class);
 
+    /** The number of rows whose BYTES values are serialized together, see {@link BatchSerializer}. */
+    private static final int BATCH_SIZE = 1024;
+
     private final int m_numberRows;
 
     private int m_remainingRows;
@@ -102,6 +110,28 @@ public class BufferedDataTableIterator implements TableIterator {
 
     private final BufferedDataTableChunker.IterationProperties m_iterIterationProperties;
 
+    /**
+     * The indices of the columns of the underlying table that are transferred, in the order of {@link #m_spec}.
+     * {@code null} if all columns are transferred.
+     */
+    private final int[] m_columnIndices;
+
+    /**
+     * The rows of the current batch. Rows of tables with BYTES columns are read ahead in batches so that the values of
+     * these columns can be serialized column-wise. {@code null} if the table has no BYTES columns.
+     */
+    private final DataRow[] m_batchRows;
+
+    /**
+     * The serialized values of the BYTES columns of the current batch, indexed by column and position in the batch.
+     * Only allocated for BYTES columns.
+     */
+    private final byte[][][] m_batchValues;
+
+    private int m_batchPosition;
+
+    private int m_batchLength;
+
     /**
      * Constructor.
      *
@@ -127,6 +157,25 @@ public BufferedDataTableIterator(final DataTableSpec spec, final CloseableRowIte
      */
     public BufferedDataTableIterator(final TableSpec spec, final CloseableRowIterator rowIterator, final int numberRows,
         final ExecutionMonitor monitor, final BufferedDataTableChunker.IterationProperties ip) {
+        this(spec, rowIterator, numberRows, monitor, ip, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param spec the spec of the table to chunk in the python table representation format, restricted to the
+     *            projected columns if {@code columnIndices} is not {@code null}
+     * @param rowIterator an iterator for the table to chunk
+     * @param numberRows the number of rows of the table to chunk
+     * @param monitor an execution monitor for reporting progress
+     * @param ip iteration properties shared with the associated chunker to ensure a consistent state
+     * @param columnIndices the indices (with respect to the rows returned by the row iterator) of the columns to
+     *            transfer, in the order of the given spec. May be {@code null} in which case all columns are
+     *            transferred.
+     */
+    public BufferedDataTableIterator(final TableSpec spec, final CloseableRowIterator rowIterator, final int numberRows,
+        final ExecutionMonitor monitor, final BufferedDataTableChunker.IterationProperties ip,
+        final int[] columnIndices) {
         m_numberRows = numberRows;
         m_spec = spec;
         m_remainingRows = numberRows;
@@ -134,6 +183,19 @@ public BufferedDataTableIterator(final TableSpec spec, final CloseableRowIterato
         m_knimeToPythonExtensions = new KnimeToPythonExtensions();
         m_executionMonitor = monitor;
         m_iterIterationProperties = ip;
+        m_columnIndices = columnIndices;
+        final Type[] types = spec.getColumnTypes();
+        byte[][][] batchValues = null;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == Type.BYTES) {
+                if (batchValues == null) {
+                    batchValues = new byte[types.length][][];
+                }
+                batchValues[i] = new byte[Math.min(BATCH_SIZE, numberRows)][];
+            }
+        }
+        m_batchValues = batchValues;
+        m_batchRows = batchValues != null ? new DataRow[Math.min(BATCH_SIZE, numberRows)] : null;
     }
 
     /**
@@ -150,9 +212,20 @@ public Row next() {
                     throw new RuntimeException(e.getMessage(), e);
                 }
             }
+            if (m_batchRows == null) {
+                m_remainingRows--;
+                m_iterIterationProperties.m_remainingRows--;
+                return dataRowToRow(nextDataRow(), -1);
+            }
+            if (m_batchPosition == m_batchLength) {
+                serializeNextBatch();
+            }
             m_remainingRows--;
             m_iterIterationProperties.m_remainingRows--;
-            return dataRowToRow(m_iterator.next());
+            final int batchPosition = m_batchPosition++;
+            final DataRow dataRow = m_batchRows[batchPosition];
+            m_batchRows[batchPosition] = null;
+            return dataRowToRow(dataRow, batchPosition);
         } else {
             return null;
         }
@@ -187,19 +260,111 @@ public TableSpec getTableSpec() {
      */
     public void close() {
         m_remainingRows = 0;
+        // Rows that were read ahead but not consumed are handed back, the next chunk starts with them.
+        if (m_batchRows != null) {
+            for (int i = m_batchLength - 1; i >= m_batchPosition; i--) {
+                m_iterIterationProperties.m_lookAhead.addFirst(m_batchRows[i]);
+                m_batchRows[i] = null;
+            }
+            m_batchPosition = m_batchLength;
+        }
+    }
+
+    private DataRow nextDataRow() {
+        final DataRow lookAhead = m_iterIterationProperties.m_lookAhead.poll();
+        return lookAhead != null ? lookAhead : m_iterator.next();
+    }
+
+    /**
+     * Reads the next batch of rows and serializes the values of all BYTES columns of the batch. Values of the same
+     * column that are handled by the same serializer are serialized together.
+     */
+    @SuppressWarnings("rawtypes")
+    private void serializeNextBatch() {
+        m_batchLength = Math.min(m_batchRows.length, m_remainingRows);
+        m_batchPosition = 0;
+        for (int k = 0; k < m_batchLength; k++) {
+            m_batchRows[k] = nextDataRow();
+        }
+        final DataCell[] cells = new DataCell[m_batchLength];
+        final Serializer[] serializers = new Serializer[m_batchLength];
+        for (int i = 0; i < m_batchValues.length; i++) {
+            final byte[][] values = m_batchValues[i];
+            if (values == null) {
+                continue;
+            }
+            Arrays.fill(values, null);
+            final int columnIndex = m_columnIndices == null ? i : m_columnIndices[i];
+            for (int k = 0; k < m_batchLength; k++) {
+                final DataCell dataCell = m_batchRows[k].getCell(columnIndex);
+                cells[k] = dataCell;
+                serializers[k] =
+                    dataCell.isMissing() ? null : m_knimeToPythonExtensions.getSerializer(dataCell.getType());
+            }
+            for (int k = 0; k < m_batchLength; k++) {
+                final Serializer serializer = serializers[k];
+                if (serializer == null) {
+                    continue;
+                }
+                final List<DataCell> group = new ArrayList<>();
+                final int[] positions = new int[m_batchLength - k];
+                for (int l = k; l < m_batchLength; l++) {
+                    if (serializers[l] == serializer) {
+                        positions[group.size()] = l;
+                        group.add(cells[l]);
+                        serializers[l] = null;
+                    }
+                }
+                final byte[][] serialized = serializeValues(serializer, group);
+                for (int j = 0; j < serialized.length; j++) {
+                    values[positions[j]] = serialized[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Serializes the given values, all at once if the serializer is a {@link BatchSerializer}. Values that could not
+     * be serialized are logged and returned as {@code null}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static byte[][] serializeValues(final Serializer serializer, final List<DataCell> values) {
+        final byte[][] serialized = new byte[values.size()][];
+        if (serializer instanceof BatchSerializer) {
+            try {
+                final BytesBatch batch = ((BatchSerializer)serializer).serialize(values);
+                for (int j = 0; j < serialized.length; j++) {
+                    serialized[j] = batch.get(j);
+                }
+                return serialized;
+            } catch (final IOException e) {
+                // Fall back to serializing the values one by one to isolate the failing ones.
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+        for (int j = 0; j < serialized.length; j++) {
+            try {
+                serialized[j] = serializer.serialize(values.get(j));
+            } catch (final IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+        return serialized;
     }
 
     /**
      * Convert a {@link DataRow} to a {@link Row}
      *
      * @param dataRow a {@link DataRow}
+     * @param batchPosition the position of the row in the current batch, or -1 if rows are not batched
      * @return a {@link Row}
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private Row dataRowToRow(final DataRow dataRow) {
-        final Row row = new RowImpl(dataRow.getKey().getString(), dataRow.getNumCells());
-        for (int i = 0; i < dataRow.getNumCells(); i++) {
-            final DataCell dataCell = dataRow.getCell(i);
+    @SuppressWarnings("rawtypes")
+    private Row dataRowToRow(final DataRow dataRow, final int batchPosition) {
+        final int numColumns = m_columnIndices == null ? dataRow.getNumCells() : m_columnIndices.length;
+        final Row row = new RowImpl(dataRow.getKey().getString(), numColumns);
+        for (int i = 0; i < numColumns; i++) {
+            final DataCell dataCell = dataRow.getCell(m_columnIndices == null ? i : m_columnIndices[i]);
             final Type type = m_spec.getColumnTypes()[i];
             if (dataCell.isMissing()) {
                 row.setCell(new CellImpl(), i);
@@ -430,59 +595,48 @@ private Row dataRowToRow(final DataRow dataRow) {
                 }
 
             } else if (type == Type.BYTES) {
-                final Serializer serializer = m_knimeToPythonExtensions
-                        .getSerializer(KnimeToPythonExtensions.getExtension(dataCell.getType()).getId());
-                try {
-                    final byte[] value = serializer.serialize(dataCell);
-                    row.setCell(new CellImpl(value), i);
-                } catch (final IOException e) {
-                    LOGGER.error(e.getMessage(), e);
-                    row.setCell(new CellImpl(), i);
-                }
+                // Serialized beforehand together with the other values of the batch.
+                final byte[] value = m_batchValues[i][batchPosition];
+                row.setCell(value != null ? new CellImpl(value) : new CellImpl(), i);
             } else if (type == Type.BYTES_LIST) {
-                final Serializer serializer = m_knimeToPythonExtensions.getSerializer(
-                    KnimeToPythonExtensions.getExtension(dataCell.getType().getCollectionElementType()).getId());
+                final Serializer serializer =
+                    m_knimeToPythonExtensions.getSerializer(dataCell.getType().getCollectionElementType());
                 final CollectionDataValue colCell = (CollectionDataValue)dataCell;
-                final byte[][] values = new byte[colCell.size()][];
-                final byte[] missings = new byte[colCell.size() / 8 + (colCell.size() % 8 == 0 ? 0:1)];
+                final List<DataCell> elements = new ArrayList<>(colCell.size());
+                final int[] positions = new int[colCell.size()];
                 int j = 0;
                 for (final DataCell innerCell : colCell) {
                     if (!innerCell.isMissing()) {
-                        try {
-                            values[j] = serializer.serialize(innerCell);
-                            missings[j / 8] += (1 << (j % 8));
-                        } catch (final IOException e) {
-                            LOGGER.error(e.getMessage(), e);
-                        }
+                        positions[elements.size()] = j;
+                        elements.add(innerCell);
                     }
                     j++;
                 }
+                final byte[][] serialized = serializeValues(serializer, elements);
+                final byte[][] values = new byte[colCell.size()][];
+                final byte[] missings = new byte[colCell.size() / 8 + (colCell.size() % 8 == 0 ? 0:1)];
+                for (int k = 0; k < serialized.length; k++) {
+                    if (serialized[k] != null) {
+                        values[positions[k]] = serialized[k];
+                        missings[positions[k] / 8] += (1 << (positions[k] % 8));
+                    }
+                }
                 row.setCell(new CellImpl(values, missings), i);
 
             } else if (type == Type.BYTES_SET) {
-                final Serializer serializer = m_knimeToPythonExtensions.getSerializer(
-                    KnimeToPythonExtensions.getExtension(dataCell.getType().getCollectionElementType()).getId());
+                final Serializer serializer =
+                    m_knimeToPythonExtensions.getSerializer(dataCell.getType().getCollectionElementType());
                 final CollectionDataValue colCell = (CollectionDataValue)dataCell;
-                final byte[][] values = new byte[colCell.size()][];
+                final List<DataCell> elements = new ArrayList<>(colCell.size());
                 boolean hasMissing = false;
-                int j = 0;
                 for (final DataCell innerCell : colCell) {
                     if (!innerCell.isMissing()) {
-                        try {
-                            values[j] = serializer.serialize(innerCell);
-                        } catch (final IOException e) {
-                            LOGGER.error(e.getMessage(), e);
-                        }
-                        j++;
+                        elements.add(innerCell);
                     } else {
                         hasMissing = true;
                     }
                 }
-                if(!hasMissing) {
-                    row.setCell(new CellImpl(values, hasMissing), i);
-                } else {
-                    row.setCell(new CellImpl((byte[][]) ArrayUtils.subarray(values, 0, colCell.size() - 1), hasMissing), i);
-                }
+                row.setCell(new CellImpl(serializeValues(serializer, elements), hasMissing), i);
             }
         }
         return row;
@@ -567,4 +721,23 @@ static TableSpec dataTableSpecToTableSpec(final DataTableSpec dataTableSpec) {
         }
         return new TableSpecImpl(types, names, columnSerializers);
     }
+
+    /**
+     * Convert the given columns of a {@link DataTableSpec} to a {@link TableSpec}
+     *
+     * @param dataTableSpec a {@link DataTableSpec}
+     * @param columnIndices the indices of the columns to include, in the order in which they shall appear in the
+     *            returned spec. May be {@code null} in which case all columns are included.
+     * @return a {@link TableSpec}
+     */
+    static TableSpec dataTableSpecToTableSpec(final DataTableSpec dataTableSpec, final int[] columnIndices) {
+        if (columnIndices == null) {
+            return dataTableSpecToTableSpec(dataTableSpec);
+        }
+        final DataColumnSpec[] columnSpecs = new DataColumnSpec[columnIndices.length];
+        for (int i = 0; i < columnIndices.length; i++) {
+            columnSpecs[i] = dataTableSpec.getColumnSpec(columnIndices[i]);
+        }
+        return dataTableSpecToTableSpec(new DataTableSpec(columnSpecs));
+    }
 }
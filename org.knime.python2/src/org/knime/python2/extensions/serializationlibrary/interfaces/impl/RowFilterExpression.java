@@ -0,0 +1,399 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python2.extensions.serializationlibrary.interfaces.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * A declarative row filter that is evaluated on the Java side before a table is transferred to Python. An expression
+ * is a conjunction of conditions, e.g. <code>x &gt; 0 and name != "foo" and y is not missing</code>. Each condition
+ * compares a column against a number, a quoted string, or a boolean literal using one of <code>==, !=, &lt;, &lt;=,
+ * &gt;, &gt;=</code>, or checks whether a column <code>is missing</code> or <code>is not missing</code>. Column names
+ * that are not valid identifiers can be quoted using backticks. Missing cells never satisfy a comparison.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class RowFilterExpression {
+
+    private enum Operator {
+            EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="), IS_MISSING("is missing"),
+            IS_NOT_MISSING("is not missing");
+
+        private final String m_symbol;
+
+        Operator(final String symbol) {
+            m_symbol = symbol;
+        }
+
+        private boolean test(final int comparison) {
+            switch (this) {
+                case EQ:
+                    return comparison == 0;
+                case NE:
+                    return comparison != 0;
+                case LT:
+                    return comparison < 0;
+                case LE:
+                    return comparison <= 0;
+                case GT:
+                    return comparison > 0;
+                case GE:
+                    return comparison >= 0;
+                default:
+                    throw new IllegalStateException("Operator " + m_symbol + " is not a comparison.");
+            }
+        }
+    }
+
+    private static final class Condition {
+
+        private final String m_column;
+
+        private final Operator m_operator;
+
+        /** A {@link Double}, {@link Long}, {@link String}, {@link Boolean}, or {@code null} for missing checks. */
+        private final Object m_value;
+
+        private Condition(final String column, final Operator operator, final Object value) {
+            m_column = column;
+            m_operator = operator;
+            m_value = value;
+        }
+
+        private boolean matches(final DataCell cell) {
+            if (m_operator == Operator.IS_MISSING) {
+                return cell.isMissing();
+            } else if (m_operator == Operator.IS_NOT_MISSING) {
+                return !cell.isMissing();
+            } else if (cell.isMissing()) {
+                return false;
+            }
+            if (m_value instanceof Boolean) {
+                if (!(cell instanceof BooleanValue) || !(m_operator == Operator.EQ || m_operator == Operator.NE)) {
+                    return false;
+                }
+                return m_operator.test(((BooleanValue)cell).getBooleanValue() == (Boolean)m_value ? 0 : 1);
+            } else if (m_value instanceof String) {
+                if (!(cell instanceof StringValue)) {
+                    return false;
+                }
+                return m_operator.test(((StringValue)cell).getStringValue().compareTo((String)m_value));
+            } else if (m_value instanceof Long && cell instanceof LongValue) {
+                return m_operator.test(Long.compare(((LongValue)cell).getLongValue(), (Long)m_value));
+            } else if (cell instanceof DoubleValue) {
+                final double value = ((Number)m_value).doubleValue();
+                final double cellValue = ((DoubleValue)cell).getDoubleValue();
+                // NaN compares unequal to everything, like in pandas.
+                return !Double.isNaN(cellValue) ? m_operator.test(Double.compare(cellValue, value))
+                    : m_operator == Operator.NE;
+            }
+            return false;
+        }
+    }
+
+    private final String m_expression;
+
+    private final List<Condition> m_conditions;
+
+    private RowFilterExpression(final String expression, final List<Condition> conditions) {
+        m_expression = expression;
+        m_conditions = conditions;
+    }
+
+    /**
+     * Parses the given expression.
+     *
+     * @param expression the expression, see the class description for its syntax
+     * @return the parsed expression
+     * @throws IllegalArgumentException if the expression is empty or cannot be parsed
+     */
+    public static RowFilterExpression parse(final String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("The row filter expression is empty.");
+        }
+        return new Parser(expression).parse();
+    }
+
+    /**
+     * @return the names of the columns referenced by this expression, in order of their first occurrence
+     */
+    public String[] getColumnNames() {
+        final Set<String> columns = new LinkedHashSet<>();
+        for (final Condition condition : m_conditions) {
+            columns.add(condition.m_column);
+        }
+        return columns.toArray(new String[0]);
+    }
+
+    /**
+     * @param spec the spec of a table
+     * @return true if the table contains all columns referenced by this expression, i.e. if this expression can be
+     *         {@link #findMatchingRows(BufferedDataTable, ExecutionMonitor) evaluated} on it
+     */
+    public boolean isApplicableTo(final DataTableSpec spec) {
+        for (final Condition condition : m_conditions) {
+            if (!spec.containsName(condition.m_column)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates this expression on all rows of the given table. Only the columns referenced by this expression are
+     * read.
+     *
+     * @param table the table
+     * @param monitor the monitor that is checked for cancellation and to which the progress of the evaluation is
+     *            reported
+     * @return the indices of the rows that satisfy this expression
+     * @throws IllegalArgumentException if the table does not contain a column referenced by this expression
+     * @throws CanceledExecutionException if canceled
+     */
+    public BitSet findMatchingRows(final BufferedDataTable table, final ExecutionMonitor monitor)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int[] columnIndices = new int[m_conditions.size()];
+        for (int i = 0; i < columnIndices.length; i++) {
+            final String column = m_conditions.get(i).m_column;
+            columnIndices[i] = spec.findColumnIndex(column);
+            if (columnIndices[i] < 0) {
+                throw new IllegalArgumentException(
+                    "Column '" + column + "' of the row filter is not contained in the input table.");
+            }
+        }
+        final BitSet matchingRows = new BitSet();
+        final double numRows = table.size();
+        try (final CloseableRowIterator iterator =
+            table.filter(TableFilter.materializeCols(IntStream.of(columnIndices).distinct().toArray()))) {
+            int rowIndex = 0;
+            while (iterator.hasNext()) {
+                monitor.checkCanceled();
+                if (matches(iterator.next(), columnIndices)) {
+                    matchingRows.set(rowIndex);
+                }
+                rowIndex++;
+                monitor.setProgress(rowIndex / numRows);
+            }
+        }
+        monitor.setProgress(1);
+        return matchingRows;
+    }
+
+    private boolean matches(final DataRow row, final int[] columnIndices) {
+        for (int i = 0; i < columnIndices.length; i++) {
+            if (!m_conditions.get(i).matches(row.getCell(columnIndices[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return m_expression;
+    }
+
+    private static final class Parser {
+
+        private final String m_expression;
+
+        private int m_pos;
+
+        private Parser(final String expression) {
+            m_expression = expression;
+        }
+
+        private RowFilterExpression parse() {
+            final List<Condition> conditions = new ArrayList<>();
+            conditions.add(parseCondition());
+            while (skipWhitespace() < m_expression.length()) {
+                if (!consumeKeyword("and")) {
+                    throw error("Expected 'and'");
+                }
+                conditions.add(parseCondition());
+            }
+            return new RowFilterExpression(m_expression, Collections.unmodifiableList(conditions));
+        }
+
+        private Condition parseCondition() {
+            skipWhitespace();
+            final String column = parseColumn();
+            skipWhitespace();
+            if (consumeKeyword("is")) {
+                final boolean negated = consumeKeyword("not");
+                if (!consumeKeyword("missing")) {
+                    throw error("Expected 'missing'");
+                }
+                return new Condition(column, negated ? Operator.IS_NOT_MISSING : Operator.IS_MISSING, null);
+            }
+            final Operator operator = parseOperator();
+            skipWhitespace();
+            return new Condition(column, operator, parseValue());
+        }
+
+        private String parseColumn() {
+            if (m_pos < m_expression.length() && m_expression.charAt(m_pos) == '`') {
+                final int end = m_expression.indexOf('`', m_pos + 1);
+                if (end < 0) {
+                    throw error("Unterminated column name");
+                }
+                final String column = m_expression.substring(m_pos + 1, end);
+                m_pos = end + 1;
+                return column;
+            }
+            final int start = m_pos;
+            while (m_pos < m_expression.length() && isIdentifierCharacter(m_expression.charAt(m_pos))) {
+                m_pos++;
+            }
+            if (start == m_pos) {
+                throw error("Expected a column name");
+            }
+            return m_expression.substring(start, m_pos);
+        }
+
+        private Operator parseOperator() {
+            for (final Operator operator : new Operator[]{Operator.EQ, Operator.NE, Operator.LE, Operator.GE,
+                Operator.LT, Operator.GT}) {
+                if (m_expression.startsWith(operator.m_symbol, m_pos)) {
+                    m_pos += operator.m_symbol.length();
+                    return operator;
+                }
+            }
+            throw error("Expected one of ==, !=, <, <=, >, >=, 'is missing', 'is not missing'");
+        }
+
+        private Object parseValue() {
+            if (m_pos >= m_expression.length()) {
+                throw error("Expected a value");
+            }
+            final char first = m_expression.charAt(m_pos);
+            if (first == '"' || first == '\'') {
+                final int end = m_expression.indexOf(first, m_pos + 1);
+                if (end < 0) {
+                    throw error("Unterminated string");
+                }
+                final String value = m_expression.substring(m_pos + 1, end);
+                m_pos = end + 1;
+                return value;
+            }
+            if (consumeKeyword("true")) {
+                return Boolean.TRUE;
+            } else if (consumeKeyword("false")) {
+                return Boolean.FALSE;
+            }
+            final int start = m_pos;
+            while (m_pos < m_expression.length() && !Character.isWhitespace(m_expression.charAt(m_pos))) {
+                m_pos++;
+            }
+            final String number = m_expression.substring(start, m_pos);
+            try {
+                return Long.valueOf(number);
+            } catch (final NumberFormatException ex) { // NOSONAR Not an integer, try floating point next.
+                try {
+                    return Double.valueOf(number);
+                } catch (final NumberFormatException ex1) { // NOSONAR Reported below.
+                    m_pos = start;
+                    throw error("Expected a number, a quoted string, true, or false");
+                }
+            }
+        }
+
+        private boolean consumeKeyword(final String keyword) {
+            skipWhitespace();
+            final int end = m_pos + keyword.length();
+            if (m_expression.regionMatches(true, m_pos, keyword, 0, keyword.length())
+                && (end == m_expression.length() || !isIdentifierCharacter(m_expression.charAt(end)))) {
+                m_pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Characters of unquoted column names. Keywords must not be followed by any of them, e.g. {@code and_x} is a
+         * column name rather than the keyword {@code and} followed by {@code _x}.
+         */
+        private static boolean isIdentifierCharacter(final char c) {
+            return Character.isLetterOrDigit(c) || c == '_';
+        }
+
+        private int skipWhitespace() {
+            while (m_pos < m_expression.length() && Character.isWhitespace(m_expression.charAt(m_pos))) {
+                m_pos++;
+            }
+            return m_pos;
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(String.format(Locale.ROOT,
+                "Invalid row filter expression '%s': %s at position %d.", m_expression, message, m_pos + 1));
+        }
+    }
+}
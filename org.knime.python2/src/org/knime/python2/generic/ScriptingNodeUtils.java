@@ -45,6 +45,12 @@
 
 package org.knime.python2.generic;
 
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Utility methods for scripting nodes.
  *
@@ -86,4 +92,121 @@ public static String shortenString(final String originalString, final int maxLen
         return string;
     }
 
+    /**
+     * Conservatively determines the columns of the table with the given variable name that are referenced by the given
+     * source code. A column set is only returned if every occurrence of the variable is a subscript with a string
+     * literal (e.g. <code>input_table['a']</code>) or a list of string literals (e.g.
+     * <code>input_table[['a', "b"]]</code>). Any other use of the variable (attribute access, passing it to a function,
+     * rebinding it, etc.) means that the script may access arbitrary columns.
+     *
+     * @param sourceCode the source code to analyze
+     * @param variableName the name of the variable holding the table
+     * @return the names of the referenced columns in order of their first occurrence, or an empty optional if the
+     *         referenced columns cannot be determined statically
+     */
+    public static Optional<String[]> findReferencedColumns(final String sourceCode, final String variableName) {
+        if (sourceCode == null || variableName == null || variableName.isEmpty()) {
+            return Optional.empty();
+        }
+        final Matcher matcher =
+            Pattern.compile("(?<![\\w.])" + Pattern.quote(variableName) + "(?!\\w)").matcher(sourceCode);
+        final Set<String> columns = new LinkedHashSet<>();
+        boolean found = false;
+        while (matcher.find()) {
+            found = true;
+            int pos = skipWhitespace(sourceCode, matcher.end());
+            if (pos >= sourceCode.length() || sourceCode.charAt(pos) != '[') {
+                return Optional.empty();
+            }
+            pos = skipWhitespace(sourceCode, pos + 1);
+            if (pos < sourceCode.length() && sourceCode.charAt(pos) == '[') {
+                // List of column names.
+                pos = skipWhitespace(sourceCode, pos + 1);
+                while (true) {
+                    pos = parseStringLiteral(sourceCode, pos, columns);
+                    if (pos < 0) {
+                        return Optional.empty();
+                    }
+                    pos = skipWhitespace(sourceCode, pos);
+                    if (pos < sourceCode.length() && sourceCode.charAt(pos) == ',') {
+                        pos = skipWhitespace(sourceCode, pos + 1);
+                        if (pos < sourceCode.length() && sourceCode.charAt(pos) == ']') {
+                            break;
+                        }
+                    } else {
+                        break;
+                    }
+                }
+                if (pos >= sourceCode.length() || sourceCode.charAt(pos) != ']') {
+                    return Optional.empty();
+                }
+                pos = skipWhitespace(sourceCode, pos + 1);
+            } else {
+                pos = parseStringLiteral(sourceCode, pos, columns);
+                if (pos < 0) {
+                    return Optional.empty();
+                }
+                pos = skipWhitespace(sourceCode, pos);
+            }
+            if (pos >= sourceCode.length() || sourceCode.charAt(pos) != ']') {
+                return Optional.empty();
+            }
+        }
+        return found ? Optional.of(columns.toArray(new String[0])) : Optional.empty();
+    }
+
+    private static int skipWhitespace(final String string, final int start) {
+        int pos = start;
+        while (pos < string.length() && Character.isWhitespace(string.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Parses a simple (non-prefixed, single-line) Python string literal starting at the given position and adds its
+     * value to the given set.
+     *
+     * @return the position after the literal or -1 if there is no such literal at the given position
+     */
+    private static int parseStringLiteral(final String string, final int start, final Set<String> values) {
+        int pos = start;
+        if (pos >= string.length()) {
+            return -1;
+        }
+        final char quote = string.charAt(pos);
+        if (quote != '\'' && quote != '"') {
+            return -1;
+        }
+        final StringBuilder value = new StringBuilder();
+        pos++;
+        while (pos < string.length()) {
+            char c = string.charAt(pos);
+            if (c == quote) {
+                values.add(value.toString());
+                return pos + 1;
+            } else if (c == '\n') {
+                return -1;
+            } else if (c == '\\') {
+                if (pos + 1 >= string.length()) {
+                    return -1;
+                }
+                c = string.charAt(++pos);
+                if (c == 'n') {
+                    value.append('\n');
+                } else if (c == 't') {
+                    value.append('\t');
+                } else if (c == '\\' || c == '\'' || c == '"') {
+                    value.append(c);
+                } else {
+                    // Unsupported escape sequence.
+                    return -1;
+                }
+            } else {
+                value.append(c);
+            }
+            pos++;
+        }
+        return -1;
+    }
 }
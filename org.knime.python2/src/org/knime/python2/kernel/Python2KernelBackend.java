@@ -57,6 +57,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -67,6 +68,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -75,9 +77,13 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
+import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.SystemUtils;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.monitor.ExternalProcessType;
 import org.knime.core.monitor.ProcessWatchdog;
@@ -103,8 +109,11 @@
 import org.knime.python.typeextension.PythonToKnimeExtensions;
 import org.knime.python2.Activator;
 import org.knime.python2.PythonCommand;
+import org.knime.python2.PythonVersion;
 import org.knime.python2.extensions.serializationlibrary.SentinelOption;
+import org.knime.python2.extensions.serializationlibrary.SerializationException;
 import org.knime.python2.extensions.serializationlibrary.SerializationLibraryExtensions;
+import org.knime.python2.extensions.serializationlibrary.SerializationOptions;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Cell;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Row;
 import org.knime.python2.extensions.serializationlibrary.interfaces.SerializationLibrary;
@@ -113,12 +122,14 @@
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableCreatorFactory;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableIterator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.TableSpec;
+import org.knime.python2.extensions.serializationlibrary.interfaces.TableStreamSerializer;
 import org.knime.python2.extensions.serializationlibrary.interfaces.Type;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.BufferedDataTableChunker;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.BufferedDataTableCreator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.CellImpl;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.KeyValueTableCreator;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.KeyValueTableIterator;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowImpl;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TableSpecImpl;
 import org.knime.python2.extensions.serializationlibrary.interfaces.impl.TemporaryTableCreator;
@@ -154,6 +165,11 @@ public final class Python2KernelBackend implements PythonKernelBackend {
 
     private static final String CLEANUP_TIMEOUT_VM_OPT = "knime.python.cleanuptimeout";
 
+    /**
+     * The share of the progress of {@link #putDataTable} that is attributed to evaluating its row filter.
+     */
+    private static final double ROW_FILTER_PROGRESS = 0.2;
+
     /**
      * @return the duration, in milliseconds, to wait when trying to establish a connection to Python
      */
@@ -311,6 +327,9 @@ public static String beautifyPythonTraceback(final String pythonTraceback) {
 
     private final AtomicBoolean m_closed = new AtomicBoolean(false);
 
+    /** Input tables that have been put into the workspace lazily and whose data has not yet been pulled by Python. */
+    private final Map<String, LazyTableTransfer> m_lazyTables = new ConcurrentHashMap<>();
+
     private final AsynchronousCloseable<PythonKernelCleanupException> m_closer =
         AsynchronousCloseable.createAsynchronousCloser(this::asynchronousCloseInternal);
 
@@ -522,6 +541,39 @@ protected Message respond(final Message request, final int responseMessageId) th
             }
         });
 
+        registerTaskHandler("table_chunk_request", new AbstractRequestHandler() {
+
+            @Override
+            protected Message respond(final Message request, final int responseMessageId) {
+                final String name = new PayloadDecoder(request.getPayload()).getNextString();
+                final LazyTableTransfer lazyTable = m_lazyTables.get(name);
+                if (lazyTable == null) {
+                    final byte[] errorPayload =
+                        new PayloadEncoder().putString("Table " + name + " is not available.").get();
+                    return createResponse(request, responseMessageId, false, errorPayload, null);
+                }
+                try {
+                    final byte[] chunk = lazyTable.nextChunk();
+                    final boolean hasNextChunk = lazyTable.hasNextChunk();
+                    if (!hasNextChunk) {
+                        m_lazyTables.remove(name, lazyTable);
+                        lazyTable.close();
+                    }
+                    final byte[] responsePayload = new PayloadEncoder(chunk.length + 2 * Integer.BYTES)
+                        .putBytes(chunk).putInt(hasNextChunk ? 1 : 0).get();
+                    return createResponse(request, responseMessageId, true, responsePayload, null);
+                } catch (final Exception ex) {
+                    LOGGER.debug(ex);
+                    m_lazyTables.remove(name, lazyTable);
+                    lazyTable.close();
+                    final String message = ex.getMessage() != null ? ex.getMessage()
+                        : ("Failed to transfer table " + name + " to Python.");
+                    final byte[] errorPayload = new PayloadEncoder().putString(message).get();
+                    return createResponse(request, responseMessageId, false, errorPayload, null);
+                }
+            }
+        });
+
         registerTaskHandler("resolve_knime_url", new AbstractRequestHandler() {
 
             @Override
@@ -824,53 +876,97 @@ private static boolean isValidFlowVariableName(final String name) {
     @Override
     public void putDataTable(final String name, final BufferedDataTable table, final ExecutionMonitor executionMonitor,
         final int rowLimit) throws PythonIOException, CanceledExecutionException {
+        putDataTable(name, table, executionMonitor, rowLimit, null);
+    }
+
+    @Override
+    public void putDataTable(final String name, final BufferedDataTable table, final ExecutionMonitor executionMonitor,
+        final int rowLimit, final String[] includedColumns) throws PythonIOException, CanceledExecutionException {
+        putDataTable(name, table, executionMonitor, rowLimit, includedColumns, null);
+    }
+
+    @Override
+    public void putDataTable(final String name, final BufferedDataTable table, final ExecutionMonitor executionMonitor,
+        final int rowLimit, final String[] includedColumns, final RowFilterExpression rowFilter)
+        throws PythonIOException, CanceledExecutionException {
         // TODO: Use #putData(..) internally.
         if (table == null) {
             throw new PythonIOException("Table " + name + " is not available.");
         }
+        final int[] columnIndices = getColumnIndices(table.getDataTableSpec(), includedColumns);
+        if (columnIndices != null) {
+            LOGGER.debug("Transferring " + columnIndices.length + " of " + table.getDataTableSpec().getNumColumns()
+                + " columns of table '" + name + "' to Python.");
+        }
+        if (m_kernelOptions.getSerializationOptions().getLazyTableTransfer()
+            && m_command.getPythonVersion() == PythonVersion.PYTHON3) {
+            putDataTableLazily(name, table, executionMonitor, rowLimit, columnIndices, rowFilter);
+            return;
+        }
+        BitSet selectedRows = null;
+        ExecutionMonitor transferMonitor = executionMonitor;
+        if (rowFilter != null) {
+            if (table.size() > Integer.MAX_VALUE) {
+                throw new PythonIOException(
+                    "Number of rows exceeds maximum of " + Integer.MAX_VALUE + " rows for input table!");
+            }
+            try {
+                selectedRows =
+                    rowFilter.findMatchingRows(table, executionMonitor.createSubProgress(ROW_FILTER_PROGRESS));
+            } catch (final IllegalArgumentException ex) {
+                throw new PythonIOException(ex.getMessage(), ex);
+            }
+            LOGGER.debug("Row filter '" + rowFilter + "' selected " + selectedRows.cardinality() + " of "
+                + table.size() + " rows of table '" + name + "'.");
+            transferMonitor = executionMonitor.createSubProgress(1 - ROW_FILTER_PROGRESS);
+        }
         try {
             final PythonCancelable cancelable = new PythonExecutionMonitorCancelable(executionMonitor);
-            final ExecutionMonitor serializationMonitor = executionMonitor.createSubProgress(0.5);
-            final ExecutionMonitor deserializationMonitor = executionMonitor.createSubProgress(0.5);
+            final ExecutionMonitor serializationMonitor = transferMonitor.createSubProgress(0.5);
+            final ExecutionMonitor deserializationMonitor = transferMonitor.createSubProgress(0.5);
             final int chunkSize = m_kernelOptions.getSerializationOptions().getChunkSize();
-            try (final CloseableRowIterator iterator = table.iterator()) {
+            try (final CloseableRowIterator iterator = columnIndices == null ? table.iterator()
+                : table.filter(TableFilter.materializeCols(columnIndices))) {
                 if (table.size() > Integer.MAX_VALUE) {
                     throw new PythonIOException(
                         "Number of rows exceeds maximum of " + Integer.MAX_VALUE + " rows for input table!");
                 }
-                final int rowCount = (int)table.size();
+                final int rowCount = selectedRows == null ? (int)table.size() : selectedRows.cardinality();
                 final int numberRows = Math.min(rowLimit, rowCount);
                 int numberChunks = (int)Math.ceil(numberRows / (double)chunkSize);
                 if (numberChunks == 0) {
                     numberChunks = 1;
                 }
                 int rowsDone = 0;
-                final TableChunker tableChunker =
-                    new BufferedDataTableChunker(table.getDataTableSpec(), iterator, rowCount);
-                RunnableFuture<Void> putChunkTask = null;
-                for (int i = 0; i < numberChunks; i++) {
-                    final int rowsInThisIteration = Math.min(numberRows - rowsDone, chunkSize);
-                    final ExecutionMonitor chunkProgress =
-                        serializationMonitor.createSubProgress(rowsInThisIteration / (double)numberRows);
-                    final TableIterator tableIterator =
-                        ((BufferedDataTableChunker)tableChunker).nextChunk(rowsInThisIteration, chunkProgress);
-                    final byte[] bytes =
-                        m_serializer.tableToBytes(tableIterator, m_kernelOptions.getSerializationOptions(), cancelable);
-                    chunkProgress.setProgress(1);
-                    rowsDone += rowsInThisIteration;
-                    serializationMonitor.setProgress(rowsDone / (double)numberRows);
-                    if (i == 0) {
-                        putChunkTask = m_commands.putTable(name, bytes);
-                        putChunkTask.run();
-                    } else {
-                        waitForFutureCancelable(putChunkTask, cancelable);
-                        deserializationMonitor.setProgress(rowsDone / (double)numberRows);
-                        putChunkTask = m_commands.appendToTable(name, bytes);
-                        putChunkTask.run();
+                final TableChunker tableChunker = new BufferedDataTableChunker(table.getDataTableSpec(), iterator,
+                    rowCount, columnIndices, selectedRows);
+                try (final TableStreamTransfer streamSerializer = new TableStreamTransfer(m_serializer
+                    .createTableStreamSerializer(numberRows, m_kernelOptions.getSerializationOptions()))) {
+                    RunnableFuture<Void> putChunkTask = null;
+                    for (int i = 0; i < numberChunks; i++) {
+                        final int rowsInThisIteration = Math.min(numberRows - rowsDone, chunkSize);
+                        final ExecutionMonitor chunkProgress =
+                            serializationMonitor.createSubProgress(rowsInThisIteration / (double)numberRows);
+                        final TableIterator tableIterator =
+                            ((BufferedDataTableChunker)tableChunker).nextChunk(rowsInThisIteration, chunkProgress);
+                        final byte[] bytes = streamSerializer.chunkToBytes(tableIterator, cancelable);
+                        chunkProgress.setProgress(1);
+                        rowsDone += rowsInThisIteration;
+                        serializationMonitor.setProgress(rowsDone / (double)numberRows);
+                        if (i == 0) {
+                            putChunkTask = m_commands.putTable(name, bytes);
+                            putChunkTask.run();
+                        } else {
+                            waitForFutureCancelable(putChunkTask, cancelable);
+                            deserializationMonitor.setProgress(rowsDone / (double)numberRows);
+                            putChunkTask = m_commands.appendToTable(name, bytes);
+                            putChunkTask.run();
+                        }
                     }
+                    waitForFutureCancelable(putChunkTask, cancelable);
+                    streamSerializer.complete();
+                    deserializationMonitor.setProgress(rowsDone / (double)numberRows);
                 }
-                waitForFutureCancelable(putChunkTask, cancelable);
-                deserializationMonitor.setProgress(rowsDone / (double)numberRows);
             }
         } catch (final PythonCanceledExecutionException ex) {
             throw new CanceledExecutionException(ex.getMessage());
@@ -889,6 +985,53 @@ public void putDataTable(final String name, final BufferedDataTable table, final
         putDataTable(name, table, executionMonitor, (int)table.size());
     }
 
+    /**
+     * Only puts a placeholder for the given table into the Python workspace. The table's chunks are pulled by Python
+     * via {@code "table_chunk_request"} messages when the variable is first accessed. Lazy transfer relies on Python 3
+     * routing global name lookups through the workspace's {@code __getitem__}.
+     */
+    private void putDataTableLazily(final String name, final BufferedDataTable table,
+        final ExecutionMonitor executionMonitor, final int rowLimit, final int[] columnIndices,
+        final RowFilterExpression rowFilter) throws PythonIOException, CanceledExecutionException {
+        if (table.size() > Integer.MAX_VALUE) {
+            throw new PythonIOException(
+                "Number of rows exceeds maximum of " + Integer.MAX_VALUE + " rows for input table!");
+        }
+        final PythonCancelable cancelable = new PythonExecutionMonitorCancelable(executionMonitor);
+        final LazyTableTransfer lazyTable =
+            new LazyTableTransfer(table, rowLimit, columnIndices, rowFilter, executionMonitor, cancelable);
+        PythonUtils.Misc.closeSafely(LOGGER::debug, m_lazyTables.put(name, lazyTable));
+        try {
+            final RunnableFuture<Void> putLazyTableTask = m_commands.putLazyTable(name);
+            putLazyTableTask.run();
+            waitForFutureCancelable(putLazyTableTask, cancelable);
+            executionMonitor.setProgress(1);
+        } catch (final PythonCanceledExecutionException ex) {
+            m_lazyTables.remove(name, lazyTable);
+            throw new CanceledExecutionException(ex.getMessage());
+        } catch (final Exception ex) {
+            m_lazyTables.remove(name, lazyTable);
+            throw getMostSpecificPythonKernelException(ex);
+        }
+    }
+
+    /**
+     * Resolves the given column names against the given spec. Names that are not part of the spec are ignored since
+     * they may refer to columns that are only created by the script.
+     *
+     * @return the indices of the included columns in the order of the spec, or {@code null} if all columns shall be
+     *         transferred
+     */
+    private static int[] getColumnIndices(final DataTableSpec spec, final String[] includedColumns) {
+        if (includedColumns == null) {
+            return null;
+        }
+        final int[] columnIndices = IntStream.range(0, spec.getNumColumns()) //
+            .filter(i -> ArrayUtils.contains(includedColumns, spec.getColumnSpec(i).getName())) //
+            .toArray();
+        return columnIndices.length == spec.getNumColumns() ? null : columnIndices;
+    }
+
     /**
      * Put the data underlying the given {@link TableChunker} into the workspace while still checking whether the
      * execution has been canceled.
@@ -914,23 +1057,26 @@ public void putData(final String name, final TableChunker tableChunker, final in
                 numberChunks = 1;
             }
             int rowsDone = 0;
-            RunnableFuture<Void> putChunkTask = null;
-            for (int i = 0; i < numberChunks; i++) {
-                final int rowsInThisIteration = Math.min(numberRows - rowsDone, chunkSize);
-                final TableIterator tableIterator = tableChunker.nextChunk(rowsInThisIteration);
-                final byte[] bytes =
-                    m_serializer.tableToBytes(tableIterator, m_kernelOptions.getSerializationOptions(), cancelable);
-                rowsDone += rowsInThisIteration;
-                if (i == 0) {
-                    putChunkTask = m_commands.putTable(name, bytes);
-                    putChunkTask.run();
-                } else {
-                    waitForFutureCancelable(putChunkTask, cancelable);
-                    putChunkTask = m_commands.appendToTable(name, bytes);
-                    putChunkTask.run();
+            try (final TableStreamTransfer streamSerializer = new TableStreamTransfer(m_serializer
+                .createTableStreamSerializer(numberRows, m_kernelOptions.getSerializationOptions()))) {
+                RunnableFuture<Void> putChunkTask = null;
+                for (int i = 0; i < numberChunks; i++) {
+                    final int rowsInThisIteration = Math.min(numberRows - rowsDone, chunkSize);
+                    final TableIterator tableIterator = tableChunker.nextChunk(rowsInThisIteration);
+                    final byte[] bytes = streamSerializer.chunkToBytes(tableIterator, cancelable);
+                    rowsDone += rowsInThisIteration;
+                    if (i == 0) {
+                        putChunkTask = m_commands.putTable(name, bytes);
+                        putChunkTask.run();
+                    } else {
+                        waitForFutureCancelable(putChunkTask, cancelable);
+                        putChunkTask = m_commands.appendToTable(name, bytes);
+                        putChunkTask.run();
+                    }
                 }
+                waitForFutureCancelable(putChunkTask, cancelable);
+                streamSerializer.complete();
             }
-            waitForFutureCancelable(putChunkTask, cancelable);
         } catch (final PythonCanceledExecutionException ex) {
             throw ex;
         } catch (final Exception ex) {
@@ -1361,6 +1507,8 @@ private PythonKernelCleanupException synchronousClose() {
      * The part of close that can be done asynchronously.
      */
     private void asynchronousCloseInternal() throws PythonKernelCleanupException {
+        m_lazyTables.values().forEach(LazyTableTransfer::close);
+        m_lazyTables.clear();
         PythonUtils.Misc.closeSafely(LOGGER::debug, m_outputListeners);
         PythonUtils.Misc.invokeSafely(LOGGER::debug, ExecutorService::shutdownNow, m_executorService);
         PythonUtils.Misc.closeSafely(LOGGER::debug, m_commands, m_serverSocket, m_socket, m_serializer);
@@ -1441,6 +1589,123 @@ private <T> T waitForFutureCancelable(final Future<T> future, final PythonCancel
         }
     }
 
+    /**
+     * The chunks of a table transfer to Python. If the transfer is closed before it was {@link #complete() completed},
+     * e.g. because it was canceled or failed, Python is told to abort the stream of chunks before the underlying
+     * {@link TableStreamSerializer} releases its resources (e.g. deletes the file Python may still read from).
+     */
+    private final class TableStreamTransfer implements AutoCloseable {
+
+        private final TableStreamSerializer m_streamSerializer;
+
+        private byte[] m_lastChunk;
+
+        private boolean m_completed;
+
+        private TableStreamTransfer(final TableStreamSerializer streamSerializer) {
+            m_streamSerializer = streamSerializer;
+        }
+
+        private byte[] chunkToBytes(final TableIterator tableIterator, final PythonCancelable cancelable)
+            throws SerializationException, PythonCanceledExecutionException {
+            m_lastChunk = m_streamSerializer.chunkToBytes(tableIterator, cancelable);
+            return m_lastChunk;
+        }
+
+        /**
+         * Marks that Python has consumed all chunks of the transfer.
+         */
+        private void complete() {
+            m_completed = true;
+        }
+
+        @Override
+        public void close() {
+            if (!m_completed && m_lastChunk != null) {
+                // Not cancelable, Python has to release the stream before it can be cleaned up on Java side.
+                final RunnableFuture<Void> abortTask = m_commands.abortTableStream(m_lastChunk);
+                abortTask.run();
+                try {
+                    abortTask.get(getCleanupTimeoutInMillis(), TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.debug("Interrupted while aborting the table transfer to Python.", ex);
+                } catch (final ExecutionException | TimeoutException ex) {
+                    LOGGER.debug("Failed to abort the table transfer to Python.", ex);
+                }
+            }
+            m_streamSerializer.close();
+        }
+    }
+
+    /**
+     * An input table whose chunks are serialized on demand, i.e. when requested by Python. Serialization can be
+     * canceled via the execution monitor of the node that put the table.
+     */
+    private final class LazyTableTransfer implements AutoCloseable {
+
+        private final BufferedDataTable m_table;
+
+        private final int m_rowLimit;
+
+        private final int[] m_columnIndices;
+
+        private final RowFilterExpression m_rowFilter;
+
+        private final ExecutionMonitor m_executionMonitor;
+
+        private final PythonCancelable m_cancelable;
+
+        private CloseableRowIterator m_iterator;
+
+        private BufferedDataTableChunker m_chunker;
+
+        private int m_remainingRows;
+
+        private LazyTableTransfer(final BufferedDataTable table, final int rowLimit, final int[] columnIndices,
+            final RowFilterExpression rowFilter, final ExecutionMonitor executionMonitor,
+            final PythonCancelable cancelable) {
+            m_table = table;
+            m_rowLimit = rowLimit;
+            m_columnIndices = columnIndices;
+            m_rowFilter = rowFilter;
+            // Progress has already been reported when the placeholder was put, only cancellation is of interest.
+            m_executionMonitor = executionMonitor.createSilentSubProgress(0);
+            m_cancelable = cancelable;
+        }
+
+        private synchronized byte[] nextChunk() throws Exception {
+            if (m_chunker == null) {
+                final BitSet selectedRows =
+                    m_rowFilter == null ? null : m_rowFilter.findMatchingRows(m_table, m_executionMonitor);
+                m_iterator = m_columnIndices == null ? m_table.iterator()
+                    : m_table.filter(TableFilter.materializeCols(m_columnIndices));
+                final int rowCount = selectedRows == null ? (int)m_table.size() : selectedRows.cardinality();
+                m_remainingRows = Math.min(m_rowLimit, rowCount);
+                m_chunker = new BufferedDataTableChunker(m_table.getDataTableSpec(), m_iterator, rowCount,
+                    m_columnIndices, selectedRows);
+            }
+            final SerializationOptions serializationOptions = m_kernelOptions.getSerializationOptions();
+            final int rowsInThisChunk = Math.min(m_remainingRows, serializationOptions.getChunkSize());
+            final TableIterator tableIterator = m_chunker.nextChunk(rowsInThisChunk, m_executionMonitor);
+            final byte[] bytes = m_serializer.tableToBytes(tableIterator, serializationOptions, m_cancelable);
+            m_remainingRows -= rowsInThisChunk;
+            return bytes;
+        }
+
+        private synchronized boolean hasNextChunk() {
+            return m_chunker == null || m_remainingRows > 0;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (m_iterator != null) {
+                m_iterator.close();
+                m_iterator = null;
+            }
+        }
+    }
+
     private static final class PythonKernelExecutionMonitor implements PythonExecutionMonitor {
 
         private static final Message POISON_PILL = new DefaultMessage(1, "", null, null);
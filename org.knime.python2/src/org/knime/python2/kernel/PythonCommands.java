@@ -168,12 +168,25 @@ public synchronized RunnableFuture<byte[]> getFlowVariables(final String name) {
      * @return a runnable future that puts the table into the Python workspace
      */
     public synchronized RunnableFuture<Void> putTable(final String name, final byte[] table) {
-        // FIXME: Avoid array creation. We effectively double the memory requirements of "table".
-        final byte[] payload = new PayloadEncoder().putBytes(table).get();
+        // Exactly sized, so the table is only copied once. Avoiding this copy would require streaming the payload.
+        final byte[] payload = new PayloadEncoder(table.length + Integer.BYTES).putBytes(table).get();
         return createTask(new VoidReturningTaskHandler(), new DefaultMessage(m_messaging.createNextMessageId(),
             "putTable", payload, ImmutableMap.of(PAYLOAD_NAME, name)));
     }
 
+    /**
+     * Creates a runnable future that puts a placeholder for a table into the Python workspace. The table's chunks are
+     * requested from Java (see category {@code "table_chunk_request"}) when the variable is first accessed on Python
+     * side.
+     *
+     * @param name the variable name of the table in the Python workspace
+     * @return a runnable future that puts the placeholder into the Python workspace
+     */
+    public synchronized RunnableFuture<Void> putLazyTable(final String name) {
+        return createTask(new VoidReturningTaskHandler(), new DefaultMessage(m_messaging.createNextMessageId(),
+            "putLazyTable", null, ImmutableMap.of(PAYLOAD_NAME, name)));
+    }
+
     /**
      * Creates a runnable future that appends a chunk of table rows to a table represented as pandas.DataFrame in the
      * Python workspace. The table chunk should be serialized using the currently active serialization library.
@@ -183,12 +196,26 @@ public synchronized RunnableFuture<Void> putTable(final String name, final byte[
      * @return a runnable future that appends the chunk of table rows to the table
      */
     public synchronized RunnableFuture<Void> appendToTable(final String name, final byte[] table) {
-        // FIXME: Avoid array creation. We effectively double the memory requirements of "table".
-        final byte[] payload = new PayloadEncoder().putBytes(table).get();
+        // Exactly sized, so the table is only copied once. Avoiding this copy would require streaming the payload.
+        final byte[] payload = new PayloadEncoder(table.length + Integer.BYTES).putBytes(table).get();
         return createTask(new VoidReturningTaskHandler(), new DefaultMessage(m_messaging.createNextMessageId(),
             "appendToTable", payload, ImmutableMap.of(PAYLOAD_NAME, name)));
     }
 
+    /**
+     * Creates a runnable future that aborts a stream of table chunks on Python side, i.e. releases the resources held
+     * for a table transfer that was canceled or failed before all of its chunks were appended. Has no effect if the
+     * currently active serialization library does not stream chunks.
+     *
+     * @param table the serialized table chunk that was last sent as part of the transfer
+     * @return a runnable future that aborts the stream
+     */
+    public synchronized RunnableFuture<Void> abortTableStream(final byte[] table) {
+        final byte[] payload = new PayloadEncoder(table.length + Integer.BYTES).putBytes(table).get();
+        return createTask(new VoidReturningTaskHandler(),
+            new DefaultMessage(m_messaging.createNextMessageId(), "abortTableStream", payload, null));
+    }
+
     /**
      * Creates a runnable future that gets the size in bytes of a serialized table from the Python workspace.
      *
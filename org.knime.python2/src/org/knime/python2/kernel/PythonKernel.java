@@ -66,6 +66,7 @@
 import org.knime.python2.PythonKernelTester.PythonKernelTestResult;
 import org.knime.python2.PythonModuleSpec;
 import org.knime.python2.PythonVersion;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
 import org.knime.python2.generic.ImageContainer;
 import org.knime.python2.kernel.PythonKernelBackendRegistry.PythonKernelBackendType;
 import org.knime.python2.port.PickledObject;
@@ -284,6 +285,56 @@ public void putDataTable(final String name, final BufferedDataTable table, final
         m_backend.putDataTable(name, table, executionMonitor, rowLimit);
     }
 
+    /**
+     * Put the given columns of the given {@link BufferedDataTable} into the workspace while still checking whether the
+     * execution has been canceled.
+     *
+     * The table will be available as a pandas.DataFrame that only contains the given columns.
+     *
+     * @param name The name of the table
+     * @param table The table. May be {@code null} in which case the respective table on Python side will be
+     *            {@code None}.
+     * @param executionMonitor The monitor that will be updated about progress
+     * @param rowLimit The amount of rows that will be transfered
+     * @param includedColumns The names of the columns that will be transferred. Names that are not contained in the
+     *            table are ignored. May be {@code null} in which case all columns will be transferred.
+     * @throws PythonIOException If an error occurred while communicating with the python kernel or while executing the
+     *             task
+     * @throws CanceledExecutionException if canceled. This instance must not be used after a cancellation occurred and
+     *             must be {@link #close() closed}.
+     */
+    public void putDataTable(final String name, final BufferedDataTable table, final ExecutionMonitor executionMonitor,
+        final int rowLimit, final String[] includedColumns) throws PythonIOException, CanceledExecutionException {
+        m_backend.putDataTable(name, table, executionMonitor, rowLimit, includedColumns);
+    }
+
+    /**
+     * Put the given columns and the rows that satisfy the given filter of the given {@link BufferedDataTable} into the
+     * workspace while still checking whether the execution has been canceled.
+     *
+     * The table will be available as a pandas.DataFrame that only contains the given columns and the rows that satisfy
+     * the given filter.
+     *
+     * @param name The name of the table
+     * @param table The table. May be {@code null} in which case the respective table on Python side will be
+     *            {@code None}.
+     * @param executionMonitor The monitor that will be updated about progress
+     * @param rowLimit The maximum amount of rows satisfying the filter that will be transfered
+     * @param includedColumns The names of the columns that will be transferred. Names that are not contained in the
+     *            table are ignored. May be {@code null} in which case all columns will be transferred.
+     * @param rowFilter The filter that rows must satisfy in order to be transferred. May be {@code null} in which case
+     *            all rows will be transferred.
+     * @throws PythonIOException If an error occurred while communicating with the python kernel or while executing the
+     *             task, or if the filter references columns that are not contained in the table
+     * @throws CanceledExecutionException if canceled. This instance must not be used after a cancellation occurred and
+     *             must be {@link #close() closed}.
+     */
+    public void putDataTable(final String name, final BufferedDataTable table, final ExecutionMonitor executionMonitor,
+        final int rowLimit, final String[] includedColumns, final RowFilterExpression rowFilter)
+        throws PythonIOException, CanceledExecutionException {
+        m_backend.putDataTable(name, table, executionMonitor, rowLimit, includedColumns, rowFilter);
+    }
+
     /**
      * Put the given {@link BufferedDataTable} into the workspace while still checking whether the execution has been
      * canceled.
@@ -60,6 +60,7 @@
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.util.asynclose.AsynchronousCloseable;
 import org.knime.python2.PythonCommand;
+import org.knime.python2.extensions.serializationlibrary.interfaces.impl.RowFilterExpression;
 import org.knime.python2.generic.ImageContainer;
 import org.knime.python2.port.PickledObject;
 import org.knime.python2.port.PickledObjectFile;
@@ -145,6 +146,61 @@ public interface PythonKernelBackend extends AsynchronousCloseable<PythonKernelC
     void putDataTable(String name, BufferedDataTable table, ExecutionMonitor executionMonitor, int rowLimit)
         throws PythonIOException, CanceledExecutionException;
 
+    /**
+     * Put the given columns of the given {@link BufferedDataTable} into the workspace while still checking whether the
+     * execution has been canceled.
+     *
+     * The table will be available as a pandas.DataFrame that only contains the given columns. Back ends that do not
+     * support column projection transfer the entire table.
+     *
+     * @param name The name of the table
+     * @param table The table. May be {@code null} in which case the corresponding table on Python side will be
+     *            {@code None}.
+     * @param executionMonitor The monitor that will be updated about progress
+     * @param rowLimit The amount of rows that will be transfered
+     * @param includedColumns The names of the columns that will be transferred. Names that are not contained in the
+     *            table are ignored. May be {@code null} in which case all columns will be transferred.
+     * @throws PythonIOException If an error occurred while communicating with the python kernel or while executing the
+     *             task
+     * @throws CanceledExecutionException if canceled. This instance must not be used after a cancellation occurred and
+     *             must be {@link #close() closed}.
+     */
+    default void putDataTable(final String name, final BufferedDataTable table,
+        final ExecutionMonitor executionMonitor, final int rowLimit, final String[] includedColumns)
+        throws PythonIOException, CanceledExecutionException {
+        putDataTable(name, table, executionMonitor, rowLimit);
+    }
+
+    /**
+     * Put the given columns and the rows that satisfy the given filter of the given {@link BufferedDataTable} into the
+     * workspace while still checking whether the execution has been canceled.
+     *
+     * The table will be available as a pandas.DataFrame that only contains the given columns and the rows that satisfy
+     * the given filter. Back ends that do not support row filtering reject non-{@code null} filters.
+     *
+     * @param name The name of the table
+     * @param table The table. May be {@code null} in which case the corresponding table on Python side will be
+     *            {@code None}.
+     * @param executionMonitor The monitor that will be updated about progress
+     * @param rowLimit The maximum amount of rows satisfying the filter that will be transfered
+     * @param includedColumns The names of the columns that will be transferred. Names that are not contained in the
+     *            table are ignored. May be {@code null} in which case all columns will be transferred.
+     * @param rowFilter The filter that rows must satisfy in order to be transferred. May be {@code null} in which case
+     *            all rows will be transferred.
+     * @throws PythonIOException If an error occurred while communicating with the python kernel or while executing the
+     *             task, or if the filter references columns that are not contained in the table
+     * @throws CanceledExecutionException if canceled. This instance must not be used after a cancellation occurred and
+     *             must be {@link #close() closed}.
+     */
+    default void putDataTable(final String name, final BufferedDataTable table,
+        final ExecutionMonitor executionMonitor, final int rowLimit, final String[] includedColumns,
+        final RowFilterExpression rowFilter) throws PythonIOException, CanceledExecutionException {
+        if (rowFilter != null) {
+            throw new PythonIOException("Row filtering is not supported by this kernel back end.");
+        }
+        putDataTable(name, table, executionMonitor, rowLimit, includedColumns);
+    }
+
     /**
      * Put the given {@link BufferedDataTable} into the workspace while still checking whether the execution has been
      * canceled.
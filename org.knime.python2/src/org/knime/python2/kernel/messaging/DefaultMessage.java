@@ -253,16 +253,30 @@ public static final class PayloadEncoder {
          * Allocate initial buffer of 1024 byte.
          */
         public PayloadEncoder() {
-            m_buffer = ByteBuffer.allocate(1024);
+            this(1024);
+        }
+
+        /**
+         * Allocate an initial buffer of the given size. If the size of the payload is known in advance, the buffer
+         * neither has to grow nor does {@link #get()} have to copy it.
+         *
+         * @param initialCapacity the initial capacity of the buffer in bytes
+         */
+        public PayloadEncoder(final int initialCapacity) {
+            m_buffer = ByteBuffer.allocate(Math.max(1, initialCapacity));
             m_position = 0;
         }
 
         /**
-         * Get the encoded payload.
+         * Get the encoded payload. The buffer is returned without copying if the payload fills it exactly. The encoder
+         * must not be used anymore afterwards.
          *
          * @return the encoded payload.
          */
         public byte[] get() {
+            if (m_position == m_buffer.capacity()) {
+                return m_buffer.array();
+            }
             final byte[] payload = new byte[m_position];
             m_buffer.position(0);
             m_buffer.get(payload);